@@ -7,7 +7,9 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.wildfly.common.Assert;
@@ -28,6 +30,9 @@ public final class BuildContext {
     private final StepInfo stepInfo;
     private final Execution execution;
     private final AtomicInteger dependencies;
+    private final Set<Object> marks = ConcurrentHashMap.newKeySet();
+    private final Set<Object> inheritedMarks = ConcurrentHashMap.newKeySet();
+    private final long priority;
     private volatile boolean running;
 
     BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution) {
@@ -35,6 +40,7 @@ public final class BuildContext {
         this.stepInfo = stepInfo;
         this.execution = execution;
         dependencies = new AtomicInteger(stepInfo.getDependencies());
+        priority = execution.getPriority(stepInfo);
     }
 
     /**
@@ -217,6 +223,30 @@ public final class BuildContext {
         execution.setErrorReported();
     }
 
+    /**
+     * Attach a marker to this build step. The marker is visible to every build step that directly or indirectly
+     * depends on this one through {@link #getInheritedMarks()}, which allows build steps to find out which of the
+     * previously executed steps they depend on.
+     *
+     * @param mark the marker (must not be {@code null})
+     */
+    public void mark(Object mark) {
+        Assert.checkNotNullParam("mark", mark);
+        if (!running) {
+            throw Messages.msg.buildStepNotRunning();
+        }
+        marks.add(mark);
+    }
+
+    /**
+     * Get the markers attached by the build steps this build step directly or indirectly depends on.
+     *
+     * @return an unmodifiable view of the inherited markers (not {@code null})
+     */
+    public Set<Object> getInheritedMarks() {
+        return Collections.unmodifiableSet(inheritedMarks);
+    }
+
     /**
      * Get an executor which can be used for asynchronous tasks.
      *
@@ -254,11 +284,15 @@ public final class BuildContext {
         }
     }
 
+    long getPriority() {
+        return priority;
+    }
+
     void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.stepReady(this);
         }
     }
 
@@ -266,7 +300,7 @@ public final class BuildContext {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
         final BuildStep buildStep = stepInfo.getBuildStep();
-        final long start = System.currentTimeMillis();
+        final long start = System.nanoTime();
         log.tracef("Starting step \"%s\"", buildStep);
         try {
             if (!execution.isErrorReported()) {
@@ -282,16 +316,24 @@ public final class BuildContext {
                 } finally {
                     running = false;
                     Thread.currentThread().setContextClassLoader(old);
+                    execution.getMetrics().onStepFinished(buildStep.toString(), Thread.currentThread().getName(), start,
+                            System.nanoTime());
                 }
             }
         } finally {
-            log.tracef("Finished step \"%s\" in %s ms", buildStep, System.currentTimeMillis() - start);
+            log.tracef("Finished step \"%s\" in %s ms", buildStep,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             execution.removeBuildContext(stepInfo, this);
         }
         final Set<StepInfo> dependents = stepInfo.getDependents();
         if (!dependents.isEmpty()) {
             for (StepInfo info : dependents) {
-                execution.getBuildContext(info).depFinished();
+                final BuildContext dependent = execution.getBuildContext(info);
+                if (!inheritedMarks.isEmpty() || !marks.isEmpty()) {
+                    dependent.inheritedMarks.addAll(inheritedMarks);
+                    dependent.inheritedMarks.addAll(marks);
+                }
+                dependent.depFinished();
             }
         } else {
             execution.depFinished();
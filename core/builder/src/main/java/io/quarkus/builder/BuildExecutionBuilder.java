@@ -20,6 +20,8 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private int maxConcurrentSteps = Math.max(8, Runtime.getRuntime().availableProcessors());
+    private Map<String, Long> stepCostHints = Collections.emptyMap();
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -69,6 +71,35 @@ public final class BuildExecutionBuilder {
         return this;
     }
 
+    /**
+     * Set the maximum number of build steps that are executed concurrently. When more steps are ready to run, the
+     * steps that are on the longest path to the end of the build are executed first.
+     * <p>
+     * This does not limit the tasks build steps submit to the {@linkplain BuildContext#getExecutor() executor}.
+     *
+     * @param maxConcurrentSteps the maximum number of concurrent steps (must be greater than zero)
+     * @return this builder
+     */
+    public BuildExecutionBuilder setMaxConcurrentSteps(int maxConcurrentSteps) {
+        Assert.checkMinimumParameter("maxConcurrentSteps", 1, maxConcurrentSteps);
+        this.maxConcurrentSteps = maxConcurrentSteps;
+        return this;
+    }
+
+    /**
+     * Provide the expected duration of build steps, for instance the durations measured by a previous build (see
+     * {@link BuildResult#getMetrics()}). They are used to estimate the longest path to the end of the build from
+     * each step, steps without a hint are assumed to be short.
+     *
+     * @param stepCostHints the expected duration in microseconds, keyed by build step name (must not be {@code null})
+     * @return this builder
+     */
+    public BuildExecutionBuilder setStepCostHints(Map<String, Long> stepCostHints) {
+        Assert.checkNotNullParam("stepCostHints", stepCostHints);
+        this.stepCostHints = stepCostHints;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -81,6 +112,14 @@ public final class BuildExecutionBuilder {
 
     // -- //
 
+    int getMaxConcurrentSteps() {
+        return maxConcurrentSteps;
+    }
+
+    Map<String, Long> getStepCostHints() {
+        return stepCostHints;
+    }
+
     private void produce(final ItemId id, final BuildItem value) {
         if (!buildChain.hasInitial(id)) {
             throw Messages.msg.undeclaredItem(id);
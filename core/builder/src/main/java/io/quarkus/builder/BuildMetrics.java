@@ -0,0 +1,94 @@
+package io.quarkus.builder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The duration and the thread of every build step that was executed during a build.
+ */
+public final class BuildMetrics {
+
+    private final long started;
+    private final Queue<BuildStepRecord> records = new ConcurrentLinkedQueue<>();
+
+    BuildMetrics(long started) {
+        this.started = started;
+    }
+
+    void onStepFinished(String stepName, String threadName, long stepStarted, long stepFinished) {
+        records.add(new BuildStepRecord(stepName, threadName, micros(stepStarted - started),
+                micros(stepFinished - stepStarted)));
+    }
+
+    /**
+     * @return the records of the executed build steps, sorted by start time
+     */
+    public List<BuildStepRecord> getRecords() {
+        List<BuildStepRecord> sorted = new ArrayList<>(records);
+        sorted.sort(Comparator.comparingLong(BuildStepRecord::getStartedMicros));
+        return sorted;
+    }
+
+    /**
+     * @return the duration of the executed build steps in microseconds, keyed by step name, which can be used as cost
+     *         hints for the next build, see {@link BuildExecutionBuilder#setStepCostHints(Map)}
+     */
+    public Map<String, Long> getStepDurations() {
+        Map<String, Long> durations = new HashMap<>();
+        for (BuildStepRecord record : records) {
+            durations.put(record.getStepName(), record.getDurationMicros());
+        }
+        return durations;
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    public static final class BuildStepRecord {
+
+        private final String stepName;
+        private final String threadName;
+        private final long startedMicros;
+        private final long durationMicros;
+
+        BuildStepRecord(String stepName, String threadName, long startedMicros, long durationMicros) {
+            this.stepName = stepName;
+            this.threadName = threadName;
+            this.startedMicros = startedMicros;
+            this.durationMicros = durationMicros;
+        }
+
+        public String getStepName() {
+            return stepName;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * @return the time the step was started at, relative to the start of the build
+         */
+        public long getStartedMicros() {
+            return startedMicros;
+        }
+
+        public long getDurationMicros() {
+            return durationMicros;
+        }
+
+        /**
+         * @return the duration of the step in milliseconds, for display purposes
+         */
+        public long getDurationMillis() {
+            return TimeUnit.MICROSECONDS.toMillis(durationMicros);
+        }
+    }
+}
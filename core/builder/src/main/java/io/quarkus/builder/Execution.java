@@ -5,9 +5,13 @@ import static java.util.concurrent.locks.LockSupport.*;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -26,6 +30,11 @@ final class Execution {
 
     static final Logger log = Logger.getLogger("io.quarkus.builder");
 
+    /**
+     * The cost assumed for a step that has no cost hint, in microseconds.
+     */
+    private static final long DEFAULT_STEP_COST = 1000L;
+
     private final BuildChain chain;
     private final ConcurrentHashMap<ItemId, BuildItem> singles;
     private final ConcurrentHashMap<ItemId, List<BuildItem>> multis;
@@ -36,6 +45,12 @@ final class Execution {
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    private final BuildMetrics metrics;
+    private final Map<StepInfo, Long> priorities;
+    // ready steps, the ones on the longest path to the end of the build first
+    private final PriorityBlockingQueue<BuildContext> readySteps = new PriorityBlockingQueue<>(16,
+            Comparator.comparingLong(BuildContext::getPriority).reversed());
+    private final AtomicInteger freeSlots;
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -58,7 +73,10 @@ final class Execution {
         executorBuilder.setThreadFactory(new JBossThreadFactory(new ThreadGroup("build group"), Boolean.FALSE, null, "build-%t",
                 JBossExecutors.loggingExceptionHandler(), null));
         buildTargetName = builder.getBuildTargetName();
+        metrics = new BuildMetrics(System.nanoTime());
         executor = executorBuilder.build();
+        priorities = computePriorities(chain.getStartSteps(), builder.getStepCostHints());
+        freeSlots = new AtomicInteger(builder.getMaxConcurrentSteps());
         lastStepCount.set(builder.getChain().getEndStepCount());
         if (lastStepCount.get() == 0)
             done = true;
@@ -82,8 +100,9 @@ final class Execution {
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            readySteps.add(getBuildContext(startStep));
         }
+        dispatch();
         // wait for the wrap-up
         boolean intr = false;
         try {
@@ -125,7 +144,83 @@ final class Execution {
         if (lastStepCount.get() > 0)
             throw new BuildException("Extra steps left over", Collections.emptyList());
         return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
-                max(0, System.nanoTime() - start));
+                max(0, System.nanoTime() - start), metrics);
+    }
+
+    /**
+     * Schedules a step whose dependencies have all completed. At most {@code maxConcurrentSteps} steps run at the
+     * same time, the other ones wait in a queue ordered by priority.
+     */
+    void stepReady(BuildContext buildContext) {
+        readySteps.add(buildContext);
+        dispatch();
+    }
+
+    private void dispatch() {
+        for (;;) {
+            int slots = freeSlots.get();
+            if (slots == 0) {
+                // the step that releases a slot dispatches the next one
+                return;
+            }
+            if (!freeSlots.compareAndSet(slots, slots - 1)) {
+                continue;
+            }
+            final BuildContext next = readySteps.poll();
+            if (next == null) {
+                freeSlots.incrementAndGet();
+                // a step may have been queued after the poll but before the slot was released
+                if (readySteps.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            executor.execute(() -> runStep(next));
+        }
+    }
+
+    private void runStep(BuildContext buildContext) {
+        try {
+            buildContext.run();
+        } finally {
+            freeSlots.incrementAndGet();
+            dispatch();
+        }
+    }
+
+    long getPriority(StepInfo stepInfo) {
+        return priorities.getOrDefault(stepInfo, 0L);
+    }
+
+    /**
+     * The priority of a step is the estimated cost of the longest path from the step to the end of the build, so that
+     * the steps of the critical path are started first when more steps are ready than can run concurrently.
+     */
+    private static Map<StepInfo, Long> computePriorities(List<StepInfo> startSteps, Map<String, Long> costHints) {
+        final Map<StepInfo, Long> priorities = new HashMap<>();
+        for (StepInfo startStep : startSteps) {
+            computePriority(startStep, priorities, costHints);
+        }
+        return priorities;
+    }
+
+    private static long computePriority(StepInfo stepInfo, Map<StepInfo, Long> priorities, Map<String, Long> costHints) {
+        final Long known = priorities.get(stepInfo);
+        if (known != null) {
+            return known;
+        }
+        long longestDependent = 0;
+        for (StepInfo dependent : stepInfo.getDependents()) {
+            longestDependent = max(longestDependent, computePriority(dependent, priorities, costHints));
+        }
+        final Long hint = costHints.get(stepInfo.getBuildStep().toString());
+        final long priority = longestDependent + (hint == null ? DEFAULT_STEP_COST : max(1L, hint));
+        priorities.put(stepInfo, priority);
+        return priority;
+    }
+
+    BuildMetrics getMetrics() {
+        return metrics;
     }
 
     EnhancedQueueExecutor getExecutor() {
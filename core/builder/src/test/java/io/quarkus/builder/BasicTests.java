@@ -1,11 +1,18 @@
 package io.quarkus.builder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -23,6 +30,9 @@ public class BasicTests {
     public static final class DummyItem2 extends SimpleBuildItem {
     }
 
+    public static final class DummyItem3 extends SimpleBuildItem {
+    }
+
     @Test
     public void testSimple() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -41,6 +51,7 @@ public class BasicTests {
         final BuildResult result = chain.createExecutionBuilder("my-app.jar").execute();
         assertTrue(ran.get());
         assertNotNull(result.consume(DummyItem.class));
+        assertEquals(1, result.getMetrics().getRecords().size());
     }
 
     @Test
@@ -208,6 +219,85 @@ public class BasicTests {
         }
     }
 
+    @Test
+    public void testInheritedMarks() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                assertTrue(context.getInheritedMarks().isEmpty());
+                context.mark("first");
+                context.produce(new DummyItem());
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                assertEquals(Set.of("first"), context.getInheritedMarks());
+                context.mark("second");
+                context.produce(new DummyItem2());
+            }
+        });
+        stepBuilder.consumes(DummyItem.class);
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        final Set<Object> marks = new HashSet<>();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                marks.addAll(context.getInheritedMarks());
+                context.produce(new DummyItem3());
+            }
+        });
+        stepBuilder.consumes(DummyItem2.class);
+        stepBuilder.produces(DummyItem3.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem3.class);
+        BuildChain chain = builder.build();
+        chain.createExecutionBuilder("my-app.jar").execute();
+        assertEquals(Set.of("first", "second"), marks);
+    }
+
+    @Test
+    public void testCriticalPathFirst() throws ChainBuildException, BuildException {
+        final List<String> executed = new CopyOnWriteArrayList<>();
+        final BuildChain chain = criticalPathChain(executed);
+        chain.createExecutionBuilder("my-app.jar").setMaxConcurrentSteps(1).execute();
+        // "long" is followed by "tail" so it is on the longest path
+        assertEquals("long", executed.get(0));
+        assertEquals(3, executed.size());
+    }
+
+    @Test
+    public void testCriticalPathFirstWithCostHints() throws ChainBuildException, BuildException {
+        final List<String> executed = new CopyOnWriteArrayList<>();
+        final BuildChain chain = criticalPathChain(executed);
+        chain.createExecutionBuilder("my-app.jar").setMaxConcurrentSteps(1)
+                .setStepCostHints(Map.of("short", 100_000L))
+                .execute();
+        assertEquals(List.of("short", "long", "tail"), executed);
+    }
+
+    private static BuildChain criticalPathChain(List<String> executed) throws ChainBuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        final AtomicInteger running = new AtomicInteger();
+        builder.addBuildStep(new NamedStep("short", executed, running, DummyItem.class))
+                .produces(DummyItem.class)
+                .build();
+        builder.addBuildStep(new NamedStep("long", executed, running, DummyItem2.class))
+                .produces(DummyItem2.class)
+                .build();
+        builder.addBuildStep(new NamedStep("tail", executed, running, DummyItem3.class))
+                .consumes(DummyItem2.class)
+                .produces(DummyItem3.class)
+                .build();
+        builder.addFinal(DummyItem.class);
+        builder.addFinal(DummyItem3.class);
+        return builder.build();
+    }
+
     @Test
     public void testDuplicate() {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -288,4 +378,37 @@ public class BasicTests {
         stepBuilder.build();
         builder.build();
     }
+
+    static final class NamedStep implements BuildStep {
+
+        private final String name;
+        private final List<String> executed;
+        private final AtomicInteger running;
+        private final Class<? extends SimpleBuildItem> produced;
+
+        NamedStep(String name, List<String> executed, AtomicInteger running, Class<? extends SimpleBuildItem> produced) {
+            this.name = name;
+            this.executed = executed;
+            this.running = running;
+            this.produced = produced;
+        }
+
+        @Override
+        public void execute(BuildContext context) {
+            assertEquals(1, running.incrementAndGet());
+            executed.add(name);
+            try {
+                context.produce(produced.getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
 }
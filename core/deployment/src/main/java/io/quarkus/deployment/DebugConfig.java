@@ -25,4 +25,11 @@ public class DebugConfig {
      */
     @ConfigItem
     Optional<String> generatedClassesDir;
+
+    /**
+     * If set to true, the duration and the thread of every build step are written to
+     * {@code quarkus-build-timeline.json} in the build output directory, in the Chrome trace event format.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean dumpBuildTimeline;
 }
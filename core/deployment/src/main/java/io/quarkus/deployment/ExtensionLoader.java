@@ -27,11 +27,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -897,7 +899,16 @@ public final class ExtensionLoader {
                                     if (recordAnnotation.value() == ExecutionTime.STATIC_INIT) {
                                         bc.produce(new StaticBytecodeRecorderBuildItem(bri));
                                     } else {
-                                        bc.produce(new MainBytecodeRecorderBuildItem(bri));
+                                        // record which of the previous runtime recorders this one depends on, so that
+                                        // the startup tasks can be executed in parallel if requested
+                                        Set<BytecodeRecorderImpl> dependencies = new HashSet<>();
+                                        for (Object mark : bc.getInheritedMarks()) {
+                                            if (mark instanceof BytecodeRecorderImpl) {
+                                                dependencies.add((BytecodeRecorderImpl) mark);
+                                            }
+                                        }
+                                        bc.mark(bri);
+                                        bc.produce(new MainBytecodeRecorderBuildItem(bri, dependencies));
                                     }
 
                                 }
@@ -1,12 +1,14 @@
 package io.quarkus.deployment;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
@@ -20,11 +22,13 @@ import io.quarkus.bootstrap.model.ApplicationModel;
 import io.quarkus.builder.BuildChain;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildMetrics;
 import io.quarkus.builder.BuildResult;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
 import io.quarkus.deployment.builditem.AppModelProviderBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.BuildTimelineBuildItem;
 import io.quarkus.deployment.builditem.CuratedApplicationShutdownBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
@@ -36,12 +40,16 @@ import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.dev.spi.DevModeType;
 import io.quarkus.paths.PathCollection;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.util.ChromeTraceWriter;
 import io.quarkus.runtime.util.JavaVersionUtil;
 
 public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    static final String DUMP_BUILD_TIMELINE = "quarkus.debug.dump-build-timeline";
+    static final String BUILD_TIMELINE_FILE = "quarkus-build-timeline.json";
+
     private final ClassLoader classLoader;
     private final ClassLoader deploymentClassLoader;
     private final PathCollection root;
@@ -119,7 +127,8 @@ public class QuarkusAugmentor {
                     .addInitial(AdditionalApplicationArchiveBuildItem.class)
                     .addInitial(CuratedApplicationShutdownBuildItem.class)
                     .addInitial(BuildSystemTargetBuildItem.class)
-                    .addInitial(AppModelProviderBuildItem.class);
+                    .addInitial(AppModelProviderBuildItem.class)
+                    .addInitial(BuildTimelineBuildItem.class);
             for (Class<? extends BuildItem> i : finalResults) {
                 chainBuilder.addFinal(i);
             }
@@ -137,6 +146,7 @@ public class QuarkusAugmentor {
             rootBuilder.setExcludedFromIndexing(excludedFromIndexing);
 
             BuildChain chain = chainBuilder.build();
+            BuildTimelineBuildItem buildTimeline = new BuildTimelineBuildItem();
             BuildExecutionBuilder execBuilder = chain.createExecutionBuilder("main")
                     .produce(buildCloseables)
                     .produce(liveReloadBuildItem)
@@ -150,12 +160,23 @@ public class QuarkusAugmentor {
                             auxiliaryDevModeType, test))
                     .produce(new BuildSystemTargetBuildItem(targetDir, baseName, rebuild,
                             buildSystemProperties == null ? new Properties() : buildSystemProperties))
-                    .produce(new AppModelProviderBuildItem(effectiveModel));
+                    .produce(new AppModelProviderBuildItem(effectiveModel))
+                    .produce(buildTimeline);
             for (PathCollection i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            // on reload, the steps that were the slowest during the previous build are started first
+            BuildStepDurations previousDurations = liveReloadBuildItem.getContextObject(BuildStepDurations.class);
+            if (previousDurations != null) {
+                execBuilder.setStepCostHints(previousDurations.durations);
+            }
             BuildResult buildResult = execBuilder.execute();
-            String message = "Quarkus augmentation completed in " + (System.currentTimeMillis() - time) + "ms";
+            long duration = System.currentTimeMillis() - time;
+            liveReloadBuildItem.setContextObject(BuildStepDurations.class,
+                    new BuildStepDurations(buildResult.getMetrics().getStepDurations()));
+            buildTimeline.buildCompleted(buildResult.getMetrics(), duration);
+            dumpBuildTimeline(buildResult.getMetrics());
+            String message = "Quarkus augmentation completed in " + duration + "ms";
             if (launchMode == LaunchMode.NORMAL) {
                 log.info(message);
             } else {
@@ -178,10 +199,41 @@ public class QuarkusAugmentor {
         }
     }
 
+    private void dumpBuildTimeline(BuildMetrics metrics) {
+        if (targetDir == null) {
+            return;
+        }
+        // the build configuration, including the build system properties, is still installed at this point
+        boolean dump = ConfigProviderResolver.instance().getConfig(deploymentClassLoader)
+                .getOptionalValue(DUMP_BUILD_TIMELINE, Boolean.class).orElse(false);
+        if (!dump) {
+            return;
+        }
+        Path file = targetDir.resolve(BUILD_TIMELINE_FILE);
+        try (ChromeTraceWriter writer = ChromeTraceWriter.create(file, "build")) {
+            for (BuildMetrics.BuildStepRecord record : metrics.getRecords()) {
+                writer.complete(record.getStepName(), "build-step", record.getThreadName(), record.getStartedMicros(),
+                        record.getDurationMicros());
+            }
+            log.infof("Build timeline written to %s", file);
+        } catch (IOException e) {
+            log.warn("Unable to write the build timeline to " + file, e);
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
 
+    static final class BuildStepDurations {
+
+        final Map<String, Long> durations;
+
+        BuildStepDurations(Map<String, Long> durations) {
+            this.durations = durations;
+        }
+    }
+
     public static final class Builder {
 
         public DevModeType auxiliaryDevModeType;
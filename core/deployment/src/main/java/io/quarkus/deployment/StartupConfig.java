@@ -0,0 +1,22 @@
+package io.quarkus.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot
+public class StartupConfig {
+
+    /**
+     * If set to true, the startup tasks recorded by build steps that do not depend on each other are executed in
+     * parallel when the application starts, instead of one after the other.
+     * <p>
+     * The dependencies between the startup tasks are derived from the build items consumed and produced by the build
+     * steps that recorded them, so this should only be enabled if none of the extensions used by the application rely
+     * on the order of startup tasks that are not otherwise linked.
+     * <p>
+     * When {@code quarkus.debug.print-startup-times} is set the duration and the thread of every startup task is
+     * printed.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean parallelTasks;
+}
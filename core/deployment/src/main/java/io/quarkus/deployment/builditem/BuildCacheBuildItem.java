@@ -0,0 +1,22 @@
+package io.quarkus.deployment.builditem;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.deployment.cache.BuildCache;
+
+/**
+ * Provides the persistent cache build steps can store their results in, see {@link BuildCache}.
+ * <p>
+ * The cache is always available, but it only stores anything when {@code quarkus.build-cache.enabled} is set.
+ */
+public final class BuildCacheBuildItem extends SimpleBuildItem {
+
+    private final BuildCache buildCache;
+
+    public BuildCacheBuildItem(BuildCache buildCache) {
+        this.buildCache = buildCache;
+    }
+
+    public BuildCache getBuildCache() {
+        return buildCache;
+    }
+}
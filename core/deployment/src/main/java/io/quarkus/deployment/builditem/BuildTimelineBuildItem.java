@@ -0,0 +1,35 @@
+package io.quarkus.deployment.builditem;
+
+import java.util.Collections;
+import java.util.List;
+
+import io.quarkus.builder.BuildMetrics;
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Gives access to the duration and the thread of every build step of the current build.
+ * <p>
+ * The records are only available once the build has completed, so this is meant to be used by components that
+ * outlive the build, such as the Dev UI.
+ */
+public final class BuildTimelineBuildItem extends SimpleBuildItem {
+
+    private volatile List<BuildMetrics.BuildStepRecord> records = Collections.emptyList();
+    private volatile long durationMillis;
+
+    public void buildCompleted(BuildMetrics metrics, long durationMillis) {
+        this.records = Collections.unmodifiableList(metrics.getRecords());
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * @return the build steps, sorted by start time, or an empty list if the build has not completed yet
+     */
+    public List<BuildMetrics.BuildStepRecord> getRecords() {
+        return records;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+}
@@ -40,6 +40,14 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
 
     final boolean cacheable;
 
+    /**
+     * A value that changes whenever the state, the configuration or the other classes the transformer depends on change.
+     * The result of a cacheable transformation is only stored in the persistent build cache if all the transformers of the
+     * class set it, as the key of an entry otherwise only covers the bytecode of the transformed class and the classes of
+     * the transformers.
+     */
+    final String cacheFingerprint;
+
     final int classReaderOptions;
 
     public BytecodeTransformerBuildItem(String classToTransform,
@@ -76,6 +84,7 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
         this.visitorFunction = visitorFunction;
         this.requireConstPoolEntry = requireConstPoolEntry;
         this.cacheable = cacheable;
+        this.cacheFingerprint = null;
         this.inputTransformer = null;
         this.classReaderOptions = 0;
     }
@@ -86,6 +95,7 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
         this.visitorFunction = builder.visitorFunction;
         this.requireConstPoolEntry = builder.requireConstPoolEntry;
         this.cacheable = builder.cacheable;
+        this.cacheFingerprint = builder.cacheFingerprint;
         this.inputTransformer = builder.inputTransformer;
         this.classReaderOptions = builder.classReaderOptions;
         if (visitorFunction == null && inputTransformer == null) {
@@ -113,6 +123,10 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
         return cacheable;
     }
 
+    public String getCacheFingerprint() {
+        return cacheFingerprint;
+    }
+
     public int getClassReaderOptions() {
         return classReaderOptions;
     }
@@ -128,6 +142,7 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
         private Set<String> requireConstPoolEntry = null;
         private boolean eager = false;
         private boolean cacheable = false;
+        private String cacheFingerprint = null;
         private int classReaderOptions = 0;
 
         public Builder setInputTransformer(BiFunction<String, byte[], byte[]> inputTransformer) {
@@ -160,6 +175,11 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
             return this;
         }
 
+        public Builder setCacheFingerprint(String cacheFingerprint) {
+            this.cacheFingerprint = cacheFingerprint;
+            return this;
+        }
+
         public Builder setClassReaderOptions(int classReaderOptions) {
             this.classReaderOptions = classReaderOptions;
             return this;
@@ -1,5 +1,8 @@
 package io.quarkus.deployment.builditem;
 
+import java.util.Collections;
+import java.util.Set;
+
 import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
 
@@ -7,15 +10,27 @@ public final class MainBytecodeRecorderBuildItem extends MultiBuildItem {
 
     private final BytecodeRecorderImpl bytecodeRecorder;
     private final String generatedStartupContextClassName;
+    private final Set<BytecodeRecorderImpl> dependencies;
 
     public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder) {
+        this(bytecodeRecorder, null);
+    }
+
+    /**
+     * @param bytecodeRecorder the recorder
+     * @param dependencies the recorders of the build steps the build step of this recorder depends on, or {@code null}
+     *        if they are unknown, in which case the recorder is assumed to depend on all the previous recorders
+     */
+    public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder, Set<BytecodeRecorderImpl> dependencies) {
         this.bytecodeRecorder = bytecodeRecorder;
         this.generatedStartupContextClassName = null;
+        this.dependencies = dependencies == null ? null : Collections.unmodifiableSet(dependencies);
     }
 
     public MainBytecodeRecorderBuildItem(String generatedStartupContextClassName) {
         this.generatedStartupContextClassName = generatedStartupContextClassName;
         this.bytecodeRecorder = null;
+        this.dependencies = null;
     }
 
     public BytecodeRecorderImpl getBytecodeRecorder() {
@@ -25,4 +40,12 @@ public final class MainBytecodeRecorderBuildItem extends MultiBuildItem {
     public String getGeneratedStartupContextClassName() {
         return generatedStartupContextClassName;
     }
+
+    /**
+     * @return the recorders this recorder depends on, or {@code null} if the recorder has to be executed after all the
+     *         previous ones
+     */
+    public Set<BytecodeRecorderImpl> getDependencies() {
+        return dependencies;
+    }
 }
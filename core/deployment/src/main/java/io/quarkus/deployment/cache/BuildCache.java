@@ -0,0 +1,176 @@
+package io.quarkus.deployment.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A content-addressed store for the results of build steps, persisted on disk so that they can be reused by the
+ * following builds.
+ * <p>
+ * Entries are addressed by a key computed from everything the result depends on, see {@link #newKey(String)}. Every
+ * key also includes the fingerprint of the build the cache was created for, which covers the dependencies of the
+ * application, so entries created by a different set of extensions are never returned.
+ * <p>
+ * The cache is best-effort: read and write failures are logged and treated as misses.
+ */
+public final class BuildCache {
+
+    private static final Logger log = Logger.getLogger(BuildCache.class);
+
+    private static final BuildCache DISABLED = new BuildCache(null, "");
+
+    private final Path directory;
+    private final String fingerprint;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private BuildCache(Path directory, String fingerprint) {
+        this.directory = directory;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * @return a cache that never contains anything and ignores the stored entries
+     */
+    public static BuildCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @param directory the directory the entries are stored in, created if needed
+     * @param fingerprint a value that is included in every key
+     */
+    public static BuildCache create(Path directory, String fingerprint) {
+        return new BuildCache(directory, fingerprint);
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * @param namespace identifies the kind of result, so that unrelated results computed from the same inputs get
+     *        different keys
+     * @return a builder for a key
+     */
+    public KeyBuilder newKey(String namespace) {
+        return new KeyBuilder().add(fingerprint).add(namespace);
+    }
+
+    /**
+     * @return the stored data, or {@code null} if there is no entry for the key or the cache is disabled
+     */
+    public byte[] get(String key) {
+        if (directory == null) {
+            return null;
+        }
+        try {
+            byte[] data = Files.readAllBytes(entry(key));
+            hits.increment();
+            return data;
+        } catch (NoSuchFileException e) {
+            misses.increment();
+            return null;
+        } catch (IOException e) {
+            log.debugf(e, "Unable to read build cache entry %s", key);
+            misses.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Stores the data for the key. The entry is written to a temporary file first so that concurrent builds never
+     * read a partially written entry.
+     */
+    public void put(String key, byte[] data) {
+        if (directory == null) {
+            return;
+        }
+        Path entry = entry(key);
+        Path tmp = null;
+        try {
+            Files.createDirectories(entry.getParent());
+            tmp = Files.createTempFile(entry.getParent(), key, ".tmp");
+            Files.write(tmp, data);
+            Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to write build cache entry %s", key);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private Path entry(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key.substring(2));
+    }
+
+    /**
+     * Computes a SHA-256 key from a sequence of values. Values are length-prefixed, so that different sequences never
+     * produce the same input for the digest.
+     */
+    public static final class KeyBuilder {
+
+        private final MessageDigest digest;
+
+        KeyBuilder() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public KeyBuilder add(String value) {
+            return add(value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public KeyBuilder add(long value) {
+            return add(Long.toString(value));
+        }
+
+        public KeyBuilder add(byte[] value) {
+            int length = value.length;
+            digest.update(new byte[] { (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8),
+                    (byte) length });
+            digest.update(value);
+            return this;
+        }
+
+        /**
+         * @return the key, a lowercase hexadecimal string
+         */
+        public String build() {
+            byte[] hash = digest.digest();
+            StringBuilder sb = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        }
+    }
+}
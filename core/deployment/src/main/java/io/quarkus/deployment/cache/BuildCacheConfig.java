@@ -0,0 +1,32 @@
+package io.quarkus.deployment.cache;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "build-cache")
+public class BuildCacheConfig {
+
+    /**
+     * If set to true, the results of the build steps that support it are stored on disk and reused by the following
+     * builds when their inputs have not changed.
+     * <p>
+     * At the moment this applies to the bytecode transformations whose transformers declare a cache fingerprint, such
+     * as the Hibernate ORM entity enhancement. Entries are keyed on a hash of the original bytecode of the class, of the
+     * fingerprints of the transformers, which cover the other classes they read, and of the coordinates of the
+     * dependencies, so changing the version of an extension invalidates the whole cache.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The directory the cache is stored in. Relative paths are resolved against the build output directory, which is
+     * also the default location of the {@code quarkus-build-cache} directory.
+     * <p>
+     * Pointing this to a directory that is kept between CI builds, or shared by several projects, allows them to reuse
+     * each other's results.
+     */
+    @ConfigItem
+    public Optional<String> path;
+}
@@ -19,6 +19,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.IntFunction;
 import java.util.regex.Pattern;
@@ -75,6 +76,7 @@ import io.quarkus.runtime.configuration.QuarkusConfigFactory;
 import io.quarkus.runtime.configuration.RuntimeConfigSource;
 import io.quarkus.runtime.configuration.RuntimeConfigSourceFactory;
 import io.quarkus.runtime.configuration.RuntimeConfigSourceProvider;
+import io.quarkus.runtime.util.StartupTimeline;
 import io.smallrye.config.ConfigMappings.ConfigClassWithPrefix;
 import io.smallrye.config.Converters;
 import io.smallrye.config.PropertiesConfigSource;
@@ -214,6 +216,8 @@ public final class RunTimeConfigurationGenerator {
     static final MethodDescriptor NI_NEW_STRING = MethodDescriptor.ofConstructor(NameIterator.class, String.class);
     static final MethodDescriptor NI_NEXT_EQUALS = MethodDescriptor.ofMethod(NameIterator.class, "nextSegmentEquals",
             boolean.class, String.class);
+    static final MethodDescriptor NI_NEXT_HASH_CODE = MethodDescriptor.ofMethod(NameIterator.class, "nextSegmentHashCode",
+            int.class);
     static final MethodDescriptor NI_NEXT = MethodDescriptor.ofMethod(NameIterator.class, "next", void.class);
     static final MethodDescriptor NI_PREVIOUS = MethodDescriptor.ofMethod(NameIterator.class, "previous", void.class);
 
@@ -266,9 +270,19 @@ public final class RunTimeConfigurationGenerator {
     static final MethodDescriptor HS_NEW = MethodDescriptor.ofConstructor(HashSet.class);
     static final MethodDescriptor HS_PUT = MethodDescriptor.ofMethod(HashSet.class, "add", boolean.class, Object.class);
 
+    static final MethodDescriptor SYS_NANO_TIME = MethodDescriptor.ofMethod(System.class, "nanoTime", long.class);
+    static final MethodDescriptor ST_RECORD_CONFIG = MethodDescriptor.ofMethod(StartupTimeline.class, "recordConfig",
+            void.class, String.class, long.class);
+
     // todo: more space-efficient sorted map impl
     static final MethodDescriptor TM_NEW = MethodDescriptor.ofConstructor(TreeMap.class);
 
+    /**
+     * The number of segment names above which the generated parsers dispatch on the hash code of the next segment instead
+     * of comparing it with each name in turn.
+     */
+    static final int SEGMENT_SWITCH_THRESHOLD = 4;
+
     static final MethodDescriptor EMPTY_PARSER = MethodDescriptor.ofMethod(CONFIG_CLASS_NAME, "emptyParseKey", void.class,
             SmallRyeConfig.class, NameIterator.class);
     static final MethodDescriptor RT_EMPTY_PARSER = MethodDescriptor.ofMethod(CONFIG_CLASS_NAME, "rtEmptyParseKey", void.class,
@@ -290,6 +304,8 @@ public final class RunTimeConfigurationGenerator {
         final ResultHandle readBootstrapConfigNameBuilder;
         final MethodCreator readConfig;
         final ResultHandle readConfigNameBuilder;
+        final ResultHandle readBootstrapConfigStarted;
+        final ResultHandle readConfigStarted;
         final ResultHandle clinitNameBuilder;
         final BuildTimeConfigurationReader.ReadResult buildTimeConfigResult;
         final List<RootDefinition> roots;
@@ -463,6 +479,7 @@ public final class RunTimeConfigurationGenerator {
             // create readBootstrapConfig method - this will always exist whether or not it contains a method body
             // the method body will be empty when there are no bootstrap configuration roots
             readBootstrapConfig = cc.getMethodCreator(C_BOOTSTRAP_CONFIG);
+            readBootstrapConfigStarted = readBootstrapConfig.invokeStaticMethod(SYS_NANO_TIME);
             if (buildTimeReadResult.isBootstrapRootsEmpty()) {
                 readBootstrapConfigNameBuilder = null;
             } else {
@@ -471,6 +488,7 @@ public final class RunTimeConfigurationGenerator {
 
             // create readConfig
             readConfig = cc.getMethodCreator(C_READ_CONFIG);
+            readConfigStarted = readConfig.invokeStaticMethod(SYS_NANO_TIME);
             // the readConfig name builder
             readConfigNameBuilder = readConfig.newInstance(SB_NEW);
 
@@ -894,9 +912,12 @@ public final class RunTimeConfigurationGenerator {
                     configurationException, emptyStackTraceElement);
             isError.throwException(configurationException);
 
+            readBootstrapConfig.invokeStaticMethod(ST_RECORD_CONFIG, readBootstrapConfig.load("bootstrap config"),
+                    readBootstrapConfigStarted);
             readBootstrapConfig.returnValue(null);
             readBootstrapConfig.close();
 
+            readConfig.invokeStaticMethod(ST_RECORD_CONFIG, readConfig.load("runtime config"), readConfigStarted);
             readConfig.returnValue(null);
             readConfig.close();
 
@@ -1159,21 +1180,15 @@ public final class RunTimeConfigurationGenerator {
                 }
                 // }
                 // branches for each next-string
-                for (String name : children.keySet()) {
-                    // TODO: string switch
-                    // if (keyIter.nextSegmentEquals(name)) {
-                    try (BytecodeCreator nameMatched = body
-                            .ifNonZero(body.invokeVirtualMethod(NI_NEXT_EQUALS, keyIter, body.load(name))).trueBranch()) {
-                        // keyIter.next();
-                        nameMatched.invokeVirtualMethod(NI_NEXT, keyIter);
-                        // (generated recursive)
-                        // result = getDefault$..$name(keyIter);
-                        ResultHandle result = nameMatched.invokeVirtualMethod(children.get(name), body.getThis(), keyIter);
-                        // return result;
-                        nameMatched.returnValue(result);
-                    }
-                    // }
-                }
+                generateSegmentSwitch(body, keyIter, children.keySet(), (nameMatched, name) -> {
+                    // keyIter.next();
+                    nameMatched.invokeVirtualMethod(NI_NEXT, keyIter);
+                    // (generated recursive)
+                    // result = getDefault$..$name(keyIter);
+                    ResultHandle result = nameMatched.invokeVirtualMethod(children.get(name), body.getThis(), keyIter);
+                    // return result;
+                    nameMatched.returnValue(result);
+                });
                 if (wildCard != null) {
                     // consume and parse
                     try (BytecodeCreator matchedBody = body.ifNonZero(body.invokeVirtualMethod(NI_HAS_NEXT, keyIter))
@@ -1304,69 +1319,51 @@ public final class RunTimeConfigurationGenerator {
                 }
                 // }
                 boolean hasWildCard = false;
-                // branches for each next-string
+                // key children first, then the ignored children that are not key children
+                final List<String> keyNames = new ArrayList<>();
+                final List<String> ignoredNames = new ArrayList<>();
                 if (keyMap != null) {
-                    final Iterable<String> names = keyMap.childNames();
-                    for (String name : names) {
+                    for (String name : keyMap.childNames()) {
                         if (name.equals(ConfigPatternMap.WILD_CARD)) {
                             hasWildCard = true;
                         } else {
-                            // TODO: string switch
-                            // if (keyIter.nextSegmentEquals(name)) {
-                            try (BytecodeCreator nameMatched = body
-                                    .ifNonZero(body.invokeVirtualMethod(NI_NEXT_EQUALS, keyIter, body.load(name)))
-                                    .trueBranch()) {
-                                // keyIter.next();
-                                nameMatched.invokeVirtualMethod(NI_NEXT, keyIter);
-                                // (generated recursive)
-                                final int length = methodName.length();
-                                methodName.append(':').append(name);
-                                nameMatched.invokeStaticMethod(
-                                        generateParserBody(keyMap.getChild(name),
-                                                ignoredMap == null ? null : ignoredMap.getChild(name), methodName, dynamic,
-                                                type),
-                                        config, keyIter);
-                                methodName.setLength(length);
-                                // return;
-                                nameMatched.returnValue(null);
-                            }
-                            // }
+                            keyNames.add(name);
                         }
                     }
                 }
-                // branches for each ignored child
                 if (ignoredMap != null) {
-                    final Iterable<String> names = ignoredMap.childNames();
-                    for (String name : names) {
+                    for (String name : ignoredMap.childNames()) {
                         if (name.equals(ConfigPatternMap.WILD_CARD)) {
                             hasWildCard = true;
-                        } else {
-                            final ConfigPatternMap<Container> keyChildMap = keyMap == null ? null : keyMap.getChild(name);
-                            if (keyChildMap != null) {
-                                // we already did this one
-                                continue;
-                            }
-                            // TODO: string switch
-                            // if (keyIter.nextSegmentEquals(name)) {
-                            try (BytecodeCreator nameMatched = body
-                                    .ifNonZero(body.invokeVirtualMethod(NI_NEXT_EQUALS, keyIter, body.load(name)))
-                                    .trueBranch()) {
-                                // keyIter.next();
-                                nameMatched.invokeVirtualMethod(NI_NEXT, keyIter);
-                                // (generated recursive)
-                                final int length = methodName.length();
-                                methodName.append(':').append(name);
-                                nameMatched.invokeStaticMethod(
-                                        generateParserBody(null, ignoredMap.getChild(name), methodName, false, type),
-                                        config, keyIter);
-                                methodName.setLength(length);
-                                // return;
-                                nameMatched.returnValue(null);
-                            }
-                            // }
+                        } else if (keyMap == null || keyMap.getChild(name) == null) {
+                            ignoredNames.add(name);
                         }
                     }
                 }
+                final List<String> names = new ArrayList<>(keyNames.size() + ignoredNames.size());
+                names.addAll(keyNames);
+                names.addAll(ignoredNames);
+                // branches for each next-string
+                generateSegmentSwitch(body, keyIter, names, (nameMatched, name) -> {
+                    // keyIter.next();
+                    nameMatched.invokeVirtualMethod(NI_NEXT, keyIter);
+                    // (generated recursive)
+                    final int length = methodName.length();
+                    methodName.append(':').append(name);
+                    final ConfigPatternMap<Container> keyChildMap = keyMap == null ? null : keyMap.getChild(name);
+                    final MethodDescriptor childParser;
+                    if (keyChildMap != null) {
+                        childParser = generateParserBody(keyChildMap,
+                                ignoredMap == null ? null : ignoredMap.getChild(name), methodName, dynamic, type);
+                    } else {
+                        // ignored child
+                        childParser = generateParserBody(null, ignoredMap.getChild(name), methodName, false, type);
+                    }
+                    nameMatched.invokeStaticMethod(childParser, config, keyIter);
+                    methodName.setLength(length);
+                    // return;
+                    nameMatched.returnValue(null);
+                });
                 if (hasWildCard) {
                     assert keyMap != null || ignoredMap != null;
                     // consume and parse
@@ -1398,6 +1395,72 @@ public final class RunTimeConfigurationGenerator {
             }
         }
 
+        /**
+         * Generate the branches matching the next segment of the key against each of the given names, in the same way as a
+         * sequence of {@code if (keyIter.nextSegmentEquals(name)) { ... }} would.
+         * <p>
+         * When there are more than {@link #SEGMENT_SWITCH_THRESHOLD} names, the hash code of the next segment is computed
+         * once and a binary search over the hash codes of the names, sorted at build time, selects the names the segment
+         * can be equal to, so the cost of matching a segment does not grow linearly with the number of names. The
+         * segment is still compared with the selected names to rule out collisions.
+         * <p>
+         * The code generated by {@code matched} must return; when no name matches, execution continues after the
+         * generated branches.
+         */
+        static void generateSegmentSwitch(final BytecodeCreator body, final ResultHandle keyIter,
+                final Collection<String> names, final BiConsumer<BytecodeCreator, String> matched) {
+            if (names.size() <= SEGMENT_SWITCH_THRESHOLD) {
+                for (String name : names) {
+                    generateSegmentEquals(body, keyIter, name, matched);
+                }
+                return;
+            }
+            final TreeMap<Integer, List<String>> namesByHash = new TreeMap<>();
+            for (String name : names) {
+                namesByHash.computeIfAbsent(name.hashCode(), k -> new ArrayList<>(1)).add(name);
+            }
+            // int hash = keyIter.nextSegmentHashCode();
+            final ResultHandle hash = body.invokeVirtualMethod(NI_NEXT_HASH_CODE, keyIter);
+            generateHashSearch(body, keyIter, hash, new ArrayList<>(namesByHash.entrySet()), 0, namesByHash.size(),
+                    matched);
+        }
+
+        private static void generateHashSearch(final BytecodeCreator body, final ResultHandle keyIter,
+                final ResultHandle hash, final List<Map.Entry<Integer, List<String>>> buckets, final int from, final int to,
+                final BiConsumer<BytecodeCreator, String> matched) {
+            if (to - from == 1) {
+                final Map.Entry<Integer, List<String>> bucket = buckets.get(from);
+                // if (hash == bucketHash) {
+                try (BytecodeCreator hashMatched = body.ifIntegerEqual(hash, body.load(bucket.getKey().intValue()))
+                        .trueBranch()) {
+                    for (String name : bucket.getValue()) {
+                        generateSegmentEquals(hashMatched, keyIter, name, matched);
+                    }
+                }
+                // }
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            // if (hash < middleHash) { (lower half) } else { (upper half) }
+            final BranchResult branch = body.ifIntegerLessThan(hash, body.load(buckets.get(middle).getKey().intValue()));
+            try (BytecodeCreator lower = branch.trueBranch()) {
+                generateHashSearch(lower, keyIter, hash, buckets, from, middle, matched);
+            }
+            try (BytecodeCreator upper = branch.falseBranch()) {
+                generateHashSearch(upper, keyIter, hash, buckets, middle, to, matched);
+            }
+        }
+
+        private static void generateSegmentEquals(final BytecodeCreator body, final ResultHandle keyIter, final String name,
+                final BiConsumer<BytecodeCreator, String> matched) {
+            // if (keyIter.nextSegmentEquals(name)) {
+            try (BytecodeCreator nameMatched = body
+                    .ifNonZero(body.invokeVirtualMethod(NI_NEXT_EQUALS, keyIter, body.load(name))).trueBranch()) {
+                matched.accept(nameMatched, name);
+            }
+            // }
+        }
+
         private MethodDescriptor generateGetEnclosing(final FieldContainer matchNode, final Type type) {
             // name iterator cursor is placed BEFORE the field name on entry
             MethodDescriptor md = enclosingMemberMethods.get(matchNode);
@@ -5,6 +5,7 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -13,7 +14,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.Index;
@@ -89,13 +94,21 @@ public class ApplicationArchiveBuildStep {
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            DependencyIndexCacheConfig dependencyIndexCacheConfig,
+            Executor executor) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        PersistentIndexCache persistentIndexCache = null;
+        if (dependencyIndexCacheConfig.enabled) {
+            persistentIndexCache = new PersistentIndexCache(dependencyIndexCacheConfig.path.map(Paths::get)
+                    .orElseGet(() -> Paths.get(System.getProperty("user.home"), ".quarkus", "dependency-index-cache")));
+        }
+        JarIndexer jarIndexer = new JarIndexer(indexCache, persistentIndexCache, executor);
 
         Map<ArtifactKey, Set<String>> removedResources = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : classLoadingConfig.removedResources.entrySet()) {
@@ -103,8 +116,12 @@ public class ApplicationArchiveBuildStep {
         }
 
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
-                appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
+                appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, jarIndexer,
                 curateOutcomeBuildItem, removedResources);
+        if (persistentIndexCache != null) {
+            LOGGER.debugf("Dependency index cache: %d hits, %d misses", persistentIndexCache.getHits(),
+                    persistentIndexCache.getMisses());
+        }
 
         final OpenPathTree tree;
         if (root.getRootDirectories().size() == 1) {
@@ -127,11 +144,12 @@ public class ApplicationArchiveBuildStep {
     private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuildItem buildCloseables,
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers,
             ArchiveRootBuildItem root, List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchives,
-            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache,
+            List<IndexDependencyBuildItem> indexDependencyBuildItem, JarIndexer jarIndexer,
             CurateOutcomeBuildItem curateOutcomeBuildItem, Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
 
-        List<ApplicationArchive> appArchives = new ArrayList<>();
+        // the jars are indexed in parallel, the archives are collected in order once they are all indexed
+        List<CompletableFuture<ApplicationArchive>> appArchives = new ArrayList<>();
         Set<Path> indexedPaths = new HashSet<>();
 
         //get paths that are included via marker files
@@ -142,27 +160,38 @@ public class ApplicationArchiveBuildStep {
         }
         markers.add(IndexingUtil.JANDEX_INDEX);
         addMarkerFilePaths(markers, root, curateOutcomeBuildItem, indexedPaths, appArchives, buildCloseables,
-                indexCache, removedResources);
+                jarIndexer, removedResources);
 
         //get paths that are included via index-dependencies
         addIndexDependencyPaths(indexDependencyBuildItem, root, indexedPaths, appArchives, buildCloseables,
-                indexCache, curateOutcomeBuildItem, removedResources);
+                jarIndexer, curateOutcomeBuildItem, removedResources);
 
         for (AdditionalApplicationArchiveBuildItem i : additionalApplicationArchives) {
             for (Path apPath : i.getResolvedPaths()) {
                 if (!root.getResolvedPaths().contains(apPath) && indexedPaths.add(apPath)) {
-                    appArchives.add(createApplicationArchive(buildCloseables, indexCache, apPath, null,
+                    appArchives.add(createApplicationArchive(buildCloseables, jarIndexer, apPath, null,
                             removedResources));
                 }
             }
         }
 
-        return appArchives;
+        List<ApplicationArchive> result = new ArrayList<>(appArchives.size());
+        for (CompletableFuture<ApplicationArchive> appArchive : appArchives) {
+            try {
+                result.add(appArchive.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return result;
     }
 
     private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems, ArchiveRootBuildItem root,
-            Set<Path> indexedDeps, List<ApplicationArchive> appArchives,
-            QuarkusBuildCloseablesBuildItem buildCloseables, IndexCache indexCache,
+            Set<Path> indexedDeps, List<CompletableFuture<ApplicationArchive>> appArchives,
+            QuarkusBuildCloseablesBuildItem buildCloseables, JarIndexer jarIndexer,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
             Map<ArtifactKey, Set<String>> removedResources) {
         if (indexDependencyBuildItems.isEmpty()) {
@@ -188,7 +217,7 @@ public class ApplicationArchiveBuildStep {
                 for (Path path : artifact.getContentTree().getRoots()) {
                     if (!root.isExcludedFromIndexing(path) && !root.getResolvedPaths().contains(path)
                             && indexedDeps.add(path)) {
-                        appArchives.add(createApplicationArchive(buildCloseables, indexCache, path, key,
+                        appArchives.add(createApplicationArchive(buildCloseables, jarIndexer, path, key,
                                 removedResources));
                     }
                 }
@@ -198,27 +227,26 @@ public class ApplicationArchiveBuildStep {
         }
     }
 
-    private static ApplicationArchive createApplicationArchive(QuarkusBuildCloseablesBuildItem buildCloseables,
-            IndexCache indexCache, Path dep, ArtifactKey artifactKey, Map<ArtifactKey, Set<String>> removedResources)
+    private static CompletableFuture<ApplicationArchive> createApplicationArchive(
+            QuarkusBuildCloseablesBuildItem buildCloseables,
+            JarIndexer jarIndexer, Path dep, ArtifactKey artifactKey, Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
         LOGGER.debugf("Indexing dependency: %s", dep);
         final Set<String> removed = removedResources.get(artifactKey);
-        final OpenPathTree openTree;
-        final IndexView index;
         if (Files.isDirectory(dep)) {
-            openTree = new DirectoryPathTree(dep);
-            index = indexPathTree(openTree, removed);
-        } else {
-            openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
-            index = handleJarPath(dep, indexCache, removed);
+            final OpenPathTree openTree = new DirectoryPathTree(dep);
+            return CompletableFuture
+                    .completedFuture(new ApplicationArchiveImpl(indexPathTree(openTree, removed), openTree, artifactKey));
         }
-        return new ApplicationArchiveImpl(index, openTree, artifactKey);
+        final OpenPathTree openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
+        return jarIndexer.indexJar(dep, removed)
+                .thenApply(index -> new ApplicationArchiveImpl(index, openTree, artifactKey));
     }
 
     private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
             ArchiveRootBuildItem root, CurateOutcomeBuildItem curateOutcomeBuildItem, Set<Path> indexedPaths,
-            List<ApplicationArchive> appArchives, QuarkusBuildCloseablesBuildItem buildCloseables,
-            IndexCache indexCache, Map<ArtifactKey, Set<String>> removed)
+            List<CompletableFuture<ApplicationArchive>> appArchives, QuarkusBuildCloseablesBuildItem buildCloseables,
+            JarIndexer jarIndexer, Map<ArtifactKey, Set<String>> removed)
             throws IOException {
         final QuarkusClassLoader cl = ((QuarkusClassLoader) Thread.currentThread().getContextClassLoader());
         final Set<ArtifactKey> indexedElements = new HashSet<>();
@@ -245,17 +273,22 @@ public class ApplicationArchiveBuildStep {
                         if (root.isExcludedFromIndexing(rootPath)) {
                             return null;
                         }
-                        Index index = indexCache.cache.get(rootPath);
-                        if (index == null) {
+                        final Set<String> removedFromTree = dependencyKey == null ? Collections.emptySet()
+                                : removed.get(dependencyKey);
+                        if (!tree.getOriginalTree().equals(PathTree.ofArchive(rootPath))) {
+                            // the content of the jar is filtered, so the whole jar can't be indexed
+                            final Index index;
                             try {
-                                index = IndexingUtil.indexTree(tree,
-                                        dependencyKey == null ? Collections.emptySet() : removed.get(dependencyKey));
+                                index = jarIndexer.indexTree(rootPath, tree, removedFromTree);
                             } catch (IOException ioe) {
                                 throw new UncheckedIOException(ioe);
                             }
-                            indexCache.cache.put(rootPath, index);
+                            appArchives.add(CompletableFuture.completedFuture(
+                                    new ApplicationArchiveImpl(index, tree, dependencyKey)));
+                            return null;
                         }
-                        appArchives.add(new ApplicationArchiveImpl(index, tree, dependencyKey));
+                        appArchives.add(jarIndexer.indexJar(rootPath, removedFromTree)
+                                .thenApply(index -> new ApplicationArchiveImpl(index, tree, dependencyKey)));
                         return null;
                     }
 
@@ -274,7 +307,7 @@ public class ApplicationArchiveBuildStep {
                                 tree, dependencyKey);
                     });
                     if (archive != null) {
-                        appArchives.add(archive);
+                        appArchives.add(CompletableFuture.completedFuture(archive));
                     }
                     return null;
                 });
@@ -305,24 +338,61 @@ public class ApplicationArchiveBuildStep {
         return indexer.complete();
     }
 
-    private static Index handleJarPath(Path path, IndexCache indexCache, Set<String> removed) {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try {
-                    return IndexingUtil.indexJar(path, removed);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
-                }
-            }
-        });
-    }
-
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
      */
     private static final class IndexCache {
-        final Map<Path, Index> cache = new HashMap<>();
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Indexes the jars of a build in parallel. Indexes are looked up in the {@link IndexCache} first, then in the
+     * {@link PersistentIndexCache} if it is enabled.
+     */
+    private static final class JarIndexer {
+
+        final IndexCache indexCache;
+        final PersistentIndexCache persistentIndexCache;
+        final Executor executor;
+
+        JarIndexer(IndexCache indexCache, PersistentIndexCache persistentIndexCache, Executor executor) {
+            this.indexCache = indexCache;
+            this.persistentIndexCache = persistentIndexCache;
+            this.executor = executor;
+        }
+
+        CompletableFuture<Index> indexJar(Path path, Set<String> removed) {
+            Index cached = indexCache.cache.get(path);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+            return CompletableFuture.supplyAsync(new Supplier<Index>() {
+                @Override
+                public Index get() {
+                    Index index;
+                    try {
+                        index = persistentIndexCache != null ? persistentIndexCache.index(path, removed)
+                                : IndexingUtil.indexJar(path, removed);
+                    } catch (IOException e) {
+                        throw new RuntimeException("Failed to process " + path, e);
+                    }
+                    indexCache.cache.put(path, index);
+                    return index;
+                }
+            }, executor);
+        }
+
+        /**
+         * Indexes the visible content of a jar whose tree is filtered, such indexes are not persisted.
+         */
+        Index indexTree(Path path, OpenPathTree tree, Set<String> removed) throws IOException {
+            Index index = indexCache.cache.get(path);
+            if (index == null) {
+                index = IndexingUtil.indexTree(tree, removed);
+                indexCache.cache.put(path, index);
+            }
+            return index;
+        }
     }
 }
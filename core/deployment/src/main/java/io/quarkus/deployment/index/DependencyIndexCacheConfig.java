@@ -0,0 +1,27 @@
+package io.quarkus.deployment.index;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "dependency-index-cache")
+public class DependencyIndexCacheConfig {
+
+    /**
+     * If set to true, the Jandex indexes computed for the dependencies that do not contain a
+     * {@code META-INF/jandex.idx} file are stored on disk and reused by the following builds and dev mode restarts,
+     * instead of indexing these dependencies again every time.
+     * <p>
+     * Entries are never evicted, the directory can be deleted at any time to reclaim the space.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The directory the indexes are stored in, {@code ~/.quarkus/dependency-index-cache} by default. The cache can
+     * be shared by all the projects of a user.
+     */
+    @ConfigItem
+    public Optional<String> path;
+}
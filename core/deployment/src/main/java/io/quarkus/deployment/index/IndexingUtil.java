@@ -71,29 +71,44 @@ public class IndexingUtil {
 
     public static Index indexJar(File file, Set<String> removed) throws IOException {
         try (JarFile jarFile = new JarFile(file)) {
-            ZipEntry existing = jarFile.getEntry(JANDEX_INDEX);
-            if (existing != null && removed == null) {
-                try (InputStream in = jarFile.getInputStream(existing)) {
-                    IndexReader reader = new IndexReader(in);
-                    if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
-                        log.warnf(
-                                "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
-                                file);
-                        return indexJar(jarFile, removed);
-                    } else {
-                        try {
-                            return reader.read();
-                        } catch (UnsupportedVersion e) {
-                            throw new UnsupportedVersion("Can't read Jandex index from " + file + ": " + e.getMessage());
-                        }
-                    }
+            if (removed == null) {
+                Index existing = readIndex(jarFile, file);
+                if (existing != null) {
+                    return existing;
                 }
             }
             return indexJar(jarFile, removed);
         }
     }
 
-    private static Index indexJar(JarFile file, Set<String> removed) throws IOException {
+    /**
+     * @return the index contained in the jar, or {@code null} if there is none or if it must be recomputed
+     */
+    static Index readIndex(JarFile jarFile, File file) throws IOException {
+        ZipEntry existing = jarFile.getEntry(JANDEX_INDEX);
+        if (existing == null) {
+            return null;
+        }
+        try (InputStream in = jarFile.getInputStream(existing)) {
+            IndexReader reader = new IndexReader(in);
+            if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
+                log.warnf(
+                        "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
+                        file);
+                return null;
+            }
+            try {
+                return reader.read();
+            } catch (UnsupportedVersion e) {
+                throw new UnsupportedVersion("Can't read Jandex index from " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Indexes the classes of the jar, ignoring the index it may contain.
+     */
+    static Index indexJar(JarFile file, Set<String> removed) throws IOException {
         Indexer indexer = new Indexer();
         Enumeration<JarEntry> e = file.entries();
         boolean multiRelease = JarFiles.isMultiRelease(file);
@@ -0,0 +1,157 @@
+package io.quarkus.deployment.index;
+
+import static io.quarkus.bootstrap.classloading.JarClassPathElement.JAVA_VERSION;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.jar.JarFile;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.cache.BuildCache;
+
+/**
+ * Stores the indexes of the dependency jars that do not contain a {@code META-INF/jandex.idx} file on disk.
+ * <p>
+ * Entries are keyed on the checksum the local Maven repository stores next to the jar or, when there is none, on the
+ * path, the size and the modification time of the jar, as well as on the resources removed from it and on the Jandex
+ * and Java versions. Jars that contain an index are never stored, reading their index is as fast as reading a cached
+ * one.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger log = Logger.getLogger(PersistentIndexCache.class);
+
+    private final BuildCache cache;
+
+    PersistentIndexCache(Path directory) {
+        String jandexVersion = jandexVersion();
+        if (jandexVersion == null) {
+            log.debug("Unable to determine the Jandex version, the dependency index cache is disabled");
+            this.cache = BuildCache.disabled();
+        } else {
+            // the format of the index and the indexed data depend on the Jandex version,
+            // and multi-release jars are indexed for the running Java version
+            this.cache = BuildCache.create(directory, "jandex-" + jandexVersion + "-java-" + JAVA_VERSION);
+        }
+    }
+
+    /**
+     * Returns the index contained in the jar if there is one, or the cached index of the jar, indexing the jar and
+     * storing its index if it was not indexed yet.
+     */
+    Index index(Path jar, Set<String> removed) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            if (removed == null) {
+                Index index = IndexingUtil.readIndex(jarFile, jar.toFile());
+                if (index != null) {
+                    return index;
+                }
+            }
+            String key = key(jar, removed);
+            Index index = get(jar, key);
+            if (index == null) {
+                index = IndexingUtil.indexJar(jarFile, removed);
+                put(jar, key, index);
+            }
+            return index;
+        }
+    }
+
+    long getHits() {
+        return cache.getHits();
+    }
+
+    long getMisses() {
+        return cache.getMisses();
+    }
+
+    private Index get(Path jar, String key) {
+        byte[] data = key == null ? null : cache.get(key);
+        if (data == null) {
+            return null;
+        }
+        try {
+            return new IndexReader(new ByteArrayInputStream(data)).read();
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Ignoring the cached index of %s", jar);
+            return null;
+        }
+    }
+
+    private void put(Path jar, String key, Index index) {
+        if (key == null || !cache.isEnabled()) {
+            return;
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            new IndexWriter(out).write(index);
+            cache.put(key, out.toByteArray());
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to cache the index of %s", jar);
+        }
+    }
+
+    private String key(Path jar, Set<String> removed) {
+        BuildCache.KeyBuilder key;
+        try {
+            Path checksum = jar.resolveSibling(jar.getFileName() + ".sha1");
+            BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+            if (Files.isRegularFile(checksum)) {
+                // the checksum file may contain more than the checksum
+                String sha1 = new String(Files.readAllBytes(checksum), StandardCharsets.UTF_8).trim();
+                int space = sha1.indexOf(' ');
+                key = cache.newKey("sha1").add(space == -1 ? sha1 : sha1.substring(0, space))
+                        .add(attributes.size());
+            } else {
+                key = cache.newKey("file").add(jar.toAbsolutePath().toString()).add(attributes.size())
+                        .add(attributes.lastModifiedTime().toMillis());
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Unable to compute the cache key of %s", jar);
+            return null;
+        }
+        if (removed != null) {
+            List<String> sorted = new ArrayList<>(removed);
+            sorted.sort(null);
+            for (String resource : sorted) {
+                key.add(resource);
+            }
+        }
+        return key.build();
+    }
+
+    /**
+     * @return the version of the Jandex library in use, or {@code null} if it cannot be determined
+     */
+    static String jandexVersion() {
+        String version = Index.class.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+        // the class loaders of the build do not always define the package from the manifest
+        try (InputStream in = Index.class.getResourceAsStream("/META-INF/maven/org.jboss/jandex/pom.properties")) {
+            if (in != null) {
+                Properties properties = new Properties();
+                properties.load(in);
+                return properties.getProperty("version");
+            }
+        } catch (IOException e) {
+            log.debug("Unable to read the Jandex version", e);
+        }
+        return null;
+    }
+}
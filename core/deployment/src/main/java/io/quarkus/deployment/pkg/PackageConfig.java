@@ -128,6 +128,17 @@ public class PackageConfig {
     @ConfigItem
     public Optional<String> appcdsBuilderImage;
 
+    /**
+     * When AppCDS generation is enabled, if this property is set to {@code true}, a JDK dynamic archive
+     * ({@code -XX:ArchiveClassesAtExit}) is created instead of a static one. The archive is dumped at the end of a
+     * run of the application that goes through the complete startup sequence, executing all the recorded startup tasks,
+     * so it contains every class loaded during startup and not only the generated ones.
+     * <p>
+     * This requires Java 13+. If the dynamic archive can't be created, a static archive is created instead.
+     */
+    @ConfigItem
+    public boolean appcdsDynamicArchive;
+
     /**
      * This is an advanced option that only takes effect for the mutable-jar format.
      * <p>
@@ -150,6 +161,29 @@ public class PackageConfig {
     @ConfigItem(defaultValue = "true")
     public boolean includeDependencyList;
 
+    /**
+     * This option only applies when using fast-jar or mutable-jar. If this option is true then the classes of the
+     * application and of all its dependencies are additionally written, uncompressed and pre-indexed, into a single file
+     * in the quarkus directory. At startup this file is memory mapped and classes are defined directly from it, which
+     * avoids opening and inflating the jars when loading classes.
+     * <p>
+     * This increases the size of the distribution, as the classes are present both in the jars and in the class store.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean mappedClassStore;
+
+    /**
+     * This option only applies when using fast-jar or mutable-jar. The path of a file that lists, one per line, the
+     * classes that should be loaded in the background as soon as the application starts, in the order they should be
+     * loaded. These classes are only loaded, not initialized, while the main thread proceeds with the startup.
+     * <p>
+     * Such a file can be obtained from a training run of the application, by launching {@code quarkus-run.jar} with
+     * {@code -Dquarkus.launch.record-loaded-classes=<file>}: the classes loaded by the application are written to that
+     * file when the application exits. Unlike AppCDS, this works on any JVM.
+     */
+    @ConfigItem
+    public Optional<String> preloadClassesFile;
+
     /**
      * Fernflower Decompiler configuration
      */
@@ -15,11 +15,25 @@ public final class AppCDSRequestedBuildItem extends SimpleBuildItem {
      */
     private final Path appCDSDir;
 
+    /**
+     * Whether a dynamic archive is created from a run of the application that goes through the complete startup sequence
+     */
+    private final boolean dynamicArchive;
+
     public AppCDSRequestedBuildItem(Path appCDSDir) {
+        this(appCDSDir, false);
+    }
+
+    public AppCDSRequestedBuildItem(Path appCDSDir, boolean dynamicArchive) {
         this.appCDSDir = appCDSDir;
+        this.dynamicArchive = dynamicArchive;
     }
 
     public Path getAppCDSDir() {
         return appCDSDir;
     }
+
+    public boolean isDynamicArchive() {
+        return dynamicArchive;
+    }
 }
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 
 import org.apache.commons.lang3.SystemUtils;
@@ -38,12 +39,14 @@ public class AppCDSBuildStep {
     private static final String CONTAINER_IMAGE_APPCDS_DIR = CONTAINER_IMAGE_BASE_BUILD_DIR + "/appcds";
 
     @BuildStep(onlyIf = AppCDSRequired.class)
-    public void requested(OutputTargetBuildItem outputTarget, BuildProducer<AppCDSRequestedBuildItem> producer)
+    public void requested(OutputTargetBuildItem outputTarget, PackageConfig packageConfig,
+            BuildProducer<AppCDSRequestedBuildItem> producer)
             throws IOException {
         Path appCDSDir = outputTarget.getOutputDirectory().resolve("appcds");
         IoUtils.createOrEmptyDir(appCDSDir);
 
-        producer.produce(new AppCDSRequestedBuildItem(outputTarget.getOutputDirectory().resolve("appcds")));
+        producer.produce(new AppCDSRequestedBuildItem(outputTarget.getOutputDirectory().resolve("appcds"),
+                packageConfig.appcdsDynamicArchive));
     }
 
     @BuildStep
@@ -71,21 +74,40 @@ public class AppCDSBuildStep {
             }
         }
 
-        Path classesLstPath = createClassesLst(jarResult, outputTarget, javaBinPath, containerImage,
-                appCDsRequested.get().getAppCDSDir(), packageConfig.isFastJar());
-        if (classesLstPath == null) {
-            return;
+        Path appCDSPath = null;
+        if (appCDsRequested.get().isDynamicArchive()) {
+            log.info("Launching AppCDS dynamic archive creation process.");
+            appCDSPath = createDynamicAppCDS(jarResult, outputTarget, javaBinPath, containerImage,
+                    packageConfig.isFastJar());
+            if (appCDSPath == null) {
+                log.warn("Unable to create the AppCDS dynamic archive, falling back to a static archive.");
+            }
         }
 
-        log.debugf("'%s' successfully created.", CLASSES_LIST_FILE_NAME);
-
-        log.info("Launching AppCDS creation process.");
-        Path appCDSPath = createAppCDS(jarResult, outputTarget, javaBinPath, containerImage, classesLstPath,
-                packageConfig.isFastJar());
         if (appCDSPath == null) {
-            log.warn("Unable to create AppCDS.");
+            Path classesLstPath = createClassesLst(jarResult, outputTarget, javaBinPath, containerImage,
+                    appCDsRequested.get().getAppCDSDir(), packageConfig.isFastJar());
+            if (classesLstPath == null) {
+                return;
+            }
+
+            log.debugf("'%s' successfully created.", CLASSES_LIST_FILE_NAME);
+
+            log.info("Launching AppCDS creation process.");
+            appCDSPath = createAppCDS(jarResult, outputTarget, javaBinPath, containerImage, classesLstPath,
+                    packageConfig.isFastJar());
+            if (appCDSPath == null) {
+                log.warn("Unable to create AppCDS.");
+                return;
+            }
+        }
+
+        if (!validateAppCDS(jarResult, outputTarget, javaBinPath, containerImage, appCDSPath, packageConfig.isFastJar())) {
             return;
         }
+        if (appCDsRequested.get().isDynamicArchive()) {
+            reportStartupTimes(jarResult, outputTarget, javaBinPath, containerImage, appCDSPath, packageConfig.isFastJar());
+        }
 
         log.infof("AppCDS successfully created at: '%s'.", appCDSPath.toAbsolutePath().toString());
         if (containerImage == null) {
@@ -213,14 +235,7 @@ public class AppCDSBuildStep {
             String containerImage, Path classesLstPath, boolean isFastFar) {
 
         Path workingDirectory = jarResult.getPath().getParent();
-        Path appCDSPath = workingDirectory.resolve("app-cds.jsa");
-        if (appCDSPath.toFile().exists()) {
-            try {
-                Files.delete(appCDSPath);
-            } catch (IOException e) {
-                log.debug("Unable to delete existing 'app-cds.jsa' file.", e);
-            }
-        }
+        Path appCDSPath = deleteExistingAppCDS(workingDirectory);
 
         List<String> javaArgs = new ArrayList<>(5);
         javaArgs.add("-Xshare:dump");
@@ -285,6 +300,159 @@ public class AppCDSBuildStep {
         return appCDSPath;
     }
 
+    /**
+     * @return The path of the created app-cds.jsa file or null if the file was not created
+     */
+    private Path createDynamicAppCDS(JarBuildItem jarResult, OutputTargetBuildItem outputTarget, String javaBinPath,
+            String containerImage, boolean isFastJar) {
+        if (containerImage == null && Runtime.version().feature() < 13) {
+            log.debugf("Dynamic AppCDS archives require Java 13+, the build uses Java %s.", Runtime.version());
+            return null;
+        }
+
+        Path workingDirectory = jarResult.getPath().getParent();
+        Path appCDSPath = deleteExistingAppCDS(workingDirectory);
+
+        // The archive is dumped when the application exits, which it does right after it has started
+        // because of the system property.
+        // As for static archives, relative paths are used so that the archive matches
+        // 'java -XX:SharedArchiveFile=app-cds.jsa -jar app.jar' at runtime.
+        List<String> javaArgs = new ArrayList<>(4);
+        javaArgs.add("-XX:ArchiveClassesAtExit=" + appCDSPath.getFileName().toString());
+        javaArgs.add(String.format("-D%s=true", MainClassBuildStep.GENERATE_APP_CDS_SYSTEM_PROPERTY));
+        javaArgs.add("-jar");
+        javaArgs.add(runnableJarName(jarResult, isFastJar));
+
+        List<String> command = javaCommand(outputTarget, javaBinPath, containerImage, javaArgs);
+        if (log.isDebugEnabled()) {
+            log.debugf("Launching command: '%s' to create the AppCDS dynamic archive.", String.join(" ", command));
+        }
+
+        if (launch(command, workingDirectory) != 0 || !appCDSPath.toFile().exists()) {
+            return null;
+        }
+        return appCDSPath;
+    }
+
+    /**
+     * Ensures the archive can actually be used by the JVM that created it (which in the case of a container image is
+     * also the JVM that will run the application), as otherwise the JVM would silently ignore it at runtime.
+     *
+     * @return {@code true} if the archive is valid
+     */
+    private boolean validateAppCDS(JarBuildItem jarResult, OutputTargetBuildItem outputTarget, String javaBinPath,
+            String containerImage, Path appCDSPath, boolean isFastJar) {
+        // -Xshare:on makes the JVM fail instead of ignoring an archive it can't use
+        List<String> javaArgs = new ArrayList<>(5);
+        javaArgs.add("-Xshare:on");
+        javaArgs.add("-XX:SharedArchiveFile=" + appCDSPath.getFileName().toString());
+        javaArgs.add("--class-path");
+        javaArgs.add(runnableJarName(jarResult, isFastJar));
+        javaArgs.add("-version");
+
+        Path workingDirectory = jarResult.getPath().getParent();
+        if (launch(javaCommand(outputTarget, javaBinPath, containerImage, javaArgs), workingDirectory) != 0) {
+            log.warnf("Unable to create AppCDS because the JVM rejected the generated '%s' file. Check the logs for details",
+                    appCDSPath.getFileName());
+            deleteExistingAppCDS(workingDirectory);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Logs the startup time of the application with and without the archive, so that the benefit can be tracked.
+     * This is only possible when the application terminates on its own once started, i.e. when the generated main
+     * was built for a dynamic archive. When a container image is used, the reported times also include the overhead of
+     * running the container.
+     */
+    private void reportStartupTimes(JarBuildItem jarResult, OutputTargetBuildItem outputTarget, String javaBinPath,
+            String containerImage, Path appCDSPath, boolean isFastJar) {
+        List<String> javaArgs = new ArrayList<>(4);
+        javaArgs.add(String.format("-D%s=true", MainClassBuildStep.GENERATE_APP_CDS_SYSTEM_PROPERTY));
+        javaArgs.add("-jar");
+        javaArgs.add(runnableJarName(jarResult, isFastJar));
+
+        Path workingDirectory = jarResult.getPath().getParent();
+        long start = System.nanoTime();
+        if (launch(javaCommand(outputTarget, javaBinPath, containerImage, javaArgs), workingDirectory) != 0) {
+            return;
+        }
+        long withoutAppCDS = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        javaArgs.add(0, "-XX:SharedArchiveFile=" + appCDSPath.getFileName().toString());
+        start = System.nanoTime();
+        if (launch(javaCommand(outputTarget, javaBinPath, containerImage, javaArgs), workingDirectory) != 0) {
+            return;
+        }
+        long withAppCDS = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (containerImage != null) {
+            log.infof("Application startup and shutdown, including the start and removal of the '%s' container, "
+                    + "took %d ms without AppCDS and %d ms with AppCDS.", containerImage, withoutAppCDS, withAppCDS);
+        } else {
+            log.infof("Application startup and shutdown took %d ms without AppCDS and %d ms with AppCDS.", withoutAppCDS,
+                    withAppCDS);
+        }
+    }
+
+    private Path deleteExistingAppCDS(Path workingDirectory) {
+        Path appCDSPath = workingDirectory.resolve("app-cds.jsa");
+        if (appCDSPath.toFile().exists()) {
+            try {
+                Files.delete(appCDSPath);
+            } catch (IOException e) {
+                log.debug("Unable to delete existing 'app-cds.jsa' file.", e);
+            }
+        }
+        return appCDSPath;
+    }
+
+    private String runnableJarName(JarBuildItem jarResult, boolean isFastJar) {
+        return isFastJar ? JarResultBuildStep.QUARKUS_RUN_JAR : jarResult.getPath().getFileName().toString();
+    }
+
+    private List<String> javaCommand(OutputTargetBuildItem outputTarget, String javaBinPath, String containerImage,
+            List<String> javaArgs) {
+        List<String> command;
+        if (containerImage != null) {
+            List<String> dockerRunCommand = dockerRunCommands(outputTarget, containerImage,
+                    CONTAINER_IMAGE_BASE_BUILD_DIR + "/" + JarResultBuildStep.DEFAULT_FAST_JAR_DIRECTORY_NAME);
+            command = new ArrayList<>(dockerRunCommand.size() + 1 + javaArgs.size());
+            command.addAll(dockerRunCommand);
+            command.add("java");
+        } else {
+            command = new ArrayList<>(1 + javaArgs.size());
+            command.add(javaBinPath);
+        }
+        command.addAll(javaArgs);
+        return command;
+    }
+
+    /**
+     * @return the exit code of the process, or -1 if it could not be launched
+     */
+    private int launch(List<String> command, Path workingDirectory) {
+        try {
+            ProcessBuilder processBuilder = new ProcessBuilder(command)
+                    .directory(workingDirectory.toFile());
+            if (log.isDebugEnabled()) {
+                processBuilder.inheritIO();
+            } else {
+                processBuilder.redirectError(NULL_FILE);
+                processBuilder.redirectOutput(NULL_FILE);
+            }
+            int exitCode = processBuilder.start().waitFor();
+            if (exitCode != 0) {
+                log.debugf("The process launched with '%s' exited with error code: %d.", String.join(" ", command),
+                        exitCode);
+            }
+            return exitCode;
+        } catch (Exception e) {
+            log.debugf(e, "Failed to launch process '%s'.", String.join(" ", command));
+            return -1;
+        }
+    }
+
     static class AppCDSRequired implements BooleanSupplier {
 
         private final PackageConfig packageConfig;
@@ -33,6 +33,7 @@ import java.util.EnumSet;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -194,7 +195,7 @@ public class JarResultBuildStep {
             List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchiveBuildItems,
             MainClassBuildItem mainClassBuildItem, Optional<AppCDSRequestedBuildItem> appCDS) throws Exception {
 
-        if (appCDS.isPresent()) {
+        if (appCDS.isPresent() && !appCDS.get().isDynamicArchive()) {
             handleAppCDSSupportFileGeneration(transformedClasses, generatedClasses, appCDS.get());
         }
 
@@ -705,7 +706,10 @@ public class JarResultBuildStep {
         Path appInfo = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
         try (OutputStream out = Files.newOutputStream(appInfo)) {
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, parentFirst,
-                    nonExistentResources);
+                    nonExistentResources,
+                    packageConfig.mappedClassStore ? buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_CLASSES_DAT)
+                            : null,
+                    readPreloadClasses(packageConfig));
         }
 
         runnerJar.toFile().setReadable(true, false);
@@ -837,6 +841,26 @@ public class JarResultBuildStep {
         return removed;
     }
 
+    private List<String> readPreloadClasses(PackageConfig packageConfig) throws IOException {
+        if (!packageConfig.preloadClassesFile.isPresent()) {
+            return Collections.emptyList();
+        }
+        Path preloadClassesFile = Paths.get(packageConfig.preloadClassesFile.get());
+        if (!Files.exists(preloadClassesFile)) {
+            log.warnf("The preload classes file %s does not exist, no class will be preloaded", preloadClassesFile);
+            return Collections.emptyList();
+        }
+        // keep the order of the training run, but only load each class once
+        Set<String> preloadClasses = new LinkedHashSet<>();
+        for (String line : Files.readAllLines(preloadClassesFile, StandardCharsets.UTF_8)) {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                preloadClasses.add(line);
+            }
+        }
+        return new ArrayList<>(preloadClasses);
+    }
+
     private boolean downloadFernflowerJar(PackageConfig packageConfig, Path fernflowerJar) {
         String downloadURL = String.format("https://jitpack.io/com/github/fesh0r/fernflower/%s/fernflower-%s.jar",
                 packageConfig.fernflower.hash, packageConfig.fernflower.hash);
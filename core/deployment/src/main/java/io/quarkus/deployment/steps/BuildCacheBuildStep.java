@@ -0,0 +1,86 @@
+package io.quarkus.deployment.steps;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.model.ApplicationModel;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
+import io.quarkus.deployment.cache.BuildCache;
+import io.quarkus.deployment.cache.BuildCacheConfig;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
+import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
+import io.quarkus.maven.dependency.ResolvedDependency;
+
+public class BuildCacheBuildStep {
+
+    private static final Logger log = Logger.getLogger(BuildCacheBuildStep.class);
+
+    static final String DEFAULT_DIRECTORY = "quarkus-build-cache";
+
+    @BuildStep
+    BuildCacheBuildItem buildCache(BuildCacheConfig config, BuildSystemTargetBuildItem target,
+            CurateOutcomeBuildItem curateOutcome) {
+        if (!config.enabled) {
+            return new BuildCacheBuildItem(BuildCache.disabled());
+        }
+        Path directory = target.getOutputDirectory().resolve(config.path.orElse(DEFAULT_DIRECTORY));
+        String fingerprint = fingerprint(curateOutcome.getApplicationModel());
+        log.debugf("Using the build cache in %s with fingerprint %s", directory, fingerprint);
+        return new BuildCacheBuildItem(BuildCache.create(directory, fingerprint));
+    }
+
+    /**
+     * The fingerprint covers the coordinates of all the dependencies, including the deployment ones. As the content of
+     * snapshots and workspace modules can change without their version changing, the size and the modification time
+     * of their files are included as well.
+     */
+    static String fingerprint(ApplicationModel model) {
+        List<String> coords = new ArrayList<>();
+        for (ResolvedDependency dependency : model.getDependencies()) {
+            StringBuilder sb = new StringBuilder(dependency.toGACTVString());
+            String version = dependency.getVersion();
+            if (version == null || version.endsWith("-SNAPSHOT") || dependency.isWorkspaceModule()) {
+                for (Path path : dependency.getResolvedPaths()) {
+                    sb.append(':').append(lastModified(path));
+                }
+            }
+            coords.add(sb.toString());
+        }
+        // the resolution order is not relevant
+        coords.sort(null);
+        BuildCache.KeyBuilder key = BuildCache.disabled().newKey("fingerprint");
+        for (String coord : coords) {
+            key.add(coord);
+        }
+        return key.build();
+    }
+
+    private static String lastModified(Path path) {
+        try {
+            if (Files.isDirectory(path)) {
+                long latest = 0;
+                long count = 0;
+                try (Stream<Path> files = Files.walk(path)) {
+                    for (Path file : (Iterable<Path>) files::iterator) {
+                        latest = Math.max(latest, Files.getLastModifiedTime(file).toMillis());
+                        count++;
+                    }
+                }
+                return latest + "/" + count;
+            }
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return attributes.lastModifiedTime().toMillis() + "/" + attributes.size();
+        } catch (IOException e) {
+            // the entries created by this build will not be reused
+            return Long.toString(System.nanoTime());
+        }
+    }
+}
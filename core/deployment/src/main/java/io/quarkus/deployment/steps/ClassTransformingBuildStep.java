@@ -39,11 +39,13 @@ import io.quarkus.deployment.QuarkusClassWriter;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.RemovedResourceBuildItem;
 import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
+import io.quarkus.deployment.cache.BuildCache;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
 import io.quarkus.deployment.index.ConstPoolScanner;
 import io.quarkus.deployment.pkg.PackageConfig;
@@ -76,7 +78,8 @@ public class ClassTransformingBuildStep {
             ApplicationArchivesBuildItem appArchives, LiveReloadBuildItem liveReloadBuildItem,
             LaunchModeBuildItem launchModeBuildItem, ClassLoadingConfig classLoadingConfig,
             CurateOutcomeBuildItem curateOutcomeBuildItem, List<RemovedResourceBuildItem> removedResourceBuildItems,
-            ArchiveRootBuildItem archiveRoot, LaunchModeBuildItem launchMode, PackageConfig packageConfig)
+            ArchiveRootBuildItem archiveRoot, LaunchModeBuildItem launchMode, PackageConfig packageConfig,
+            BuildCacheBuildItem buildCacheBuildItem)
             throws ExecutionException, InterruptedException {
         if (bytecodeTransformerBuildItems.isEmpty() && classLoadingConfig.removedResources.isEmpty()
                 && removedResourceBuildItems.isEmpty()) {
@@ -88,7 +91,9 @@ public class ClassTransformingBuildStep {
         Map<String, Set<String>> constScanning = new HashMap<>();
         Set<String> eager = new HashSet<>();
         Set<String> nonCacheable = new HashSet<>();
+        Set<String> nonPersistable = new HashSet<>();
         Map<String, Integer> classReaderOptions = new HashMap<>();
+        BuildCache buildCache = buildCacheBuildItem.getBuildCache();
         for (BytecodeTransformerBuildItem i : bytecodeTransformerBuildItems) {
             bytecodeTransformers.computeIfAbsent(i.getClassToTransform(), (h) -> new ArrayList<>())
                     .add(i);
@@ -104,6 +109,9 @@ public class ClassTransformingBuildStep {
             if (!i.isCacheable()) {
                 nonCacheable.add(i.getClassToTransform());
             }
+            if (!i.isCacheable() || i.getCacheFingerprint() == null) {
+                nonPersistable.add(i.getClassToTransform());
+            }
             classReaderOptions.merge(i.getClassToTransform(), i.getClassReaderOptions(),
                     // class reader options are bit flags (see org.objectweb.asm.ClassReader)
                     (oldValue, newValue) -> oldValue | newValue);
@@ -164,6 +172,7 @@ public class ClassTransformingBuildStep {
                     .entrySet()) {
                 String className = entry.getKey();
                 boolean cacheable = !nonCacheable.contains(className);
+                boolean persistable = buildCache.isEnabled() && !nonPersistable.contains(className);
                 if (cacheable && transformedClassesCache.containsKey(className)) {
                     if (liveReloadBuildItem.getChangeInformation() != null) {
                         if (!liveReloadBuildItem.getChangeInformation().getChangedClasses().contains(className)) {
@@ -204,8 +213,23 @@ public class ClassTransformingBuildStep {
                                         return null;
                                     }
                                 }
-                                byte[] data = transformClass(className, visitors, classData, preVisitFunctions,
-                                        classReaderOptions.getOrDefault(className, 0));
+                                int readerOptions = classReaderOptions.getOrDefault(className, 0);
+                                byte[] data;
+                                if (persistable && classData != null) {
+                                    String key = cacheKey(buildCache, className, entry.getValue(), readerOptions,
+                                            classData);
+                                    data = buildCache.get(key);
+                                    if (data == null) {
+                                        data = transformClass(className, visitors, classData, preVisitFunctions,
+                                                readerOptions);
+                                        if (data != null) {
+                                            buildCache.put(key, data);
+                                        }
+                                    }
+                                } else {
+                                    data = transformClass(className, visitors, classData, preVisitFunctions,
+                                            readerOptions);
+                                }
                                 TransformedClassesBuildItem.TransformedClass transformedClass = new TransformedClassesBuildItem.TransformedClass(
                                         className, data,
                                         classFileName, eager.contains(className));
@@ -238,6 +262,11 @@ public class ClassTransformingBuildStep {
             }
         }
 
+        if (buildCache.isEnabled()) {
+            log.debugf("Build cache: %d hits, %d misses", buildCache.getHits(),
+                    buildCache.getMisses());
+        }
+
         if (packageConfig.writeTransformedBytecodeToBuildOutput && (launchMode.getLaunchMode() == LaunchMode.NORMAL)) {
             // the idea here is to write the transformed classes into the build tool's output directory to make core coverage work
 
@@ -347,6 +376,29 @@ public class ClassTransformingBuildStep {
         return data;
     }
 
+    private static String cacheKey(BuildCache buildCache, String className,
+            List<BytecodeTransformerBuildItem> transformers, int classReaderOptions, byte[] classData) {
+        BuildCache.KeyBuilder key = buildCache.newKey("transformed-class")
+                .add(className)
+                .add(classReaderOptions);
+        for (BytecodeTransformerBuildItem transformer : transformers) {
+            key.add(transformerId(transformer.getVisitorFunction()))
+                    .add(transformerId(transformer.getInputTransformer()))
+                    .add(transformer.getCacheFingerprint());
+        }
+        return key.add(classData).build();
+    }
+
+    private static String transformerId(Object function) {
+        if (function == null) {
+            return "";
+        }
+        // the name of a lambda class is not stable between runs
+        String name = function.getClass().getName();
+        int lambda = name.indexOf("$$Lambda");
+        return lambda == -1 ? name : name.substring(0, lambda);
+    }
+
     private void handleTransformedClass(Map<String, Path> transformedToArchive,
             Map<Path, Set<TransformedClassesBuildItem.TransformedClass>> transformedClassesByJar,
             TransformedClassesBuildItem.TransformedClass res) {
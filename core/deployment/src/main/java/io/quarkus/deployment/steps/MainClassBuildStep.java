@@ -8,9 +8,13 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.stream.Collectors;
@@ -29,6 +33,7 @@ import io.quarkus.bootstrap.logging.QuarkusDelayedHandler;
 import io.quarkus.bootstrap.runner.Timing;
 import io.quarkus.builder.Version;
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.StartupConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.AllowJNDIBuildItem;
@@ -70,6 +75,7 @@ import io.quarkus.runtime.Application;
 import io.quarkus.runtime.ApplicationLifecycleManager;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.NativeImageRuntimePropertiesRecorder;
+import io.quarkus.runtime.ParallelStartupTasks;
 import io.quarkus.runtime.Quarkus;
 import io.quarkus.runtime.QuarkusApplication;
 import io.quarkus.runtime.StartupContext;
@@ -78,6 +84,7 @@ import io.quarkus.runtime.annotations.QuarkusMain;
 import io.quarkus.runtime.appcds.AppCDSUtil;
 import io.quarkus.runtime.configuration.ProfileManager;
 import io.quarkus.runtime.naming.DisabledInitialContextManager;
+import io.quarkus.runtime.util.StartupTimeline;
 import io.quarkus.runtime.util.StepTiming;
 
 public class MainClassBuildStep {
@@ -115,7 +122,8 @@ public class MainClassBuildStep {
             ApplicationInfoBuildItem applicationInfo,
             List<AllowJNDIBuildItem> allowJNDIBuildItems,
             Optional<AppCDSRequestedBuildItem> appCDSRequested,
-            NamingConfig namingConfig) {
+            NamingConfig namingConfig,
+            StartupConfig startupConfig) {
 
         appClassNameProducer.produce(new ApplicationClassNameBuildItem(Application.APP_CLASS_NAME));
 
@@ -154,6 +162,8 @@ public class MainClassBuildStep {
         mv.invokeStaticMethod(MethodDescriptor.ofMethod(ProfileManager.class, "setLaunchMode", void.class, LaunchMode.class),
                 lm);
 
+        // a new start, the timeline of the previous one must not be mixed with this one in dev mode
+        mv.invokeStaticMethod(ofMethod(StartupTimeline.class, "reset", void.class));
         mv.invokeStaticMethod(CONFIGURE_STEP_TIME_ENABLED);
 
         mv.invokeStaticMethod(MethodDescriptor.ofMethod(Timing.class, "staticInitStarted", void.class, boolean.class),
@@ -191,13 +201,9 @@ public class MainClassBuildStep {
         mv.setModifiers(Modifier.PROTECTED | Modifier.FINAL);
 
         // if AppCDS generation was requested, we ensure that the application simply loads some classes from a file and terminates
-        if (appCDSRequested.isPresent()) {
-            ResultHandle createAppCDsSysProp = mv.invokeStaticMethod(
-                    ofMethod(System.class, "getProperty", String.class, String.class, String.class),
-                    mv.load(GENERATE_APP_CDS_SYSTEM_PROPERTY), mv.load("false"));
-            ResultHandle createAppCDSBool = mv.invokeStaticMethod(
-                    ofMethod(Boolean.class, "parseBoolean", boolean.class, String.class), createAppCDsSysProp);
-            BytecodeCreator createAppCDS = mv.ifTrue(createAppCDSBool).trueBranch();
+        // (unless a dynamic archive is requested, in which case the application terminates once it has started)
+        if (appCDSRequested.isPresent() && !appCDSRequested.get().isDynamicArchive()) {
+            BytecodeCreator createAppCDS = mv.ifTrue(isAppCDSGeneration(mv)).trueBranch();
 
             createAppCDS.invokeStaticMethod(ofMethod(AppCDSUtil.class, "loadGeneratedClasses", void.class));
 
@@ -251,10 +257,15 @@ public class MainClassBuildStep {
 
         tryBlock = mv.tryBlock();
         tryBlock.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
-        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
-            writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(), substitutions,
-                    recordableConstructorBuildItems,
-                    loaders, gizmoOutput, startupContext, tryBlock);
+        if (startupConfig.parallelTasks) {
+            writeParallelStartupTasks(mainMethod, substitutions, recordableConstructorBuildItems, loaders, gizmoOutput,
+                    startupContext, tryBlock);
+        } else {
+            for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+                writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(),
+                        substitutions, recordableConstructorBuildItems,
+                        loaders, gizmoOutput, startupContext, tryBlock);
+            }
         }
 
         // Startup log messages
@@ -278,8 +289,17 @@ public class MainClassBuildStep {
                 tryBlock.load(LaunchMode.DEVELOPMENT.equals(launchMode.getLaunchMode())),
                 tryBlock.load(launchMode.isAuxiliaryApplication()));
 
+        tryBlock.invokeStaticMethod(ofMethod(StartupTimeline.class, "startupComplete", void.class));
+
         tryBlock.invokeStaticMethod(
                 ofMethod(QuarkusConsole.class, "start", void.class));
+
+        if (appCDSRequested.isPresent() && appCDSRequested.get().isDynamicArchive()) {
+            // all the startup tasks have been executed, the JVM dumps the dynamic archive when the application exits
+            // (the main application, if any, is not run as exiting was requested while starting)
+            BytecodeCreator createAppCDS = tryBlock.ifTrue(isAppCDSGeneration(tryBlock)).trueBranch();
+            createAppCDS.invokeStaticMethod(ofMethod(ApplicationLifecycleManager.class, "exit", void.class));
+        }
         cb = tryBlock.addCatch(Throwable.class);
 
         // an exception was thrown before logging was actually setup, we simply dump everything to the console
@@ -321,6 +341,14 @@ public class MainClassBuildStep {
         file.close();
     }
 
+    private static ResultHandle isAppCDSGeneration(BytecodeCreator bytecodeCreator) {
+        ResultHandle createAppCDsSysProp = bytecodeCreator.invokeStaticMethod(
+                ofMethod(System.class, "getProperty", String.class, String.class, String.class),
+                bytecodeCreator.load(GENERATE_APP_CDS_SYSTEM_PROPERTY), bytecodeCreator.load("false"));
+        return bytecodeCreator.invokeStaticMethod(
+                ofMethod(Boolean.class, "parseBoolean", boolean.class, String.class), createAppCDsSysProp);
+    }
+
     @BuildStep
     public MainClassBuildItem mainClassBuildStep(BuildProducer<GeneratedClassBuildItem> generatedClass,
             ApplicationArchivesBuildItem applicationArchivesBuildItem,
@@ -426,9 +454,100 @@ public class MainClassBuildStep {
             List<BytecodeRecorderObjectLoaderBuildItem> loaders, GeneratedClassGizmoAdaptor gizmoOutput,
             ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
 
-        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+        String startupTaskClassName = writeStartupTask(recorder, fallbackGeneratedStartupTaskClassName, substitutions,
+                recordableConstructorBuildItems, loaders, gizmoOutput);
+        if (startupTaskClassName == null) {
             return;
         }
+        ResultHandle dup = bytecodeCreator.newInstance(ofConstructor(startupTaskClassName));
+        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
+                startupContext);
+        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+    }
+
+    /**
+     * Registers the startup tasks with a {@link ParallelStartupTasks} so that the tasks that do not depend on each other
+     * are executed in parallel.
+     * <p>
+     * A task depends on the tasks recorded by the build steps its own build step directly or indirectly depends on. The
+     * tasks whose dependencies are not known, such as the config setup tasks, act as barriers: they are executed after
+     * all the previous tasks, and all the following tasks are executed after them. Only the dependencies that are not
+     * implied by other dependencies are registered.
+     */
+    private void writeParallelStartupTasks(List<MainBytecodeRecorderBuildItem> mainMethod,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders, GeneratedClassGizmoAdaptor gizmoOutput,
+            ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
+
+        ResultHandle parallelTasks = bytecodeCreator.newInstance(ofConstructor(ParallelStartupTasks.class));
+        Map<BytecodeRecorderImpl, Integer> taskIndexes = new IdentityHashMap<>();
+        List<Set<Integer>> transitiveDependencies = new ArrayList<>();
+        List<Integer> barriers = new ArrayList<>();
+        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+            String startupTaskClassName = writeStartupTask(holder.getBytecodeRecorder(),
+                    holder.getGeneratedStartupContextClassName(), substitutions, recordableConstructorBuildItems, loaders,
+                    gizmoOutput);
+            if (startupTaskClassName == null) {
+                continue;
+            }
+            int index = transitiveDependencies.size();
+            Set<Integer> dependencies = new TreeSet<>();
+            if (holder.getDependencies() == null) {
+                for (int i = 0; i < index; i++) {
+                    dependencies.add(i);
+                }
+                barriers.add(index);
+            } else {
+                dependencies.addAll(barriers);
+                for (BytecodeRecorderImpl dependency : holder.getDependencies()) {
+                    Integer dependencyIndex = taskIndexes.get(dependency);
+                    if (dependencyIndex != null) {
+                        dependencies.add(dependencyIndex);
+                    }
+                }
+            }
+            if (holder.getBytecodeRecorder() != null) {
+                taskIndexes.put(holder.getBytecodeRecorder(), index);
+            }
+
+            Set<Integer> implied = new HashSet<>();
+            for (Integer dependency : dependencies) {
+                implied.addAll(transitiveDependencies.get(dependency));
+            }
+            Set<Integer> transitive = new HashSet<>(implied);
+            transitive.addAll(dependencies);
+            transitiveDependencies.add(transitive);
+
+            bytecodeCreator.invokeVirtualMethod(
+                    ofMethod(ParallelStartupTasks.class, "addTask", int.class, StartupTask.class, String.class),
+                    parallelTasks, bytecodeCreator.newInstance(ofConstructor(startupTaskClassName)),
+                    bytecodeCreator.load(startupTaskClassName.substring(startupTaskClassName.lastIndexOf('.') + 1)));
+            for (Integer dependency : dependencies) {
+                if (!implied.contains(dependency)) {
+                    bytecodeCreator.invokeVirtualMethod(
+                            ofMethod(ParallelStartupTasks.class, "addDependency", void.class, int.class, int.class),
+                            parallelTasks, bytecodeCreator.load(index), bytecodeCreator.load(dependency.intValue()));
+                }
+            }
+        }
+        bytecodeCreator.invokeVirtualMethod(ofMethod(ParallelStartupTasks.class, "run", void.class, StartupContext.class),
+                parallelTasks, startupContext);
+    }
+
+    /**
+     * Writes the startup task class of the given recorder.
+     *
+     * @return the name of the startup task class, or {@code null} if there is nothing to execute
+     */
+    private String writeStartupTask(BytecodeRecorderImpl recorder, String fallbackGeneratedStartupTaskClassName,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders, GeneratedClassGizmoAdaptor gizmoOutput) {
+
+        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+            return null;
+        }
 
         if ((recorder != null) && !recorder.isEmpty()) {
             for (ObjectSubstitutionBuildItem sub : substitutions) {
@@ -443,12 +562,7 @@ public class MainClassBuildStep {
             }
             recorder.writeBytecode(gizmoOutput);
         }
-
-        ResultHandle dup = bytecodeCreator
-                .newInstance(ofConstructor(recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName));
-        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
-                startupContext);
-        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+        return recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName;
     }
 
     /**
@@ -0,0 +1,53 @@
+package io.quarkus.deployment.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BuildCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testPutAndGet() {
+        BuildCache cache = BuildCache.create(directory, "fingerprint");
+        String key = cache.newKey("test").add("value").build();
+        assertNull(cache.get(key));
+        cache.put(key, "data".getBytes(StandardCharsets.UTF_8));
+        assertArrayEquals("data".getBytes(StandardCharsets.UTF_8), cache.get(key));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // entries are persistent
+        BuildCache next = BuildCache.create(directory, "fingerprint");
+        assertArrayEquals("data".getBytes(StandardCharsets.UTF_8), next.get(key));
+    }
+
+    @Test
+    public void testKeys() {
+        BuildCache cache = BuildCache.create(directory, "fingerprint");
+        assertEquals(cache.newKey("test").add("value").build(), cache.newKey("test").add("value").build());
+        assertNotEquals(cache.newKey("test").add("value").build(), cache.newKey("other").add("value").build());
+        assertNotEquals(cache.newKey("test").add("ab").add("c").build(), cache.newKey("test").add("a").add("bc").build());
+        assertNotEquals(cache.newKey("test").add("value").build(),
+                BuildCache.create(directory, "other").newKey("test").add("value").build());
+    }
+
+    @Test
+    public void testDisabled() {
+        BuildCache cache = BuildCache.disabled();
+        assertFalse(cache.isEnabled());
+        String key = cache.newKey("test").add("value").build();
+        cache.put(key, new byte[] { 1 });
+        assertNull(cache.get(key));
+    }
+}
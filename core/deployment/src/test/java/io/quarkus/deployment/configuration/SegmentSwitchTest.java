@@ -0,0 +1,69 @@
+package io.quarkus.deployment.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+
+import io.quarkus.deployment.TestClassLoader;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.runtime.configuration.NameIterator;
+
+public class SegmentSwitchTest {
+
+    private static final String TEST_CLASS = "io.quarkus.deployment.configuration.SegmentSwitch";
+
+    @Test
+    public void testLinearMatch() throws Exception {
+        testMatch(Arrays.asList("http", "log", "datasource"));
+    }
+
+    @Test
+    public void testHashMatch() throws Exception {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            names.add("name" + i);
+        }
+        // same hash code
+        names.add("Aa");
+        names.add("BB");
+        names.add("\"quoted.name\"".substring(1, 12));
+        testMatch(names);
+    }
+
+    private void testMatch(List<String> names) throws Exception {
+        Method match = generate(names);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            assertEquals(i, match.invoke(null, new NameIterator(quote(name) + ".suffix")), name);
+        }
+        assertEquals(names.indexOf("quoted.name"), match.invoke(null, new NameIterator("\"quoted.name\"")));
+        assertEquals(-1, match.invoke(null, new NameIterator("unknown.suffix")));
+        assertEquals(-1, match.invoke(null, new NameIterator("nam.suffix")));
+        assertEquals(-1, match.invoke(null, new NameIterator("")));
+    }
+
+    private static String quote(String name) {
+        return name.indexOf('.') == -1 ? name : '"' + name + '"';
+    }
+
+    private Method generate(List<String> names) throws Exception {
+        TestClassLoader tcl = new TestClassLoader(getClass().getClassLoader());
+        try (ClassCreator cc = ClassCreator.builder().classOutput(tcl::write).className(TEST_CLASS).build()) {
+            MethodCreator body = cc.getMethodCreator("match", int.class, NameIterator.class);
+            body.setModifiers(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC);
+            ResultHandle keyIter = body.getMethodParam(0);
+            RunTimeConfigurationGenerator.GenerateOperation.generateSegmentSwitch(body, keyIter, names,
+                    (matched, name) -> matched.returnValue(matched.load(names.indexOf(name))));
+            body.returnValue(body.load(-1));
+        }
+        return tcl.loadClass(TEST_CLASS).getMethod("match", NameIterator.class);
+    }
+}
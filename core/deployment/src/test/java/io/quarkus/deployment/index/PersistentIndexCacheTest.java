@@ -0,0 +1,80 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    private static final DotName TEST_CLASS = DotName.createSimple(PersistentIndexCacheTest.class.getName());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testIndexIsReused() throws IOException {
+        Path jar = createJar(directory.resolve("test.jar"), false);
+        PersistentIndexCache cache = new PersistentIndexCache(directory.resolve("cache"));
+        assertNotNull(cache.index(jar, null).getClassByName(TEST_CLASS));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        PersistentIndexCache next = new PersistentIndexCache(directory.resolve("cache"));
+        Index index = next.index(jar, null);
+        assertNotNull(index.getClassByName(TEST_CLASS));
+        assertEquals(1, next.getHits());
+        // removing resources changes the index
+        next.index(jar, Set.of("META-INF/MANIFEST.MF"));
+        assertEquals(1, next.getMisses());
+    }
+
+    @Test
+    public void testJarWithIndexIsNotStored() throws IOException {
+        Path jar = createJar(directory.resolve("indexed.jar"), true);
+        PersistentIndexCache cache = new PersistentIndexCache(directory.resolve("cache"));
+        assertNotNull(cache.index(jar, null).getClassByName(TEST_CLASS));
+        assertNotNull(cache.index(jar, null).getClassByName(TEST_CLASS));
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertFalse(Files.exists(directory.resolve("cache")));
+    }
+
+    @Test
+    public void testJandexVersion() {
+        assertNotNull(PersistentIndexCache.jandexVersion());
+    }
+
+    private static Path createJar(Path jar, boolean withIndex) throws IOException {
+        String classFile = PersistentIndexCacheTest.class.getName().replace('.', '/') + ".class";
+        byte[] classData;
+        try (InputStream in = PersistentIndexCacheTest.class.getClassLoader().getResourceAsStream(classFile)) {
+            classData = in.readAllBytes();
+        }
+        try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+            jarOut.putNextEntry(new JarEntry(classFile));
+            jarOut.write(classData);
+            jarOut.closeEntry();
+            if (withIndex) {
+                jarOut.putNextEntry(new JarEntry(IndexingUtil.JANDEX_INDEX));
+                new IndexWriter(jarOut).write(Index.of(PersistentIndexCacheTest.class));
+                jarOut.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
@@ -102,7 +102,9 @@ public class ApplicationLifecycleManager {
         try {
             application.start(args);
             //now we are started, we either run the main application or just wait to exit
-            if (quarkusApplication != null) {
+            //if exiting was requested while starting (e.g. the application was only started to create an AppCDS archive)
+            //the main application is not run
+            if (quarkusApplication != null && !shutdownRequested) {
                 BeanManager beanManager = CDI.current().getBeanManager();
                 Set<Bean<?>> beans = beanManager.getBeans(quarkusApplication, Any.Literal.INSTANCE);
                 Bean<?> bean = null;
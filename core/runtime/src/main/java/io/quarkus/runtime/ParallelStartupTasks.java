@@ -0,0 +1,140 @@
+package io.quarkus.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.runtime.util.StepTiming;
+
+/**
+ * Executes the {@link StartupTask}s that have no dependency between each other in parallel.
+ * <p>
+ * The tasks and the dependencies between them are registered by the generated application class, in the order the
+ * tasks would be executed sequentially, so a task can only depend on a task that was added before it. Each task is
+ * started as soon as all of its dependencies have completed, and {@link #run(StartupContext)} returns once all the
+ * tasks have completed.
+ * <p>
+ * Generally this will be used by generated bytecode, and should not be used directly.
+ */
+public final class ParallelStartupTasks {
+
+    private static final int MAX_THREADS = 4;
+
+    private final List<StartupTask> tasks = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<List<Integer>> dependencies = new ArrayList<>();
+
+    /**
+     * @param task the task
+     * @param name the name of the build step that recorded the task, used for the timing report
+     * @return the index of the task
+     */
+    public int addTask(StartupTask task, String name) {
+        tasks.add(task);
+        names.add(name);
+        dependencies.add(new ArrayList<>(2));
+        return tasks.size() - 1;
+    }
+
+    /**
+     * Registers that the given task must only be started once the other task has completed.
+     */
+    public void addDependency(int task, int dependency) {
+        if (dependency >= task) {
+            throw new IllegalArgumentException("Startup task " + task + " can only depend on a previous task");
+        }
+        dependencies.get(task).add(dependency);
+    }
+
+    /**
+     * Runs all the tasks and waits until they have completed. If any task fails, the tasks that depend on it are not
+     * executed, and the failure of the first failing task is rethrown once all the other tasks have completed.
+     */
+    public void run(StartupContext context) {
+        final int size = tasks.size();
+        if (size == 0) {
+            return;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()),
+                new StartupThreadFactory(Thread.currentThread().getContextClassLoader()));
+        final long start = System.nanoTime();
+        try {
+            final CompletableFuture<?>[] futures = new CompletableFuture<?>[size];
+            for (int i = 0; i < size; i++) {
+                final StartupTask task = tasks.get(i);
+                final String name = names.get(i);
+                final List<Integer> taskDependencies = dependencies.get(i);
+                final CompletableFuture<?> ready;
+                if (taskDependencies.isEmpty()) {
+                    ready = CompletableFuture.completedFuture(null);
+                } else if (taskDependencies.size() == 1) {
+                    ready = futures[taskDependencies.get(0)];
+                } else {
+                    final CompletableFuture<?>[] toJoin = new CompletableFuture<?>[taskDependencies.size()];
+                    for (int j = 0; j < toJoin.length; j++) {
+                        toJoin[j] = futures[taskDependencies.get(j)];
+                    }
+                    ready = CompletableFuture.allOf(toJoin);
+                }
+                futures[i] = ready.thenRunAsync(new Runnable() {
+                    @Override
+                    public void run() {
+                        final long taskStart = System.nanoTime();
+                        task.deploy(context);
+                        StepTiming.printParallelStepTime(name, taskStart, System.nanoTime());
+                    }
+                }, executor);
+            }
+            try {
+                CompletableFuture.allOf(futures).join();
+            } catch (CompletionException ignored) {
+                // reported below
+            }
+            // tasks are registered after their dependencies, so the first failed task is one that failed by itself
+            // rather than because one of its dependencies failed
+            for (CompletableFuture<?> future : futures) {
+                if (future.isCompletedExceptionally()) {
+                    try {
+                        future.join();
+                    } catch (CompletionException e) {
+                        final Throwable failure = e.getCause();
+                        if (failure instanceof RuntimeException) {
+                            throw (RuntimeException) failure;
+                        }
+                        if (failure instanceof Error) {
+                            throw (Error) failure;
+                        }
+                        throw e;
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+            StepTiming.printParallelStartupTime(size, System.nanoTime() - start);
+        }
+    }
+
+    private static final class StartupThreadFactory implements ThreadFactory {
+
+        private final ClassLoader classLoader;
+        private final AtomicInteger count = new AtomicInteger();
+
+        StartupThreadFactory(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            final Thread thread = new Thread(r, "quarkus-startup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }
+    }
+}
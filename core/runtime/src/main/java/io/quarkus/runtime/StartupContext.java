@@ -10,6 +10,10 @@ import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
+/**
+ * The context that is passed to the {@link StartupTask}s. It is thread safe, as independent startup tasks may be
+ * executed in parallel.
+ */
 public class StartupContext implements Closeable {
 
     public static final String RAW_COMMAND_LINE_ARGS = StartupContext.class.getName() + ".raw-command-line-args";
@@ -23,19 +27,23 @@ public class StartupContext implements Closeable {
     // the initial capacity was determined experimentally for a standard set of extensions
     private final List<Runnable> shutdownTasks = new ArrayList<>(9);
     private final List<Runnable> lastShutdownTasks = new ArrayList<>(7);
-    private String[] commandLineArgs;
-    private String currentBuildStepName;
+    private volatile String[] commandLineArgs;
+    private volatile String currentBuildStepName;
 
     public StartupContext() {
         ShutdownContext shutdownContext = new ShutdownContext() {
             @Override
             public void addShutdownTask(Runnable runnable) {
-                shutdownTasks.add(runnable);
+                synchronized (StartupContext.this) {
+                    shutdownTasks.add(runnable);
+                }
             }
 
             @Override
             public void addLastShutdownTask(Runnable runnable) {
-                lastShutdownTasks.add(runnable);
+                synchronized (StartupContext.this) {
+                    lastShutdownTasks.add(runnable);
+                }
             }
         };
         values.put(ShutdownContext.class.getName(), shutdownContext);
@@ -50,34 +58,36 @@ public class StartupContext implements Closeable {
         });
     }
 
-    public void putValue(String name, Object value) {
+    public synchronized void putValue(String name, Object value) {
         values.put(name, value);
         lastValueSet = true;
         this.lastValue = value;
     }
 
-    public Object getValue(String name) {
+    public synchronized Object getValue(String name) {
         return values.get(name);
     }
 
-    public Object getLastValue() {
+    public synchronized Object getLastValue() {
         return lastValue;
     }
 
-    public boolean isLastValueSet() {
+    public synchronized boolean isLastValueSet() {
         return lastValueSet;
     }
 
     @Override
     public void close() {
         runAllInReverseOrder(shutdownTasks);
-        shutdownTasks.clear();
         runAllInReverseOrder(lastShutdownTasks);
-        lastShutdownTasks.clear();
     }
 
     private void runAllInReverseOrder(List<Runnable> tasks) {
-        List<Runnable> toClose = new ArrayList<>(tasks);
+        List<Runnable> toClose;
+        synchronized (this) {
+            toClose = new ArrayList<>(tasks);
+            tasks.clear();
+        }
         Collections.reverse(toClose);
         for (Runnable r : toClose) {
             try {
@@ -261,6 +261,24 @@ public final class NameIterator {
         }
     }
 
+    /**
+     * Get the hash code of the next segment, which is the {@linkplain String#hashCode() hash code} of the string that
+     * would be returned by {@link #getNextSegment()}, without allocating that string.
+     *
+     * @return the hash code of the next segment
+     */
+    public int nextSegmentHashCode() {
+        int hash = 0;
+        int cookie = initIteration();
+        for (;;) {
+            cookie = nextPos(cookie);
+            if (isSegmentDelimiter(cookie)) {
+                return hash;
+            }
+            hash = 31 * hash + charAt(cookie);
+        }
+    }
+
     public boolean previousSegmentEquals(String other) {
         return previousSegmentEquals(other, 0, other.length());
     }
@@ -0,0 +1,126 @@
+package io.quarkus.runtime.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes events in the Chrome trace event format, which can be opened with {@code chrome://tracing},
+ * <a href="https://ui.perfetto.dev">Perfetto</a> or converted to other profiler formats.
+ * <p>
+ * Threads are identified by name, each distinct name is given its own track.
+ */
+public final class ChromeTraceWriter implements Closeable {
+
+    private final Writer writer;
+    private final Map<String, Integer> threads = new HashMap<>();
+    private boolean first = true;
+
+    private ChromeTraceWriter(Writer writer, String processName) throws IOException {
+        this.writer = writer;
+        writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+        writeMetadata("process_name", 0, processName);
+    }
+
+    public static ChromeTraceWriter create(Path file, String processName) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new ChromeTraceWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), processName);
+    }
+
+    /**
+     * Writes an event that has a duration.
+     */
+    public void complete(String name, String category, String threadName, long startedMicros, long durationMicros)
+            throws IOException {
+        int tid = thread(threadName);
+        startEvent();
+        writer.write("{\"ph\":\"X\",\"pid\":1,\"tid\":");
+        writer.write(Integer.toString(tid));
+        writer.write(",\"ts\":");
+        writer.write(Long.toString(startedMicros));
+        writer.write(",\"dur\":");
+        writer.write(Long.toString(durationMicros));
+        writer.write(",\"cat\":");
+        writeString(category);
+        writer.write(",\"name\":");
+        writeString(name);
+        writer.write('}');
+    }
+
+    /**
+     * Writes the value of a counter at the given time.
+     */
+    public void counter(String name, long timestampMicros, long value) throws IOException {
+        startEvent();
+        writer.write("{\"ph\":\"C\",\"pid\":1,\"ts\":");
+        writer.write(Long.toString(timestampMicros));
+        writer.write(",\"name\":");
+        writeString(name);
+        writer.write(",\"args\":{\"value\":");
+        writer.write(Long.toString(value));
+        writer.write("}}");
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.write("]}");
+        } finally {
+            writer.close();
+        }
+    }
+
+    private int thread(String threadName) throws IOException {
+        Integer tid = threads.get(threadName);
+        if (tid == null) {
+            tid = threads.size() + 1;
+            threads.put(threadName, tid);
+            writeMetadata("thread_name", tid, threadName);
+        }
+        return tid;
+    }
+
+    private void writeMetadata(String type, int tid, String name) throws IOException {
+        startEvent();
+        writer.write("{\"ph\":\"M\",\"pid\":1,\"tid\":");
+        writer.write(Integer.toString(tid));
+        writer.write(",\"name\":\"");
+        writer.write(type);
+        writer.write("\",\"args\":{\"name\":");
+        writeString(name);
+        writer.write("}}");
+    }
+
+    private void startEvent() throws IOException {
+        if (first) {
+            first = false;
+        } else {
+            writer.write(',');
+        }
+        writer.write('\n');
+    }
+
+    private void writeString(String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < 0x20) {
+                writer.write(String.format("\\u%04x", (int) c));
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,189 @@
+package io.quarkus.runtime.util;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.graalvm.nativeimage.ImageInfo;
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.runner.RunnerClassLoader;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.configuration.ProfileManager;
+
+/**
+ * Records the duration and the thread of the startup tasks and of the configuration loading, along with the number of
+ * classes loaded so far, while the application starts.
+ * <p>
+ * Recording is enabled in dev mode, so the timeline can be displayed in the Dev UI, or when the
+ * {@value #STARTUP_TIMELINE} system property is set, in which case the timeline is written to the file it points to, in
+ * the Chrome trace event format, once the application has started.
+ */
+public final class StartupTimeline {
+
+    public static final String STARTUP_TIMELINE = "quarkus.debug.startup-timeline";
+
+    static final String CATEGORY_STARTUP_TASK = "startup-task";
+    static final String CATEGORY_CONFIG = "config";
+
+    private static final Logger log = Logger.getLogger(StartupTimeline.class);
+
+    private static final Queue<Event> events = new ConcurrentLinkedQueue<>();
+    private static volatile boolean enabled;
+    private static volatile long started;
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Enables the recording if requested, has no effect while building a native image.
+     */
+    public static void configure() {
+        if (ImageInfo.inImageBuildtimeCode()) {
+            return;
+        }
+        if (!enabled) {
+            started = System.nanoTime();
+            enabled = System.getProperty(STARTUP_TIMELINE) != null
+                    || ProfileManager.getLaunchMode() == LaunchMode.DEVELOPMENT;
+        }
+    }
+
+    /**
+     * Discards the events of the previous start, if any, so that a new recording starts with the next
+     * {@link #configure()}. Called once per application start, e.g. for each restart in dev mode, as this class outlives
+     * the application class loader.
+     */
+    public static void reset() {
+        if (ImageInfo.inImageBuildtimeCode()) {
+            return;
+        }
+        enabled = false;
+        events.clear();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void recordStartupTask(String name, long startedNanos, long finishedNanos) {
+        record(CATEGORY_STARTUP_TASK, name, startedNanos, finishedNanos);
+    }
+
+    public static void recordConfig(String name, long startedNanos) {
+        record(CATEGORY_CONFIG, name, startedNanos, System.nanoTime());
+    }
+
+    private static void record(String category, String name, long startedNanos, long finishedNanos) {
+        if (!enabled) {
+            return;
+        }
+        events.add(new Event(name == null ? "unknown" : name, category, Thread.currentThread().getName(),
+                TimeUnit.NANOSECONDS.toMicros(startedNanos - started),
+                TimeUnit.NANOSECONDS.toMicros(finishedNanos - startedNanos), definedClassCount()));
+    }
+
+    /**
+     * Writes the timeline to the file set by the {@value #STARTUP_TIMELINE} system property, if any.
+     */
+    public static void startupComplete() {
+        if (!enabled) {
+            return;
+        }
+        String file = System.getProperty(STARTUP_TIMELINE);
+        if (file == null || file.isEmpty()) {
+            return;
+        }
+        Path path = Paths.get(file);
+        try (ChromeTraceWriter writer = ChromeTraceWriter.create(path, "startup")) {
+            for (Event event : getEvents()) {
+                writer.complete(event.getName(), event.getCategory(), event.getThreadName(), event.getStartedMicros(),
+                        event.getDurationMicros());
+                if (event.getLoadedClasses() >= 0) {
+                    writer.counter("loaded classes", event.getStartedMicros() + event.getDurationMicros(),
+                            event.getLoadedClasses());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Unable to write the startup timeline to " + path, e);
+        }
+    }
+
+    /**
+     * @return the recorded events, sorted by start time
+     */
+    public static List<Event> getEvents() {
+        List<Event> result = new ArrayList<>(events);
+        result.sort(Comparator.comparingLong(Event::getStartedMicros));
+        return result;
+    }
+
+    private static long definedClassCount() {
+        ClassLoader classLoader = StartupTimeline.class.getClassLoader();
+        if (classLoader instanceof RunnerClassLoader) {
+            return ((RunnerClassLoader) classLoader).getDefinedClassCount();
+        }
+        return -1;
+    }
+
+    public static final class Event {
+
+        private final String name;
+        private final String category;
+        private final String threadName;
+        private final long startedMicros;
+        private final long durationMicros;
+        private final long loadedClasses;
+
+        Event(String name, String category, String threadName, long startedMicros, long durationMicros,
+                long loadedClasses) {
+            this.name = name;
+            this.category = category;
+            this.threadName = threadName;
+            this.startedMicros = startedMicros;
+            this.durationMicros = durationMicros;
+            this.loadedClasses = loadedClasses;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * @return the time the event started at, relative to the start of the recording
+         */
+        public long getStartedMicros() {
+            return startedMicros;
+        }
+
+        public long getDurationMicros() {
+            return durationMicros;
+        }
+
+        public long getDurationMillis() {
+            return TimeUnit.MICROSECONDS.toMillis(durationMicros);
+        }
+
+        /**
+         * @return the number of classes loaded by the application class loader when the event finished, or -1 if
+         *         unknown
+         */
+        public long getLoadedClasses() {
+            return loadedClasses;
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class StepTiming {
 
     public static void configureEnabled() {
         stepTimingEnabled = System.getProperty(PRINT_STARTUP_TIMES, "false").equalsIgnoreCase("true");
+        StartupTimeline.configure();
     }
 
     public static void configureStart() {
@@ -23,14 +24,41 @@ public class StepTiming {
     }
 
     public static void printStepTime(StartupContext startupContext) {
-        if (!stepTimingEnabled) {
+        if (!stepTimingEnabled && !StartupTimeline.isEnabled()) {
             return;
         }
+        long now = System.nanoTime();
         String currentBuildStepName = startupContext.getCurrentBuildStepName();
-        System.out.printf("%1$tF %1$tT,%1$tL Build step %2$s completed in: %3$sms%n",
+        StartupTimeline.recordStartupTask(currentBuildStepName, stepTimingStart, now);
+        if (stepTimingEnabled) {
+            System.out.printf("%1$tF %1$tT,%1$tL Build step %2$s completed in: %3$sms%n",
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(System.currentTimeMillis()), ZoneId.systemDefault()),
+                    currentBuildStepName,
+                    duration(now, stepTimingStart));
+        }
+        stepTimingStart = System.nanoTime();
+    }
+
+    public static void printParallelStepTime(String stepName, long startedNanos, long finishedNanos) {
+        StartupTimeline.recordStartupTask(stepName, startedNanos, finishedNanos);
+        if (!stepTimingEnabled) {
+            return;
+        }
+        System.out.printf("%1$tF %1$tT,%1$tL Build step %2$s completed in: %3$sms on thread %4$s%n",
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(System.currentTimeMillis()), ZoneId.systemDefault()),
+                stepName,
+                duration(finishedNanos, startedNanos),
+                Thread.currentThread().getName());
+    }
+
+    public static void printParallelStartupTime(int tasks, long durationNanos) {
+        if (!stepTimingEnabled) {
+            return;
+        }
+        System.out.printf("%1$tF %1$tT,%1$tL %2$s startup tasks completed in parallel in: %3$sms%n",
                 LocalDateTime.ofInstant(Instant.ofEpochMilli(System.currentTimeMillis()), ZoneId.systemDefault()),
-                currentBuildStepName,
-                duration(System.nanoTime(), stepTimingStart));
+                tasks,
+                TimeUnit.MILLISECONDS.convert(durationNanos, TimeUnit.NANOSECONDS));
         stepTimingStart = System.nanoTime();
     }
 
@@ -0,0 +1,82 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelStartupTasksTest {
+
+    @Test
+    public void testDependenciesAreRespected() {
+        final List<String> executed = new CopyOnWriteArrayList<>();
+        final ParallelStartupTasks tasks = new ParallelStartupTasks();
+        final int first = tasks.addTask(context -> executed.add("first"), "first");
+        final int second = tasks.addTask(context -> {
+            assertTrue(executed.contains("first"));
+            executed.add("second");
+        }, "second");
+        tasks.addDependency(second, first);
+        final int third = tasks.addTask(context -> {
+            assertTrue(executed.contains("first"));
+            assertTrue(executed.contains("second"));
+            executed.add("third");
+        }, "third");
+        tasks.addDependency(third, first);
+        tasks.addDependency(third, second);
+        try (StartupContext context = new StartupContext()) {
+            tasks.run(context);
+        }
+        assertEquals(List.of("first", "second", "third"), executed);
+    }
+
+    @Test
+    public void testIndependentTasksRunInParallel() throws InterruptedException {
+        if (Runtime.getRuntime().availableProcessors() < 2) {
+            return;
+        }
+        final CountDownLatch latch = new CountDownLatch(2);
+        final ParallelStartupTasks tasks = new ParallelStartupTasks();
+        final StartupTask task = context -> {
+            latch.countDown();
+            try {
+                // only completes if the other task runs concurrently
+                assertTrue(latch.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+        tasks.addTask(task, "first");
+        tasks.addTask(task, "second");
+        try (StartupContext context = new StartupContext()) {
+            tasks.run(context);
+        }
+        assertEquals(0, latch.getCount());
+    }
+
+    @Test
+    public void testFailureIsRethrown() {
+        final IllegalStateException failure = new IllegalStateException("expected");
+        final List<String> executed = new CopyOnWriteArrayList<>();
+        final ParallelStartupTasks tasks = new ParallelStartupTasks();
+        final int first = tasks.addTask(context -> {
+            throw failure;
+        }, "first");
+        final int second = tasks.addTask(context -> executed.add("second"), "second");
+        tasks.addDependency(second, first);
+        tasks.addTask(context -> executed.add("third"), "third");
+        try (StartupContext context = new StartupContext()) {
+            assertSame(failure, assertThrows(IllegalStateException.class, () -> tasks.run(context)));
+        }
+        assertFalse(executed.contains("second"));
+        assertTrue(executed.contains("third"));
+    }
+}
@@ -153,4 +153,17 @@ public class NameIteratorTestCase {
         assertTrue(ni.nextSegmentEquals(items[0]));
         assertFalse(ni.hasPrevious());
     }
+
+    @Test
+    public void testNextSegmentHashCode() {
+        String[] rawItems = array("quarkus", "\"banana\"", "\"bar.bar\"", "ap\"\"ple", "b\\\"az", "http");
+        String[] items = array("quarkus", "banana", "bar.bar", "apple", "b\"az", "http");
+        NameIterator ni = new NameIterator(join(rawItems));
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(items[i].hashCode(), ni.nextSegmentHashCode());
+            assertEquals(ni.getNextSegment().hashCode(), ni.nextSegmentHashCode());
+            ni.next();
+        }
+        assertFalse(ni.hasNext());
+    }
 }
@@ -0,0 +1,30 @@
+package io.quarkus.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+public class ChromeTraceWriterTest {
+
+    @Test
+    public void testWrite() throws Exception {
+        Path file = Files.createTempDirectory("trace").resolve("trace.json");
+        try (ChromeTraceWriter writer = ChromeTraceWriter.create(file, "build")) {
+            writer.complete("Step \"one\"", "build-step", "build-1", 10, 20);
+            writer.complete("Step\\two", "build-step", "build-2", 15, 5);
+            writer.counter("loaded classes", 30, 42);
+        }
+        assertEquals("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n"
+                + "{\"ph\":\"M\",\"pid\":1,\"tid\":0,\"name\":\"process_name\",\"args\":{\"name\":\"build\"}},\n"
+                + "{\"ph\":\"M\",\"pid\":1,\"tid\":1,\"name\":\"thread_name\",\"args\":{\"name\":\"build-1\"}},\n"
+                + "{\"ph\":\"X\",\"pid\":1,\"tid\":1,\"ts\":10,\"dur\":20,\"cat\":\"build-step\",\"name\":\"Step \\\"one\\\"\"},\n"
+                + "{\"ph\":\"M\",\"pid\":1,\"tid\":2,\"name\":\"thread_name\",\"args\":{\"name\":\"build-2\"}},\n"
+                + "{\"ph\":\"X\",\"pid\":1,\"tid\":2,\"ts\":15,\"dur\":5,\"cat\":\"build-step\",\"name\":\"Step\\\\two\"},\n"
+                + "{\"ph\":\"C\",\"pid\":1,\"ts\":30,\"name\":\"loaded classes\",\"args\":{\"value\":42}}]}",
+                new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+}
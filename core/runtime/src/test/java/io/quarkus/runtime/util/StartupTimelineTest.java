@@ -0,0 +1,39 @@
+package io.quarkus.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class StartupTimelineTest {
+
+    @AfterEach
+    public void cleanup() {
+        System.clearProperty(StartupTimeline.STARTUP_TIMELINE);
+        StartupTimeline.reset();
+    }
+
+    @Test
+    public void testRestart() throws Exception {
+        System.setProperty(StartupTimeline.STARTUP_TIMELINE, "");
+        StartupTimeline.reset();
+        StartupTimeline.configure();
+        long started = System.nanoTime();
+        StartupTimeline.recordStartupTask("first", started, started + 1000);
+        assertEquals(1, StartupTimeline.getEvents().size());
+
+        Thread.sleep(50);
+        // the next start only has its own events, relative to its own start
+        StartupTimeline.reset();
+        StartupTimeline.configure();
+        started = System.nanoTime();
+        StartupTimeline.recordStartupTask("second", started, started + 1000);
+        List<StartupTimeline.Event> events = StartupTimeline.getEvents();
+        assertEquals(1, events.size());
+        assertEquals("second", events.get(0).getName());
+        assertTrue(events.get(0).getStartedMicros() < 50_000);
+    }
+}
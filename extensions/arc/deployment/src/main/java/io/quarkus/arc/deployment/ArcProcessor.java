@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -479,7 +480,9 @@ public class ArcProcessor {
             BuildProducer<GeneratedClassBuildItem> generatedClass,
             LiveReloadBuildItem liveReloadBuildItem,
             BuildProducer<GeneratedResourceBuildItem> generatedResource,
-            BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformer) throws Exception {
+            BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformer,
+            Optional<CurrentContextFactoryBuildItem> currentContextFactory,
+            Executor buildExecutor) throws Exception {
 
         for (ValidationErrorBuildItem validationError : validationErrors) {
             for (Throwable error : validationError.getValues()) {
@@ -510,7 +513,7 @@ public class ArcProcessor {
             }
 
         }, existingClasses.existingClasses, bytecodeTransformerConsumer,
-                config.shouldEnableBeanRemoval() && config.detectUnusedFalsePositives);
+                config.shouldEnableBeanRemoval() && config.detectUnusedFalsePositives, buildExecutor);
         for (ResourceOutput.Resource resource : resources) {
             switch (resource.getType()) {
                 case JAVA_CLASS:
@@ -542,7 +545,8 @@ public class ArcProcessor {
             reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, binding.name().toString()));
         }
 
-        ArcContainer container = recorder.getContainer(shutdown);
+        ArcContainer container = recorder.initContainer(shutdown,
+                currentContextFactory.isPresent() ? currentContextFactory.get().getFactory() : null);
         BeanContainer beanContainer = recorder.initBeanContainer(container,
                 beanContainerListenerBuildItems.stream().map(BeanContainerListenerBuildItem::getBeanContainerListener)
                         .collect(Collectors.toList()));
@@ -776,15 +780,19 @@ public class ArcProcessor {
                 ResultHandle injetionPointType = Types.getTypeHandle(mc, injectionPoint.getType());
 
                 // List<T> or List<InstanceHandle<T>
-                ResultHandle requiredType;
+                Type requiredJandexType;
                 MethodDescriptor instancesMethod;
                 if (elementType.name().equals(DotNames.INSTANCE_HANDLE)) {
-                    requiredType = Types.getTypeHandle(mc, elementType.asParameterizedType().arguments().get(0));
-                    instancesMethod = MethodDescriptors.INSTANCES_LIST_OF_HANDLES;
+                    requiredJandexType = elementType.asParameterizedType().arguments().get(0);
+                    instancesMethod = MethodDescriptors.INSTANCES_LIST_OF_HANDLES_RESOLVED;
                 } else {
-                    requiredType = Types.getTypeHandle(mc, elementType);
-                    instancesMethod = MethodDescriptors.INSTANCES_LIST_OF;
+                    requiredJandexType = elementType;
+                    instancesMethod = MethodDescriptors.INSTANCES_LIST_OF_RESOLVED;
                 }
+                ResultHandle requiredType = Types.getTypeHandle(mc, requiredJandexType);
+                // The matching beans are resolved at build time if possible
+                ResultHandle resolvedBeanIds = BeanGenerator.collectResolvedBeanIds(mc, beanDeployment,
+                        requiredJandexType, qualifiers);
 
                 ResultHandle requiredQualifiers = BeanGenerator.collectQualifiers(null, null,
                         beanDeployment, mc, annotationLiterals, qualifiers);
@@ -806,7 +814,7 @@ public class ArcProcessor {
                 ResultHandle ret = mc.invokeStaticMethod(instancesMethod, targetBean,
                         injetionPointType, requiredType, requiredQualifiers, mc.getMethodParam(0),
                         injectionPointAnnotations,
-                        javaMember, mc.load(injectionPoint.getPosition()));
+                        javaMember, mc.load(injectionPoint.getPosition()), resolvedBeanIds);
                 mc.returnValue(ret);
             });
             configurator.done();
@@ -0,0 +1,23 @@
+package io.quarkus.arc.deployment;
+
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.runtime.RuntimeValue;
+
+/**
+ * An extension can provide a custom {@link CurrentContextFactory}, e.g. to store the state of the request context in a
+ * carrier that is shared by all the threads that process the same request. The factory must be recorded at static init.
+ */
+public final class CurrentContextFactoryBuildItem extends SimpleBuildItem {
+
+    private final RuntimeValue<CurrentContextFactory> factory;
+
+    public CurrentContextFactoryBuildItem(RuntimeValue<CurrentContextFactory> factory) {
+        this.factory = factory;
+    }
+
+    public RuntimeValue<CurrentContextFactory> getFactory() {
+        return factory;
+    }
+
+}
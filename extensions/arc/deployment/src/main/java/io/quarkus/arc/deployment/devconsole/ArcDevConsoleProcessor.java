@@ -23,6 +23,7 @@ import io.quarkus.arc.processor.ObserverInfo;
 import io.quarkus.arc.runtime.ArcContainerSupplier;
 import io.quarkus.arc.runtime.ArcRecorder;
 import io.quarkus.arc.runtime.BeanLookupSupplier;
+import io.quarkus.arc.runtime.devconsole.ContainerFootprintSupplier;
 import io.quarkus.arc.runtime.devconsole.EventsMonitor;
 import io.quarkus.arc.runtime.devconsole.InvocationInterceptor;
 import io.quarkus.arc.runtime.devconsole.InvocationTree;
@@ -47,6 +48,12 @@ public class ArcDevConsoleProcessor {
                 new ArcContainerSupplier(), this.getClass(), curateOutcomeBuildItem);
     }
 
+    @BuildStep(onlyIf = IsDevelopment.class)
+    public DevConsoleRuntimeTemplateInfoBuildItem exposeContainerFootprint(CurateOutcomeBuildItem curateOutcomeBuildItem) {
+        return new DevConsoleRuntimeTemplateInfoBuildItem("arcFootprint",
+                new ContainerFootprintSupplier(), this.getClass(), curateOutcomeBuildItem);
+    }
+
     @BuildStep(onlyIf = IsDevelopment.class)
     void monitor(ArcConfig config, BuildProducer<DevConsoleRuntimeTemplateInfoBuildItem> runtimeInfos,
             BuildProducer<AdditionalBeanBuildItem> beans, BuildProducer<AnnotationsTransformerBuildItem> annotationTransformers,
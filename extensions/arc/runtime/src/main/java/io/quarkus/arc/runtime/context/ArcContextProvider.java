@@ -138,7 +138,11 @@ public class ArcContextProvider implements ThreadContextProvider {
             ManagedContext requestContext = container.requestContext();
             InjectableContext.ContextState toRestore = requestContext.getStateIfActive();
             // this is executed on another thread, context can but doesn't need to be active here
-            if (toRestore != null) {
+            if (toRestore == state) {
+                // the state is already current, e.g. because it is stored in a carrier shared by the threads that process
+                // the same request - there is nothing to propagate
+                return NOOP_CONTROLLER;
+            } else if (toRestore != null) {
                 // context active, store current state, feed it new one and restore state afterwards
                 // it is not necessary to deactivate the context first - just overwrite the previous state
                 requestContext.activate(state);
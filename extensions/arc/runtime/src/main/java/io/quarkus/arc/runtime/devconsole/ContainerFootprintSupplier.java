@@ -0,0 +1,15 @@
+package io.quarkus.arc.runtime.devconsole;
+
+import java.util.function.Supplier;
+
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.ContainerFootprint;
+
+public class ContainerFootprintSupplier implements Supplier<ContainerFootprint> {
+
+    @Override
+    public ContainerFootprint get() {
+        return ArcContainerImpl.instance().getFootprint();
+    }
+
+}
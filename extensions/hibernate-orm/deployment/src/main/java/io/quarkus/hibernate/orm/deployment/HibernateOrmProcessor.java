@@ -9,6 +9,7 @@ import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -106,6 +107,7 @@ import io.quarkus.deployment.builditem.SystemPropertyBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.cache.BuildCache;
 import io.quarkus.deployment.index.IndexingUtil;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
@@ -1210,8 +1212,15 @@ public final class HibernateOrmProcessor {
             List<AdditionalJpaModelBuildItem> additionalJpaModelBuildItems,
             BuildProducer<GeneratedClassBuildItem> additionalClasses) {
         HibernateEntityEnhancer hibernateEntityEnhancer = new HibernateEntityEnhancer();
+        String enhancementFingerprint = enhancementFingerprint(jpaModel);
         for (String i : jpaModel.getAllModelClassNames()) {
-            transformers.produce(new BytecodeTransformerBuildItem(true, i, hibernateEntityEnhancer, true));
+            transformers.produce(new BytecodeTransformerBuildItem.Builder()
+                    .setEager(true)
+                    .setClassToTransform(i)
+                    .setVisitorFunction(hibernateEntityEnhancer)
+                    .setCacheable(true)
+                    .setCacheFingerprint(enhancementFingerprint)
+                    .build());
         }
         for (AdditionalJpaModelBuildItem additionalJpaModel : additionalJpaModelBuildItems) {
             String className = additionalJpaModel.getClassName();
@@ -1225,6 +1234,38 @@ public final class HibernateOrmProcessor {
         }
     }
 
+    /**
+     * Enhancing a class reads the other classes of the model, e.g. its superclasses and embeddables, so the fingerprint
+     * covers the bytecode of all the model classes and the classification of the model done from the configuration.
+     * The enhancer itself has no configuration, it only depends on the version of Hibernate ORM.
+     *
+     * @return the fingerprint of the enhancement, or {@code null} if the bytecode of a model class cannot be read, in which
+     *         case the enhanced classes are not stored in the build cache
+     */
+    private static String enhancementFingerprint(JpaModelBuildItem jpaModel) {
+        BuildCache.KeyBuilder key = BuildCache.disabled().newKey(HibernateEntityEnhancer.class.getName());
+        for (String packageName : jpaModel.getAllModelPackageNames()) {
+            key.add(packageName);
+        }
+        for (String entityClassName : jpaModel.getEntityClassNames()) {
+            key.add(entityClassName);
+        }
+        // the model class names are sorted
+        for (String className : jpaModel.getAllModelClassNames()) {
+            try (InputStream stream = IoUtil.readClass(HibernateOrmProcessor.class.getClassLoader(), className)) {
+                if (stream == null) {
+                    LOG.debugf("Enhanced classes not cached: unable to find the model class %s", className);
+                    return null;
+                }
+                key.add(className).add(IoUtil.readBytes(stream));
+            } catch (IOException e) {
+                LOG.debugf(e, "Enhanced classes not cached: unable to read the model class %s", className);
+                return null;
+            }
+        }
+        return key.build();
+    }
+
     private static Map<String, Set<String>> getModelClassesAndPackagesPerPersistenceUnits(HibernateOrmConfig hibernateOrmConfig,
             JpaModelBuildItem jpaModel, IndexView index, boolean enableDefaultPersistenceUnit) {
         Map<String, Set<String>> modelClassesAndPackagesPerPersistenceUnits = new HashMap<>();
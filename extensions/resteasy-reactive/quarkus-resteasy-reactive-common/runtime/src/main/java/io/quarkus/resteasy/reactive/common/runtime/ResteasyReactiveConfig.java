@@ -14,6 +14,9 @@ public class ResteasyReactiveConfig {
     /**
      * The amount of memory that can be used to buffer input before switching to
      * blocking IO.
+     * <p>
+     * This does not apply to the bodies that are parsed as they are received, such as JSON bodies
+     * read by Jackson, which are never buffered.
      */
     @ConfigItem(defaultValue = "10k")
     public MemorySize inputBufferSize;
@@ -0,0 +1,365 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ReflectionFreeSerializer;
+
+/**
+ * Generates a {@link ReflectionFreeSerializer} for a type returned by a resource method and for the types of its
+ * properties.
+ * <p>
+ * Only plain classes are supported: the class and its superclasses must be indexed, must not declare type parameters and
+ * must not use any Jackson annotation. The properties are detected like Jackson does with the default visibility, i.e.
+ * public getters and public fields, and are written in the same order.
+ * <p>
+ * For example for a class like:
+ *
+ * <pre>
+ * public class Person {
+ *
+ *     public String name;
+ *     private int age;
+ *
+ *     public int getAge() {
+ *         return age;
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>
+ * The generated serializer would look like:
+ *
+ * <pre>
+ * public final class Person$quarkusjacksonserializer extends ReflectionFreeSerializer {
+ *
+ *     static final SerializedString p0 = new SerializedString("name");
+ *     static final SerializedString p1 = new SerializedString("age");
+ *
+ *     public Person$quarkusjacksonserializer() {
+ *         super(Person.class, new String[] { "name", "age" });
+ *     }
+ *
+ *     protected void writeProperties(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+ *         Person person = (Person) value;
+ *         writeString(gen, p0, person.name);
+ *         gen.writeFieldName(p1);
+ *         gen.writeNumber(person.getAge());
+ *     }
+ * }
+ * </pre>
+ */
+final class ReflectionFreeSerializerGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(ReflectionFreeSerializerGenerator.class);
+
+    private static final String SUFFIX = "$quarkusjacksonserializer";
+    private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+
+    private static final MethodDescriptor WRITE_FIELD_NAME = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeFieldName", void.class, SerializableString.class);
+    private static final MethodDescriptor WRITE_STRING = MethodDescriptor.ofMethod(ReflectionFreeSerializer.class,
+            "writeString", void.class, JsonGenerator.class, SerializableString.class, String.class);
+    private static final MethodDescriptor WRITE_OBJECT = MethodDescriptor.ofMethod(ReflectionFreeSerializer.class,
+            "writeObject", void.class, JsonGenerator.class, SerializerProvider.class, SerializableString.class,
+            Object.class);
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+    private final Set<DotName> excludedTypes;
+    // type -> generated serializer class name, or null if no serializer can be generated
+    private final Map<DotName, String> serializers = new HashMap<>();
+
+    ReflectionFreeSerializerGenerator(IndexView index, ClassOutput classOutput, Set<DotName> excludedTypes) {
+        this.index = index;
+        this.classOutput = classOutput;
+        this.excludedTypes = excludedTypes;
+    }
+
+    /**
+     * Generates the serializers for the given type and the types of its properties.
+     *
+     * @param type
+     */
+    void generate(Type type) {
+        Deque<Type> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            Type current = queue.poll();
+            if (current.kind() != Type.Kind.CLASS || serializers.containsKey(current.name())) {
+                continue;
+            }
+            serializers.put(current.name(), generate(current.name(), queue));
+        }
+    }
+
+    /**
+     *
+     * @return the names of the generated serializers
+     */
+    List<String> getGeneratedSerializers() {
+        List<String> ret = new ArrayList<>();
+        for (String serializer : serializers.values()) {
+            if (serializer != null) {
+                ret.add(serializer);
+            }
+        }
+        return ret;
+    }
+
+    private String generate(DotName typeName, Deque<Type> queue) {
+        if (typeName.toString().startsWith("java.") || excludedTypes.contains(typeName)) {
+            return null;
+        }
+        ClassInfo clazz = index.getClassByName(typeName);
+        if (clazz == null || !isSupportedClass(clazz)) {
+            return null;
+        }
+        Map<String, Property> properties = collectProperties(clazz);
+        if (properties == null || properties.isEmpty()) {
+            return null;
+        }
+        for (Property property : properties.values()) {
+            Type propertyType = property.type();
+            if (propertyType.kind() == Type.Kind.PRIMITIVE && propertyType.asPrimitiveType() == PrimitiveType.CHAR) {
+                // Jackson writes a char as a string
+                return null;
+            }
+            // Try to generate the serializers of the properties and of the elements of collections and arrays
+            if (propertyType.kind() == Type.Kind.CLASS) {
+                queue.add(propertyType);
+            } else if (propertyType.kind() == Type.Kind.ARRAY) {
+                queue.add(propertyType.asArrayType().component());
+            } else if (propertyType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                queue.addAll(propertyType.asParameterizedType().arguments());
+            }
+        }
+
+        String serializerName = typeName.toString() + SUFFIX;
+        try (ClassCreator creator = ClassCreator.builder().classOutput(classOutput).className(serializerName)
+                .superClass(ReflectionFreeSerializer.class).setFinal(true).build()) {
+
+            List<String> names = new ArrayList<>(properties.keySet());
+            MethodCreator staticInit = creator.getMethodCreator("<clinit>", void.class).setModifiers(Modifier.STATIC);
+            for (int i = 0; i < names.size(); i++) {
+                FieldDescriptor nameField = creator.getFieldCreator("p" + i, SerializedString.class)
+                        .setModifiers(Modifier.STATIC | Modifier.FINAL).getFieldDescriptor();
+                staticInit.writeStaticField(nameField, staticInit.newInstance(
+                        MethodDescriptor.ofConstructor(SerializedString.class, String.class), staticInit.load(names.get(i))));
+            }
+            staticInit.returnValue(null);
+
+            MethodCreator constructor = creator.getMethodCreator("<init>", void.class);
+            ResultHandle namesArray = constructor.newArray(String.class, names.size());
+            for (int i = 0; i < names.size(); i++) {
+                constructor.writeArrayValue(namesArray, i, constructor.load(names.get(i)));
+            }
+            constructor.invokeSpecialMethod(
+                    MethodDescriptor.ofConstructor(ReflectionFreeSerializer.class, Class.class, String[].class),
+                    constructor.getThis(), constructor.loadClass(typeName.toString()), namesArray);
+            constructor.returnValue(null);
+
+            MethodCreator writeProperties = creator.getMethodCreator("writeProperties", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class).setModifiers(Modifier.PROTECTED);
+            writeProperties.addException(IOException.class);
+            ResultHandle value = writeProperties.checkCast(writeProperties.getMethodParam(0), typeName.toString());
+            ResultHandle gen = writeProperties.getMethodParam(1);
+            ResultHandle provider = writeProperties.getMethodParam(2);
+            int i = 0;
+            for (Property property : properties.values()) {
+                ResultHandle name = writeProperties.readStaticField(
+                        FieldDescriptor.of(serializerName, "p" + i++, SerializedString.class));
+                ResultHandle propertyValue = property.getter != null
+                        ? writeProperties.invokeVirtualMethod(MethodDescriptor.of(property.getter), value)
+                        : writeProperties.readInstanceField(FieldDescriptor.of(property.field), value);
+                Type propertyType = property.type();
+                if (propertyType.kind() == Type.Kind.PRIMITIVE) {
+                    writeProperties.invokeVirtualMethod(WRITE_FIELD_NAME, gen, name);
+                    writeProperties.invokeVirtualMethod(writePrimitiveMethod(propertyType.asPrimitiveType()), gen,
+                            propertyValue);
+                } else if (propertyType.name().equals(STRING)) {
+                    writeProperties.invokeVirtualMethod(WRITE_STRING, writeProperties.getThis(), gen, name, propertyValue);
+                } else {
+                    writeProperties.invokeVirtualMethod(WRITE_OBJECT, writeProperties.getThis(), gen, provider, name,
+                            propertyValue);
+                }
+            }
+            writeProperties.returnValue(null);
+        }
+        LOGGER.debugf("Generated serializer %s with properties %s", serializerName, properties.keySet());
+        return serializerName;
+    }
+
+    private boolean isSupportedClass(ClassInfo clazz) {
+        if (!Modifier.isPublic(clazz.flags()) || Modifier.isAbstract(clazz.flags()) || Modifier.isInterface(clazz.flags())
+                || clazz.isEnum() || clazz.isRecord() || !clazz.typeParameters().isEmpty()) {
+            return false;
+        }
+        if (clazz.nestingType() == ClassInfo.NestingType.INNER) {
+            ClassInfo enclosing = index.getClassByName(clazz.enclosingClass());
+            return enclosing != null && Modifier.isPublic(enclosing.flags());
+        }
+        return clazz.nestingType() == ClassInfo.NestingType.TOP_LEVEL;
+    }
+
+    /**
+     * Collects the properties in the order used by Jackson: all the fields, including the non-visible ones, starting with
+     * the superclass, and then the properties that only have a getter.
+     *
+     * @param clazz
+     * @return the properties, or {@code null} if the class is not supported
+     */
+    private Map<String, Property> collectProperties(ClassInfo clazz) {
+        List<ClassInfo> hierarchy = new ArrayList<>();
+        ClassInfo current = clazz;
+        while (!current.name().equals(ResteasyReactiveDotNames.OBJECT)) {
+            if (!current.typeParameters().isEmpty() || usesJacksonAnnotations(current)) {
+                return null;
+            }
+            hierarchy.add(0, current);
+            current = index.getClassByName(current.superName());
+            if (current == null) {
+                return null;
+            }
+        }
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (ClassInfo c : hierarchy) {
+            for (FieldInfo field : c.unsortedFields()) {
+                if (Modifier.isStatic(field.flags()) || Modifier.isTransient(field.flags())) {
+                    continue;
+                }
+                Property property = properties.computeIfAbsent(field.name(), Property::new);
+                property.field = Modifier.isPublic(field.flags()) ? field : null;
+            }
+        }
+        for (ClassInfo c : hierarchy) {
+            for (MethodInfo method : c.unsortedMethods()) {
+                String name = getPropertyName(method);
+                if (name != null) {
+                    Property property = properties.computeIfAbsent(name, Property::new);
+                    if (property.getter != null && property.getter.declaringClass().equals(c)) {
+                        // Both getX() and isX() are declared
+                        return null;
+                    }
+                    property.getter = method;
+                }
+            }
+        }
+        properties.values().removeIf(p -> p.getter == null && p.field == null);
+        return properties;
+    }
+
+    private static boolean usesJacksonAnnotations(ClassInfo clazz) {
+        for (DotName annotation : clazz.annotations().keySet()) {
+            if (annotation.toString().startsWith(JACKSON_PACKAGE)
+                    || annotation.equals(ResteasyReactiveJacksonProcessor.SECURE_FIELD)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @param method
+     * @return the name of the property if the method is a getter detected by Jackson, {@code null} otherwise
+     */
+    private static String getPropertyName(MethodInfo method) {
+        if (!Modifier.isPublic(method.flags()) || Modifier.isStatic(method.flags()) || method.isSynthetic()
+                || !method.parameters().isEmpty() || method.returnType().kind() == Type.Kind.VOID) {
+            return null;
+        }
+        String name = method.name();
+        String suffix;
+        if (name.startsWith("get") && name.length() > 3) {
+            if (name.equals("getClass")) {
+                return null;
+            }
+            suffix = name.substring(3);
+        } else if (name.startsWith("is") && name.length() > 2 && method.returnType().kind() == Type.Kind.PRIMITIVE
+                && method.returnType().asPrimitiveType() == PrimitiveType.BOOLEAN) {
+            suffix = name.substring(2);
+        } else {
+            return null;
+        }
+        // Jackson lower-cases all the leading upper-case characters, e.g. getURL() -> "url"
+        StringBuilder propertyName = new StringBuilder(suffix.length());
+        int i = 0;
+        while (i < suffix.length() && Character.isUpperCase(suffix.charAt(i))) {
+            propertyName.append(Character.toLowerCase(suffix.charAt(i)));
+            i++;
+        }
+        propertyName.append(suffix, i, suffix.length());
+        return propertyName.toString();
+    }
+
+    private static MethodDescriptor writePrimitiveMethod(PrimitiveType type) {
+        switch (type.primitive()) {
+            case BOOLEAN:
+                return MethodDescriptor.ofMethod(JsonGenerator.class, "writeBoolean", void.class, boolean.class);
+            case LONG:
+                return MethodDescriptor.ofMethod(JsonGenerator.class, "writeNumber", void.class, long.class);
+            case FLOAT:
+                return MethodDescriptor.ofMethod(JsonGenerator.class, "writeNumber", void.class, float.class);
+            case DOUBLE:
+                return MethodDescriptor.ofMethod(JsonGenerator.class, "writeNumber", void.class, double.class);
+            case SHORT:
+                return MethodDescriptor.ofMethod(JsonGenerator.class, "writeNumber", void.class, short.class);
+            default:
+                // byte and int
+                return MethodDescriptor.ofMethod(JsonGenerator.class, "writeNumber", void.class, int.class);
+        }
+    }
+
+    private static final class Property {
+
+        final String name;
+        FieldInfo field;
+        MethodInfo getter;
+
+        Property(String name) {
+            this.name = name;
+        }
+
+        Type type() {
+            return getter != null ? getter.returnType() : field.type();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "resteasy-reactive.jackson")
+public class ResteasyReactiveJacksonConfig {
+
+    /**
+     * If set to {@code true}, a Jackson serializer is generated at build time for each class returned as JSON by a
+     * resource method, as well as for the classes of its properties. A generated serializer writes the properties without
+     * reflection and with pre-encoded names.
+     * <p>
+     * Only classes without Jackson annotations are supported. At startup, a generated serializer is only registered if it
+     * produces the same output as the serializer Jackson would use with the configured {@code ObjectMapper}.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean reflectionFreeSerializers;
+}
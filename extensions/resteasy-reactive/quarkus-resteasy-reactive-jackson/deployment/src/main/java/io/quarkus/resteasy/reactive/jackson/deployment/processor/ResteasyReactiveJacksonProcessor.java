@@ -31,12 +31,14 @@ import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
@@ -52,6 +54,7 @@ import io.quarkus.resteasy.reactive.jackson.runtime.mappers.NativeInvalidDefinit
 import io.quarkus.resteasy.reactive.jackson.runtime.security.SecurityCustomSerialization;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.BasicServerJacksonMessageBodyWriter;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.FullyFeaturedServerJacksonMessageBodyWriter;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ReflectionFreeSerializersCustomizer;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ServerJacksonMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyWriter;
@@ -71,7 +74,7 @@ public class ResteasyReactiveJacksonProcessor {
 
     private static final DotName JSON_VIEW = DotName.createSimple(JsonView.class.getName());
     private static final DotName CUSTOM_SERIALIZATION = DotName.createSimple(CustomSerialization.class.getName());
-    private static final DotName SECURE_FIELD = DotName.createSimple(SecureField.class.getName());
+    static final DotName SECURE_FIELD = DotName.createSimple(SecureField.class.getName());
     private static final DotName DISABLE_SECURE_SERIALIZATION = DotName
             .createSimple(DisableSecureSerialization.class.getName());
     private static final DotName ENABLE_SECURE_SERIALIZATION = DotName
@@ -253,39 +256,13 @@ public class ResteasyReactiveJacksonProcessor {
                 }
             }
 
-            ResourceMethod resourceInfo = entry.getResourceMethod();
-            boolean isJsonResponse = false;
-            if (resourceInfo.getProduces() != null) {
-                for (String produces : resourceInfo.getProduces()) {
-                    if (produces.toLowerCase(Locale.ROOT).contains(MediaType.APPLICATION_JSON)) {
-                        isJsonResponse = true;
-                        break;
-                    }
-                }
-            }
-            if (!isJsonResponse) {
+            if (!isJsonResponse(entry.getResourceMethod())) {
                 continue;
             }
-
-            Type returnType = methodInfo.returnType();
-            if (returnType.kind() == Type.Kind.VOID) {
+            Type effectiveReturnType = getEffectiveReturnType(methodInfo);
+            if (effectiveReturnType == null) {
                 continue;
             }
-            Type effectiveReturnType = returnType;
-            if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.UNI) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETION_STAGE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.MULTI)) {
-                effectiveReturnType = returnType.asParameterizedType().arguments().get(0);
-            }
-            if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.SET) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST)) {
-                effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(0);
-            } else if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.MAP)) {
-                effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(1);
-            }
 
             ClassInfo effectiveReturnClassInfo = indexView.getClassByName(effectiveReturnType.name());
             if ((effectiveReturnClassInfo == null) || effectiveReturnClassInfo.name().equals(ResteasyReactiveDotNames.OBJECT)) {
@@ -324,6 +301,98 @@ public class ResteasyReactiveJacksonProcessor {
         }
     }
 
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep
+    void generateReflectionFreeSerializers(ResteasyReactiveJacksonConfig config,
+            ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
+            JaxRsResourceIndexBuildItem index,
+            List<ResourceMethodCustomSerializationBuildItem> resourceMethodCustomSerializationBuildItems,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClassProducer,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            ResteasyReactiveServerJacksonRecorder recorder, ShutdownContextBuildItem shutdown) {
+        if (!config.reflectionFreeSerializers) {
+            return;
+        }
+        Set<MethodInfo> customSerializationMethods = new HashSet<>();
+        for (ResourceMethodCustomSerializationBuildItem bi : resourceMethodCustomSerializationBuildItems) {
+            customSerializationMethods.add(bi.getMethodInfo());
+        }
+        // the types that are serialized in a custom way are left to Jackson
+        Set<DotName> excludedTypes = new HashSet<>();
+        List<Type> types = new ArrayList<>();
+        for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+            MethodInfo methodInfo = entry.getMethodInfo();
+            if (!isJsonResponse(entry.getResourceMethod())) {
+                continue;
+            }
+            Type effectiveReturnType = getEffectiveReturnType(methodInfo);
+            if (effectiveReturnType == null) {
+                continue;
+            }
+            if (customSerializationMethods.contains(methodInfo) || methodInfo.hasAnnotation(CUSTOM_SERIALIZATION)
+                    || methodInfo.hasAnnotation(JSON_VIEW)) {
+                excludedTypes.add(effectiveReturnType.name());
+            } else {
+                types.add(effectiveReturnType);
+            }
+        }
+        ReflectionFreeSerializerGenerator generator = new ReflectionFreeSerializerGenerator(index.getIndexView(),
+                new GeneratedClassGizmoAdaptor(generatedClasses, true), excludedTypes);
+        for (Type type : types) {
+            generator.generate(type);
+        }
+        List<String> serializers = generator.getGeneratedSerializers();
+        if (serializers.isEmpty()) {
+            return;
+        }
+        for (String serializer : serializers) {
+            recorder.recordReflectionFreeSerializer(serializer);
+        }
+        reflectiveClassProducer.produce(new ReflectiveClassBuildItem(true, false, serializers.toArray(EMPTY_STRING_ARRAY)));
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(ReflectionFreeSerializersCustomizer.class));
+        recorder.configureShutdown(shutdown);
+    }
+
+    private boolean isJsonResponse(ResourceMethod resourceInfo) {
+        if (resourceInfo.getProduces() != null) {
+            for (String produces : resourceInfo.getProduces()) {
+                if (produces.toLowerCase(Locale.ROOT).contains(MediaType.APPLICATION_JSON)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @param methodInfo
+     * @return the type of the serialized object or its elements, or {@code null} if the method returns {@code void}
+     */
+    private Type getEffectiveReturnType(MethodInfo methodInfo) {
+        Type returnType = methodInfo.returnType();
+        if (returnType.kind() == Type.Kind.VOID) {
+            return null;
+        }
+        Type effectiveReturnType = returnType;
+        if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.UNI) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETION_STAGE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.MULTI)) {
+            effectiveReturnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.SET) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST)) {
+            effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(0);
+        } else if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.MAP)) {
+            effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(1);
+        }
+        return effectiveReturnType;
+    }
+
     private String getMethodId(MethodInfo methodInfo) {
         return getMethodId(methodInfo, methodInfo.declaringClass());
     }
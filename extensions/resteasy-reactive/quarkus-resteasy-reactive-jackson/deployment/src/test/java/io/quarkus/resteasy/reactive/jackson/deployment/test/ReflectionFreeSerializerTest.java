@@ -0,0 +1,163 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ReflectionFreeSerializer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class ReflectionFreeSerializerTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Book.class, Novel.class, Author.class, BookResource.class))
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.reflection-free-serializers", "true");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testSerializersRegistered() throws JsonMappingException {
+        assertTrue(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Book.class) instanceof ReflectionFreeSerializer);
+        assertTrue(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Author.class) instanceof ReflectionFreeSerializer);
+    }
+
+    @Test
+    public void testSerialization() {
+        RestAssured.get("/books/first")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(Matchers.equalTo(
+                        "{\"title\":\"Dune\",\"pages\":412,\"author\":{\"name\":\"Frank Herbert\",\"alive\":false},"
+                                + "\"available\":true,\"subtitle\":null}"));
+    }
+
+    @Test
+    public void testSubclassSerialization() throws JsonMappingException {
+        assertFalse(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Novel.class) instanceof ReflectionFreeSerializer);
+        // the properties of the subclass are written even if the method returns the superclass
+        RestAssured.get("/books/novel")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("title", Matchers.equalTo("Persuasion"))
+                .body("author.name", Matchers.equalTo("Jane Austen"))
+                .body("genre", Matchers.equalTo("romance"));
+    }
+
+    @Test
+    public void testListSerialization() {
+        RestAssured.get("/books")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("size()", Matchers.equalTo(2))
+                .body("[1].title", Matchers.equalTo("Emma"))
+                .body("[1].author.name", Matchers.equalTo("Jane Austen"));
+    }
+
+    @Path("/books")
+    public static class BookResource {
+
+        @GET
+        @Path("/first")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Book first() {
+            return new Book("Dune", 412, new Author("Frank Herbert"));
+        }
+
+        @GET
+        @Path("/novel")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Book novel() {
+            return new Novel("Persuasion", 249, new Author("Jane Austen"), "romance");
+        }
+
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public List<Book> all() {
+            return List.of(first(), new Book("Emma", 474, new Author("Jane Austen")));
+        }
+
+    }
+
+    public static class Book {
+
+        public String title;
+        private int pages;
+        public Author author;
+        private boolean available = true;
+
+        public Book(String title, int pages, Author author) {
+            this.title = title;
+            this.pages = pages;
+            this.author = author;
+        }
+
+        public int getPages() {
+            return pages;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+
+        public String getSubtitle() {
+            return null;
+        }
+
+    }
+
+    public static class Novel extends Book {
+
+        public String genre;
+
+        public Novel(String title, int pages, Author author, String genre) {
+            super(title, pages, author);
+            this.genre = genre;
+        }
+
+    }
+
+    public static class Author {
+
+        private final String name;
+
+        public Author(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isAlive() {
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,160 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+public class StreamingJsonBodyTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Item.class, ItemResource.class))
+            // make sure the body does not fit in the input buffer
+            .overrideConfigKey("quarkus.resteasy-reactive.input-buffer-size", "1k");
+
+    @Test
+    public void testLargeBody() {
+        RestAssured.with()
+                .body(items(1000))
+                .contentType("application/json")
+                .post("/items")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("1000"));
+    }
+
+    @Test
+    public void testInvalidBody() {
+        RestAssured.with()
+                .body("[{\"name\": \"first\", \"price\": \"free\"}]")
+                .contentType("application/json")
+                .post("/items")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    public void testTrailingContent() {
+        // like a blocking read, the content after the value is ignored
+        RestAssured.with()
+                .body(items(10) + " not json")
+                .contentType("application/json")
+                .post("/items")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("10"));
+        RestAssured.with()
+                .body(items(10) + " not json")
+                .contentType("application/json")
+                .post("/items/multi")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("9"));
+    }
+
+    @Test
+    public void testMultiBody() {
+        RestAssured.with()
+                .body(items(1000))
+                .contentType("application/json")
+                .post("/items/multi")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("999"));
+    }
+
+    @Test
+    public void testEmptyMultiBody() {
+        RestAssured.with()
+                .body("[]")
+                .contentType("application/json")
+                .post("/items/multi")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("-1"));
+    }
+
+    @Test
+    public void testBlockingMultiBody() {
+        // the body is read from the input stream
+        RestAssured.with()
+                .body(items(1000))
+                .contentType("application/json")
+                .post("/items/multi-blocking")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("999"));
+    }
+
+    @Test
+    public void testInvalidBlockingMultiBody() {
+        RestAssured.with()
+                .body("[{\"name\": \"first\", \"price\": \"free\"}]")
+                .contentType("application/json")
+                .post("/items/multi-blocking")
+                .then()
+                .statusCode(400);
+    }
+
+    private static String items(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "{\"name\": \"item" + i + "\", \"price\": " + i + "}")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    @Path("/items")
+    public static class ItemResource {
+
+        @POST
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.TEXT_PLAIN)
+        @NonBlocking
+        public int count(List<Item> items) {
+            return items.size();
+        }
+
+        @POST
+        @Path("/multi")
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<Integer> maxPrice(Multi<Item> items) {
+            return items.map(item -> item.price).collect().with(Collectors.reducing(-1, Math::max));
+        }
+
+        @POST
+        @Path("/multi-blocking")
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.TEXT_PLAIN)
+        @Blocking
+        public Uni<Integer> maxPriceBlocking(Multi<Item> items) {
+            return maxPrice(items);
+        }
+
+    }
+
+    public static class Item {
+
+        public String name;
+        public int price;
+
+    }
+
+}
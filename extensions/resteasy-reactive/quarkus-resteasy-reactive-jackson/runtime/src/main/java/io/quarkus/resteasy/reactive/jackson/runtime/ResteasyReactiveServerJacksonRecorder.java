@@ -1,13 +1,16 @@
 package io.quarkus.resteasy.reactive.jackson.runtime;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ReflectionFreeSerializer;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -16,6 +19,7 @@ public class ResteasyReactiveServerJacksonRecorder {
 
     private static final Map<String, Class<?>> jsonViewMap = new HashMap<>();
     private static final Map<String, Class<?>> customSerializationMap = new HashMap<>();
+    private static final List<Class<? extends ReflectionFreeSerializer<?>>> reflectionFreeSerializers = new ArrayList<>();
 
     public void recordJsonView(String methodId, String className) {
         jsonViewMap.put(methodId, loadClass(className));
@@ -25,12 +29,18 @@ public class ResteasyReactiveServerJacksonRecorder {
         customSerializationMap.put(methodId, loadClass(className));
     }
 
+    @SuppressWarnings("unchecked")
+    public void recordReflectionFreeSerializer(String className) {
+        reflectionFreeSerializers.add((Class<? extends ReflectionFreeSerializer<?>>) loadClass(className));
+    }
+
     public void configureShutdown(ShutdownContext shutdownContext) {
         shutdownContext.addShutdownTask(new Runnable() {
             @Override
             public void run() {
                 jsonViewMap.clear();
                 customSerializationMap.clear();
+                reflectionFreeSerializers.clear();
             }
         });
     }
@@ -44,6 +54,10 @@ public class ResteasyReactiveServerJacksonRecorder {
         return (Class<? extends BiFunction<ObjectMapper, Type, ObjectWriter>>) customSerializationMap.get(methodId);
     }
 
+    public static List<Class<? extends ReflectionFreeSerializer<?>>> reflectionFreeSerializers() {
+        return reflectionFreeSerializers;
+    }
+
     private Class<?> loadClass(String className) {
         try {
             return Thread.currentThread().getContextClassLoader().loadClass(className);
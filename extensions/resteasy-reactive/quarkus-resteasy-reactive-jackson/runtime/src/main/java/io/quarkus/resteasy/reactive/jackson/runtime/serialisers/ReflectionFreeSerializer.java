@@ -0,0 +1,90 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Base class of the serializers generated at build time for the types returned by the resource methods.
+ * <p>
+ * A generated serializer writes the properties of a type in the order Jackson would, but it reads the values directly and
+ * writes the property names from pre-encoded {@link SerializableString}s, instead of introspecting the type and going
+ * through the {@code BeanPropertyWriter}s of a {@code BeanSerializer}.
+ *
+ * @see ReflectionFreeSerializersCustomizer
+ */
+public abstract class ReflectionFreeSerializer<T> extends StdSerializer<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String[] propertyNames;
+    // Set when the serializer is registered, i.e. before it is used
+    private boolean skipNulls;
+
+    protected ReflectionFreeSerializer(Class<T> type, String... propertyNames) {
+        super(type);
+        this.propertyNames = propertyNames;
+    }
+
+    /**
+     *
+     * @return the names of the properties in the order they are written
+     */
+    public String[] getPropertyNames() {
+        return propertyNames;
+    }
+
+    void setSkipNulls(boolean skipNulls) {
+        this.skipNulls = skipNulls;
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        writeProperties(value, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+            throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        writeProperties(value, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    protected abstract void writeProperties(T value, JsonGenerator gen, SerializerProvider provider) throws IOException;
+
+    protected final void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value == null) {
+            writeNull(gen, name);
+        } else {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    protected final void writeObject(JsonGenerator gen, SerializerProvider provider, SerializableString name, Object value)
+            throws IOException {
+        if (value == null) {
+            writeNull(gen, name);
+        } else {
+            gen.writeFieldName(name);
+            provider.defaultSerializeValue(value, gen);
+        }
+    }
+
+    private void writeNull(JsonGenerator gen, SerializableString name) throws IOException {
+        if (!skipNulls) {
+            gen.writeFieldName(name);
+            gen.writeNull();
+        }
+    }
+
+}
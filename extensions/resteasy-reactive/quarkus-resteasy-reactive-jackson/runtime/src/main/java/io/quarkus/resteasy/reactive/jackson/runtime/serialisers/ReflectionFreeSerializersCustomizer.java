@@ -0,0 +1,149 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
+
+/**
+ * Registers the serializers generated at build time.
+ * <p>
+ * This customizer is applied last so that it can verify the final configuration of the mapper. A generated serializer is
+ * only registered if Jackson would otherwise use a plain {@link BeanSerializer} with the same properties, i.e. if no
+ * custom serializer, naming strategy, mix-in or serializer modifier changes the output.
+ * <p>
+ * A generated serializer is only used for the exact type it was generated for, never for a subclass, since it would not
+ * write the properties declared by the subclass. The serializers are created for each mapper, as they depend on its
+ * configuration.
+ */
+@Singleton
+public class ReflectionFreeSerializersCustomizer implements ObjectMapperCustomizer {
+
+    private static final Logger LOG = Logger.getLogger(ReflectionFreeSerializersCustomizer.class);
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        List<Class<? extends ReflectionFreeSerializer<?>>> serializers = ResteasyReactiveServerJacksonRecorder
+                .reflectionFreeSerializers();
+        if (serializers.isEmpty()) {
+            return;
+        }
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        if (!config.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION)) {
+            LOG.debug("Generated serializers are not used because MapperFeature.DEFAULT_VIEW_INCLUSION is disabled");
+            return;
+        }
+        SimpleModule module = new SimpleModule("reflection-free-serializers");
+        module.setSerializers(new ExactTypeSerializers());
+        int registered = 0;
+        for (Class<? extends ReflectionFreeSerializer<?>> serializerClass : serializers) {
+            ReflectionFreeSerializer<?> serializer = newSerializer(serializerClass);
+            if (isCompatible(objectMapper, serializer)) {
+                addSerializer(module, serializer);
+                registered++;
+            }
+        }
+        // The serializers found during the verification must not be reused
+        ((DefaultSerializerProvider) objectMapper.getSerializerProvider()).flushCachedSerializers();
+        if (registered > 0) {
+            objectMapper.registerModule(module);
+        }
+        LOG.debugf("Registered %s of %s generated serializers", registered, serializers.size());
+    }
+
+    @Override
+    public int priority() {
+        return MINIMUM_PRIORITY;
+    }
+
+    private static ReflectionFreeSerializer<?> newSerializer(Class<? extends ReflectionFreeSerializer<?>> serializerClass) {
+        try {
+            return serializerClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to create the generated serializer '" + serializerClass.getName() + "'", e);
+        }
+    }
+
+    private boolean isCompatible(ObjectMapper objectMapper, ReflectionFreeSerializer<?> serializer) {
+        Class<?> type = serializer.handledType();
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(type).getValueInclusion();
+        if (inclusion != JsonInclude.Include.NON_NULL && inclusion != JsonInclude.Include.ALWAYS
+                && inclusion != JsonInclude.Include.USE_DEFAULTS) {
+            LOG.debugf("Generated serializer not used for %s: unsupported inclusion %s", type, inclusion);
+            return false;
+        }
+        serializer.setSkipNulls(inclusion == JsonInclude.Include.NON_NULL);
+        JavaType javaType = objectMapper.constructType(type);
+        if (config.getDefaultTyper(javaType) != null) {
+            LOG.debugf("Generated serializer not used for %s: default typing is enabled", type);
+            return false;
+        }
+        JsonSerializer<Object> existing;
+        try {
+            existing = objectMapper.getSerializerProviderInstance().findValueSerializer(javaType);
+        } catch (JsonMappingException e) {
+            LOG.debugf(e, "Generated serializer not used for %s", type);
+            return false;
+        }
+        if (existing.getClass() != BeanSerializer.class || ((BeanSerializer) existing).usesObjectId()) {
+            LOG.debugf("Generated serializer not used for %s: Jackson uses %s", type, existing);
+            return false;
+        }
+        String[] names = serializer.getPropertyNames();
+        Iterator<PropertyWriter> properties = existing.properties();
+        for (String name : names) {
+            if (!properties.hasNext() || !name.equals(properties.next().getName())) {
+                LOG.debugf("Generated serializer not used for %s: the properties %s do not match", type,
+                        Arrays.toString(names));
+                return false;
+            }
+        }
+        if (properties.hasNext()) {
+            LOG.debugf("Generated serializer not used for %s: the properties %s do not match", type, Arrays.toString(names));
+            return false;
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void addSerializer(SimpleModule module, ReflectionFreeSerializer<T> serializer) {
+        module.addSerializer((Class<? extends T>) serializer.handledType(), serializer);
+    }
+
+    /**
+     * Unlike {@link SimpleSerializers}, does not use the serializer of a superclass or of an interface.
+     */
+    private static final class ExactTypeSerializers extends SimpleSerializers {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            JsonSerializer<?> serializer = super.findSerializer(config, type, beanDesc);
+            return serializer != null && serializer.handledType() == type.getRawClass() ? serializer : null;
+        }
+
+    }
+
+}
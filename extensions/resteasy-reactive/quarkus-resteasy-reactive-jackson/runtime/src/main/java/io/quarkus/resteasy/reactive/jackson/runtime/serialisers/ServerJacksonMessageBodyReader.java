@@ -13,14 +13,16 @@ import javax.ws.rs.core.Response;
 
 import org.jboss.resteasy.reactive.common.util.StreamUtil;
 import org.jboss.resteasy.reactive.server.jackson.JacksonBasicMessageBodyReader;
+import org.jboss.resteasy.reactive.server.jackson.JacksonBodyParser;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
-import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.spi.StreamingServerMessageBodyReader;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
-public class ServerJacksonMessageBodyReader extends JacksonBasicMessageBodyReader implements ServerMessageBodyReader<Object> {
+public class ServerJacksonMessageBodyReader extends JacksonBasicMessageBodyReader
+        implements StreamingServerMessageBodyReader<Object> {
 
     @Inject
     public ServerJacksonMessageBodyReader(ObjectMapper mapper) {
@@ -53,6 +55,14 @@ public class ServerJacksonMessageBodyReader extends JacksonBasicMessageBodyReade
         return doReadFrom(type, genericType, context.getInputStream());
     }
 
+    @Override
+    public BodyParser createBodyParser(Class<?> type, Type genericType, MediaType mediaType, boolean elements)
+            throws IOException {
+        return new JacksonBodyParser(
+                reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type)),
+                elements);
+    }
+
     private Object doReadFrom(Class<Object> type, Type genericType, InputStream entityStream) throws IOException {
         if (StreamUtil.isEmpty(entityStream)) {
             return null;
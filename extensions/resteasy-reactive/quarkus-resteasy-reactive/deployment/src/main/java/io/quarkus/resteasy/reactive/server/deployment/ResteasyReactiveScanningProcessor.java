@@ -40,10 +40,13 @@ import org.jboss.resteasy.reactive.server.processor.generation.exceptionmappers.
 import org.jboss.resteasy.reactive.server.processor.generation.filters.FilterGeneration;
 import org.jboss.resteasy.reactive.server.processor.scanning.AsyncReturnTypeScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.CacheControlScanner;
+import org.jboss.resteasy.reactive.server.processor.scanning.CompressionScanner;
+import org.jboss.resteasy.reactive.server.processor.scanning.ResponseCacheScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveContextResolverScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveExceptionMappingScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveFeatureScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveParamConverterScanner;
+import org.jboss.resteasy.reactive.server.processor.scanning.WriteCoalescingScanner;
 
 import io.quarkus.arc.ArcUndeclaredThrowableException;
 import io.quarkus.arc.Unremovable;
@@ -90,6 +93,21 @@ public class ResteasyReactiveScanningProcessor {
         return new MethodScannerBuildItem(new CacheControlScanner());
     }
 
+    @BuildStep
+    public MethodScannerBuildItem compressionSupport() {
+        return new MethodScannerBuildItem(new CompressionScanner());
+    }
+
+    @BuildStep
+    public MethodScannerBuildItem responseCacheSupport() {
+        return new MethodScannerBuildItem(new ResponseCacheScanner());
+    }
+
+    @BuildStep
+    public MethodScannerBuildItem writeCoalescingSupport() {
+        return new MethodScannerBuildItem(new WriteCoalescingScanner());
+    }
+
     @BuildStep
     public ResourceInterceptorsContributorBuildItem scanForInterceptors(CombinedIndexBuildItem combinedIndexBuildItem,
             ApplicationResultBuildItem applicationResultBuildItem) {
@@ -0,0 +1,147 @@
+package io.quarkus.resteasy.reactive.server.test.multipart;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Supplier;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.MultipartForm;
+import org.jboss.resteasy.reactive.PartType;
+import org.jboss.resteasy.reactive.RestForm;
+import org.jboss.resteasy.reactive.multipart.FileUpload;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+
+public class MultipartFileSizeThresholdTest extends AbstractMultipartTest {
+
+    private static final Path uploadDir = Paths.get("file-uploads");
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Resource.class, Upload.class)
+                            .addAsResource(new StringAsset(
+                                    // keep the files around so we can assert the outcome
+                                    "quarkus.http.body.delete-uploaded-files-on-end=false\nquarkus.http.body.uploads-directory="
+                                            + uploadDir.toString()
+                                            + "\nquarkus.resteasy-reactive.multipart.file-size-threshold=200\n"),
+                                    "application.properties");
+                }
+            });
+
+    // 130 bytes
+    private final File SMALL_FILE = new File("./src/test/resources/test.html");
+    // 448 bytes
+    private final File LARGE_FILE = new File("./src/test/resources/lorem.txt");
+
+    @BeforeEach
+    public void assertEmptyUploads() {
+        Assertions.assertTrue(isDirectoryEmpty(uploadDir));
+    }
+
+    @AfterEach
+    public void clearDirectory() {
+        clearDirectory(uploadDir);
+    }
+
+    @Test
+    public void testSmallFileKeptInMemory() {
+        RestAssured.given()
+                .multiPart("name", "Alice")
+                .multiPart("file", SMALL_FILE, "text/html")
+                .when()
+                .post("/threshold/size")
+                .then()
+                .statusCode(200)
+                .body(equalTo("Alice - test.html - 130"));
+
+        Assertions.assertTrue(isDirectoryEmpty(uploadDir));
+    }
+
+    @Test
+    public void testSmallFileWrittenOnDemand() throws IOException {
+        // the uploads directory is only created once a file is written to it
+        Files.deleteIfExists(uploadDir);
+        RestAssured.given()
+                .multiPart("name", "Alice")
+                .multiPart("file", SMALL_FILE, "text/html")
+                .when()
+                .post("/threshold/content")
+                .then()
+                .statusCode(200)
+                .body(equalTo(Files.readString(SMALL_FILE.toPath())));
+
+        Assertions.assertFalse(isDirectoryEmpty(uploadDir));
+    }
+
+    @Test
+    public void testLargeFileWrittenWhileReceived() throws IOException {
+        RestAssured.given()
+                .multiPart("name", "Alice")
+                .multiPart("file", LARGE_FILE, "text/plain")
+                .when()
+                .post("/threshold/size")
+                .then()
+                .statusCode(200)
+                .body(equalTo("Alice - lorem.txt - 448"));
+
+        Assertions.assertFalse(isDirectoryEmpty(uploadDir));
+        File[] files = uploadDir.toFile().listFiles();
+        Assertions.assertEquals(1, files.length);
+        Assertions.assertArrayEquals(Files.readAllBytes(LARGE_FILE.toPath()), Files.readAllBytes(files[0].toPath()));
+    }
+
+    @javax.ws.rs.Path("/threshold")
+    public static class Resource {
+
+        @POST
+        @javax.ws.rs.Path("size")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String size(@MultipartForm Upload upload) {
+            return upload.name + " - " + upload.file.fileName() + " - " + upload.file.size();
+        }
+
+        @POST
+        @javax.ws.rs.Path("content")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        @Blocking
+        public String content(@MultipartForm Upload upload) throws IOException {
+            return new String(Files.readAllBytes(upload.file.uploadedFile()), StandardCharsets.UTF_8);
+        }
+    }
+
+    public static class Upload {
+
+        @RestForm
+        @PartType(MediaType.TEXT_PLAIN)
+        public String name;
+
+        @RestForm
+        public FileUpload file;
+    }
+}
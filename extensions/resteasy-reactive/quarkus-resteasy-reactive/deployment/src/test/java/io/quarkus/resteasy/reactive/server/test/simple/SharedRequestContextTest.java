@@ -0,0 +1,162 @@
+package io.quarkus.resteasy.reactive.server.test.simple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.ContainerResponseContext;
+
+import org.awaitility.Awaitility;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class SharedRequestContextTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(SharedResource.class, Filters.class, RequestBean.class);
+                }
+            })
+            .overrideConfigKey("quarkus.vertx.shared-request-context", "true");
+
+    @BeforeEach
+    public void reset() {
+        RequestBean.DESTROYED.set(0);
+    }
+
+    @Test
+    public void testBlocking() {
+        // the pre-matching filter runs on the event loop, the endpoint and the response filter on a worker thread
+        String id = assertSameRequestContext("/shared/blocking", 2);
+        assertDestroyed(1);
+        assertNotEquals(id, assertSameRequestContext("/shared/blocking", 2));
+        assertDestroyed(2);
+    }
+
+    @Test
+    public void testSuspendedRequest() {
+        // the blocking task runs on the duplicated context of the request while the processing of the request is suspended,
+        // the response filter runs once the processing is resumed
+        String id = assertSameRequestContext("/shared/suspended", 3);
+        assertDestroyed(1);
+        assertNotEquals(id, assertSameRequestContext("/shared/suspended", 3));
+        assertDestroyed(2);
+    }
+
+    /**
+     * @return the id of the request scoped bean used to process the request
+     */
+    private static String assertSameRequestContext(String path, int ids) {
+        Response response = RestAssured.get(path);
+        response.then().statusCode(200);
+        String[] body = response.body().asString().split("\\|");
+        assertEquals(ids, body.length);
+        for (String id : body) {
+            assertEquals(response.header("request-bean"), id);
+        }
+        return body[0];
+    }
+
+    private static void assertDestroyed(int count) {
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> RequestBean.DESTROYED.get() == count);
+    }
+
+    @Path("shared")
+    public static class SharedResource {
+
+        @Inject
+        RequestBean bean;
+
+        @GET
+        @Path("blocking")
+        @Blocking
+        public String blocking() {
+            return bean.getFilteredId() + "|" + bean.getId();
+        }
+
+        @GET
+        @Path("suspended")
+        public Uni<String> suspended() {
+            String id = bean.getFilteredId() + "|" + bean.getId();
+            Context context = Vertx.currentContext();
+            return Uni.createFrom().emitter(emitter -> context.executeBlocking(promise -> {
+                // the request context is seen without being propagated
+                promise.complete(bean.getId());
+            }, false).onComplete(ar -> {
+                if (ar.succeeded()) {
+                    emitter.complete(id + "|" + ar.result());
+                } else {
+                    emitter.fail(ar.cause());
+                }
+            }));
+        }
+    }
+
+    public static class Filters {
+
+        @Inject
+        RequestBean bean;
+
+        @ServerRequestFilter(preMatching = true)
+        public void request() {
+            bean.filter();
+        }
+
+        @ServerResponseFilter
+        public void response(ContainerResponseContext responseContext) {
+            responseContext.getHeaders().putSingle("request-bean", bean.getId());
+        }
+    }
+
+    @RequestScoped
+    public static class RequestBean {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private final String id = UUID.randomUUID().toString();
+        private volatile String filteredId;
+
+        public String getId() {
+            return id;
+        }
+
+        public void filter() {
+            filteredId = id;
+        }
+
+        public String getFilteredId() {
+            return filteredId;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+    }
+}
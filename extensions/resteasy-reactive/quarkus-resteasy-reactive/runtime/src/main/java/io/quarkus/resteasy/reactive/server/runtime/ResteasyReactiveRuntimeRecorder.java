@@ -32,7 +32,8 @@ public class ResteasyReactiveRuntimeRecorder {
         }
         RuntimeConfiguration runtimeConfiguration = new DefaultRuntimeConfiguration(httpConf.readTimeout,
                 httpConf.body.deleteUploadedFilesOnEnd, httpConf.body.uploadsDirectory,
-                runtimeConf.multipart.inputPart.defaultCharset, maxBodySize,
+                runtimeConf.multipart.inputPart.defaultCharset, runtimeConf.multipart.fileSizeThreshold.asLongValue(),
+                maxBodySize,
                 httpConf.limits.maxFormAttributeSize.asLongValue());
 
         List<RuntimeConfigurableServerRestHandler> runtimeConfigurableServerRestHandlers = deployment.getValue()
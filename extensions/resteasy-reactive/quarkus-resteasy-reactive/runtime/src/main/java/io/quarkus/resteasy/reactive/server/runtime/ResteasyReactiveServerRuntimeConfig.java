@@ -6,6 +6,7 @@ import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigRoot(name = "resteasy-reactive", phase = ConfigPhase.RUN_TIME)
 public class ResteasyReactiveServerRuntimeConfig {
@@ -24,6 +25,17 @@ public class ResteasyReactiveServerRuntimeConfig {
          */
         @ConfigItem
         public InputPartConfigGroup inputPart;
+
+        /**
+         * The size above which an uploaded file is written to the uploads directory while it is received.
+         * <p>
+         * Smaller files are kept in memory, and are only written to the uploads directory if their path is requested, e.g.
+         * by a {@code java.nio.file.Path} or {@code java.io.File} part, or by {@code FileUpload#uploadedFile()}. Writing the
+         * file is blocking I/O, so when it happens on demand it runs on the thread the path is requested from, i.e. on the
+         * event loop for a non-blocking endpoint.
+         */
+        @ConfigItem(defaultValue = "0")
+        public MemorySize fileSizeThreshold;
     }
 
     @ConfigGroup
@@ -35,6 +35,66 @@ public class RequestMapperTestCase {
 
     }
 
+    @Test
+    public void testCandidatesOfSameStem() {
+        RequestMapper<String> mapper = mapper("/a/{x}/b", "/a/{y}", "/a/{id: [0-9]+}", "/a/{id: [0-9]+}/c");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/a/12");
+        Assertions.assertEquals("/a/{id: [0-9]+}", result.value);
+        Assertions.assertEquals("12", result.pathParamValues[0]);
+        result = mapper.map("/a/12/c");
+        Assertions.assertEquals("/a/{id: [0-9]+}/c", result.value);
+        Assertions.assertEquals("12", result.pathParamValues[0]);
+        result = mapper.map("/a/one/b");
+        Assertions.assertEquals("/a/{x}/b", result.value);
+        Assertions.assertEquals("one", result.pathParamValues[0]);
+        // the parameter captured by the first candidate must not leak into the match
+        result = mapper.map("/a/one%20two");
+        Assertions.assertEquals("/a/{y}", result.value);
+        Assertions.assertEquals("one two", result.pathParamValues[0]);
+        Assertions.assertNull(mapper.map("/a/one/c"));
+        Assertions.assertNull(mapper.map("/a"));
+        Assertions.assertNull(mapper.map("/b/12"));
+    }
+
+    @Test
+    public void testLongestStem() {
+        RequestMapper<String> mapper = mapper("/items", "/items/all", "/items/{id}", "/itemsets");
+
+        Assertions.assertEquals("/items", mapper.map("/items").value);
+        Assertions.assertEquals("/items/all", mapper.map("/items/all").value);
+        Assertions.assertEquals("/itemsets", mapper.map("/itemsets").value);
+        // falls back to the shorter stem
+        RequestMapper.RequestMatch<String> result = mapper.map("/items/alls");
+        Assertions.assertEquals("/items/{id}", result.value);
+        Assertions.assertEquals("alls", result.pathParamValues[0]);
+        result = mapper.map("/items");
+        Assertions.assertNull(result.pathParamValues[0]);
+        Assertions.assertNull(mapper.map("/item"));
+        Assertions.assertNull(mapper.map("/itemset"));
+    }
+
+    @Test
+    public void testPrefixMatch() {
+        List<RequestMapper.RequestPath<String>> list = new ArrayList<>();
+        list.add(new RequestMapper.RequestPath<>(true, new URITemplate("/", true), "/"));
+        list.add(new RequestMapper.RequestPath<>(true, new URITemplate("/sub", true), "/sub"));
+        RequestMapper<String> mapper = new RequestMapper<>(list);
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/sub/resource/1");
+        Assertions.assertEquals("/sub", result.value);
+        Assertions.assertEquals("/resource/1", result.remaining);
+        result = mapper.map("/other/1");
+        Assertions.assertEquals("/", result.value);
+        Assertions.assertEquals("/other/1", result.remaining);
+        result = mapper.map("/subway");
+        Assertions.assertEquals("/", result.value);
+        Assertions.assertEquals("/subway", result.remaining);
+        result = mapper.map("/sub");
+        Assertions.assertEquals("/sub", result.value);
+        Assertions.assertEquals("", result.remaining);
+    }
+
     RequestMapper<String> mapper(String... vals) {
         List<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
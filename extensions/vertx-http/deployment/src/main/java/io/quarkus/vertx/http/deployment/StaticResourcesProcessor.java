@@ -2,7 +2,9 @@ package io.quarkus.vertx.http.deployment;
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -10,11 +12,14 @@ import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -25,11 +30,13 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeBuild;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
 
 /**
@@ -37,6 +44,12 @@ import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
  */
 public class StaticResourcesProcessor {
 
+    // the extensions of the static resources worth compressing at build time
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = Set.of("html", "htm", "css", "js", "mjs", "json", "map",
+            "xml", "svg", "txt", "csv", "webmanifest");
+    // below that, the gzip overhead outweighs the gains
+    private static final int MIN_PRECOMPRESSED_SIZE = 1024;
+
     public static final class StaticResourcesBuildItem extends SimpleBuildItem {
 
         private final Set<Entry> entries;
@@ -109,18 +122,107 @@ public class StaticResourcesProcessor {
         }
     }
 
+    /**
+     * The compressed variants of the static resources, keyed by the path of the resource they are a variant of.
+     */
+    public static final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+        private final Map<String, List<String>> encodings;
+
+        public PrecompressedStaticResourcesBuildItem(Map<String, List<String>> encodings) {
+            this.encodings = encodings;
+        }
+
+        /**
+         * @return the content codings available for each resource path
+         */
+        public Map<String, List<String>> getEncodings() {
+            return encodings;
+        }
+    }
+
+    @BuildStep
+    void precompressStaticResources(HttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) {
+        if (!httpBuildTimeConfig.precompressStaticResources || staticResources.isEmpty()) {
+            return;
+        }
+        Set<String> paths = staticResources.get().getPaths();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Map<String, List<String>> encodings = new HashMap<>();
+        for (String path : paths) {
+            if (path.endsWith("/")) {
+                continue;
+            }
+            List<String> available = new ArrayList<>();
+            for (String[] encoding : StaticResourcesRecorder.PRECOMPRESSED_ENCODINGS) {
+                if (paths.contains(path + encoding[1])) {
+                    // shipped by the application
+                    available.add(encoding[0]);
+                } else if (encoding[0].equals("gzip") && isCompressible(path)) {
+                    byte[] compressed = gzip(classLoader, StaticResourcesRecorder.META_INF_RESOURCES + path);
+                    if (compressed != null) {
+                        generatedResources.produce(new GeneratedResourceBuildItem(
+                                StaticResourcesRecorder.META_INF_RESOURCES + path + encoding[1], compressed));
+                        available.add(encoding[0]);
+                    }
+                }
+            }
+            if (!available.isEmpty()) {
+                encodings.put(path, available);
+            }
+        }
+        if (!encodings.isEmpty()) {
+            precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(encodings));
+        }
+    }
+
+    private static boolean isCompressible(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot != -1 && COMPRESSIBLE_EXTENSIONS.contains(path.substring(dot + 1).toLowerCase());
+    }
+
+    /**
+     * @return the gzipped content of the given resource, or {@code null} if it is missing or not worth compressing
+     */
+    private static byte[] gzip(ClassLoader classLoader, String resource) {
+        try (InputStream in = classLoader.getResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+            byte[] content = in.readAllBytes();
+            if (content.length < MIN_PRECOMPRESSED_SIZE) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(content);
+            }
+            return out.size() < content.length ? out.toByteArray() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
-    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources, StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer, BuildProducer<DefaultRouteBuildItem> defaultRoutes)
             throws Exception {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            Map<String, List<String>> precompressed = precompressedStaticResources.isPresent()
+                    ? precompressedStaticResources.get().getEncodings()
+                    : new HashMap<>();
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(), precompressed)));
         }
     }
 
     @BuildStep(onlyIf = NativeBuild.class)
     public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResources,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
             BuildProducer<NativeImageResourceBuildItem> producer) {
         if (staticResources.isPresent()) {
             Set<StaticResourcesBuildItem.Entry> entries = staticResources.get().getEntries();
@@ -133,6 +235,14 @@ public class StaticResourcesProcessor {
                 String metaInfResourcesPath = StaticResourcesRecorder.META_INF_RESOURCES + entry.getPath();
                 metaInfResources.add(metaInfResourcesPath);
             }
+            if (precompressedStaticResources.isPresent()) {
+                // the generated variants are not part of the static resources
+                for (Map.Entry<String, List<String>> entry : precompressedStaticResources.get().getEncodings().entrySet()) {
+                    if (entry.getValue().contains("gzip")) {
+                        metaInfResources.add(StaticResourcesRecorder.META_INF_RESOURCES + entry.getKey() + ".gz");
+                    }
+                }
+            }
             producer.produce(new NativeImageResourceBuildItem(metaInfResources));
         }
     }
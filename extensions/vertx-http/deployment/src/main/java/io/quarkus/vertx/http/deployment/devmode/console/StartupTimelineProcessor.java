@@ -0,0 +1,25 @@
+package io.quarkus.vertx.http.deployment.devmode.console;
+
+import io.quarkus.deployment.IsDevelopment;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.BuildTimelineBuildItem;
+import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
+import io.quarkus.devconsole.spi.DevConsoleRuntimeTemplateInfoBuildItem;
+import io.quarkus.devconsole.spi.DevConsoleTemplateInfoBuildItem;
+import io.quarkus.vertx.http.runtime.devmode.StartupTimelineSupplier;
+
+/**
+ * Exposes the build steps and the startup tasks of the last (re)start in the Dev UI.
+ */
+public class StartupTimelineProcessor {
+
+    @BuildStep(onlyIf = IsDevelopment.class)
+    public void timeline(BuildTimelineBuildItem buildTimeline, CurateOutcomeBuildItem curateOutcomeBuildItem,
+            BuildProducer<DevConsoleTemplateInfoBuildItem> templateInfoProducer,
+            BuildProducer<DevConsoleRuntimeTemplateInfoBuildItem> runtimeTemplateInfoProducer) {
+        templateInfoProducer.produce(new DevConsoleTemplateInfoBuildItem("buildTimeline", buildTimeline));
+        runtimeTemplateInfoProducer.produce(new DevConsoleRuntimeTemplateInfoBuildItem("startupTimeline",
+                new StartupTimelineSupplier(), this.getClass(), curateOutcomeBuildItem));
+    }
+}
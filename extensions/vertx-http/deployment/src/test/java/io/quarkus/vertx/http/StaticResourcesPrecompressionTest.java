@@ -0,0 +1,95 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+
+public class StaticResourcesPrecompressionTest {
+    private static final String APP_PROPS = "" +
+            "quarkus.http.precompress-static-resources=true\n";
+
+    // otherwise RestAssured sends its own Accept-Encoding header
+    private static final RestAssuredConfig NO_DECODERS = RestAssuredConfig.config()
+            .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+
+    static final String LONG_STRING = "Hello World;".repeat(1000);
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addAsResource(new StringAsset(LONG_STRING), "META-INF/resources/index.html")
+                    .addAsResource(new StringAsset("small"), "META-INF/resources/small.js")
+                    .addAsResource(new StringAsset(LONG_STRING), "META-INF/resources/app.js")
+                    .addAsResource(new StringAsset("brotli"), "META-INF/resources/app.js.br"));
+
+    @Test
+    public void testGeneratedVariant() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/index.html").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .header("vary", "accept-encoding")
+                .header("content-type", "text/html;charset=UTF-8")
+                .body(Matchers.equalTo(LONG_STRING));
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(LONG_STRING));
+        RestAssured.given().config(NO_DECODERS).header("Accept-Encoding", "identity")
+                .get("/index.html").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .body(Matchers.equalTo(LONG_STRING));
+    }
+
+    @Test
+    public void testShippedVariant() {
+        RestAssured.given().config(NO_DECODERS).header("Accept-Encoding", "gzip, br")
+                .get("/app.js").then().statusCode(200)
+                .header("content-encoding", "br")
+                .body(Matchers.equalTo("brotli"));
+        RestAssured.given().header("Accept-Encoding", "gzip, br;q=0")
+                .get("/app.js").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(LONG_STRING));
+    }
+
+    @Test
+    public void testCaching() {
+        String lastModified = RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/index.html").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .header("cache-control", "public, immutable, max-age=86400")
+                .header("last-modified", notNullValue())
+                .header("date", notNullValue())
+                .extract().header("last-modified");
+        RestAssured.given().config(NO_DECODERS).header("Accept-Encoding", "gzip")
+                .header("If-Modified-Since", lastModified)
+                .get("/index.html").then().statusCode(304)
+                .header("cache-control", "public, immutable, max-age=86400")
+                .header("last-modified", lastModified)
+                .body(emptyString());
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .header("If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT")
+                .get("/index.html").then().statusCode(200)
+                .body(Matchers.equalTo(LONG_STRING));
+    }
+
+    @Test
+    public void testTooSmall() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/small.js").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .body(Matchers.equalTo("small"));
+    }
+}
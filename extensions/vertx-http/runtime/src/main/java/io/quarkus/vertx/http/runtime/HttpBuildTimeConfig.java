@@ -52,6 +52,17 @@ public class HttpBuildTimeConfig {
     @ConfigItem(defaultValue = "q")
     public String nonApplicationRootPath;
 
+    /**
+     * If enabled, the static resources served from {@code META-INF/resources} whose content is compressible, such as HTML,
+     * CSS and JavaScript files, are compressed with gzip at build time. The compressed variants are sent to the clients
+     * that accept them, without compressing anything at runtime.
+     * <p>
+     * Brotli ({@code .br}) and gzip ({@code .gz}) variants shipped by the application next to a resource are sent as well,
+     * Brotli being preferred.
+     */
+    @ConfigItem
+    public boolean precompressStaticResources;
+
     /**
      * The REST Assured client timeout for testing.
      */
@@ -222,6 +222,13 @@ public class HttpConfiguration {
     @ConfigItem
     public boolean enableCompression;
 
+    /**
+     * The compression level used when compression is enabled, from 1 (fastest) to 9 (smallest output).
+     * If not set, the Vert.x default (6) is used.
+     */
+    @ConfigItem
+    public OptionalInt compressionLevel;
+
     /**
      * When enabled, vert.x will decompress the request's body if it's compressed.
      *
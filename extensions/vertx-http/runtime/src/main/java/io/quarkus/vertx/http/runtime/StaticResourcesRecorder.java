@@ -1,29 +1,50 @@
 package io.quarkus.vertx.http.runtime;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.StaticHandler;
+import io.vertx.ext.web.impl.Utils;
 
 @Recorder
 public class StaticResourcesRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
+    /**
+     * The content codings of the precompressed static resources, in order of preference, along with the suffix of their
+     * files.
+     */
+    public static final String[][] PRECOMPRESSED_ENCODINGS = { { "br", ".br" }, { "gzip", ".gz" } };
+
     private static volatile List<Path> hotDeploymentResourcePaths;
 
     public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, List<String>> precompressedPaths) {
 
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
 
@@ -52,6 +73,8 @@ public class StaticResourcesRecorder {
         if (!knownPaths.isEmpty()) {
             ClassLoader currentCl = Thread.currentThread().getContextClassLoader();
             StaticHandler staticHandler = StaticHandler.create(META_INF_RESOURCES).setDefaultContentEncoding("UTF-8");
+            Map<String, PrecompressedResource[]> precompressedResources = loadPrecompressedResources(currentCl,
+                    precompressedPaths);
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -60,6 +83,9 @@ public class StaticResourcesRecorder {
                                     // let's be extra careful here in case Vert.x normalizes the mount points at some point
                                     ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
                     if (knownPaths.contains(rel)) {
+                        if (!precompressedResources.isEmpty() && sendPrecompressed(ctx, rel, precompressedResources)) {
+                            return;
+                        }
                         staticHandler.handle(ctx);
                     } else {
                         // make sure we don't lose the correct TCCL to Vert.x...
@@ -81,4 +107,131 @@ public class StaticResourcesRecorder {
         };
     }
 
+    private static Map<String, PrecompressedResource[]> loadPrecompressedResources(ClassLoader classLoader,
+            Map<String, List<String>> precompressedPaths) {
+        if (precompressedPaths.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, PrecompressedResource[]> resources = new HashMap<>();
+        // the resources do not change while the application runs, and the StaticHandler also serves the resources of the
+        // class path with the time they were extracted at, so the headers only have a precision of one second
+        long lastModified = System.currentTimeMillis() / 1000 * 1000;
+        for (Map.Entry<String, List<String>> entry : precompressedPaths.entrySet()) {
+            String path = entry.getKey();
+            String contentType = MimeMapping.getMimeTypeForFilename(path);
+            if (contentType != null && contentType.startsWith("text")) {
+                // same as the StaticHandler
+                contentType = contentType + ";charset=UTF-8";
+            }
+            List<PrecompressedResource> variants = new ArrayList<>();
+            for (String[] encoding : PRECOMPRESSED_ENCODINGS) {
+                if (!entry.getValue().contains(encoding[0])) {
+                    continue;
+                }
+                try (InputStream in = classLoader.getResourceAsStream(META_INF_RESOURCES + path + encoding[1])) {
+                    if (in != null) {
+                        variants.add(new PrecompressedResource(encoding[0], contentType, Buffer.buffer(in.readAllBytes()),
+                                lastModified));
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            if (!variants.isEmpty()) {
+                resources.put(path, variants.toArray(new PrecompressedResource[0]));
+            }
+        }
+        return resources;
+    }
+
+    private static boolean sendPrecompressed(RoutingContext ctx, String rel,
+            Map<String, PrecompressedResource[]> precompressedResources) {
+        PrecompressedResource[] variants = precompressedResources.get(rel.endsWith("/") ? rel + "index.html" : rel);
+        if (variants == null) {
+            return false;
+        }
+        ctx.response().headers().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        HttpServerRequest request = ctx.request();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || (request.method() != HttpMethod.GET && request.method() != HttpMethod.HEAD)
+                || request.headers().contains(HttpHeaderNames.RANGE)) {
+            // let the StaticHandler deal with the uncompressed resource
+            return false;
+        }
+        for (PrecompressedResource variant : variants) {
+            if (accepts(acceptEncoding, variant.encoding)) {
+                HttpServerResponse response = ctx.response();
+                writeCacheHeaders(response, variant);
+                if (StaticHandler.DEFAULT_CACHING_ENABLED && Utils.fresh(ctx, variant.lastModified)) {
+                    response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+                    return true;
+                }
+                response.putHeader(HttpHeaders.CONTENT_ENCODING, variant.encoding)
+                        .putHeader(HttpHeaders.CONTENT_TYPE, variant.contentType)
+                        .end(variant.content);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the same caching headers as the {@link StaticHandler} does for the uncompressed resources.
+     */
+    private static void writeCacheHeaders(HttpServerResponse response, PrecompressedResource variant) {
+        if (StaticHandler.DEFAULT_CACHING_ENABLED) {
+            response.putHeader(HttpHeaders.CACHE_CONTROL,
+                    "public, immutable, max-age=" + StaticHandler.DEFAULT_MAX_AGE_SECONDS)
+                    .putHeader(HttpHeaders.LAST_MODIFIED, variant.lastModifiedHeader);
+        }
+        response.putHeader(HttpHeaders.DATE, Utils.formatRFC1123DateTime(System.currentTimeMillis()));
+    }
+
+    /**
+     * @return whether the given {@code Accept-Encoding} header value accepts the content coding with a non zero quality
+     */
+    static boolean accepts(String acceptEncoding, String encoding) {
+        boolean accepted = false;
+        for (String part : acceptEncoding.split(",")) {
+            int semicolon = part.indexOf(';');
+            String coding = (semicolon == -1 ? part : part.substring(0, semicolon)).trim();
+            boolean exact = coding.equalsIgnoreCase(encoding);
+            if (!exact && !coding.equals("*")) {
+                continue;
+            }
+            String parameter = semicolon == -1 ? "" : part.substring(semicolon + 1).trim();
+            boolean nonZero = !parameter.startsWith("q=") || isNonZero(parameter.substring(2).trim());
+            if (exact) {
+                // an explicit coding takes precedence over the wildcard
+                return nonZero;
+            }
+            accepted = nonZero;
+        }
+        return accepted;
+    }
+
+    private static boolean isNonZero(String quality) {
+        try {
+            return Float.parseFloat(quality) > 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static final class PrecompressedResource {
+
+        final String encoding;
+        final String contentType;
+        final Buffer content;
+        final long lastModified;
+        final String lastModifiedHeader;
+
+        PrecompressedResource(String encoding, String contentType, Buffer content, long lastModified) {
+            this.encoding = encoding;
+            this.contentType = contentType;
+            this.content = content;
+            this.lastModified = lastModified;
+            this.lastModifiedHeader = Utils.formatRFC1123DateTime(lastModified);
+        }
+    }
 }
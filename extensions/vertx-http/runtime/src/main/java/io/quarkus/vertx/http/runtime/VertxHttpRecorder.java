@@ -842,6 +842,9 @@ public class VertxHttpRecorder {
         options.setTcpCork(httpConfiguration.tcpCork);
         options.setTcpFastOpen(httpConfiguration.tcpFastOpen);
         options.setCompressionSupported(httpConfiguration.enableCompression);
+        if (httpConfiguration.compressionLevel.isPresent()) {
+            options.setCompressionLevel(httpConfiguration.compressionLevel.getAsInt());
+        }
         options.setDecompressionSupported(httpConfiguration.enableDecompression);
         options.setMaxInitialLineLength(httpConfiguration.limits.maxInitialLineLength);
         return options;
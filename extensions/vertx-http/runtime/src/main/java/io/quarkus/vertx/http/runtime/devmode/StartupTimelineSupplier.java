@@ -0,0 +1,14 @@
+package io.quarkus.vertx.http.runtime.devmode;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import io.quarkus.runtime.util.StartupTimeline;
+
+public class StartupTimelineSupplier implements Supplier<List<StartupTimeline.Event>> {
+
+    @Override
+    public List<StartupTimeline.Event> get() {
+        return StartupTimeline.getEvents();
+    }
+}
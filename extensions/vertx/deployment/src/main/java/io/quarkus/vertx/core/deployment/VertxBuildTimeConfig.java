@@ -0,0 +1,22 @@
+package io.quarkus.vertx.core.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "vertx", phase = ConfigPhase.BUILD_TIME)
+public class VertxBuildTimeConfig {
+
+    /**
+     * If set to {@code true}, the state of the request context is stored in the duplicated Vert.x context of the
+     * request instead of a thread local. All the threads that run on the duplicated context of a request, e.g. the worker
+     * thread of a blocking endpoint or the thread of a blocking task executed from the request, then see the request
+     * context without it being propagated.
+     * <p>
+     * These threads see the request context until it is destroyed, including while the processing of the request is
+     * suspended. A thread that activates another request context, or deactivates it, only changes its own view of the
+     * request context.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean sharedRequestContext;
+}
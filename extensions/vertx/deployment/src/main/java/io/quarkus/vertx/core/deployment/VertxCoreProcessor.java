@@ -22,6 +22,7 @@ import org.jboss.logging.Logger;
 import org.jboss.logmanager.Level;
 import org.jboss.logmanager.LogManager;
 
+import io.quarkus.arc.deployment.CurrentContextFactoryBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -97,6 +98,15 @@ class VertxCoreProcessor {
         return new IOThreadDetectorBuildItem(recorder.detector());
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    CurrentContextFactoryBuildItem currentContextFactory(VertxCoreRecorder recorder, VertxBuildTimeConfig config) {
+        if (!config.sharedRequestContext) {
+            return null;
+        }
+        return new CurrentContextFactoryBuildItem(recorder.currentContextFactory());
+    }
+
     @BuildStep
     @Produce(ServiceStartBuildItem.class)
     @Record(value = ExecutionTime.RUNTIME_INIT)
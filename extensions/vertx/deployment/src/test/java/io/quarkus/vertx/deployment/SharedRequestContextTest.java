@@ -0,0 +1,188 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.context.spi.ThreadContextController;
+import org.eclipse.microprofile.context.spi.ThreadContextSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.runtime.context.ArcContextProvider;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+public class SharedRequestContextTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(RequestBean.class))
+            .overrideConfigKey("quarkus.vertx.shared-request-context", "true");
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    RequestBean bean;
+
+    @BeforeEach
+    public void reset() {
+        RequestBean.DESTROYED.set(0);
+    }
+
+    @Test
+    public void testBlockingTask() throws Exception {
+        ContextInternal context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            ManagedContext requestContext = Arc.container().requestContext();
+            requestContext.activate();
+            Map<String, Object> values = new HashMap<>();
+            values.put("eventLoop", bean.getId());
+            context.executeBlocking(promise -> {
+                // the request context is seen without being propagated
+                values.put("worker", bean.getId());
+                // the worker did not activate the request context, it is only deactivated for the worker
+                requestContext.deactivate();
+                values.put("workerActive", requestContext.isActive());
+                promise.complete();
+            }, false).onComplete(ar -> {
+                try {
+                    values.put("eventLoopActive", requestContext.isActive());
+                    values.put("eventLoopAfter", bean.getId());
+                    requestContext.terminate();
+                    result.complete(values);
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        });
+
+        Map<String, Object> values = result.get(5, TimeUnit.SECONDS);
+        assertEquals(values.get("eventLoop"), values.get("worker"));
+        assertFalse((Boolean) values.get("workerActive"));
+        assertTrue((Boolean) values.get("eventLoopActive"));
+        assertEquals(values.get("eventLoop"), values.get("eventLoopAfter"));
+        assertEquals(1, RequestBean.DESTROYED.get());
+    }
+
+    @Test
+    public void testContextPropagation() throws Exception {
+        ContextInternal context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+        ArcContextProvider provider = new ArcContextProvider();
+        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            ManagedContext requestContext = Arc.container().requestContext();
+            requestContext.activate();
+            Map<String, Object> values = new HashMap<>();
+            values.put("eventLoop", bean.getId());
+            ThreadContextSnapshot current = provider.currentContext(Collections.emptyMap());
+            ThreadContextSnapshot cleared = provider.clearedContext(Collections.emptyMap());
+            context.executeBlocking(promise -> {
+                try {
+                    ThreadContextController controller = current.begin();
+                    values.put("propagated", bean.getId());
+                    controller.endContext();
+
+                    // a cleared context is only seen by the worker
+                    controller = cleared.begin();
+                    values.put("cleared", bean.getId());
+                    CompletableFuture<String> eventLoop = new CompletableFuture<>();
+                    context.runOnContext(x -> eventLoop.complete(bean.getId()));
+                    values.put("eventLoopWhileCleared", eventLoop.get(5, TimeUnit.SECONDS));
+                    controller.endContext();
+
+                    values.put("restored", bean.getId());
+                    promise.complete();
+                } catch (Throwable t) {
+                    promise.fail(t);
+                }
+            }, false).onComplete(ar -> {
+                try {
+                    if (ar.failed()) {
+                        throw ar.cause();
+                    }
+                    values.put("eventLoopAfter", bean.getId());
+                    requestContext.terminate();
+                    result.complete(values);
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        });
+
+        Map<String, Object> values = result.get(5, TimeUnit.SECONDS);
+        Object id = values.get("eventLoop");
+        assertEquals(id, values.get("propagated"));
+        assertNotEquals(id, values.get("cleared"));
+        assertEquals(id, values.get("eventLoopWhileCleared"));
+        assertEquals(id, values.get("restored"));
+        assertEquals(id, values.get("eventLoopAfter"));
+        // the instance of the cleared context is never destroyed, as when the state is stored in a thread local
+        assertEquals(1, RequestBean.DESTROYED.get());
+    }
+
+    @Test
+    public void testTerminatedContextIsReplaced() throws Exception {
+        ContextInternal context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            try {
+                ManagedContext requestContext = Arc.container().requestContext();
+                Map<String, Object> values = new HashMap<>();
+                requestContext.activate();
+                values.put("first", bean.getId());
+                requestContext.terminate();
+                values.put("active", requestContext.isActive());
+                requestContext.activate();
+                values.put("second", bean.getId());
+                requestContext.terminate();
+                result.complete(values);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+
+        Map<String, Object> values = result.get(5, TimeUnit.SECONDS);
+        assertFalse((Boolean) values.get("active"));
+        assertNotEquals(values.get("first"), values.get("second"));
+        assertEquals(2, RequestBean.DESTROYED.get());
+    }
+
+    @RequestScoped
+    public static class RequestBean {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private final String id = UUID.randomUUID().toString();
+
+        public String getId() {
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+}
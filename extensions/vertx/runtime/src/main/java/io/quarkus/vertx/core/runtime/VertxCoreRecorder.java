@@ -32,8 +32,10 @@ import org.wildfly.common.cpu.ProcessorInfo;
 
 import io.netty.channel.EventLoopGroup;
 import io.netty.util.concurrent.FastThreadLocal;
+import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.runtime.IOThreadDetector;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.vertx.core.runtime.config.AddressResolverConfiguration;
@@ -526,6 +528,10 @@ public class VertxCoreRecorder {
         thread.setContextClassLoader(cl);
     }
 
+    public RuntimeValue<CurrentContextFactory> currentContextFactory() {
+        return new RuntimeValue<>(new VertxCurrentContextFactory());
+    }
+
     public ContextHandler<Object> executionContextHandler() {
         return new ContextHandler<Object>() {
             @Override
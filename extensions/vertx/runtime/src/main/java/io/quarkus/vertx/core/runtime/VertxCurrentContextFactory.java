@@ -0,0 +1,181 @@
+package io.quarkus.vertx.core.runtime;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.impl.ThreadLocalCurrentContextFactory;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * Stores the current state of a context in the local data of the current duplicated Vert.x context, so that all the threads
+ * that process the same request see the same state without the need to propagate it. The state is stored in a
+ * {@link ThreadLocal} if there is no duplicated context.
+ * <p>
+ * The first state activated on a duplicated context becomes the shared state. It is seen by all the threads that run on the
+ * duplicated context until it is destroyed, including while the request is suspended, and it is only replaced once it is
+ * destroyed and every thread that activated it has deactivated it. A thread that activates another state, or that
+ * deactivates a state it did not activate itself, only changes the state it sees, not the state seen by the other threads.
+ */
+public class VertxCurrentContextFactory implements CurrentContextFactory {
+
+    private static final String LOCAL_KEY_PREFIX = "io.quarkus.vertx.cdi-current-context:";
+
+    @Override
+    public <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
+        return new VertxCurrentContext<>(LOCAL_KEY_PREFIX + scope.getName(),
+                ThreadLocalCurrentContextFactory.INSTANCE.create(scope));
+    }
+
+    private static final class VertxCurrentContext<T extends ContextState> implements CurrentContext<T> {
+
+        private final String key;
+        private final CurrentContext<T> fallback;
+
+        VertxCurrentContext(String key, CurrentContext<T> fallback) {
+            this.key = key;
+            this.fallback = fallback;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get() {
+            ContextInternal context = duplicatedContext();
+            if (context != null) {
+                SharedState<T> shared = (SharedState<T>) context.localContextData().get(key);
+                return shared == null ? null : shared.get();
+            }
+            return fallback.get();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void set(T state) {
+            ContextInternal context = duplicatedContext();
+            if (context != null) {
+                ((SharedState<T>) context.localContextData().computeIfAbsent(key, k -> new SharedState<>())).set(state);
+            } else {
+                fallback.set(state);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void remove() {
+            ContextInternal context = duplicatedContext();
+            if (context != null) {
+                SharedState<T> shared = (SharedState<T>) context.localContextData().get(key);
+                if (shared != null) {
+                    shared.remove();
+                }
+            } else {
+                fallback.remove();
+            }
+        }
+
+        private static ContextInternal duplicatedContext() {
+            Context context = Vertx.currentContext();
+            if (context instanceof ContextInternal) {
+                ContextInternal contextInternal = (ContextInternal) context;
+                // a root context is shared by unrelated tasks
+                if (contextInternal.unwrap() != contextInternal) {
+                    return contextInternal;
+                }
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * The state shared by the threads that run on a duplicated context, and the state seen by the threads that activated or
+     * deactivated a state on it. It lives as long as the duplicated context, i.e. the request.
+     */
+    static final class SharedState<T extends ContextState> {
+
+        // the threads that activated or deactivated a state, the other threads see the shared state
+        private final Map<Thread, ThreadState<T>> threads = new ConcurrentHashMap<>();
+        private volatile T shared;
+        // the number of threads that activated the shared state and did not deactivate it yet, guarded by this
+        private int users;
+
+        T get() {
+            ThreadState<T> thread = threads.get(Thread.currentThread());
+            if (thread != null) {
+                return thread.state;
+            }
+            T state = shared;
+            // a destroyed state is no longer seen by the threads that did not activate it
+            return state != null && state.isValid() ? state : null;
+        }
+
+        synchronized void set(T state) {
+            Thread current = Thread.currentThread();
+            ThreadState<T> thread = threads.get(current);
+            if (thread != null && thread.state == state) {
+                return;
+            }
+            if (thread != null && thread.user) {
+                // the thread keeps using the shared state until it deactivates the context
+                threads.put(current, new ThreadState<>(state, true));
+            } else if (shared == null || (users == 0 && !shared.isValid())) {
+                shared = state;
+                users = 1;
+                threads.values().removeIf(t -> t.state == null);
+                threads.put(current, new ThreadState<>(state, true));
+            } else if (shared == state) {
+                if (thread == null) {
+                    users++;
+                    threads.put(current, new ThreadState<>(state, true));
+                } else {
+                    // the thread restores the shared state it saw before it activated another state or deactivated it
+                    threads.remove(current);
+                }
+            } else {
+                // another state is only seen by this thread
+                threads.put(current, new ThreadState<>(state, false));
+            }
+        }
+
+        synchronized void remove() {
+            Thread current = Thread.currentThread();
+            ThreadState<T> thread = threads.remove(current);
+            boolean user = thread != null && thread.user;
+            if (user) {
+                users--;
+            }
+            if (shared == null) {
+                return;
+            }
+            if (users == 0 && !shared.isValid()) {
+                // the shared state was destroyed and nobody uses it any more
+                shared = null;
+                threads.values().removeIf(t -> t.state == null);
+            } else if (!user) {
+                // the shared state is only deactivated for this thread
+                threads.put(current, new ThreadState<>(null, false));
+            }
+        }
+
+    }
+
+    private static final class ThreadState<T> {
+
+        // the state seen by the thread, null if the thread deactivated the context
+        final T state;
+        // whether the thread is one of the users of the shared state
+        final boolean user;
+
+        ThreadState(T state, boolean user) {
+            this.state = state;
+            this.user = user;
+        }
+
+    }
+
+}
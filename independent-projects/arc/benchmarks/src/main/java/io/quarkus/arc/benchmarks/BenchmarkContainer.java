@@ -0,0 +1,123 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+
+/**
+ * Generates the beans for the given classes into a temporary directory and initializes the container, similarly to the
+ * {@code ArcTestContainer} used by the tests.
+ * <p>
+ * The generated classes are loaded by a separate class loader, therefore the bean classes used by the benchmarks, their
+ * constructors and the methods invoked through the client proxies must be public.
+ */
+final class BenchmarkContainer implements AutoCloseable {
+
+    private final Path output;
+    private final URLClassLoader classLoader;
+    private final ClassLoader oldTccl;
+
+    private BenchmarkContainer(Path output, URLClassLoader classLoader, ClassLoader oldTccl) {
+        this.output = output;
+        this.classLoader = classLoader;
+        this.oldTccl = oldTccl;
+    }
+
+    static BenchmarkContainer start(Class<?>... beanClasses) {
+        return start(null, beanClasses);
+    }
+
+    /**
+     *
+     * @param currentContextFactory the factory, or {@code null} to use the default one
+     * @param beanClasses
+     * @return the started container
+     */
+    static BenchmarkContainer start(CurrentContextFactory currentContextFactory, Class<?>... beanClasses) {
+        Arc.shutdown();
+        ClassLoader oldTccl = Thread.currentThread().getContextClassLoader();
+        try {
+            Path output = Files.createTempDirectory("arc-benchmarks");
+            BeanProcessor beanProcessor = BeanProcessor.builder()
+                    .setName("Benchmark")
+                    .setBeanArchiveIndex(BeanArchives.buildBeanArchiveIndex(BenchmarkContainer.class.getClassLoader(),
+                            new ConcurrentHashMap<>(), index(beanClasses)))
+                    .setRemoveUnusedBeans(false)
+                    .setOutput(new ResourceOutput() {
+
+                        @Override
+                        public void writeResource(Resource resource) throws IOException {
+                            switch (resource.getType()) {
+                                case JAVA_CLASS:
+                                    resource.writeTo(output.toFile());
+                                    break;
+                                case SERVICE_PROVIDER:
+                                    if (resource.getName().endsWith(ComponentsProvider.class.getName())) {
+                                        Path file = output.resolve("META-INF/services/" + resource.getName());
+                                        Files.createDirectories(file.getParent());
+                                        Files.write(file, resource.getData());
+                                    }
+                                    break;
+                                default:
+                                    throw new IllegalArgumentException();
+                            }
+                        }
+                    })
+                    .build();
+            beanProcessor.process();
+
+            URLClassLoader classLoader = new URLClassLoader(new URL[] { output.toUri().toURL() }, oldTccl);
+            Thread.currentThread().setContextClassLoader(classLoader);
+            if (currentContextFactory != null) {
+                Arc.initialize(currentContextFactory);
+            } else {
+                Arc.initialize();
+            }
+            return new BenchmarkContainer(output, classLoader, oldTccl);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    ArcContainer container() {
+        return Arc.container();
+    }
+
+    @Override
+    public void close() throws IOException {
+        Arc.shutdown();
+        Thread.currentThread().setContextClassLoader(oldTccl);
+        classLoader.close();
+        try (Stream<Path> files = Files.walk(output)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static Index index(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            try (InputStream stream = BenchmarkContainer.class.getClassLoader()
+                    .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        return indexer.complete();
+    }
+
+}
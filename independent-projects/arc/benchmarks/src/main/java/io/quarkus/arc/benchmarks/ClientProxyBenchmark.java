@@ -0,0 +1,91 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.ManagedContext;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the invocation of a method through the client proxy of a normal scoped bean, compared to the direct invocation
+ * of the contextual instance.
+ * <p>
+ * The request context is activated for the whole trial and the state is thread-bound, hence the thread scope.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientProxyBenchmark {
+
+    private BenchmarkContainer container;
+    private ManagedContext requestContext;
+    private ApplicationBean applicationScoped;
+    private RequestBean requestScoped;
+    private ApplicationBean contextualInstance;
+
+    @Setup
+    public void setup() {
+        container = BenchmarkContainer.start(ApplicationBean.class, RequestBean.class);
+        requestContext = container.container().requestContext();
+        requestContext.activate();
+        // client proxies
+        applicationScoped = container.container().instance(ApplicationBean.class).get();
+        requestScoped = container.container().instance(RequestBean.class).get();
+        contextualInstance = (ApplicationBean) ((ClientProxy) applicationScoped).arc_contextualInstance();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        requestContext.terminate();
+        container.close();
+    }
+
+    @Benchmark
+    public int baseline() {
+        return contextualInstance.ping();
+    }
+
+    @Benchmark
+    public int applicationScoped() {
+        return applicationScoped.ping();
+    }
+
+    @Benchmark
+    public int requestScoped() {
+        return requestScoped.ping();
+    }
+
+    @ApplicationScoped
+    public static class ApplicationBean {
+
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @RequestScoped
+    public static class RequestBean {
+
+        public int ping() {
+            return 2;
+        }
+
+    }
+
+}
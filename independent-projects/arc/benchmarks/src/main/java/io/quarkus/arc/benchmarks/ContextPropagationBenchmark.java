@@ -0,0 +1,148 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.context.RequestScoped;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Fans out the work of a request to a pool of threads, each of them using a request scoped bean.
+ * <p>
+ * With the default thread local storage the state of the request context must be captured and each task must activate
+ * and deactivate the context. With a carrier shared by the threads that process the request, e.g. a duplicated Vert.x
+ * context, no propagation is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContextPropagationBenchmark {
+
+    @Param({ "thread-local", "shared" })
+    String storage;
+
+    @Param({ "4" })
+    int tasks;
+
+    private BenchmarkContainer container;
+    private ManagedContext requestContext;
+    private ExecutorService executor;
+    private RequestData data;
+    private boolean shared;
+
+    @Setup
+    public void setup() {
+        shared = "shared".equals(storage);
+        container = BenchmarkContainer.start(shared ? new SharedCurrentContextFactory() : null, RequestData.class);
+        requestContext = container.container().requestContext();
+        data = container.container().instance(RequestData.class).get();
+        executor = Executors.newFixedThreadPool(tasks);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        executor.shutdown();
+        container.close();
+    }
+
+    @Benchmark
+    public int fanOut() {
+        requestContext.activate();
+        try {
+            data.setValue(1);
+            ContextState state = shared ? null : requestContext.getState();
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks];
+            int[] results = new int[tasks];
+            for (int i = 0; i < tasks; i++) {
+                int idx = i;
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    if (state != null) {
+                        requestContext.activate(state);
+                        try {
+                            results[idx] = data.getValue();
+                        } finally {
+                            requestContext.deactivate();
+                        }
+                    } else {
+                        results[idx] = data.getValue();
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(futures).join();
+            int sum = 0;
+            for (int result : results) {
+                sum += result;
+            }
+            return sum;
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @RequestScoped
+    public static class RequestData {
+
+        private volatile int value;
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(int value) {
+            this.value = value;
+        }
+
+    }
+
+    /**
+     * Simulates a carrier shared by all the threads that process the current request.
+     */
+    public static class SharedCurrentContextFactory implements CurrentContextFactory {
+
+        @Override
+        public <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
+            return new CurrentContext<T>() {
+
+                private volatile T state;
+
+                @Override
+                public T get() {
+                    return state;
+                }
+
+                @Override
+                public void set(T state) {
+                    this.state = state;
+                }
+
+                @Override
+                public void remove() {
+                    this.state = null;
+                }
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.arc.InstanceHandle;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation and destruction of {@code @Dependent} beans, including the creational context bookkeeping for
+ * the dependencies of a bean and the invocation of {@code @PreDestroy} callbacks.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DependentBeanBenchmark {
+
+    private BenchmarkContainer container;
+    private InjectableInstance<Simple> simple;
+    private InjectableInstance<WithDependencies> withDependencies;
+
+    @Setup
+    public void setup() {
+        container = BenchmarkContainer.start(Simple.class, Dependency.class, WithDependencies.class);
+        simple = container.container().select(Simple.class);
+        withDependencies = container.container().select(WithDependencies.class);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        container.close();
+    }
+
+    @Benchmark
+    public int createDestroy() {
+        InstanceHandle<Simple> handle = simple.getHandle();
+        int result = handle.get().ping();
+        handle.destroy();
+        return result;
+    }
+
+    @Benchmark
+    public int createDestroyWithDependencies() {
+        InstanceHandle<WithDependencies> handle = withDependencies.getHandle();
+        int result = handle.get().ping();
+        handle.destroy();
+        return result;
+    }
+
+    @Dependent
+    public static class Simple {
+
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @Dependent
+    public static class Dependency {
+
+        boolean destroyed;
+
+        public int ping() {
+            return 1;
+        }
+
+        @PreDestroy
+        public void destroy() {
+            destroyed = true;
+        }
+
+    }
+
+    @Dependent
+    public static class WithDependencies {
+
+        private final Dependency first;
+        private final Dependency second;
+
+        @Inject
+        public WithDependencies(Dependency first, Dependency second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public int ping() {
+            return first.ping() + second.ping();
+        }
+
+    }
+
+}
@@ -0,0 +1,121 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Qualifier;
+import javax.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the synchronous delivery of events fired by injected {@link Event} instances.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+
+    private BenchmarkContainer container;
+    private Emitter emitter;
+    private Payload payload;
+    private Unobserved unobserved;
+
+    @Setup
+    public void setup() {
+        container = BenchmarkContainer.start(Emitter.class, Observers.class, Important.class, Payload.class,
+                Unobserved.class);
+        emitter = container.container().instance(Emitter.class).get();
+        payload = new Payload();
+        unobserved = new Unobserved();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        container.close();
+    }
+
+    @Benchmark
+    public Payload fireOneObserver() {
+        emitter.event.fire(payload);
+        return payload;
+    }
+
+    @Benchmark
+    public Payload fireTwoObservers() {
+        emitter.importantEvent.fire(payload);
+        return payload;
+    }
+
+    @Benchmark
+    public Unobserved fireNoObserver() {
+        emitter.unobservedEvent.fire(unobserved);
+        return unobserved;
+    }
+
+    @Singleton
+    public static class Emitter {
+
+        final Event<Payload> event;
+        final Event<Payload> importantEvent;
+        final Event<Unobserved> unobservedEvent;
+
+        @Inject
+        public Emitter(Event<Payload> event, @Important Event<Payload> importantEvent,
+                Event<Unobserved> unobservedEvent) {
+            this.event = event;
+            this.importantEvent = importantEvent;
+            this.unobservedEvent = unobservedEvent;
+        }
+
+    }
+
+    @Singleton
+    public static class Observers {
+
+        public void onPayload(@Observes Payload payload) {
+            payload.deliveries++;
+        }
+
+        public void onImportantPayload(@Observes @Important Payload payload) {
+            payload.deliveries++;
+        }
+
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD, ElementType.TYPE })
+    public @interface Important {
+
+    }
+
+    public static class Payload {
+
+        public long deliveries;
+
+    }
+
+    public static class Unobserved {
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.ArcContainer;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the programmatic lookup of a bean: through an injected {@link Instance} whose beans were resolved at build time,
+ * through {@link Instance#select(Class, java.lang.annotation.Annotation...)} and through the container.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstanceBenchmark {
+
+    private BenchmarkContainer container;
+    private ArcContainer arc;
+    private Lookup lookup;
+
+    @Setup
+    public void setup() {
+        container = BenchmarkContainer.start(Lookup.class, Service.class);
+        arc = container.container();
+        lookup = arc.instance(Lookup.class).get();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        container.close();
+    }
+
+    @Benchmark
+    public Service injectedInstanceGet() {
+        return lookup.service.get();
+    }
+
+    @Benchmark
+    public Service selectGet() {
+        return lookup.objects.select(Service.class).get();
+    }
+
+    @Benchmark
+    public Service containerInstanceGet() {
+        return arc.instance(Service.class).get();
+    }
+
+    @Singleton
+    public static class Lookup {
+
+        final Instance<Service> service;
+        final Instance<Object> objects;
+
+        @Inject
+        public Lookup(Instance<Service> service, Instance<Object> objects) {
+            this.service = service;
+            this.objects = objects;
+        }
+
+    }
+
+    @ApplicationScoped
+    public static class Service {
+
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+}
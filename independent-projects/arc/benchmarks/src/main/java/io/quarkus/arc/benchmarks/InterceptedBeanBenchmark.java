@@ -0,0 +1,129 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InterceptorBinding;
+import javax.interceptor.InvocationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the invocation of intercepted methods through the generated subclass, unlike the
+ * {@link InterceptorChainBenchmark} which executes the chain directly.
+ * <p>
+ * The bean is {@code @Singleton} so that no client proxy is involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptedBeanBenchmark {
+
+    private BenchmarkContainer container;
+    private Service service;
+
+    @Setup
+    public void setup() {
+        container = BenchmarkContainer.start(Service.class, First.class, FirstInterceptor.class, Second.class,
+                SecondInterceptor.class);
+        service = container.container().instance(Service.class).get();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        container.close();
+    }
+
+    @Benchmark
+    public String notIntercepted() {
+        return service.notIntercepted("ping");
+    }
+
+    @Benchmark
+    public String oneInterceptor() {
+        return service.oneInterceptor("ping");
+    }
+
+    @Benchmark
+    public String twoInterceptors() {
+        return service.twoInterceptors("ping");
+    }
+
+    @Singleton
+    public static class Service {
+
+        public String notIntercepted(String value) {
+            return value;
+        }
+
+        @First
+        public String oneInterceptor(String value) {
+            return value;
+        }
+
+        @First
+        @Second
+        public String twoInterceptors(String value) {
+            return value;
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    public @interface First {
+
+    }
+
+    @InterceptorBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    public @interface Second {
+
+    }
+
+    @First
+    @Priority(1)
+    @Interceptor
+    public static class FirstInterceptor {
+
+        @AroundInvoke
+        public Object intercept(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @Second
+    @Priority(2)
+    @Interceptor
+    public static class SecondInterceptor {
+
+        @AroundInvoke
+        public Object intercept(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+}
@@ -0,0 +1,254 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.InjectableInterceptor;
+import io.quarkus.arc.impl.InterceptedMethodMetadata;
+import io.quarkus.arc.impl.InterceptorInvocation;
+import io.quarkus.arc.impl.InvocationContexts;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.InterceptionType;
+import javax.interceptor.InvocationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the execution of an around invoke interceptor chain by the current {@link InvocationContexts} with the previous
+ * implementation, which created a new invocation context for each interceptor in the chain and a new forwarding function for
+ * each invocation.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptorChainBenchmark {
+
+    @Param({ "1", "2", "4" })
+    int interceptors;
+
+    private Target target;
+    private InterceptedMethodMetadata metadata;
+    private List<LegacyInvocation> legacyChain;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        target = new Target();
+        List<InterceptorInvocation> chain = new ArrayList<>();
+        legacyChain = new ArrayList<>();
+        for (int i = 0; i < interceptors; i++) {
+            ProceedingInterceptor interceptor = new ProceedingInterceptor();
+            chain.add(InterceptorInvocation.aroundInvoke(interceptor, interceptor));
+            legacyChain.add(new LegacyInvocation(interceptor, interceptor));
+        }
+        Method method = Target.class.getDeclaredMethod("ping", String.class);
+        // the forwarding function is created once per bean instance by the generated subclass
+        Function<InvocationContext, Object> forward = ctx -> target.ping((String) ctx.getParameters()[0]);
+        metadata = new InterceptedMethodMetadata(chain, method, Collections.emptySet(), forward);
+    }
+
+    @Benchmark
+    public Object chain() throws Exception {
+        return InvocationContexts.performAroundInvoke(target, new Object[] { "ping" }, metadata);
+    }
+
+    @Benchmark
+    public Object legacyChain() throws Exception {
+        Target target = this.target;
+        // the forwarding function used to be created for each invocation
+        Function<InvocationContext, Object> forward = ctx -> target.ping((String) ctx.getParameters()[0]);
+        return LegacyInvocationContext.perform(target, metadata.method, forward, new Object[] { "ping" }, legacyChain,
+                metadata.bindings);
+    }
+
+    public static class Target {
+
+        public String ping(String value) {
+            return value;
+        }
+
+    }
+
+    static class ProceedingInterceptor implements InjectableInterceptor<ProceedingInterceptor> {
+
+        @Override
+        public String getIdentifier() {
+            return "proceeding";
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Collections.singleton(ProceedingInterceptor.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return ProceedingInterceptor.class;
+        }
+
+        @Override
+        public ProceedingInterceptor create(CreationalContext<ProceedingInterceptor> creationalContext) {
+            return this;
+        }
+
+        @Override
+        public ProceedingInterceptor get(CreationalContext<ProceedingInterceptor> creationalContext) {
+            return this;
+        }
+
+        @Override
+        public Set<Annotation> getInterceptorBindings() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean intercepts(InterceptionType type) {
+            return type == InterceptionType.AROUND_INVOKE;
+        }
+
+        @Override
+        public Object intercept(InterceptionType type, ProceedingInterceptor instance, InvocationContext ctx)
+                throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    static class LegacyInvocation {
+
+        final ProceedingInterceptor interceptor;
+        final ProceedingInterceptor instance;
+
+        LegacyInvocation(ProceedingInterceptor interceptor, ProceedingInterceptor instance) {
+            this.interceptor = interceptor;
+            this.instance = instance;
+        }
+
+        Object invoke(InvocationContext ctx) throws Exception {
+            return interceptor.intercept(InterceptionType.AROUND_INVOKE, instance, ctx);
+        }
+
+    }
+
+    /**
+     * The previous implementation: a new context object per interceptor, sharing the context data through a holder.
+     */
+    static class LegacyInvocationContext implements InvocationContext {
+
+        private final Object target;
+        private final Method method;
+        private final Set<Annotation> interceptorBindings;
+        private final List<LegacyInvocation> chain;
+        private final int position;
+        private final Function<InvocationContext, Object> aroundInvokeForward;
+        private final ContextDataHolder contextData;
+        private Object[] parameters;
+
+        LegacyInvocationContext(Object target, Method method, Object[] parameters, ContextDataHolder contextData,
+                Set<Annotation> interceptorBindings, int position, List<LegacyInvocation> chain,
+                Function<InvocationContext, Object> aroundInvokeForward) {
+            this.target = target;
+            this.method = method;
+            this.parameters = parameters;
+            this.contextData = contextData != null ? contextData : new ContextDataHolder(interceptorBindings);
+            this.interceptorBindings = interceptorBindings;
+            this.position = position;
+            this.chain = chain;
+            this.aroundInvokeForward = aroundInvokeForward;
+        }
+
+        static Object perform(Object target, Method method, Function<InvocationContext, Object> aroundInvokeForward,
+                Object[] parameters, List<LegacyInvocation> chain, Set<Annotation> interceptorBindings) throws Exception {
+            return chain.get(0).invoke(new LegacyInvocationContext(target, method, parameters, null, interceptorBindings, 1,
+                    chain, aroundInvokeForward));
+        }
+
+        @Override
+        public Object proceed() throws Exception {
+            if (position < chain.size()) {
+                return chain.get(position).invoke(new LegacyInvocationContext(target, method, parameters, contextData,
+                        interceptorBindings, position + 1, chain, aroundInvokeForward));
+            } else {
+                return aroundInvokeForward.apply(this);
+            }
+        }
+
+        @Override
+        public Object getTarget() {
+            return target;
+        }
+
+        @Override
+        public Object getTimer() {
+            return null;
+        }
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Constructor<?> getConstructor() {
+            return null;
+        }
+
+        @Override
+        public Object[] getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public void setParameters(Object[] params) {
+            this.parameters = params;
+        }
+
+        @Override
+        public Map<String, Object> getContextData() {
+            return contextData.get();
+        }
+
+    }
+
+    static class ContextDataHolder {
+
+        private final Set<Annotation> interceptorBindings;
+        private volatile Map<String, Object> value;
+
+        ContextDataHolder(Set<Annotation> interceptorBindings) {
+            this.interceptorBindings = interceptorBindings;
+        }
+
+        synchronized Map<String, Object> get() {
+            if (value == null) {
+                value = new HashMap<>();
+                value.put("io.quarkus.arc.interceptorBindings", interceptorBindings);
+            }
+            return value;
+        }
+
+    }
+
+}
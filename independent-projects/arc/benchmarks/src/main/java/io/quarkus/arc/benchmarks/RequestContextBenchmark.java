@@ -0,0 +1,113 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.context.RequestScoped;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the activation and termination of the request context, with and without request scoped beans being used during
+ * the request.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    private BenchmarkContainer container;
+    private ManagedContext requestContext;
+    private First first;
+    private Second second;
+    private Third third;
+
+    @Setup
+    public void setup() {
+        container = BenchmarkContainer.start(First.class, Second.class, Third.class);
+        requestContext = container.container().requestContext();
+        // client proxies
+        first = container.container().instance(First.class).get();
+        second = container.container().instance(Second.class).get();
+        third = container.container().instance(Third.class).get();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        container.close();
+    }
+
+    @Benchmark
+    public void activateTerminate() {
+        requestContext.activate();
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public int activateUseBeansTerminate() {
+        requestContext.activate();
+        try {
+            return first.ping() + second.ping() + third.ping();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Benchmark
+    public int propagateState() {
+        // the state is captured and the context is reactivated with the same state, e.g. on a different thread
+        requestContext.activate();
+        try {
+            int result = first.ping();
+            ContextState state = requestContext.getState();
+            requestContext.deactivate();
+            requestContext.activate(state);
+            return result + first.ping();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @RequestScoped
+    public static class First {
+
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Second {
+
+        public int ping() {
+            return 2;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Third {
+
+        public int ping() {
+            return 3;
+        }
+
+    }
+
+}
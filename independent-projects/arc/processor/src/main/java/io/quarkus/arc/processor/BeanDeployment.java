@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -288,10 +289,39 @@ public class BeanDeployment {
             //we need to re-initialize it, so it does not contain removed beans
             initBeanByTypeMap();
         }
+        initContextSlots();
         buildContext.putInternal(BuildExtension.Key.REMOVED_BEANS.asString(), Collections.unmodifiableSet(removedBeans));
         LOGGER.debugf("Bean deployment initialized in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
+    /**
+     * Assign a dense index to each {@code @ApplicationScoped} and {@code @Singleton} bean, and to each {@code @RequestScoped}
+     * bean, so that the built-in contexts can store the contextual instances in an array instead of a map keyed by the bean
+     * identifier or the bean itself.
+     */
+    private void initContextSlots() {
+        List<BeanInfo> sharedBeans = new ArrayList<>();
+        List<BeanInfo> requestBeans = new ArrayList<>();
+        for (BeanInfo bean : beans) {
+            if (BuiltinScope.APPLICATION.is(bean.getScope()) || BuiltinScope.SINGLETON.is(bean.getScope())) {
+                sharedBeans.add(bean);
+            } else if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                requestBeans.add(bean);
+            }
+        }
+        initContextSlots(sharedBeans);
+        initContextSlots(requestBeans);
+    }
+
+    private static void initContextSlots(List<BeanInfo> beans) {
+        // the slots must not depend on the discovery order
+        beans.sort(Comparator.comparing(BeanInfo::getIdentifier));
+        int slot = 0;
+        for (BeanInfo bean : beans) {
+            bean.setContextSlot(slot++);
+        }
+    }
+
     /**
      * Re-initialize the map that is used to speed-up lookup requests.
      */
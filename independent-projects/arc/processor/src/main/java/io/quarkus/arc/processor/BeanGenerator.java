@@ -41,6 +41,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -51,6 +52,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.IllegalProductException;
@@ -164,7 +166,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         // Fields
         FieldCreator beanTypes = beanCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
-                .setModifiers(ACC_PRIVATE | ACC_FINAL);
+                .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
         FieldCreator qualifiers = null;
         if (!bean.getQualifiers().isEmpty() && !bean.hasDefaultQualifiers()) {
             qualifiers = beanCreator.getFieldCreator(FIELD_NAME_QUALIFIERS, Set.class).setModifiers(ACC_PRIVATE | ACC_FINAL);
@@ -227,10 +229,13 @@ public class BeanGenerator extends AbstractGenerator {
                 Collections.emptyMap(), targetPackage, isApplicationClass);
         implementGet(bean, beanCreator, providerType, baseName);
 
-        implementGetTypes(beanCreator, beanTypes.getFieldDescriptor());
+        implementGetTypes(bean, beanCreator, beanTypes.getFieldDescriptor());
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getContextSlot() >= 0) {
+            implementGetContextSlot(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -280,7 +285,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         // Fields
         FieldCreator beanTypes = beanCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
-                .setModifiers(ACC_PRIVATE | ACC_FINAL);
+                .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
         FieldCreator qualifiers = null;
         if (!bean.getQualifiers().isEmpty() && !bean.hasDefaultQualifiers()) {
             qualifiers = beanCreator.getFieldCreator(FIELD_NAME_QUALIFIERS, Set.class).setModifiers(ACC_PRIVATE | ACC_FINAL);
@@ -319,10 +324,13 @@ public class BeanGenerator extends AbstractGenerator {
                 targetPackage, isApplicationClass);
         implementGet(bean, beanCreator, providerType, baseName);
 
-        implementGetTypes(beanCreator, beanTypes.getFieldDescriptor());
+        implementGetTypes(bean, beanCreator, beanTypes.getFieldDescriptor());
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getContextSlot() >= 0) {
+            implementGetContextSlot(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -387,7 +395,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         // Fields
         FieldCreator beanTypes = beanCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
-                .setModifiers(ACC_PRIVATE | ACC_FINAL);
+                .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
         FieldCreator qualifiers = null;
         if (!bean.getQualifiers().isEmpty() && !bean.hasDefaultQualifiers()) {
             qualifiers = beanCreator.getFieldCreator(FIELD_NAME_QUALIFIERS, Set.class).setModifiers(ACC_PRIVATE | ACC_FINAL);
@@ -421,10 +429,13 @@ public class BeanGenerator extends AbstractGenerator {
                 targetPackage, isApplicationClass);
         implementGet(bean, beanCreator, providerType, baseName);
 
-        implementGetTypes(beanCreator, beanTypes.getFieldDescriptor());
+        implementGetTypes(bean, beanCreator, beanTypes.getFieldDescriptor());
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getContextSlot() >= 0) {
+            implementGetContextSlot(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -480,7 +491,7 @@ public class BeanGenerator extends AbstractGenerator {
 
         // Fields
         FieldCreator beanTypes = beanCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
-                .setModifiers(ACC_PRIVATE | ACC_FINAL);
+                .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
         FieldCreator qualifiers = null;
         if (!bean.getQualifiers().isEmpty() && !bean.hasDefaultQualifiers()) {
             qualifiers = beanCreator.getFieldCreator(FIELD_NAME_QUALIFIERS, Set.class).setModifiers(ACC_PRIVATE | ACC_FINAL);
@@ -509,10 +520,13 @@ public class BeanGenerator extends AbstractGenerator {
                 Collections.emptyMap(), targetPackage, isApplicationClass);
         implementGet(bean, beanCreator, providerType, baseName);
 
-        implementGetTypes(beanCreator, beanTypes.getFieldDescriptor());
+        implementGetTypes(bean, beanCreator, beanTypes.getFieldDescriptor());
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getContextSlot() >= 0) {
+            implementGetContextSlot(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -708,24 +722,6 @@ public class BeanGenerator extends AbstractGenerator {
                     constructor.getThis(), constructor.getMethodParam(paramIdx++));
         }
 
-        // Bean types
-        ResultHandle typesArray = constructor.newArray(Object.class, bean.getTypes().size());
-        int typeIndex = 0;
-        for (org.jboss.jandex.Type type : bean.getTypes()) {
-            ResultHandle typeHandle;
-            try {
-                typeHandle = Types.getTypeHandle(constructor, type, tccl);
-            } catch (IllegalArgumentException e) {
-                throw new IllegalStateException("Unable to construct the type handle for " + bean + ": " + e.getMessage());
-            }
-            constructor.writeArrayValue(typesArray, constructor.load(typeIndex++), typeHandle);
-        }
-        constructor.writeInstanceField(
-                FieldDescriptor.of(beanCreator.getClassName(), FIELD_NAME_BEAN_TYPES, Set.class.getName()),
-                constructor.getThis(),
-                constructor.invokeStaticMethod(MethodDescriptors.SETS_OF,
-                        typesArray));
-
         // Qualifiers
         if (!bean.getQualifiers().isEmpty() && !bean.hasDefaultQualifiers()) {
             ResultHandle qualifiersArray = constructor.newArray(Object.class, bean.getQualifiers().size());
@@ -1644,13 +1640,75 @@ public class BeanGenerator extends AbstractGenerator {
     }
 
     /**
+     * The bean types are not initialized in the constructor but on first use, i.e. the type closure of a bean that is never
+     * resolved dynamically is never materialized.
      *
+     * @param bean
      * @param beanCreator
+     * @param typesField
      * @see InjectableBean#getTypes()
      */
-    protected void implementGetTypes(ClassCreator beanCreator, FieldDescriptor typesField) {
-        MethodCreator getScope = beanCreator.getMethodCreator("getTypes", Set.class).setModifiers(ACC_PUBLIC);
-        getScope.returnValue(getScope.readInstanceField(typesField, getScope.getThis()));
+    protected void implementGetTypes(BeanInfo bean, ClassCreator beanCreator, FieldDescriptor typesField) {
+        // private Set<Type> createTypes()
+        MethodCreator createTypes = beanCreator.getMethodCreator("createTypes", Set.class).setModifiers(ACC_PRIVATE);
+        ResultHandle tccl = createTypes.invokeVirtualMethod(MethodDescriptors.THREAD_GET_TCCL,
+                createTypes.invokeStaticMethod(MethodDescriptors.THREAD_CURRENT_THREAD));
+        ResultHandle typesArray = createTypes.newArray(Object.class, bean.getTypes().size());
+        int typeIndex = 0;
+        for (org.jboss.jandex.Type type : bean.getTypes()) {
+            ResultHandle typeHandle;
+            try {
+                typeHandle = Types.getTypeHandle(createTypes, type, tccl);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Unable to construct the type handle for " + bean + ": " + e.getMessage());
+            }
+            createTypes.writeArrayValue(typesArray, createTypes.load(typeIndex++), typeHandle);
+        }
+        createTypes.returnValue(createTypes.invokeStaticMethod(MethodDescriptors.TYPE_CLOSURES_OF, typesArray));
+
+        // Set<Type> types = this.types;
+        // if (types == null) {
+        //    types = createTypes();
+        //    this.types = types;
+        // }
+        // return types;
+        MethodCreator getTypes = beanCreator.getMethodCreator("getTypes", Set.class).setModifiers(ACC_PUBLIC);
+        AssignableResultHandle types = getTypes.createVariable(Set.class);
+        getTypes.assign(types, getTypes.readInstanceField(typesField, getTypes.getThis()));
+        BytecodeCreator typesNull = getTypes.ifNull(types).trueBranch();
+        typesNull.assign(types, typesNull.invokeVirtualMethod(createTypes.getMethodDescriptor(), typesNull.getThis()));
+        typesNull.writeInstanceField(typesField, typesNull.getThis(), types);
+        getTypes.returnValue(types);
+
+        implementMayHaveRawType(bean, beanCreator);
+    }
+
+    /**
+     * Lets the container skip the beans that cannot match a dynamic lookup without materializing their bean types. The
+     * default implementation is kept if some bean type is neither a class nor a parameterized type.
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#mayHaveRawType(String)
+     */
+    protected void implementMayHaveRawType(BeanInfo bean, ClassCreator beanCreator) {
+        Set<String> rawTypeNames = new LinkedHashSet<>();
+        for (org.jboss.jandex.Type type : bean.getTypes()) {
+            if (type.kind() != org.jboss.jandex.Type.Kind.CLASS
+                    && type.kind() != org.jboss.jandex.Type.Kind.PARAMETERIZED_TYPE) {
+                return;
+            }
+            rawTypeNames.add(type.name().toString());
+        }
+        // return "org.acme.Foo".equals(rawTypeName) || "java.lang.Object".equals(rawTypeName);
+        MethodCreator mayHaveRawType = beanCreator.getMethodCreator("mayHaveRawType", boolean.class, String.class)
+                .setModifiers(ACC_PUBLIC);
+        for (String rawTypeName : rawTypeNames) {
+            mayHaveRawType.ifNonZero(mayHaveRawType.invokeVirtualMethod(MethodDescriptors.OBJECT_EQUALS,
+                    mayHaveRawType.load(rawTypeName), mayHaveRawType.getMethodParam(0))).trueBranch()
+                    .returnValue(mayHaveRawType.load(true));
+        }
+        mayHaveRawType.returnValue(mayHaveRawType.load(false));
     }
 
     /**
@@ -1664,6 +1722,17 @@ public class BeanGenerator extends AbstractGenerator {
         getScope.returnValue(getScope.loadClassFromTCCL(bean.getScope().getDotName().toString()));
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getContextSlot()
+     */
+    protected void implementGetContextSlot(BeanInfo bean, ClassCreator beanCreator) {
+        MethodCreator getContextSlot = beanCreator.getMethodCreator("getContextSlot", int.class).setModifiers(ACC_PUBLIC);
+        getContextSlot.returnValue(getContextSlot.load(bean.getContextSlot()));
+    }
+
     /**
      *
      * @param bean
@@ -1850,7 +1919,7 @@ public class BeanGenerator extends AbstractGenerator {
         ResultHandle javaMemberHandle;
         if (Kind.FIELD.equals(injectionPoint.getTarget().kind())) {
             FieldInfo field = injectionPoint.getTarget().asField();
-            javaMemberHandle = constructor.invokeStaticMethod(MethodDescriptors.REFLECTIONS_FIND_FIELD,
+            javaMemberHandle = constructor.invokeStaticMethod(MethodDescriptors.LAZY_MEMBER_FIELD,
                     constructor.loadClassFromTCCL(field.declaringClass().name().toString()),
                     constructor.load(field.name()));
             reflectionRegistration.registerField(field);
@@ -1858,7 +1927,7 @@ public class BeanGenerator extends AbstractGenerator {
             MethodInfo method = injectionPoint.getTarget().asMethod();
             reflectionRegistration.registerMethod(method);
             if (method.name().equals(Methods.INIT)) {
-                // Reflections.findConstructor(org.foo.SimpleBean.class,java.lang.String.class)
+                // LazyMember.constructor(org.foo.SimpleBean.class,java.lang.String.class)
                 ResultHandle[] paramsHandles = new ResultHandle[2];
                 paramsHandles[0] = constructor.loadClassFromTCCL(method.declaringClass().name().toString());
                 ResultHandle paramsArray = constructor.newArray(Class.class, constructor.load(method.parameters().size()));
@@ -1867,10 +1936,10 @@ public class BeanGenerator extends AbstractGenerator {
                             constructor.loadClassFromTCCL(iterator.next().name().toString()));
                 }
                 paramsHandles[1] = paramsArray;
-                javaMemberHandle = constructor.invokeStaticMethod(MethodDescriptors.REFLECTIONS_FIND_CONSTRUCTOR,
+                javaMemberHandle = constructor.invokeStaticMethod(MethodDescriptors.LAZY_MEMBER_CONSTRUCTOR,
                         paramsHandles);
             } else {
-                // Reflections.findMethod(org.foo.SimpleBean.class,"foo",java.lang.String.class)
+                // LazyMember.method(org.foo.SimpleBean.class,"foo",java.lang.String.class)
                 ResultHandle[] paramsHandles = new ResultHandle[3];
                 paramsHandles[0] = constructor.loadClassFromTCCL(method.declaringClass().name().toString());
                 paramsHandles[1] = constructor.load(method.name());
@@ -1880,7 +1949,7 @@ public class BeanGenerator extends AbstractGenerator {
                             constructor.loadClassFromTCCL(iterator.next().name().toString()));
                 }
                 paramsHandles[2] = paramsArray;
-                javaMemberHandle = constructor.invokeStaticMethod(MethodDescriptors.REFLECTIONS_FIND_METHOD, paramsHandles);
+                javaMemberHandle = constructor.invokeStaticMethod(MethodDescriptors.LAZY_MEMBER_METHOD, paramsHandles);
             }
         }
         return javaMemberHandle;
@@ -1927,6 +1996,32 @@ public class BeanGenerator extends AbstractGenerator {
                 injectionPoint.hasDefaultedQualifier() ? Collections.emptySet() : injectionPoint.getRequiredQualifiers());
     }
 
+    /**
+     *
+     * @param creator
+     * @param beanDeployment
+     * @param requiredType
+     * @param requiredQualifiers
+     * @return the handle of the {@code String[]} with the identifiers of the beans resolved at build time, or {@code null}
+     *         if the lookup is resolved at runtime
+     * @see Beans#resolveDynamicLookup(BeanDeployment, Type, Set)
+     */
+    public static ResultHandle collectResolvedBeanIds(BytecodeCreator creator, BeanDeployment beanDeployment,
+            Type requiredType, Set<AnnotationInstance> requiredQualifiers) {
+        Set<BeanInfo> resolved = Beans.resolveDynamicLookup(beanDeployment, requiredType, requiredQualifiers);
+        if (resolved.isEmpty()) {
+            // The container logs a warning about removed beans if no bean matches
+            return creator.loadNull();
+        }
+        // Sort the identifiers so that the generated bytecode is reproducible
+        List<String> ids = resolved.stream().map(BeanInfo::getIdentifier).sorted().collect(Collectors.toList());
+        ResultHandle idsHandle = creator.newArray(String.class, ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            creator.writeArrayValue(idsHandle, i, creator.load(ids.get(i)));
+        }
+        return idsHandle;
+    }
+
     public static ResultHandle collectQualifiers(ClassOutput classOutput, ClassCreator beanCreator,
             BeanDeployment beanDeployment, MethodCreator constructor, AnnotationLiteralProcessor annotationLiterals,
             Set<AnnotationInstance> requiredQualifiers) {
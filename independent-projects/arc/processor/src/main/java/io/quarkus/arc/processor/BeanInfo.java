@@ -87,6 +87,9 @@ public class BeanInfo implements InjectionTargetInfo {
 
     private final String targetPackageName;
 
+    // see BeanDeployment#initContextSlots()
+    private int contextSlot = -1;
+
     BeanInfo(AnnotationTarget target, BeanDeployment beanDeployment, ScopeInfo scope, Set<Type> types,
             Set<AnnotationInstance> qualifiers, List<Injection> injections, BeanInfo declaringBean, DisposerInfo disposer,
             boolean alternative, List<StereotypeInfo> stereotypes, String name, boolean isDefaultBean, String targetPackageName,
@@ -227,6 +230,18 @@ public class BeanInfo implements InjectionTargetInfo {
         return scope;
     }
 
+    /**
+     *
+     * @return the index of the bean in the storage of the built-in application and singleton contexts, or -1
+     */
+    int getContextSlot() {
+        return contextSlot;
+    }
+
+    void setContextSlot(int contextSlot) {
+        this.contextSlot = contextSlot;
+    }
+
     public Set<Type> getTypes() {
         return types;
     }
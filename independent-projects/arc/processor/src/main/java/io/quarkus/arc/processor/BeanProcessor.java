@@ -19,10 +19,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Priority;
 import org.jboss.jandex.AnnotationInstance;
@@ -55,6 +59,11 @@ public class BeanProcessor {
 
     static final Logger LOGGER = Logger.getLogger(BeanProcessor.class);
 
+    /**
+     * The number of components generated by a single task when resources are generated in parallel.
+     */
+    static final int SHARD_SIZE = 32;
+
     private final String name;
     private final ResourceOutput output;
     private final AnnotationLiteralProcessor annotationLiterals;
@@ -152,11 +161,29 @@ public class BeanProcessor {
     public List<Resource> generateResources(ReflectionRegistration reflectionRegistration, Set<String> existingClasses,
             Consumer<BytecodeTransformer> bytecodeTransformerConsumer, boolean detectUnusedFalsePositives)
             throws IOException {
+        return generateResources(reflectionRegistration, existingClasses, bytecodeTransformerConsumer,
+                detectUnusedFalsePositives, null);
+    }
+
+    /**
+     * If an executor is specified then interceptors, decorators and beans are generated in parallel, in shards of
+     * {@value #SHARD_SIZE} components. The resources are returned in the same order as if they were generated
+     * sequentially. The reflection registration and the bytecode transformer consumer must be thread-safe in that
+     * case.
+     *
+     * @param bytecodeTransformerConsumer Used to register a bytecode transformation
+     * @param executor The executor used to generate the resources in parallel, may be {@code null}
+     * @return the generated resources
+     */
+    public List<Resource> generateResources(ReflectionRegistration reflectionRegistration, Set<String> existingClasses,
+            Consumer<BytecodeTransformer> bytecodeTransformerConsumer, boolean detectUnusedFalsePositives,
+            Executor executor)
+            throws IOException {
         if (reflectionRegistration == null) {
             reflectionRegistration = this.reflectionRegistration;
         }
         PrivateMembersCollector privateMembers = new PrivateMembersCollector();
-        Map<BeanInfo, String> beanToGeneratedName = new HashMap<>();
+        Map<BeanInfo, String> beanToGeneratedName = new ConcurrentHashMap<>();
         Map<ObserverInfo, String> observerToGeneratedName = new HashMap<>();
 
         BeanGenerator beanGenerator = new BeanGenerator(annotationLiterals, applicationClassPredicate, privateMembers,
@@ -180,37 +207,36 @@ public class BeanProcessor {
         List<Resource> resources = new ArrayList<>();
 
         // Generate interceptors
-        for (InterceptorInfo interceptor : beanDeployment.getInterceptors()) {
-            for (Resource resource : interceptorGenerator.generate(interceptor)) {
-                resources.add(resource);
-            }
-        }
+        generate(beanDeployment.getInterceptors(), interceptorGenerator::generate, executor, resources);
         // Generate decorators
-        for (DecoratorInfo decorator : beanDeployment.getDecorators()) {
-            for (Resource resource : decoratorGenerator.generate(decorator)) {
-                resources.add(resource);
-            }
-        }
+        generate(beanDeployment.getDecorators(), decoratorGenerator::generate, executor, resources);
         // Generate beans
-        for (BeanInfo bean : beanDeployment.getBeans()) {
-            for (Resource resource : beanGenerator.generate(bean)) {
-                resources.add(resource);
-                if (SpecialType.BEAN.equals(resource.getSpecialType())) {
-                    if (bean.getScope().isNormal()) {
-                        // Generate client proxy
-                        resources.addAll(
-                                clientProxyGenerator.generate(bean, resource.getFullyQualifiedName(),
-                                        bytecodeTransformerConsumer, transformUnproxyableClasses));
-                    }
-                    if (bean.isSubclassRequired()) {
-                        resources.addAll(
-                                subclassGenerator.generate(bean, resource.getFullyQualifiedName()));
+        generate(beanDeployment.getBeans(), new Function<BeanInfo, Collection<Resource>>() {
+            @Override
+            public Collection<Resource> apply(BeanInfo bean) {
+                List<Resource> beanResources = new ArrayList<>();
+                for (Resource resource : beanGenerator.generate(bean)) {
+                    beanResources.add(resource);
+                    if (SpecialType.BEAN.equals(resource.getSpecialType())) {
+                        if (bean.getScope().isNormal()) {
+                            // Generate client proxy
+                            beanResources.addAll(
+                                    clientProxyGenerator.generate(bean, resource.getFullyQualifiedName(),
+                                            bytecodeTransformerConsumer, transformUnproxyableClasses));
+                        }
+                        if (bean.isSubclassRequired()) {
+                            beanResources.addAll(
+                                    subclassGenerator.generate(bean, resource.getFullyQualifiedName()));
+                        }
                     }
                 }
+                return beanResources;
             }
-        }
+        }, executor, resources);
 
         // Generate observers
+        // Observers are always generated sequentially, the generator reuses the class generated for an equivalent
+        // observer which would make the output depend on the order of generation
         for (ObserverInfo observer : beanDeployment.getObservers()) {
             for (Resource resource : observerGenerator.generate(observer)) {
                 resources.add(resource);
@@ -240,6 +266,54 @@ public class BeanProcessor {
         return resources;
     }
 
+    private static <T> void generate(Collection<T> components, Function<T, Collection<Resource>> generator,
+            Executor executor, List<Resource> resources) {
+        if (executor == null || components.size() <= SHARD_SIZE) {
+            for (T component : components) {
+                resources.addAll(generator.apply(component));
+            }
+            return;
+        }
+        List<T> list = new ArrayList<>(components);
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        List<CompletableFuture<List<Resource>>> shards = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += SHARD_SIZE) {
+            List<T> shard = list.subList(i, Math.min(i + SHARD_SIZE, list.size()));
+            shards.add(CompletableFuture.supplyAsync(new Supplier<List<Resource>>() {
+                @Override
+                public List<Resource> get() {
+                    Thread thread = Thread.currentThread();
+                    ClassLoader old = thread.getContextClassLoader();
+                    thread.setContextClassLoader(tccl);
+                    try {
+                        List<Resource> shardResources = new ArrayList<>();
+                        for (T component : shard) {
+                            shardResources.addAll(generator.apply(component));
+                        }
+                        return shardResources;
+                    } finally {
+                        thread.setContextClassLoader(old);
+                    }
+                }
+            }, executor));
+        }
+        // Join the shards in order so that the output does not depend on the scheduling
+        for (CompletableFuture<List<Resource>> shard : shards) {
+            try {
+                resources.addAll(shard.join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+    }
+
     public BeanDeployment getBeanDeployment() {
         return beanDeployment;
     }
@@ -614,7 +688,7 @@ public class BeanProcessor {
             this.fwkDescriptions = LOGGER.isDebugEnabled() ? new ArrayList<>() : null;
         }
 
-        void add(boolean isApplicationClass, String description) {
+        synchronized void add(boolean isApplicationClass, String description) {
             if (isApplicationClass) {
                 appDescriptions.add(description);
             } else if (fwkDescriptions != null) {
@@ -455,6 +455,53 @@ public final class Beans {
         message.append(target);
     }
 
+    /**
+     * Performs the typesafe resolution for a dynamic lookup, such as {@code Instance<T>} or {@code @All List<T>}, and
+     * resolves the ambiguities in the same way the container does at runtime.
+     *
+     * @param beanDeployment
+     * @param requiredType
+     * @param requiredQualifiers
+     * @return the resolved beans, or an empty set if the result cannot be computed at build time
+     */
+    public static Set<BeanInfo> resolveDynamicLookup(BeanDeployment beanDeployment, Type requiredType,
+            Set<AnnotationInstance> requiredQualifiers) {
+        if (requiredType.kind() == Kind.WILDCARD_TYPE || requiredType.kind() == Kind.UNRESOLVED_TYPE_VARIABLE
+                || Types.containsTypeVariable(requiredType) || DotNames.OBJECT.equals(requiredType.name())) {
+            return Collections.emptySet();
+        }
+        for (BuiltinBean builtinBean : BuiltinBean.values()) {
+            if (builtinBean.hasRawTypeDotName(requiredType.name())) {
+                // Built-in beans are only registered at runtime
+                return Collections.emptySet();
+            }
+        }
+        List<BeanInfo> matching = new ArrayList<>(beanDeployment.getBeanResolver().resolveBeans(requiredType,
+                requiredQualifiers));
+        if (matching.size() <= 1) {
+            return new HashSet<>(matching);
+        }
+        // First remove the default beans
+        List<BeanInfo> nonDefault = new ArrayList<>(matching);
+        nonDefault.removeIf(BeanInfo::isDefaultBean);
+        if (nonDefault.isEmpty()) {
+            return new HashSet<>(matching);
+        } else if (nonDefault.size() == 1) {
+            return Collections.singleton(nonDefault.get(0));
+        }
+        // Then eliminate beans that don't have a priority
+        List<BeanInfo> priorityBeans = new ArrayList<>(nonDefault);
+        priorityBeans.removeIf(b -> getAlternativePriority(b) == null);
+        if (priorityBeans.isEmpty()) {
+            return new HashSet<>(nonDefault);
+        }
+        // Keep only the highest priorities
+        priorityBeans.sort(Beans::compareAlternativeBeans);
+        Integer highest = getAlternativePriority(priorityBeans.get(0));
+        priorityBeans.removeIf(b -> !highest.equals(getAlternativePriority(b)));
+        return new HashSet<>(priorityBeans);
+    }
+
     static BeanInfo resolveAmbiguity(Collection<BeanInfo> resolved) {
         List<BeanInfo> resolvedAmbiguity = new ArrayList<>(resolved);
         // First eliminate default beans
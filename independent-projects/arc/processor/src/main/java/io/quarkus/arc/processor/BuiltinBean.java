@@ -24,7 +24,10 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.ClassType;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
 
 /**
  *
@@ -55,11 +58,18 @@ enum BuiltinBean {
             default:
                 throw new IllegalStateException("Unsupported target info: " + ctx.targetInfo);
         }
+        // The beans matching the required type and qualifiers are resolved at build time if possible
+        Type injectionPointType = ctx.injectionPoint.getType();
+        ResultHandle resolvedBeanIds = BeanGenerator.collectResolvedBeanIds(ctx.constructor, ctx.beanDeployment,
+                injectionPointType.kind() == Kind.PARAMETERIZED_TYPE
+                        ? injectionPointType.asParameterizedType().arguments().get(0)
+                        : ClassType.OBJECT_TYPE,
+                ctx.injectionPoint.getRequiredQualifiers());
         ResultHandle instanceProvider = ctx.constructor.newInstance(
                 MethodDescriptor.ofConstructor(InstanceProvider.class, java.lang.reflect.Type.class, Set.class,
-                        InjectableBean.class, Set.class, Member.class, int.class),
+                        InjectableBean.class, Set.class, Member.class, int.class, String[].class),
                 parameterizedType, qualifiers, beanHandle, annotationsHandle, javaMemberHandle,
-                ctx.constructor.load(ctx.injectionPoint.getPosition()));
+                ctx.constructor.load(ctx.injectionPoint.getPosition()), resolvedBeanIds);
         ResultHandle instanceProviderSupplier = ctx.constructor.newInstance(
                 MethodDescriptors.FIXED_VALUE_SUPPLIER_CONSTRUCTOR, instanceProvider);
         ctx.constructor.writeInstanceField(
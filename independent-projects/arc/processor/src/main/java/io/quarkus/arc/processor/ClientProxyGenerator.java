@@ -6,6 +6,7 @@ import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 
 import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.impl.Mockable;
@@ -54,6 +55,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String BEAN_FIELD = "bean";
     static final String MOCK_FIELD = "mock";
     static final String CONTEXT_FIELD = "context";
+    static final String HANDLE_FIELD = "handle";
 
     private final Predicate<DotName> applicationClassPredicate;
     private final boolean mockable;
@@ -132,6 +134,8 @@ public class ClientProxyGenerator extends AbstractGenerator {
             // It is safe to store the application context instance on the proxy
             contextField = clientProxy.getFieldCreator(CONTEXT_FIELD, InjectableContext.class)
                     .setModifiers(ACC_PRIVATE | ACC_FINAL);
+            // The handle of the contextual instance is cached until the instance is destroyed
+            clientProxy.getFieldCreator(HANDLE_FIELD, ContextInstanceHandle.class).setModifiers(ACC_PRIVATE);
         }
 
         createConstructor(clientProxy, beanClassName, superClass, beanField.getFieldDescriptor(),
@@ -287,11 +291,18 @@ public class ClientProxyGenerator extends AbstractGenerator {
 
         if (BuiltinScope.APPLICATION.is(bean.getScope())) {
             // Application context is stored in a field and is always active
-            creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
+            // A plain field is sufficient for the cached handle - a stale read only results in an additional lookup
+            FieldDescriptor handleField = FieldDescriptor.of(clientProxy.getClassName(), HANDLE_FIELD,
+                    ContextInstanceHandle.class);
+            ResultHandle cached = creator.readInstanceField(handleField, creator.getThis());
+            ResultHandle handle = creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_HANDLE,
                     creator.readInstanceField(
                             FieldDescriptor.of(clientProxy.getClassName(), CONTEXT_FIELD, InjectableContext.class),
                             creator.getThis()),
-                    beanHandle));
+                    beanHandle, cached);
+            BytecodeCreator changed = creator.ifReferencesEqual(handle, cached).falseBranch();
+            changed.writeInstanceField(handleField, changed.getThis(), handle);
+            creator.returnValue(creator.invokeInterfaceMethod(MethodDescriptors.INSTANCE_HANDLE_GET, handle));
         } else {
             creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_DELEGATE,
                     beanHandle));
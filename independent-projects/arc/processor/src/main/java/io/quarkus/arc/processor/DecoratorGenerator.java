@@ -3,6 +3,7 @@ package io.quarkus.arc.processor;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 
 import io.quarkus.arc.InjectableDecorator;
 import io.quarkus.arc.processor.BeanProcessor.PrivateMembersCollector;
@@ -84,7 +85,7 @@ public class DecoratorGenerator extends BeanGenerator {
 
         // Fields
         FieldCreator beanTypes = decoratorCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
-                .setModifiers(ACC_PRIVATE | ACC_FINAL);
+                .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
         FieldCreator decoratedTypes = decoratorCreator.getFieldCreator(FIELD_NAME_DECORATED_TYPES, Set.class)
                 .setModifiers(ACC_PRIVATE | ACC_FINAL);
         InjectionPointInfo delegateInjectionPoint = decorator.getDelegateInjectionPoint();
@@ -109,7 +110,7 @@ public class DecoratorGenerator extends BeanGenerator {
                 injectionPointToProviderField, Collections.emptyMap(), Collections.emptyMap(),
                 targetPackage, isApplicationClass);
         implementGet(decorator, decoratorCreator, providerType, baseName);
-        implementGetTypes(decoratorCreator, beanTypes.getFieldDescriptor());
+        implementGetTypes(decorator, decoratorCreator, beanTypes.getFieldDescriptor());
         implementGetBeanClass(decorator, decoratorCreator);
         // Decorators are always @Dependent and have always default qualifiers
 
@@ -3,6 +3,7 @@ package io.quarkus.arc.processor;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 
 import io.quarkus.arc.ArcInvocationContext;
 import io.quarkus.arc.InjectableInterceptor;
@@ -84,7 +85,7 @@ public class InterceptorGenerator extends BeanGenerator {
 
         // Fields
         FieldCreator beanTypes = interceptorCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
-                .setModifiers(ACC_PRIVATE | ACC_FINAL);
+                .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
         FieldCreator bindings = interceptorCreator.getFieldCreator(FIELD_NAME_BINDINGS, Set.class)
                 .setModifiers(ACC_PRIVATE | ACC_FINAL);
 
@@ -103,7 +104,7 @@ public class InterceptorGenerator extends BeanGenerator {
                 Collections.emptyMap(), Collections.emptyMap(),
                 targetPackage, isApplicationClass);
         implementGet(interceptor, interceptorCreator, providerType, baseName);
-        implementGetTypes(interceptorCreator, beanTypes.getFieldDescriptor());
+        implementGetTypes(interceptor, interceptorCreator, beanTypes.getFieldDescriptor());
         implementGetBeanClass(interceptor, interceptorCreator);
         // Interceptors are always @Dependent and have always default qualifiers
 
@@ -3,11 +3,13 @@ package io.quarkus.arc.processor;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableBean.Kind;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.InjectableReferenceProvider;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.impl.ClientProxies;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.impl.DecoratorDelegateProvider;
@@ -17,10 +19,12 @@ import io.quarkus.arc.impl.Instances;
 import io.quarkus.arc.impl.InterceptedMethodMetadata;
 import io.quarkus.arc.impl.InterceptorInvocation;
 import io.quarkus.arc.impl.InvocationContexts;
+import io.quarkus.arc.impl.LazyMember;
 import io.quarkus.arc.impl.MapValueSupplier;
 import io.quarkus.arc.impl.Reflections;
 import io.quarkus.arc.impl.RemovedBeanImpl;
 import io.quarkus.arc.impl.Sets;
+import io.quarkus.arc.impl.TypeClosures;
 import io.quarkus.gizmo.MethodDescriptor;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -116,6 +120,15 @@ public final class MethodDescriptors {
     public static final MethodDescriptor REFLECTIONS_FIND_FIELD = MethodDescriptor.ofMethod(Reflections.class, "findField",
             Field.class, Class.class, String.class);
 
+    public static final MethodDescriptor LAZY_MEMBER_CONSTRUCTOR = MethodDescriptor.ofMethod(LazyMember.class,
+            "constructor", Member.class, Class.class, Class[].class);
+
+    public static final MethodDescriptor LAZY_MEMBER_METHOD = MethodDescriptor.ofMethod(LazyMember.class, "method",
+            Member.class, Class.class, String.class, Class[].class);
+
+    public static final MethodDescriptor LAZY_MEMBER_FIELD = MethodDescriptor.ofMethod(LazyMember.class, "field",
+            Member.class, Class.class, String.class);
+
     public static final MethodDescriptor REFLECTIONS_WRITE_FIELD = MethodDescriptor.ofMethod(Reflections.class, "writeField",
             void.class, Class.class, String.class,
             Object.class, Object.class);
@@ -157,8 +170,7 @@ public final class MethodDescriptors {
     public static final MethodDescriptor INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE = MethodDescriptor.ofMethod(
             InvocationContexts.class,
             "performAroundInvoke",
-            Object.class, Object.class, Method.class, Function.class, Object[].class, List.class,
-            Set.class);
+            Object.class, Object.class, Object[].class, InterceptedMethodMetadata.class);
 
     public static final MethodDescriptor INVOCATION_CONTEXTS_AROUND_CONSTRUCT = MethodDescriptor.ofMethod(
             InvocationContexts.class,
@@ -203,6 +215,9 @@ public final class MethodDescriptors {
 
     public static final MethodDescriptor SETS_OF = MethodDescriptor.ofMethod(Sets.class, "of", Set.class, Object[].class);
 
+    public static final MethodDescriptor TYPE_CLOSURES_OF = MethodDescriptor.ofMethod(TypeClosures.class, "of", Set.class,
+            Object[].class);
+
     public static final MethodDescriptor ARC_CONTAINER = MethodDescriptor.ofMethod(Arc.class, "container", ArcContainer.class);
 
     public static final MethodDescriptor ARC_CONTAINER_BEAN = MethodDescriptor.ofMethod(ArcContainer.class, "bean",
@@ -225,6 +240,10 @@ public final class MethodDescriptors {
             InterceptedMethodMetadata.class,
             List.class, Method.class, Set.class);
 
+    public static final MethodDescriptor INTERCEPTED_METHOD_METADATA_FORWARD_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            InterceptedMethodMetadata.class,
+            List.class, Method.class, Set.class, Function.class);
+
     public static final MethodDescriptor CREATIONAL_CTX_HAS_DEPENDENT_INSTANCES = MethodDescriptor.ofMethod(
             CreationalContextImpl.class,
             "hasDependentInstances", boolean.class);
@@ -245,6 +264,13 @@ public final class MethodDescriptors {
     public static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
             "getApplicationScopedDelegate", Object.class, InjectableContext.class, InjectableBean.class);
 
+    public static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_HANDLE = MethodDescriptor.ofMethod(ClientProxies.class,
+            "getApplicationScopedHandle", ContextInstanceHandle.class, InjectableContext.class, InjectableBean.class,
+            ContextInstanceHandle.class);
+
+    public static final MethodDescriptor INSTANCE_HANDLE_GET = MethodDescriptor.ofMethod(InstanceHandle.class, "get",
+            Object.class);
+
     public static final MethodDescriptor CLIENT_PROXIES_GET_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
             "getDelegate", Object.class, InjectableBean.class);
 
@@ -265,6 +291,14 @@ public final class MethodDescriptors {
             .ofMethod(Instances.class, "listOfHandles", List.class, InjectableBean.class, Type.class, Type.class,
                     Set.class, CreationalContextImpl.class, Set.class, Member.class, int.class);
 
+    public static final MethodDescriptor INSTANCES_LIST_OF_RESOLVED = MethodDescriptor
+            .ofMethod(Instances.class, "listOf", List.class, InjectableBean.class, Type.class, Type.class,
+                    Set.class, CreationalContextImpl.class, Set.class, Member.class, int.class, String[].class);
+
+    public static final MethodDescriptor INSTANCES_LIST_OF_HANDLES_RESOLVED = MethodDescriptor
+            .ofMethod(Instances.class, "listOfHandles", List.class, InjectableBean.class, Type.class, Type.class,
+                    Set.class, CreationalContextImpl.class, Set.class, Member.class, int.class, String[].class);
+
     private MethodDescriptors() {
     }
 
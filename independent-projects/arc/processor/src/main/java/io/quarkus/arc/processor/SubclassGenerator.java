@@ -26,7 +26,6 @@ import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
-import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -71,12 +70,6 @@ public class SubclassGenerator extends AbstractGenerator {
 
     protected static final String FIELD_NAME_PREDESTROYS = "arc$preDestroys";
     protected static final String FIELD_NAME_CONSTRUCTED = "arc$constructed";
-    protected static final FieldDescriptor FIELD_METADATA_METHOD = FieldDescriptor.of(InterceptedMethodMetadata.class, "method",
-            Method.class);
-    protected static final FieldDescriptor FIELD_METADATA_CHAIN = FieldDescriptor.of(InterceptedMethodMetadata.class, "chain",
-            List.class);
-    protected static final FieldDescriptor FIELD_METADATA_BINDINGS = FieldDescriptor.of(InterceptedMethodMetadata.class,
-            "bindings", Set.class);
 
     private final Predicate<DotName> applicationClassPredicate;
     private final Set<String> existingClasses;
@@ -332,10 +325,14 @@ public class SubclassGenerator extends AbstractGenerator {
                 ResultHandle bindingsHandle = bindings.computeIfAbsent(
                         interception.bindings.stream().map(BindingKey::new).collect(Collectors.toList()), bindingsFun);
 
+                // 4. Forwarding function, created once so that it is not allocated for each invocation
+                ResultHandle forwardHandle = createForwardingFunction(constructor, method, subclass, forwardDescriptor,
+                        decoration != null ? decoration.decorators.get(0) : null);
+
                 // Now create metadata for the given intercepted method
                 ResultHandle methodMetadataHandle = constructor.newInstance(
-                        MethodDescriptors.INTERCEPTED_METHOD_METADATA_CONSTRUCTOR,
-                        chainHandle, methodHandle, bindingsHandle);
+                        MethodDescriptors.INTERCEPTED_METHOD_METADATA_FORWARD_CONSTRUCTOR,
+                        chainHandle, methodHandle, bindingsHandle, forwardHandle);
 
                 constructor.writeInstanceField(metadataField.getFieldDescriptor(), constructor.getThis(), methodMetadataHandle);
 
@@ -343,9 +340,8 @@ public class SubclassGenerator extends AbstractGenerator {
                 reflectionRegistration.registerMethod(method);
 
                 // Finally create the intercepted method
-                createInterceptedMethod(classOutput, bean, method, subclass, providerTypeName,
-                        metadataField.getFieldDescriptor(), constructedField.getFieldDescriptor(), forwardDescriptor,
-                        decoration != null ? decoration.decorators.get(0) : null);
+                createInterceptedMethod(method, subclass, metadataField.getFieldDescriptor(),
+                        constructedField.getFieldDescriptor(), forwardDescriptor);
             } else {
                 // Only decorators are applied
                 MethodCreator decoratedMethod = subclass.getMethodCreator(methodDescriptor);
@@ -660,49 +656,20 @@ public class SubclassGenerator extends AbstractGenerator {
         return forwardDescriptor;
     }
 
-    private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, ClassCreator subclass,
-            String providerTypeName, FieldDescriptor metadataField, FieldDescriptor constructedField,
+    private ResultHandle createForwardingFunction(MethodCreator constructor, MethodInfo method, ClassCreator subclass,
             MethodDescriptor forwardMethod, DecoratorInfo decorator) {
-
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
-        MethodCreator interceptedMethod = subclass.getMethodCreator(originalMethodDescriptor);
-
-        // Params
-        // Object[] params = new Object[] {p1}
         List<Type> parameters = method.parameters();
-        ResultHandle paramsHandle;
-        if (parameters.isEmpty()) {
-            paramsHandle = interceptedMethod.loadNull();
-        } else {
-            paramsHandle = interceptedMethod.newArray(Object.class,
-                    interceptedMethod.load(parameters.size()));
-            for (int i = 0; i < parameters.size(); i++) {
-                interceptedMethod.writeArrayValue(paramsHandle, i, interceptedMethod.getMethodParam(i));
-            }
-        }
-
-        // Delegate to super class if not constructed yet
-        BytecodeCreator notConstructed = interceptedMethod
-                .ifFalse(interceptedMethod.readInstanceField(constructedField, interceptedMethod.getThis())).trueBranch();
-        ResultHandle[] params = new ResultHandle[parameters.size()];
-        for (int i = 0; i < parameters.size(); ++i) {
-            params[i] = notConstructed.getMethodParam(i);
-        }
-        if (Modifier.isAbstract(method.flags())) {
-            notConstructed.throwException(IllegalStateException.class, "Cannot delegate to an abstract method");
-        } else {
-            notConstructed.returnValue(notConstructed.invokeVirtualMethod(forwardMethod, notConstructed.getThis(), params));
-        }
 
+        // Decorator instances are created before the intercepted method metadata
         ResultHandle decoratorHandle = null;
         if (decorator != null) {
-            decoratorHandle = interceptedMethod.readInstanceField(FieldDescriptor.of(subclass.getClassName(),
-                    decorator.getIdentifier(), Object.class.getName()), interceptedMethod.getThis());
+            decoratorHandle = constructor.readInstanceField(FieldDescriptor.of(subclass.getClassName(),
+                    decorator.getIdentifier(), Object.class.getName()), constructor.getThis());
         }
 
-        // Forwarding function
         // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = interceptedMethod.createFunction(Function.class);
+        FunctionCreator func = constructor.createFunction(Function.class);
         BytecodeCreator funcBytecode = func.getBytecode();
         ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
         ResultHandle[] superParamHandles;
@@ -735,10 +702,45 @@ public class SubclassGenerator extends AbstractGenerator {
                     .returnValue(funcBytecode.invokeVirtualMethod(methodDescriptor, funDecoratorInstance, superParamHandles));
 
         } else {
-            ResultHandle superResult = funcBytecode.invokeVirtualMethod(forwardMethod, interceptedMethod.getThis(),
+            ResultHandle superResult = funcBytecode.invokeVirtualMethod(forwardMethod, constructor.getThis(),
                     superParamHandles);
             funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
         }
+        return func.getInstance();
+    }
+
+    private void createInterceptedMethod(MethodInfo method, ClassCreator subclass, FieldDescriptor metadataField,
+            FieldDescriptor constructedField, MethodDescriptor forwardMethod) {
+
+        MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
+        MethodCreator interceptedMethod = subclass.getMethodCreator(originalMethodDescriptor);
+        List<Type> parameters = method.parameters();
+
+        // Delegate to super class if not constructed yet
+        BytecodeCreator notConstructed = interceptedMethod
+                .ifFalse(interceptedMethod.readInstanceField(constructedField, interceptedMethod.getThis())).trueBranch();
+        ResultHandle[] params = new ResultHandle[parameters.size()];
+        for (int i = 0; i < parameters.size(); ++i) {
+            params[i] = notConstructed.getMethodParam(i);
+        }
+        if (Modifier.isAbstract(method.flags())) {
+            notConstructed.throwException(IllegalStateException.class, "Cannot delegate to an abstract method");
+        } else {
+            notConstructed.returnValue(notConstructed.invokeVirtualMethod(forwardMethod, notConstructed.getThis(), params));
+        }
+
+        // Params
+        // Object[] params = new Object[] {p1}
+        ResultHandle paramsHandle;
+        if (parameters.isEmpty()) {
+            paramsHandle = interceptedMethod.loadNull();
+        } else {
+            paramsHandle = interceptedMethod.newArray(Object.class,
+                    interceptedMethod.load(parameters.size()));
+            for (int i = 0; i < parameters.size(); i++) {
+                interceptedMethod.writeArrayValue(paramsHandle, i, interceptedMethod.getMethodParam(i));
+            }
+        }
 
         for (Type declaredException : method.exceptions()) {
             interceptedMethod.addException(declaredException.name().toString());
@@ -779,13 +781,9 @@ public class SubclassGenerator extends AbstractGenerator {
             catchOtherExceptions.throwException(ArcUndeclaredThrowableException.class, "Error invoking subclass method",
                     catchOtherExceptions.getCaughtException());
         }
-        // InvocationContexts.performAroundInvoke(...)
-        ResultHandle methodMetadataHandle = tryCatch.readInstanceField(metadataField, tryCatch.getThis());
+        // InvocationContexts.performAroundInvoke(this, params, metadata)
         ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
-                tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
-                tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
-                tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
+                tryCatch.getThis(), paramsHandle, tryCatch.readInstanceField(metadataField, tryCatch.getThis()));
         tryCatch.returnValue(ret);
     }
 
@@ -1,6 +1,7 @@
 package io.quarkus.arc;
 
 import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.ThreadLocalCurrentContextFactory;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -16,12 +17,21 @@ public final class Arc {
      * @return the initialized container
      */
     public static ArcContainer initialize() {
+        return initialize(ThreadLocalCurrentContextFactory.INSTANCE);
+    }
+
+    /**
+     *
+     * @param currentContextFactory the factory used to store the current state of the built-in managed contexts
+     * @return the initialized container
+     */
+    public static ArcContainer initialize(CurrentContextFactory currentContextFactory) {
         ArcContainerImpl container = INSTANCE.get();
         if (container == null) {
             synchronized (INSTANCE) {
                 container = INSTANCE.get();
                 if (container == null) {
-                    container = new ArcContainerImpl();
+                    container = new ArcContainerImpl(currentContextFactory);
                     // Set the container instance first because Arc.container() can be used within ArcContainerImpl.init() 
                     INSTANCE.set(container);
                     container.init();
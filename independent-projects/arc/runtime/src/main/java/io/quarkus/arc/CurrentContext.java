@@ -0,0 +1,30 @@
+package io.quarkus.arc;
+
+import io.quarkus.arc.InjectableContext.ContextState;
+
+/**
+ * Holds the current state of a context, e.g. the state of the request context for the current thread.
+ *
+ * @param <T> the type of the state
+ * @see CurrentContextFactory
+ */
+public interface CurrentContext<T extends ContextState> {
+
+    /**
+     *
+     * @return the current state or {@code null} if the context is not active
+     */
+    T get();
+
+    /**
+     *
+     * @param state the current state, must not be {@code null}
+     */
+    void set(T state);
+
+    /**
+     * Removes the current state.
+     */
+    void remove();
+
+}
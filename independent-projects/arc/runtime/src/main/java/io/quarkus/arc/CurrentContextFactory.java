@@ -0,0 +1,24 @@
+package io.quarkus.arc;
+
+import io.quarkus.arc.InjectableContext.ContextState;
+import java.lang.annotation.Annotation;
+
+/**
+ * Creates the holders of the current state of the built-in managed contexts.
+ * <p>
+ * By default, the state is stored in a {@link ThreadLocal}. An integrator may store the state elsewhere, e.g. in a
+ * carrier that is shared by all the threads that process the same request, so that the context does not need to be
+ * propagated when the work is handed over to another thread.
+ *
+ * @see Arc#initialize(CurrentContextFactory)
+ */
+public interface CurrentContextFactory {
+
+    /**
+     *
+     * @param scope the scope of the context
+     * @return a new holder of the current state
+     */
+    <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope);
+
+}
@@ -0,0 +1,44 @@
+package io.quarkus.arc;
+
+import java.util.concurrent.Executor;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+
+/**
+ * Custom {@link NotificationOptions} supported by the {@link Event#fireAsync(Object, NotificationOptions)} method.
+ */
+public final class EventNotificationOptions {
+
+    /**
+     * If set to {@link Boolean#TRUE} the asynchronous events fired for the same event type and qualifiers are coalesced, i.e.
+     * a single task is scheduled on the executor for all pending events and the observers are notified for all of them
+     * within a single request context activation.
+     * <p>
+     * Note that the asynchronous observers notified within a batch share the request context. Exceptions thrown by
+     * observers are still collected per event.
+     */
+    public static final String BATCHED = "io.quarkus.arc.batched";
+
+    private EventNotificationOptions() {
+    }
+
+    /**
+     *
+     * @return the options for batched delivery on the default executor
+     * @see #BATCHED
+     */
+    public static NotificationOptions batched() {
+        return NotificationOptions.builder().set(BATCHED, Boolean.TRUE).build();
+    }
+
+    /**
+     *
+     * @param executor
+     * @return the options for batched delivery on the given executor
+     * @see #BATCHED
+     */
+    public static NotificationOptions batched(Executor executor) {
+        return NotificationOptions.builder().setExecutor(executor).set(BATCHED, Boolean.TRUE).build();
+    }
+
+}
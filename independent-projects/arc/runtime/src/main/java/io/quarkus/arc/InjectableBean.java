@@ -53,6 +53,16 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
     @Override
     Set<Type> getTypes();
 
+    /**
+     * Checks whether some bean type may have the given raw type, without materializing the set of bean types.
+     *
+     * @param rawTypeName the name of a class or an interface
+     * @return {@code false} if no bean type has the given raw type, {@code true} otherwise
+     */
+    default boolean mayHaveRawType(String rawTypeName) {
+        return true;
+    }
+
     /**
      *
      * @return the set of qualifiers
@@ -140,6 +150,17 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return 0;
     }
 
+    /**
+     * The built-in application, singleton and request contexts store the contextual instances of the beans that declare a
+     * slot in an array. The slots are assigned at build time; the application and singleton scoped beans share one sequence
+     * and the request scoped beans use another one.
+     *
+     * @return the index of the bean in the storage of the built-in context of its scope, or -1
+     */
+    default int getContextSlot() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
@@ -95,5 +95,12 @@ public interface InjectableContext extends AlterableContext {
          */
         Map<InjectableBean<?>, Object> getContextualInstances();
 
+        /**
+         * @return {@code false} if the state was destroyed, {@code true} otherwise
+         */
+        default boolean isValid() {
+            return true;
+        }
+
     }
 }
@@ -11,9 +11,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Supplier;
 
-abstract class AbstractInvocationContext implements ArcInvocationContext, Supplier<Map<String, Object>> {
+abstract class AbstractInvocationContext implements ArcInvocationContext {
 
     private static final Object[] EMPTY_PARAMS = new Object[0];
 
@@ -23,25 +22,34 @@ abstract class AbstractInvocationContext implements ArcInvocationContext, Suppli
     protected final List<InterceptorInvocation> chain;
     protected Object target;
     protected Object[] parameters;
-    // The map is initialized lazily but we need to use a holder so that all interceptors in the chain can access the same data
-    protected LazyValue<Map<String, Object>> contextData;
+    // The map is initialized lazily, all interceptors in the chain access the same data
+    private volatile Map<String, Object> contextData;
 
     protected AbstractInvocationContext(Object target, Method method,
             Constructor<?> constructor,
-            Object[] parameters, LazyValue<Map<String, Object>> contextData,
-            Set<Annotation> interceptorBindings, List<InterceptorInvocation> chain) {
+            Object[] parameters, Set<Annotation> interceptorBindings, List<InterceptorInvocation> chain) {
         this.target = target;
         this.method = method;
         this.constructor = constructor;
         this.parameters = parameters != null ? parameters : EMPTY_PARAMS;
-        this.contextData = contextData != null ? contextData : new LazyValue<>(this);
         this.interceptorBindings = interceptorBindings;
         this.chain = chain;
     }
 
     @Override
     public Map<String, Object> getContextData() {
-        return contextData.get();
+        Map<String, Object> data = contextData;
+        if (data == null) {
+            synchronized (this) {
+                data = contextData;
+                if (data == null) {
+                    data = new HashMap<String, Object>();
+                    data.put(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS, interceptorBindings);
+                    contextData = data;
+                }
+            }
+        }
+        return data;
     }
 
     @Override
@@ -125,11 +133,4 @@ abstract class AbstractInvocationContext implements ArcInvocationContext, Suppli
         return constructor;
     }
 
-    @Override
-    public Map<String, Object> get() {
-        Map<String, Object> result = new HashMap<String, Object>();
-        result.put(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS, interceptorBindings);
-        return result;
-    }
-
 }
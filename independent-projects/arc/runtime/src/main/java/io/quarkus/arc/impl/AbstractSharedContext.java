@@ -6,6 +6,7 @@ import io.quarkus.arc.InjectableContext;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.enterprise.context.spi.Contextual;
@@ -15,28 +16,105 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
 
     protected final ComputingCache<String, ContextInstanceHandle<?>> instances;
 
+    // The handles of the beans that declare a context slot, indexed by the slot
+    // The instances cache is still the source of truth, the array only avoids hashing the bean identifier on lookup
+    private volatile AtomicReferenceArray<ContextInstanceHandle<?>> slots;
+
     public AbstractSharedContext() {
         this.instances = new ComputingCache<>();
+        this.slots = new AtomicReferenceArray<>(0);
+    }
+
+    /**
+     *
+     * @param size the number of context slots declared by the beans
+     * @see InjectableBean#getContextSlot()
+     */
+    void initSlots(int size) {
+        this.slots = new AtomicReferenceArray<>(size);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
-        InjectableBean<T> bean = (InjectableBean<T>) contextual;
-        return (T) instances.computeIfAbsent(bean.getIdentifier(), new Supplier<ContextInstanceHandle<?>>() {
-            @Override
-            public ContextInstanceHandle<?> get() {
-                return createInstanceHandle(bean, creationalContext);
-            }
-        }).get();
+        return getHandle((InjectableBean<T>) contextual, creationalContext).get();
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(Contextual<T> contextual) {
-        InjectableBean<T> bean = (InjectableBean<T>) contextual;
-        ContextInstanceHandle<?> handle = instances.getValueIfPresent(bean.getIdentifier());
-        return handle != null ? (T) handle.get() : null;
+        ContextInstanceHandle<T> handle = getHandleIfPresent((InjectableBean<T>) contextual);
+        return handle != null ? handle.get() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> ContextInstanceHandle<T> getHandle(InjectableBean<T> bean, CreationalContext<T> creationalContext) {
+        ContextInstanceHandle<?> handle = getSlot(bean);
+        if (handle == null) {
+            handle = instances.computeIfAbsent(bean.getIdentifier(), new Supplier<ContextInstanceHandle<?>>() {
+                @Override
+                public ContextInstanceHandle<?> get() {
+                    return createInstanceHandle(bean, creationalContext);
+                }
+            });
+            putSlot(bean, handle);
+        }
+        return (ContextInstanceHandle<T>) handle;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> ContextInstanceHandle<T> getHandleIfPresent(InjectableBean<T> bean) {
+        ContextInstanceHandle<?> handle = getSlot(bean);
+        if (handle == null) {
+            handle = instances.getValueIfPresent(bean.getIdentifier());
+            if (handle != null) {
+                putSlot(bean, handle);
+            }
+        }
+        return (ContextInstanceHandle<T>) handle;
+    }
+
+    private ContextInstanceHandle<?> getSlot(InjectableBean<?> bean) {
+        int slot = bean.getContextSlot();
+        AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+        if (slot >= 0 && slot < slots.length()) {
+            ContextInstanceHandle<?> handle = slots.get(slot);
+            // slots assigned by different components providers may clash
+            if (handle != null && handle.getBean() == bean) {
+                return handle;
+            }
+        }
+        return null;
+    }
+
+    private void putSlot(InjectableBean<?> bean, ContextInstanceHandle<?> handle) {
+        int slot = bean.getContextSlot();
+        AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+        if (slot >= 0 && slot < slots.length()) {
+            slots.set(slot, handle);
+            if (instances.getValueIfPresent(bean.getIdentifier()) != handle) {
+                // the instance was destroyed in the meantime
+                slots.compareAndSet(slot, handle, null);
+            }
+        }
+    }
+
+    private void clearSlot(InjectableBean<?> bean) {
+        int slot = bean.getContextSlot();
+        AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+        if (slot >= 0 && slot < slots.length()) {
+            ContextInstanceHandle<?> handle = slots.get(slot);
+            if (handle != null && handle.getBean() == bean) {
+                slots.compareAndSet(slot, handle, null);
+            }
+        }
+    }
+
+    private void clearSlots() {
+        AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
     }
 
     @Override
@@ -62,16 +140,27 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> handle = instances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> handle = remove((InjectableBean<?>) contextual);
         if (handle != null) {
             handle.destroy();
         }
     }
 
+    /**
+     * Removes the instance of the given bean from this context, without destroying it.
+     *
+     * @return the removed handle, or {@code null}
+     */
+    protected ContextInstanceHandle<?> remove(InjectableBean<?> bean) {
+        ContextInstanceHandle<?> handle = instances.remove(bean.getIdentifier());
+        clearSlot(bean);
+        return handle;
+    }
+
     @Override
     public synchronized void destroy() {
         Set<ContextInstanceHandle<?>> values = instances.getPresentValues();
+        clearSlots();
         // Destroy the producers first
         for (Iterator<ContextInstanceHandle<?>> iterator = values.iterator(); iterator.hasNext();) {
             ContextInstanceHandle<?> instanceHandle = iterator.next();
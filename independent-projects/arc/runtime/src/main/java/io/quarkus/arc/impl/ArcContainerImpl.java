@@ -6,6 +6,7 @@ import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.Components;
 import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableDecorator;
@@ -17,6 +18,8 @@ import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.RemovedBean;
 import io.quarkus.arc.ResourceReferenceProvider;
 import io.quarkus.arc.impl.ArcCDIProvider.ArcCDI;
+import io.quarkus.arc.impl.EventImpl.Notifier;
+import io.quarkus.arc.impl.EventImpl.NotifierKey;
 import java.lang.StackWalker.StackFrame;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -32,10 +35,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -46,6 +52,7 @@ import javax.enterprise.context.Dependent;
 import javax.enterprise.context.Destroyed;
 import javax.enterprise.context.Initialized;
 import javax.enterprise.context.NormalScope;
+import javax.enterprise.context.RequestScoped;
 import javax.enterprise.event.Event;
 import javax.enterprise.inject.AmbiguousResolutionException;
 import javax.enterprise.inject.Any;
@@ -67,6 +74,8 @@ public class ArcContainerImpl implements ArcContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+    // the max number of shared event notifiers; events fired with many different runtime types should not fill the heap
+    private static final int MAX_NOTIFIERS = 1024;
 
     private final String id;
 
@@ -88,6 +97,13 @@ public class ArcContainerImpl implements ArcContainer {
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    private final ConcurrentMap<NotifierKey, Notifier<?>> notifiers;
+
+    // Resolution statistics
+    private final LongAdder indexedResolutions;
+    private final LongAdder dynamicResolutions;
+    private final LongAdder materializedTypeClosures;
+    private final LongAdder dynamicResolutionMisses;
 
     private final ArrayList<ResourceReferenceProvider> resourceProviders;
 
@@ -96,6 +112,10 @@ public class ArcContainerImpl implements ArcContainer {
     private volatile ExecutorService executorService;
 
     public ArcContainerImpl() {
+        this(ThreadLocalCurrentContextFactory.INSTANCE);
+    }
+
+    public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
         id = String.valueOf(ID_GENERATOR.incrementAndGet());
         running = new AtomicBoolean(true);
         beans = new ArrayList<>();
@@ -108,7 +128,7 @@ public class ArcContainerImpl implements ArcContainer {
 
         applicationContext = new ApplicationContext();
         singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
+        requestContext = new RequestContext(currentContextFactory.create(RequestScoped.class));
         contexts = new HashMap<>();
         putContext(requestContext);
         putContext(applicationContext);
@@ -146,12 +166,18 @@ public class ArcContainerImpl implements ArcContainer {
         // register built-in beans
         addBuiltInBeans(beans);
         beans.trimToSize();
+        initContextSlots(beans);
 
         interceptors.sort((i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
+        notifiers = new ConcurrentHashMap<>();
+        indexedResolutions = new LongAdder();
+        dynamicResolutions = new LongAdder();
+        materializedTypeClosures = new LongAdder();
+        dynamicResolutionMisses = new LongAdder();
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -180,6 +206,21 @@ public class ArcContainerImpl implements ArcContainer {
         beans.add(InstanceBean.INSTANCE);
     }
 
+    private void initContextSlots(List<InjectableBean<?>> beans) {
+        int shared = 0;
+        int request = 0;
+        for (InjectableBean<?> bean : beans) {
+            if (RequestScoped.class.equals(bean.getScope())) {
+                request = Math.max(request, bean.getContextSlot() + 1);
+            } else {
+                shared = Math.max(shared, bean.getContextSlot() + 1);
+            }
+        }
+        ((AbstractSharedContext) applicationContext).initSlots(shared);
+        ((AbstractSharedContext) singletonContext).initSlots(shared);
+        ((RequestContext) requestContext).initSlots(request);
+    }
+
     public void init() {
         // Fire an event with qualifier @Initialized(ApplicationScoped.class)
         Set<Annotation> qualifiers = Set.of(Initialized.Literal.APPLICATION, Any.Literal.INSTANCE);
@@ -245,7 +286,7 @@ public class ArcContainerImpl implements ArcContainer {
         if (qualifiers == null || qualifiers.length == 0) {
             qualifiers = new Annotation[] { Default.Literal.INSTANCE };
         }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(type, qualifiers));
+        Set<InjectableBean<?>> resolvedBeans = lookup(new Resolvable(type, qualifiers));
         Set<InjectableBean<?>> filteredBean = resolvedBeans;
         if (resolvedBeans.size() > 1) {
             //if there are multiple beans we look for an exact match
@@ -346,6 +387,7 @@ public class ArcContainerImpl implements ArcContainer {
             }
             // Terminate request context if for any reason is still active
             requestContext.terminate();
+            ((RequestContext) requestContext).clearRecycled();
             // Fire an event with qualifier @BeforeDestroyed(ApplicationScoped.class)
             Set<Annotation> beforeDestroyQualifiers = new HashSet<>(4);
             beforeDestroyQualifiers.add(BeforeDestroyed.Literal.APPLICATION);
@@ -374,6 +416,7 @@ public class ArcContainerImpl implements ArcContainer {
             beans.clear();
             removedBeans.clear();
             resolved.clear();
+            notifiers.clear();
             observers.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
@@ -398,6 +441,30 @@ public class ArcContainerImpl implements ArcContainer {
         return new ArrayList<>(observers);
     }
 
+    /**
+     *
+     * @return a snapshot of the container data retained on the heap
+     */
+    public ContainerFootprint getFootprint() {
+        ContainerFootprint footprint = new ContainerFootprint();
+        footprint.beans = beans.size();
+        footprint.removedBeans = removedBeans.size();
+        footprint.interceptors = interceptors.size();
+        footprint.decorators = decorators.size();
+        footprint.observers = observers.size();
+        footprint.materializedTypeClosures = materializedTypeClosures.intValue();
+        footprint.cachedReflectionMembers = Reflections.cachedMembers();
+        footprint.resolvedLookups = resolved.size();
+        footprint.namedLookups = beansByName.size();
+        footprint.eventNotifiers = notifiers.size();
+        footprint.indexedResolutions = indexedResolutions.sum();
+        footprint.dynamicResolutions = dynamicResolutions.sum();
+        footprint.dynamicResolutionMisses = dynamicResolutionMisses.sum();
+        footprint.applicationContextInstances = applicationContext.getState().getContextualInstances().size();
+        footprint.singletonContextInstances = singletonContext.getState().getContextualInstances().size();
+        return footprint;
+    }
+
     InstanceHandle<Object> getResource(Type type, Set<Annotation> annotations) {
         for (ResourceReferenceProvider resourceProvider : resourceProviders) {
             InstanceHandle<Object> ret = resourceProvider.get(type, annotations);
@@ -448,7 +515,7 @@ public class ArcContainerImpl implements ArcContainer {
         } else {
             Qualifiers.verify(qualifiers, qualifierNonbindingMembers.keySet());
         }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(requiredType, qualifiers));
+        Set<InjectableBean<?>> resolvedBeans = lookup(new Resolvable(requiredType, qualifiers));
         return resolvedBeans.size() != 1 ? null : (InjectableBean<T>) resolvedBeans.iterator().next();
     }
 
@@ -501,7 +568,16 @@ public class ArcContainerImpl implements ArcContainer {
         return false;
     }
 
+    private Set<InjectableBean<?>> lookup(Resolvable resolvable) {
+        dynamicResolutions.increment();
+        return resolved.getValue(resolvable);
+    }
+
     private Set<InjectableBean<?>> resolve(Resolvable resolvable) {
+        // The result was not computed yet - the first lookup of a type that was not indexed at build time is expensive
+        dynamicResolutionMisses.increment();
+        LOGGER.debugf("Dynamic resolution of the required type %s and qualifiers %s", resolvable.requiredType,
+                Arrays.toString(resolvable.qualifiers));
         return resolve(getMatchingBeans(resolvable));
     }
 
@@ -606,7 +682,13 @@ public class ArcContainerImpl implements ArcContainer {
 
     List<InjectableBean<?>> getMatchingBeans(Resolvable resolvable) {
         List<InjectableBean<?>> matching = new ArrayList<>();
+        // skip the beans that cannot match without materializing their bean types
+        Class<?> rawType = Reflections.getRawType(resolvable.requiredType);
+        String rawTypeName = rawType == null || rawType.isPrimitive() || rawType.isArray() ? null : rawType.getName();
         for (InjectableBean<?> bean : beans) {
+            if (rawTypeName != null && !bean.mayHaveRawType(rawTypeName)) {
+                continue;
+            }
             if (matches(bean, resolvable.requiredType, resolvable.qualifiers)) {
                 matching.add(bean);
             }
@@ -709,6 +791,31 @@ public class ArcContainerImpl implements ArcContainer {
         return resolvedObservers;
     }
 
+    /**
+     * The observers are only resolved once for the given event type and qualifiers; the notifier is then shared by all
+     * {@link EventImpl} instances.
+     *
+     * @param runtimeType
+     * @param eventType
+     * @param qualifiers
+     * @return the notifier
+     */
+    @SuppressWarnings("unchecked")
+    <T> Notifier<T> getNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers) {
+        NotifierKey key = new NotifierKey(eventType, qualifiers);
+        Notifier<?> notifier = notifiers.get(key);
+        if (notifier == null) {
+            notifier = EventImpl.createNotifier(runtimeType, eventType, qualifiers, this);
+            if (notifiers.size() < MAX_NOTIFIERS) {
+                Notifier<?> previous = notifiers.putIfAbsent(key, notifier);
+                if (previous != null) {
+                    notifier = previous;
+                }
+            }
+        }
+        return (Notifier<T>) notifier;
+    }
+
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
         if (interceptors.isEmpty()) {
             return Collections.emptyList();
@@ -772,7 +879,26 @@ public class ArcContainerImpl implements ArcContainer {
         if (qualifiers == null || qualifiers.length == 0) {
             qualifiers = new Annotation[] { Default.Literal.INSTANCE };
         }
-        return resolved.getValue(new Resolvable(requiredType, qualifiers));
+        return lookup(new Resolvable(requiredType, qualifiers));
+    }
+
+    /**
+     * Looks up the beans resolved at build time for an injection point.
+     *
+     * @param identifiers
+     * @return the resolved beans or {@code null} if some of the beans is not registered in this container
+     */
+    List<InjectableBean<?>> getIndexedBeans(String[] identifiers) {
+        List<InjectableBean<?>> ret = new ArrayList<>(identifiers.length);
+        for (String identifier : identifiers) {
+            InjectableBean<?> bean = beansById.getValue(identifier);
+            if (bean == null) {
+                return null;
+            }
+            ret.add(bean);
+        }
+        indexedResolutions.increment();
+        return ret;
     }
 
     private boolean matches(InjectableBean<?> bean, Type requiredType, Annotation... qualifiers) {
@@ -786,6 +912,10 @@ public class ArcContainerImpl implements ArcContainer {
         return Qualifiers.hasQualifiers(beanQualifiers, qualifierNonbindingMembers, qualifiers);
     }
 
+    void typeClosureMaterialized() {
+        materializedTypeClosures.increment();
+    }
+
     static ArcContainerImpl unwrap(ArcContainer container) {
         if (container instanceof ArcContainerImpl) {
             return (ArcContainerImpl) container;
@@ -1,6 +1,8 @@
 package io.quarkus.arc.impl;
 
+import io.quarkus.arc.ArcInvocationContext;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
@@ -12,43 +14,48 @@ import javax.interceptor.InvocationContext;
 /**
  * Special type of InvocationContext for AroundInvoke interceptors.
  * <p>
- * A new instance of {@link AroundInvokeInvocationContext} is created for each interceptor in the chain. This does not comply
- * with the spec but allows for "asynchronous continuation" of an interceptor chain execution. In other words, it is possible to
- * "cut off" the chain (interceptors executed before dispatch return immediately) and execute all remaining interceptors
- * asynchronously, possibly on a different thread.
+ * A single instance of {@link AroundInvokeInvocationContext} is created for each invocation of an intercepted method and it
+ * is passed to the first interceptor in the chain. Each subsequent interceptor receives a lightweight
+ * {@link NextAroundInvokeInvocationContext} that only holds the position of the next interceptor and delegates to this
+ * instance. A separate object per position does not comply with the spec but allows for "asynchronous continuation" of an
+ * interceptor chain execution. In other words, it is possible to "cut off" the chain (interceptors executed before dispatch
+ * return immediately) and execute all remaining interceptors asynchronously, possibly on a different thread.
  * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredicatble behavior may occur.
  */
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
-    private final int position;
+    private final InterceptorInvocation[] invocations;
     private final Function<InvocationContext, Object> aroundInvokeForward;
 
-    AroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
-            LazyValue<Map<String, Object>> contextData, Set<Annotation> interceptorBindings, int position,
-            List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
-        super(target, method, null, parameters, contextData, interceptorBindings, chain);
-        this.position = position;
+    AroundInvokeInvocationContext(Object target, Method method, Object[] parameters, Set<Annotation> interceptorBindings,
+            InterceptorInvocation[] invocations, Function<InvocationContext, Object> aroundInvokeForward) {
+        // the chain is held in an array
+        super(target, method, null, parameters, interceptorBindings, null);
+        this.invocations = invocations;
         this.aroundInvokeForward = aroundInvokeForward;
     }
 
     static Object perform(Object target, Method method,
             Function<InvocationContext, Object> aroundInvokeForward, Object[] parameters,
-            List<InterceptorInvocation> chain,
+            InterceptorInvocation[] invocations,
             Set<Annotation> interceptorBindings) throws Exception {
 
-        return chain.get(0).invoke(new AroundInvokeInvocationContext(target, method,
-                parameters, null, interceptorBindings, 1, chain, aroundInvokeForward));
+        return invocations[0].invoke(new AroundInvokeInvocationContext(target, method,
+                parameters, interceptorBindings, invocations, aroundInvokeForward));
     }
 
     @Override
     public Object proceed() throws Exception {
+        return proceed(1);
+    }
+
+    Object proceed(int position) throws Exception {
         try {
-            if (position < chain.size()) {
+            if (position < invocations.length) {
                 // Invoke the next interceptor in the chain
-                return chain.get(position).invoke(new AroundInvokeInvocationContext(target, method,
-                        parameters, contextData, interceptorBindings, position + 1, chain, aroundInvokeForward));
+                return invocations[position].invoke(new NextAroundInvokeInvocationContext(position + 1));
             } else {
                 // Invoke the target method
                 return aroundInvokeForward.apply(this);
@@ -65,4 +72,72 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
         }
     }
 
+    /**
+     * The context passed to the interceptors after the first one; it only holds the position of the next interceptor.
+     */
+    class NextAroundInvokeInvocationContext implements ArcInvocationContext {
+
+        private final int position;
+
+        NextAroundInvokeInvocationContext(int position) {
+            this.position = position;
+        }
+
+        @Override
+        public Object proceed() throws Exception {
+            return AroundInvokeInvocationContext.this.proceed(position);
+        }
+
+        @Override
+        public Object getTarget() {
+            return target;
+        }
+
+        @Override
+        public Object getTimer() {
+            return null;
+        }
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Constructor<?> getConstructor() {
+            return null;
+        }
+
+        @Override
+        public Object[] getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public void setParameters(Object[] params) {
+            AroundInvokeInvocationContext.this.setParameters(params);
+        }
+
+        @Override
+        public Map<String, Object> getContextData() {
+            return AroundInvokeInvocationContext.this.getContextData();
+        }
+
+        @Override
+        public Set<Annotation> getInterceptorBindings() {
+            return interceptorBindings;
+        }
+
+        @Override
+        public <T extends Annotation> T findIterceptorBinding(Class<T> annotationType) {
+            return AroundInvokeInvocationContext.this.findIterceptorBinding(annotationType);
+        }
+
+        @Override
+        public <T extends Annotation> List<T> findIterceptorBindings(Class<T> annotationType) {
+            return AroundInvokeInvocationContext.this.findIterceptorBindings(annotationType);
+        }
+
+    }
+
 }
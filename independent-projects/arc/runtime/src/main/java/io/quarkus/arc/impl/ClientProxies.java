@@ -1,6 +1,7 @@
 package io.quarkus.arc.impl;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 import java.util.List;
@@ -20,6 +21,29 @@ public final class ClientProxies {
         return result;
     }
 
+    /**
+     * The handle returned by this method is cached by the client proxy; it remains valid until the contextual instance is
+     * destroyed.
+     *
+     * @param applicationContext
+     * @param bean
+     * @param cached the handle cached by the client proxy, may be {@code null}
+     * @return the handle of the contextual instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ContextInstanceHandle<T> getApplicationScopedHandle(InjectableContext applicationContext,
+            InjectableBean<T> bean, ContextInstanceHandle<T> cached) {
+        if (cached != null && !((ContextInstanceHandleImpl<T>) cached).isDestroyed()) {
+            return cached;
+        }
+        AbstractSharedContext context = (AbstractSharedContext) applicationContext;
+        ContextInstanceHandle<T> handle = context.getHandleIfPresent(bean);
+        if (handle == null) {
+            handle = context.getHandle(bean, newCreationalContext(bean));
+        }
+        return handle;
+    }
+
     public static <T> T getDelegate(InjectableBean<T> bean) {
         List<InjectableContext> contexts = Arc.container().getContexts(bean.getScope());
         T result = null;
@@ -78,6 +78,10 @@ public class ComputingCache<K, V> {
         map.clear();
     }
 
+    public int size() {
+        return map.size();
+    }
+
     public void forEachValue(Consumer<? super V> action) {
         Objects.requireNonNull(action);
         for (LazyValue<V> value : map.values()) {
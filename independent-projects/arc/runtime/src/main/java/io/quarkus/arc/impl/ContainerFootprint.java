@@ -0,0 +1,133 @@
+package io.quarkus.arc.impl;
+
+/**
+ * A snapshot of the container data retained on the heap and of the bean resolution statistics.
+ *
+ * @see ArcContainerImpl#getFootprint()
+ */
+public final class ContainerFootprint {
+
+    int beans;
+    int removedBeans;
+    int interceptors;
+    int decorators;
+    int observers;
+    int materializedTypeClosures;
+    int cachedReflectionMembers;
+    int resolvedLookups;
+    int namedLookups;
+    int eventNotifiers;
+    long indexedResolutions;
+    long dynamicResolutions;
+    long dynamicResolutionMisses;
+    int applicationContextInstances;
+    int singletonContextInstances;
+
+    ContainerFootprint() {
+    }
+
+    public int getBeans() {
+        return beans;
+    }
+
+    public int getRemovedBeans() {
+        return removedBeans;
+    }
+
+    public int getInterceptors() {
+        return interceptors;
+    }
+
+    public int getDecorators() {
+        return decorators;
+    }
+
+    public int getObservers() {
+        return observers;
+    }
+
+    /**
+     *
+     * @return the number of beans, interceptors and decorators with materialized bean types
+     */
+    public int getMaterializedTypeClosures() {
+        return materializedTypeClosures;
+    }
+
+    /**
+     *
+     * @return the number of fields and methods held in the reflection cache
+     */
+    public int getCachedReflectionMembers() {
+        return cachedReflectionMembers;
+    }
+
+    /**
+     *
+     * @return the number of cached results of dynamic lookups by type and qualifiers
+     */
+    public int getResolvedLookups() {
+        return resolvedLookups;
+    }
+
+    /**
+     *
+     * @return the number of cached results of dynamic lookups by name
+     */
+    public int getNamedLookups() {
+        return namedLookups;
+    }
+
+    /**
+     *
+     * @return the number of shared event notifiers
+     */
+    public int getEventNotifiers() {
+        return eventNotifiers;
+    }
+
+    /**
+     *
+     * @return the number of lookups served by the bean resolution computed at build time
+     */
+    public long getIndexedResolutions() {
+        return indexedResolutions;
+    }
+
+    /**
+     *
+     * @return the number of lookups that had to perform typesafe resolution at runtime
+     */
+    public long getDynamicResolutions() {
+        return dynamicResolutions;
+    }
+
+    /**
+     *
+     * @return the number of dynamic lookups whose result was not cached yet
+     */
+    public long getDynamicResolutionMisses() {
+        return dynamicResolutionMisses;
+    }
+
+    public int getApplicationContextInstances() {
+        return applicationContextInstances;
+    }
+
+    public int getSingletonContextInstances() {
+        return singletonContextInstances;
+    }
+
+    @Override
+    public String toString() {
+        return "ContainerFootprint [beans=" + beans + ", removedBeans=" + removedBeans + ", interceptors=" + interceptors
+                + ", decorators=" + decorators + ", observers=" + observers + ", materializedTypeClosures="
+                + materializedTypeClosures + ", cachedReflectionMembers=" + cachedReflectionMembers + ", resolvedLookups="
+                + resolvedLookups + ", namedLookups=" + namedLookups + ", eventNotifiers=" + eventNotifiers
+                + ", indexedResolutions=" + indexedResolutions + ", dynamicResolutions=" + dynamicResolutions
+                + ", dynamicResolutionMisses=" + dynamicResolutionMisses
+                + ", applicationContextInstances=" + applicationContextInstances + ", singletonContextInstances="
+                + singletonContextInstances + "]";
+    }
+
+}
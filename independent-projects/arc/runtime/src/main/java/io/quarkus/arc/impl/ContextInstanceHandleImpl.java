@@ -11,13 +11,21 @@ import javax.enterprise.context.spi.CreationalContext;
  */
 public class ContextInstanceHandleImpl<T> extends EagerInstanceHandle<T> implements ContextInstanceHandle<T> {
 
+    // only used to invalidate the handles cached by client proxies
+    private volatile boolean destroyed;
+
     public ContextInstanceHandleImpl(InjectableBean<T> bean, T instance, CreationalContext<T> creationalContext) {
         super(bean, instance, creationalContext);
     }
 
     @Override
     public void destroy() {
+        destroyed = true;
         destroyInternal();
     }
 
+    boolean isDestroyed() {
+        return destroyed;
+    }
+
 }
@@ -61,28 +61,27 @@ public class CurrentInjectionPointProvider<T> implements InjectableReferenceProv
 
     public static class InjectionPointImpl implements InjectionPoint {
 
+        private final Type injectionPointType;
         private final Type requiredType;
         private final Set<Annotation> qualifiers;
         private final InjectableBean<?> bean;
-        private final Annotated annotated;
+        private final Set<Annotation> annotations;
         private final Member member;
+        private final int position;
+        // the annotated is created lazily because most dependent beans only need the type and qualifiers
+        private volatile Annotated annotated;
 
         public InjectionPointImpl(Type injectionPointType, Type requiredType, Set<Annotation> qualifiers,
                 InjectableBean<?> bean,
                 Set<Annotation> annotations,
                 Member javaMember, int position) {
+            this.injectionPointType = injectionPointType;
             this.requiredType = requiredType;
             this.qualifiers = qualifiers;
             this.bean = bean;
-            if (javaMember instanceof Executable) {
-                this.annotated = new AnnotatedParameterImpl<>(injectionPointType, annotations, position,
-                        (Executable) javaMember);
-            } else if (javaMember instanceof Field) {
-                this.annotated = new AnnotatedFieldImpl<>(injectionPointType, annotations, (Field) javaMember);
-            } else {
-                this.annotated = null;
-            }
+            this.annotations = annotations;
             this.member = javaMember;
+            this.position = position;
         }
 
         @Override
@@ -102,12 +101,24 @@ public class CurrentInjectionPointProvider<T> implements InjectableReferenceProv
 
         @Override
         public Member getMember() {
-            return member;
+            return LazyMember.resolve(member);
         }
 
         @Override
         public Annotated getAnnotated() {
-            return annotated;
+            Annotated ret = annotated;
+            if (ret == null) {
+                Member javaMember = getMember();
+                if (javaMember instanceof Executable) {
+                    ret = new AnnotatedParameterImpl<>(injectionPointType, annotations, position, (Executable) javaMember);
+                } else if (javaMember instanceof Field) {
+                    ret = new AnnotatedFieldImpl<>(injectionPointType, annotations, (Field) javaMember);
+                } else {
+                    return null;
+                }
+                annotated = ret;
+            }
+            return ret;
         }
 
         @Override
@@ -3,6 +3,7 @@ package io.quarkus.arc.impl;
 import static javax.transaction.Status.STATUS_COMMITTED;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.EventNotificationOptions;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import java.lang.annotation.Annotation;
@@ -13,14 +14,17 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import javax.enterprise.event.Event;
@@ -47,13 +51,11 @@ import org.jboss.logging.Logger;
  */
 class EventImpl<T> implements Event<T> {
 
-    private static final int DEFAULT_CACHE_CAPACITY = 4;
     private static final NotificationOptions EMPTY_OPTIONS = NotificationOptions.builder().build();
 
     private final HierarchyDiscovery injectionPointTypeHierarchy;
     private final Type eventType;
     private final Set<Annotation> qualifiers;
-    private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
 
     private transient volatile Notifier<? super T> lastNotifier;
 
@@ -64,7 +66,6 @@ class EventImpl<T> implements Event<T> {
         this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
         this.qualifiers = qualifiers;
         this.qualifiers.add(Any.Literal.INSTANCE);
-        this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
     }
 
     @Override
@@ -90,10 +91,15 @@ class EventImpl<T> implements Event<T> {
             executor = Arc.container().getExecutorService();
         }
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasAsyncObservers()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        if (Boolean.TRUE.equals(options.get(EventNotificationOptions.BATCHED))) {
+            return new AsyncEventDeliveryStage<>(
+                    notifier.batch(executor, options.getExecutor() == null).submit(event, executor), executor);
+        }
+
         Supplier<U> notifyLogic = new Supplier<U>() {
             @Override
             public U get() {
@@ -113,7 +119,9 @@ class EventImpl<T> implements Event<T> {
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
             return notifier;
         }
-        return this.lastNotifier = notifiers.computeIfAbsent(runtimeType, this::createNotifier);
+        // the notifiers are shared by all event instances with the same event type and qualifiers
+        return this.lastNotifier = ArcContainerImpl.unwrap(Arc.container()).getNotifier(runtimeType,
+                getEventType(runtimeType), qualifiers);
     }
 
     @Override
@@ -144,11 +152,6 @@ class EventImpl<T> implements Event<T> {
         return new EventImpl<U>(subtype.getType(), mergerdQualifiers);
     }
 
-    private Notifier<? super T> createNotifier(Class<?> runtimeType) {
-        Type eventType = getEventType(runtimeType);
-        return createNotifier(runtimeType, eventType, qualifiers, ArcContainerImpl.unwrap(Arc.container()));
-    }
-
     static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers,
             ArcContainerImpl container) {
         return createNotifier(runtimeType, eventType, qualifiers, container, true);
@@ -197,7 +200,7 @@ class EventImpl<T> implements Event<T> {
         return resolvedType;
     }
 
-    private void handleExceptions(ObserverExceptionHandler handler) {
+    static void handleExceptions(ObserverExceptionHandler handler) {
         List<Throwable> handledExceptions = handler.getHandledExceptions();
         if (!handledExceptions.isEmpty()) {
             CompletionException exception = null;
@@ -217,9 +220,16 @@ class EventImpl<T> implements Event<T> {
 
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
+        // dispatch tables - observers sorted by priority and split by the notification mode
+        private final ObserverMethod<? super T>[] syncObservers;
+        private final ObserverMethod<? super T>[] asyncObservers;
         private final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
         private final boolean activateRequestContext;
+        // the batch for the container executor
+        private volatile AsyncBatch<T> defaultBatch;
+        // the batches for the executors supplied by the callers, which may be created per call and must not be retained
+        private final Map<Executor, AsyncBatch<T>> batches;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this(runtimeType, observerMethods, eventMetadata, true);
@@ -229,93 +239,119 @@ class EventImpl<T> implements Event<T> {
                 boolean activateRequestContext) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
+            List<ObserverMethod<? super T>> sync = new ArrayList<>(observerMethods.size());
+            List<ObserverMethod<? super T>> async = new ArrayList<>(observerMethods.size());
+            boolean hasTxObservers = false;
+            for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                if (observerMethod.isAsync()) {
+                    async.add(observerMethod);
+                } else {
+                    sync.add(observerMethod);
+                }
+                if (isTxObserver(observerMethod)) {
+                    hasTxObservers = true;
+                }
+            }
+            this.syncObservers = toArray(sync);
+            this.asyncObservers = toArray(async);
             this.eventMetadata = eventMetadata;
-            this.hasTxObservers = observerMethods.stream().anyMatch(this::isTxObserver);
+            this.hasTxObservers = hasTxObservers;
             this.activateRequestContext = activateRequestContext;
+            this.batches = Collections.synchronizedMap(new WeakHashMap<>(2));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> ObserverMethod<? super T>[] toArray(List<ObserverMethod<? super T>> observerMethods) {
+            return observerMethods.toArray(new ObserverMethod[0]);
         }
 
         void notify(T event) {
             notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
         }
 
-        @SuppressWarnings("rawtypes")
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
-
-                Predicate<ObserverMethod<? super T>> predicate = async ? ObserverMethod::isAsync
-                        : Predicate.not(ObserverMethod::isAsync);
-
-                if (!async && hasTxObservers) {
-                    // Note that tx observers are never async
-                    InstanceHandle<TransactionManager> transactionManagerInstance = Arc.container()
-                            .instance(TransactionManager.class);
-
+            ObserverMethod<? super T>[] observers = async ? asyncObservers : syncObservers;
+            if (observers.length == 0) {
+                return;
+            }
+            // Note that tx observers are never async
+            Predicate<ObserverMethod<? super T>> predicate = !async && hasTxObservers ? registerTxObservers(event) : null;
+
+            // Non-tx observers notifications
+            if (activateRequestContext) {
+                ManagedContext requestContext = Arc.container().requestContext();
+                if (requestContext.isActive()) {
+                    notifyObservers(event, exceptionHandler, observers, predicate);
+                } else {
                     try {
-                        if (transactionManagerInstance.isAvailable() &&
-                                transactionManagerInstance.get().getStatus() == javax.transaction.Status.STATUS_ACTIVE) {
-                            // we have one or more transactional OM, and TransactionManager is available
-                            // we attempt to register a JTA synchronization
-                            List<DeferredEventNotification<?>> deferredEvents = new ArrayList<>();
-                            EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-
-                            for (ObserverMethod<? super T> om : observerMethods) {
-                                if (isTxObserver(om)) {
-                                    deferredEvents.add(new DeferredEventNotification<>(om, eventContext,
-                                            Status.valueOf(om.getTransactionPhase())));
-                                }
-                            }
-
-                            Synchronization sync = new ArcSynchronization(deferredEvents);
-                            TransactionManager txManager = transactionManagerInstance.get();
-                            try {
-                                // NOTE - We are using standard synchronization on purpose as that seems more
-                                // fitting than interposed sync. Either way will have some use-cases that won't work.
-                                // See for instance discussions on https://github.com/eclipse-ee4j/cdi/issues/467
-                                txManager.getTransaction().registerSynchronization(sync);
-                                // registration succeeded, notify all non-tx observers synchronously
-                                predicate = predicate.and(this::isNotTxObserver);
-                            } catch (Exception e) {
-                                if (e.getCause() instanceof RollbackException
-                                        || e.getCause() instanceof IllegalStateException
-                                        || e.getCause() instanceof SystemException) {
-                                    // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
-                                    predicate = predicate.and(this::isNotAfterSuccess);
-                                }
-                            }
-                        }
-                    } catch (SystemException e) {
-                        // In theory, this can be thrown by TransactionManager#getStatus() at which point we cannot even
-                        // determine if we should register some synchronization, therefore, we only log this
-                        LOGGER.debugf("Failure when trying to invoke TransactionManager#getStatus(). Stacktrace: %s",
-                                e.getCause() != null ? e.getCause() : e);
+                        requestContext.activate();
+                        notifyObservers(event, exceptionHandler, observers, predicate);
+                    } finally {
+                        requestContext.terminate();
                     }
                 }
+            } else {
+                notifyObservers(event, exceptionHandler, observers, predicate);
+            }
+        }
 
-                // Non-tx observers notifications
-                if (activateRequestContext) {
-                    ManagedContext requestContext = Arc.container().requestContext();
-                    if (requestContext.isActive()) {
-                        notifyObservers(event, exceptionHandler, predicate);
-                    } else {
-                        try {
-                            requestContext.activate();
-                            notifyObservers(event, exceptionHandler, predicate);
-                        } finally {
-                            requestContext.terminate();
+        /**
+         * Attempts to register a JTA synchronization for the transactional observers.
+         *
+         * @return the predicate used to filter the observers that should be notified immediately, or {@code null} if all
+         *         observers should be notified
+         */
+        private Predicate<ObserverMethod<? super T>> registerTxObservers(T event) {
+            InstanceHandle<TransactionManager> transactionManagerInstance = Arc.container()
+                    .instance(TransactionManager.class);
+            try {
+                if (transactionManagerInstance.isAvailable() &&
+                        transactionManagerInstance.get().getStatus() == javax.transaction.Status.STATUS_ACTIVE) {
+                    // we have one or more transactional OM, and TransactionManager is available
+                    // we attempt to register a JTA synchronization
+                    List<DeferredEventNotification<?>> deferredEvents = new ArrayList<>();
+                    EventContext<T> eventContext = new EventContextImpl<>(event, eventMetadata);
+
+                    for (ObserverMethod<? super T> om : observerMethods) {
+                        if (isTxObserver(om)) {
+                            deferredEvents.add(new DeferredEventNotification<>(om, eventContext,
+                                    Status.valueOf(om.getTransactionPhase())));
+                        }
+                    }
+
+                    Synchronization sync = new ArcSynchronization(deferredEvents);
+                    TransactionManager txManager = transactionManagerInstance.get();
+                    try {
+                        // NOTE - We are using standard synchronization on purpose as that seems more
+                        // fitting than interposed sync. Either way will have some use-cases that won't work.
+                        // See for instance discussions on https://github.com/eclipse-ee4j/cdi/issues/467
+                        txManager.getTransaction().registerSynchronization(sync);
+                        // registration succeeded, notify all non-tx observers synchronously
+                        return this::isNotTxObserver;
+                    } catch (Exception e) {
+                        if (e.getCause() instanceof RollbackException
+                                || e.getCause() instanceof IllegalStateException
+                                || e.getCause() instanceof SystemException) {
+                            // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
+                            return this::isNotAfterSuccess;
                         }
                     }
-                } else {
-                    notifyObservers(event, exceptionHandler, predicate);
                 }
+            } catch (SystemException e) {
+                // In theory, this can be thrown by TransactionManager#getStatus() at which point we cannot even
+                // determine if we should register some synchronization, therefore, we only log this
+                LOGGER.debugf("Failure when trying to invoke TransactionManager#getStatus(). Stacktrace: %s",
+                        e.getCause() != null ? e.getCause() : e);
             }
+            return null;
         }
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
-                Predicate<ObserverMethod<? super T>> predicate) {
+                ObserverMethod<? super T>[] observers, Predicate<ObserverMethod<? super T>> predicate) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-            for (ObserverMethod<? super T> observerMethod : observerMethods) {
-                if (predicate.test(observerMethod)) {
+            for (ObserverMethod<? super T> observerMethod : observers) {
+                if (predicate == null || predicate.test(observerMethod)) {
                     try {
                         observerMethod.notify(eventContext);
                     } catch (Throwable e) {
@@ -325,10 +361,31 @@ class EventImpl<T> implements Event<T> {
             }
         }
 
+        AsyncBatch<T> batch(Executor executor, boolean defaultExecutor) {
+            if (defaultExecutor) {
+                AsyncBatch<T> batch = defaultBatch;
+                if (batch == null) {
+                    synchronized (this) {
+                        batch = defaultBatch;
+                        if (batch == null) {
+                            batch = defaultBatch = new AsyncBatch<>(this);
+                        }
+                    }
+                }
+                return batch;
+            }
+            // the batch does not reference the executor, so the entry goes away with the executor
+            return batches.computeIfAbsent(executor, e -> new AsyncBatch<>(this));
+        }
+
         boolean isEmpty() {
             return observerMethods.isEmpty();
         }
 
+        boolean hasAsyncObservers() {
+            return asyncObservers.length > 0;
+        }
+
         private boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
@@ -343,6 +400,151 @@ class EventImpl<T> implements Event<T> {
 
     }
 
+    /**
+     * Identifies a shared {@link Notifier}, see {@link ArcContainerImpl#getNotifier(Class, Type, Set)}.
+     */
+    static final class NotifierKey {
+
+        private final Type eventType;
+        private final Set<Annotation> qualifiers;
+        private final int hashCode;
+
+        NotifierKey(Type eventType, Set<Annotation> qualifiers) {
+            this.eventType = eventType;
+            this.qualifiers = qualifiers;
+            this.hashCode = 31 * eventType.hashCode() + qualifiers.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof NotifierKey)) {
+                return false;
+            }
+            NotifierKey other = (NotifierKey) obj;
+            return hashCode == other.hashCode && eventType.equals(other.eventType) && qualifiers.equals(other.qualifiers);
+        }
+
+    }
+
+    /**
+     * Coalesces the asynchronous events fired with {@link EventNotificationOptions#BATCHED} for a specific notifier and
+     * executor. At most one drain task is scheduled on the executor at a time; the task notifies the observers for all
+     * pending events within a single request context activation and then completes the futures.
+     * <p>
+     * The executor is only referenced by the scheduled task, so that a batch does not keep it from being garbage collected.
+     *
+     * @param <T>
+     */
+    static final class AsyncBatch<T> {
+
+        static final int MAX_BATCH_SIZE = 128;
+
+        private final Notifier<T> notifier;
+        private final Queue<PendingEvent<T>> pending;
+        private final AtomicBoolean scheduled;
+
+        AsyncBatch(Notifier<T> notifier) {
+            this.notifier = notifier;
+            this.pending = new ConcurrentLinkedQueue<>();
+            this.scheduled = new AtomicBoolean();
+        }
+
+        <U extends T> CompletableFuture<U> submit(U event, Executor executor) {
+            CompletableFuture<U> future = new CompletableFuture<>();
+            @SuppressWarnings("unchecked")
+            PendingEvent<T> pendingEvent = new PendingEvent<>(event, (CompletableFuture<T>) future);
+            pending.add(pendingEvent);
+            schedule(executor);
+            return future;
+        }
+
+        void run(Executor executor) {
+            List<PendingEvent<T>> delivered = new ArrayList<>();
+            try {
+                ManagedContext requestContext = notifier.activateRequestContext ? Arc.container().requestContext()
+                        : null;
+                if (requestContext == null || requestContext.isActive()) {
+                    drain(delivered);
+                } else {
+                    try {
+                        requestContext.activate();
+                        drain(delivered);
+                    } finally {
+                        requestContext.terminate();
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                // complete the futures once the request context is terminated
+                for (PendingEvent<T> event : delivered) {
+                    event.complete();
+                }
+                if (!pending.isEmpty()) {
+                    schedule(executor);
+                }
+            }
+        }
+
+        private void drain(List<PendingEvent<T>> delivered) {
+            PendingEvent<T> event;
+            while (delivered.size() < MAX_BATCH_SIZE && (event = pending.poll()) != null) {
+                delivered.add(event);
+                notifier.notify(event.event, event.exceptionHandler, true);
+            }
+        }
+
+        private void schedule(Executor executor) {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            AsyncBatch.this.run(executor);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    scheduled.set(false);
+                    PendingEvent<T> event;
+                    while ((event = pending.poll()) != null) {
+                        event.future.completeExceptionally(e);
+                    }
+                }
+            }
+        }
+
+    }
+
+    static final class PendingEvent<T> {
+
+        final T event;
+        final CompletableFuture<T> future;
+        final CollectingExceptionHandler exceptionHandler;
+
+        PendingEvent(T event, CompletableFuture<T> future) {
+            this.event = event;
+            this.future = future;
+            this.exceptionHandler = new CollectingExceptionHandler(new ArrayList<>(1));
+        }
+
+        void complete() {
+            try {
+                handleExceptions(exceptionHandler);
+                future.complete(event);
+            } catch (CompletionException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+    }
+
     static class EventContextImpl<T> implements EventContext<T> {
 
         private final T payload;
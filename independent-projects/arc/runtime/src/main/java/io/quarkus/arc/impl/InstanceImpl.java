@@ -68,11 +68,21 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
 
     InstanceImpl(InjectableBean<?> targetBean, Type injectionPointType, Type requiredType, Set<Annotation> requiredQualifiers,
             CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
+        this(targetBean, injectionPointType, requiredType, requiredQualifiers, creationalContext, annotations, javaMember,
+                position, null);
+    }
+
+    InstanceImpl(InjectableBean<?> targetBean, Type injectionPointType, Type requiredType, Set<Annotation> requiredQualifiers,
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            String[] resolvedBeanIds) {
         this.injectionPointType = injectionPointType;
         this.requiredType = requiredType;
         this.requiredQualifiers = requiredQualifiers != null ? requiredQualifiers : Collections.emptySet();
         this.creationalContext = creationalContext;
-        if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
+        if (resolvedBeanIds != null) {
+            // The beans were resolved at build time
+            this.resolvedBeans = Instances.resolveBeans(requiredType, this.requiredQualifiers, resolvedBeanIds);
+        } else if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
             // Do not prefetch the beans for Instance<Object> with no qualifiers
             this.resolvedBeans = null;
         } else {
@@ -282,7 +292,7 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
 
     }
 
-    private static Type getRequiredType(Type type) {
+    static Type getRequiredType(Type type) {
         if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
             if (Provider.class.isAssignableFrom(Types.getRawType(parameterizedType.getRawType()))) {
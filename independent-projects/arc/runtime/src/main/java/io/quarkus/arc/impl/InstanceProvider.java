@@ -21,23 +21,31 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
     private final Set<Annotation> annotations;
     private final Member javaMember;
     private final int position;
+    // The identifiers of the beans resolved at build time, may be null
+    private final String[] resolvedBeanIds;
 
     public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
             Member javaMember, int position) {
+        this(type, qualifiers, targetBean, annotations, javaMember, position, null);
+    }
+
+    public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
+            Member javaMember, int position, String[] resolvedBeanIds) {
         this.requiredType = type;
         this.qualifiers = qualifiers;
         this.targetBean = targetBean;
         this.annotations = annotations;
         this.javaMember = javaMember;
         this.position = position;
+        this.resolvedBeanIds = resolvedBeanIds;
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     public Instance<T> get(CreationalContext<Instance<T>> creationalContext) {
-        InstanceImpl<T> instance = new InstanceImpl<T>(targetBean, requiredType, qualifiers,
-                CreationalContextImpl.unwrap(creationalContext),
-                annotations, javaMember, position);
+        InstanceImpl<T> instance = new InstanceImpl<T>(targetBean, requiredType, InstanceImpl.getRequiredType(requiredType),
+                qualifiers, CreationalContextImpl.unwrap(creationalContext), annotations, javaMember, position,
+                resolvedBeanIds);
         CreationalContextImpl.addDependencyToParent(InstanceBean.INSTANCE, instance,
                 (CreationalContext) creationalContext);
         return instance;
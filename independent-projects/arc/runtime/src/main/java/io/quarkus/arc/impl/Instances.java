@@ -40,11 +40,41 @@ public final class Instances {
                 .collect(Collectors.toUnmodifiableList());
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Uses the beans resolved at build time if possible, and falls back to the typesafe resolution otherwise.
+     *
+     * @param requiredType
+     * @param requiredQualifiers
+     * @param resolvedBeanIds the identifiers of the beans resolved at build time, may be {@code null}
+     * @return the list of resolved beans
+     */
+    static List<InjectableBean<?>> resolveBeans(Type requiredType, Set<Annotation> requiredQualifiers,
+            String[] resolvedBeanIds) {
+        if (resolvedBeanIds != null) {
+            List<InjectableBean<?>> beans = ArcContainerImpl.instance().getIndexedBeans(resolvedBeanIds);
+            if (beans != null) {
+                return beans.stream()
+                        .filter(Predicate.not(InjectableBean::isSuppressed))
+                        .sorted(PRIORITY_COMPARATOR)
+                        .collect(Collectors.toUnmodifiableList());
+            }
+        }
+        return resolveBeans(requiredType, requiredQualifiers);
+    }
+
     public static <T> List<T> listOf(InjectableBean<?> targetBean, Type injectionPointType, Type requiredType,
             Set<Annotation> requiredQualifiers,
             CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
-        List<InjectableBean<?>> beans = resolveBeans(requiredType, requiredQualifiers);
+        return listOf(targetBean, injectionPointType, requiredType, requiredQualifiers, creationalContext, annotations,
+                javaMember, position, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> listOf(InjectableBean<?> targetBean, Type injectionPointType, Type requiredType,
+            Set<Annotation> requiredQualifiers,
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            String[] resolvedBeanIds) {
+        List<InjectableBean<?>> beans = resolveBeans(requiredType, requiredQualifiers, resolvedBeanIds);
         if (beans.isEmpty()) {
             return Collections.emptyList();
         }
@@ -63,12 +93,21 @@ public final class Instances {
         return List.copyOf(list);
     }
 
-    @SuppressWarnings("unchecked")
     public static <T> List<InstanceHandle<T>> listOfHandles(InjectableBean<?> targetBean, Type injectionPointType,
             Type requiredType,
             Set<Annotation> requiredQualifiers,
             CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
-        List<InjectableBean<?>> beans = resolveBeans(requiredType, requiredQualifiers);
+        return listOfHandles(targetBean, injectionPointType, requiredType, requiredQualifiers, creationalContext,
+                annotations, javaMember, position, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> List<InstanceHandle<T>> listOfHandles(InjectableBean<?> targetBean, Type injectionPointType,
+            Type requiredType,
+            Set<Annotation> requiredQualifiers,
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            String[] resolvedBeanIds) {
+        List<InjectableBean<?>> beans = resolveBeans(requiredType, requiredQualifiers, resolvedBeanIds);
         if (beans.isEmpty()) {
             return Collections.emptyList();
         }
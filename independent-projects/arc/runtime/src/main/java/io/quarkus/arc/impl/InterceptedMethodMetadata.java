@@ -4,17 +4,29 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import javax.interceptor.InvocationContext;
 
 public class InterceptedMethodMetadata {
 
     public final List<InterceptorInvocation> chain;
     public final Method method;
     public final Set<Annotation> bindings;
+    // null for intercepted static methods, the forwarding function is held by the InterceptedStaticMethod instead
+    public final Function<InvocationContext, Object> forward;
+    final InterceptorInvocation[] invocations;
 
     public InterceptedMethodMetadata(List<InterceptorInvocation> chain, Method method, Set<Annotation> bindings) {
+        this(chain, method, bindings, null);
+    }
+
+    public InterceptedMethodMetadata(List<InterceptorInvocation> chain, Method method, Set<Annotation> bindings,
+            Function<InvocationContext, Object> forward) {
         this.chain = chain;
         this.method = method;
         this.bindings = bindings;
+        this.forward = forward;
+        this.invocations = chain.toArray(new InterceptorInvocation[0]);
     }
 
 }
@@ -29,7 +29,22 @@ public final class InvocationContexts {
             Function<InvocationContext, Object> aroundInvokeForward, Object[] args,
             List<InterceptorInvocation> chain,
             Set<Annotation> interceptorBindings) throws Exception {
-        return AroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain, interceptorBindings);
+        return AroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args,
+                chain.toArray(new InterceptorInvocation[0]), interceptorBindings);
+    }
+
+    /**
+     *
+     * @param target
+     * @param args
+     * @param metadata
+     * @return the return value
+     * @throws Exception
+     */
+    public static Object performAroundInvoke(Object target, Object[] args, InterceptedMethodMetadata metadata)
+            throws Exception {
+        return AroundInvokeInvocationContext.perform(target, metadata.method, metadata.forward, args, metadata.invocations,
+                metadata.bindings);
     }
 
     /**
@@ -0,0 +1,110 @@
+package io.quarkus.arc.impl;
+
+import java.lang.reflect.Member;
+import java.util.Arrays;
+
+/**
+ * A {@link Member} of an injection point that is looked up by reflection on first use. The injection point metadata is
+ * only needed if a dependent bean injects the {@link javax.enterprise.inject.spi.InjectionPoint} and so we do not want to
+ * perform the lookup for every injection point during container initialization.
+ *
+ * @see CurrentInjectionPointProvider.InjectionPointImpl
+ */
+public final class LazyMember implements Member {
+
+    /**
+     *
+     * @param declaringClass
+     * @param parameterTypes
+     * @return the lazy member of a constructor
+     */
+    public static Member constructor(Class<?> declaringClass, Class<?>... parameterTypes) {
+        return new LazyMember(declaringClass, null, parameterTypes);
+    }
+
+    /**
+     *
+     * @param declaringClass
+     * @param name
+     * @param parameterTypes
+     * @return the lazy member of a method
+     */
+    public static Member method(Class<?> declaringClass, String name, Class<?>... parameterTypes) {
+        return new LazyMember(declaringClass, name, parameterTypes);
+    }
+
+    /**
+     *
+     * @param declaringClass
+     * @param name
+     * @return the lazy member of a field
+     */
+    public static Member field(Class<?> declaringClass, String name) {
+        return new LazyMember(declaringClass, name, null);
+    }
+
+    /**
+     *
+     * @param member
+     * @return the resolved member if the given member is lazy, the given member otherwise
+     */
+    static Member resolve(Member member) {
+        return member instanceof LazyMember ? ((LazyMember) member).get() : member;
+    }
+
+    private final Class<?> declaringClass;
+    // null for constructors
+    private final String name;
+    // null for fields
+    private final Class<?>[] parameterTypes;
+
+    private volatile Member member;
+
+    private LazyMember(Class<?> declaringClass, String name, Class<?>[] parameterTypes) {
+        this.declaringClass = declaringClass;
+        this.name = name;
+        this.parameterTypes = parameterTypes;
+    }
+
+    Member get() {
+        Member ret = member;
+        if (ret == null) {
+            if (parameterTypes == null) {
+                ret = Reflections.findField(declaringClass, name);
+            } else if (name == null) {
+                ret = Reflections.findConstructor(declaringClass, parameterTypes);
+            } else {
+                ret = Reflections.findMethod(declaringClass, name, parameterTypes);
+            }
+            member = ret;
+        }
+        return ret;
+    }
+
+    @Override
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    @Override
+    public String getName() {
+        return name != null ? name : declaringClass.getName();
+    }
+
+    @Override
+    public int getModifiers() {
+        return get().getModifiers();
+    }
+
+    @Override
+    public boolean isSynthetic() {
+        return get().isSynthetic();
+    }
+
+    @Override
+    public String toString() {
+        return "LazyMember [declaringClass=" + declaringClass.getName() + ", name=" + name + ", parameterTypes="
+                + Arrays.toString(parameterTypes) + "]";
+    }
+
+}
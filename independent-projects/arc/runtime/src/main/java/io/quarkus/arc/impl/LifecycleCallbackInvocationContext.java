@@ -17,7 +17,7 @@ class LifecycleCallbackInvocationContext extends AbstractInvocationContext {
 
     LifecycleCallbackInvocationContext(Object target, Constructor<?> constructor, Set<Annotation> interceptorBindings,
             List<InterceptorInvocation> chain) {
-        super(target, null, constructor, null, null, interceptorBindings, chain);
+        super(target, null, constructor, null, interceptorBindings, chain);
     }
 
     @Override
@@ -46,6 +46,10 @@ public final class Reflections {
         METHODS_CACHE.clear();
     }
 
+    static int cachedMembers() {
+        return FIELDS_CACHE.size() + METHODS_CACHE.size();
+    }
+
     private Reflections() {
     }
 
@@ -1,18 +1,24 @@
 package io.quarkus.arc.impl;
 
 import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.CurrentContext;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Destroyed;
@@ -33,18 +39,44 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final CurrentContext<RequestContextState> currentContext;
+
+    // A destroyed state that was never exposed via getState() is reused by the next activation on the same thread
+    // This is only safe if the state is not shared with other threads, i.e. if it's stored in a thread local
+    // The thread local only holds a JDK type so that a stale entry does not retain the class loader once the container is
+    // gone, and the holders are also tracked per thread so that they can be emptied when the container is shut down
+    private final ThreadLocal<AtomicReference<RequestContextState>> recycler;
+    private final Map<Thread, AtomicReference<RequestContextState>> recycled;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
-    public RequestContext() {
+    private volatile int slots;
+
+    public RequestContext(CurrentContext<RequestContextState> currentContext) {
+        this.currentContext = currentContext;
+        if (currentContext instanceof ThreadLocalCurrentContextFactory.ThreadLocalCurrentContext) {
+            this.recycled = Collections.synchronizedMap(new WeakHashMap<>());
+            this.recycler = ThreadLocal.withInitial(this::newRecycler);
+        } else {
+            this.recycled = null;
+            this.recycler = null;
+        }
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
     }
 
+    /**
+     *
+     * @param size the number of context slots declared by the request scoped beans
+     * @see InjectableBean#getContextSlot()
+     */
+    void initSlots(int size) {
+        this.slots = size;
+    }
+
     @Override
     public Class<? extends Annotation> getScope() {
         return RequestScoped.class;
@@ -55,18 +87,18 @@ class RequestContext implements ManagedContext {
     public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, CreationalContext<T>> creationalContextFun) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
         Objects.requireNonNull(creationalContextFun, "CreationalContext supplier must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             return null;
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get((InjectableBean<T>) contextual);
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctx.put(contextual, instance);
+            ctx.put(instance);
         }
         return instance.get();
     }
@@ -86,12 +118,12 @@ class RequestContext implements ManagedContext {
     @Override
     public <T> T get(Contextual<T> contextual) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get((InjectableBean<T>) contextual);
         return instance == null ? null : instance.get();
     }
 
@@ -102,12 +134,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<?> instance = ctx.remove(contextual);
+        ContextInstanceHandle<?> instance = ctx.remove((InjectableBean<?>) contextual);
         if (instance != null) {
             instance.destroy();
         }
@@ -116,12 +148,25 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            RequestContextState state = null;
+            if (recycler != null) {
+                AtomicReference<RequestContextState> r = recycler.get();
+                state = r.getPlain();
+                if (state != null) {
+                    r.setPlain(null);
+                    state.destroyed = false;
+                    state.valid = true;
+                }
+            }
+            if (state == null) {
+                state = new RequestContextState(slots);
+            }
+            currentContext.set(state);
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
             if (initialState instanceof RequestContextState) {
-                currentContext.set(((RequestContextState) initialState).value);
+                currentContext.set((RequestContextState) initialState);
             } else {
                 throw new IllegalArgumentException("Invalid initial state: " + initialState.getClass().getName());
             }
@@ -130,25 +175,52 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        return new RequestContextState(ctx);
+        ctx.exposed = true;
+        return ctx;
     }
 
     public ContextState getStateIfActive() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             return null;
         }
-        return new RequestContextState(ctx);
+        ctx.exposed = true;
+        return ctx;
     }
 
     @Override
     public void deactivate() {
+        RequestContextState ctx = currentContext.get();
         currentContext.remove();
+        if (recycler != null && ctx != null && ctx.isRecyclable()) {
+            recycler.get().setPlain(ctx);
+        }
+    }
+
+    /**
+     * Releases the destroyed states kept for reuse by the threads that activated this context.
+     */
+    void clearRecycled() {
+        if (recycler != null) {
+            synchronized (recycled) {
+                for (AtomicReference<RequestContextState> r : recycled.values()) {
+                    r.set(null);
+                }
+                recycled.clear();
+            }
+            recycler.remove();
+        }
+    }
+
+    private AtomicReference<RequestContextState> newRecycler() {
+        AtomicReference<RequestContextState> r = new AtomicReference<>();
+        recycled.put(Thread.currentThread(), r);
+        return r;
     }
 
     @Override
@@ -159,13 +231,13 @@ class RequestContext implements ManagedContext {
     @Override
     public void destroy(ContextState state) {
         if (state instanceof RequestContextState) {
-            destroy(((RequestContextState) state).value);
+            destroy((RequestContextState) state);
         } else {
             throw new IllegalArgumentException("Invalid state: " + state.getClass().getName());
         }
     }
 
-    private void destroy(Map<Contextual<?>, ContextInstanceHandle<?>> currentContext) {
+    private void destroy(RequestContextState currentContext) {
         if (currentContext != null) {
             synchronized (currentContext) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -183,11 +255,13 @@ class RequestContext implements ManagedContext {
                     LOGGER.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
                 }
                 currentContext.clear();
+                currentContext.destroyed = true;
+                currentContext.valid = false;
             }
         }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -220,18 +294,117 @@ class RequestContext implements ManagedContext {
                 ArcContainerImpl.instance(), false);
     }
 
+    /**
+     * The instances of the beans that declare a context slot are stored in an array indexed by the slot, other instances
+     * are stored in a map that is only created if needed.
+     */
     static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        private final AtomicReferenceArray<ContextInstanceHandle<?>> slots;
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        // An exposed state may be propagated to other threads and must not be recycled
+        // The state is exposed before it is handed over to another thread so no need for a volatile field
+        private boolean exposed;
+        // Only true if no instance was added since the state was destroyed
+        private boolean destroyed;
+        // False once the state was destroyed, even if instances were added afterwards
+        private volatile boolean valid = true;
+
+        RequestContextState(int slots) {
+            this.slots = new AtomicReferenceArray<>(slots);
+        }
+
+        ContextInstanceHandle<?> get(InjectableBean<?> bean) {
+            int slot = bean.getContextSlot();
+            if (slot >= 0 && slot < slots.length()) {
+                ContextInstanceHandle<?> handle = slots.get(slot);
+                // slots assigned by different components providers may clash
+                if (handle != null && handle.getBean() == bean) {
+                    return handle;
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = value;
+            return map != null ? map.get(bean) : null;
+        }
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.value = value;
+        void put(ContextInstanceHandle<?> handle) {
+            destroyed = false;
+            InjectableBean<?> bean = handle.getBean();
+            int slot = bean.getContextSlot();
+            if (slot >= 0 && slot < slots.length()) {
+                ContextInstanceHandle<?> current = slots.get(slot);
+                if (current == null || current.getBean() == bean) {
+                    // the state is safely published when handed over to another thread
+                    slots.lazySet(slot, handle);
+                    return;
+                }
+            }
+            map().put(bean, handle);
+        }
+
+        ContextInstanceHandle<?> remove(InjectableBean<?> bean) {
+            int slot = bean.getContextSlot();
+            if (slot >= 0 && slot < slots.length()) {
+                ContextInstanceHandle<?> handle = slots.get(slot);
+                if (handle != null && handle.getBean() == bean) {
+                    return slots.compareAndSet(slot, handle, null) ? handle : null;
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = value;
+            return map != null ? map.remove(bean) : null;
+        }
+
+        void forEach(Consumer<ContextInstanceHandle<?>> action) {
+            for (int i = 0; i < slots.length(); i++) {
+                ContextInstanceHandle<?> handle = slots.get(i);
+                if (handle != null) {
+                    action.accept(handle);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = value;
+            if (map != null) {
+                map.values().forEach(action);
+            }
+        }
+
+        void clear() {
+            for (int i = 0; i < slots.length(); i++) {
+                slots.lazySet(i, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = value;
+            if (map != null) {
+                map.clear();
+            }
+        }
+
+        @Override
+        public boolean isValid() {
+            return valid;
+        }
+
+        boolean isRecyclable() {
+            return destroyed && !exposed;
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = value;
+            if (map == null) {
+                synchronized (this) {
+                    map = value;
+                    if (map == null) {
+                        map = new ConcurrentHashMap<>();
+                        value = map;
+                    }
+                }
+            }
+            return map;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
-                    .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> instances = new HashMap<>();
+            forEach(handle -> instances.put(handle.getBean(), handle.get()));
+            return Collections.unmodifiableMap(instances);
         }
 
     }
@@ -21,7 +21,7 @@ class SingletonContext extends AbstractSharedContext {
             }
         }
         if (handle != null) {
-            handle = instances.remove(handle.getBean().getIdentifier());
+            handle = remove(handle.getBean());
             if (handle != null) {
                 handle.destroy();
             }
@@ -0,0 +1,46 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableContext.ContextState;
+import java.lang.annotation.Annotation;
+
+/**
+ * The default factory; the state is stored in a {@link ThreadLocal}.
+ */
+public final class ThreadLocalCurrentContextFactory implements CurrentContextFactory {
+
+    public static final ThreadLocalCurrentContextFactory INSTANCE = new ThreadLocalCurrentContextFactory();
+
+    private ThreadLocalCurrentContextFactory() {
+    }
+
+    @Override
+    public <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
+        return new ThreadLocalCurrentContext<>();
+    }
+
+    static final class ThreadLocalCurrentContext<T extends ContextState> implements CurrentContext<T> {
+
+        // The value is removed on deactivation so that a thread does not keep a reference to the state, or to any class of
+        // the application, once the context is deactivated
+        private final ThreadLocal<T> state = new ThreadLocal<>();
+
+        @Override
+        public T get() {
+            return state.get();
+        }
+
+        @Override
+        public void set(T state) {
+            this.state.set(state);
+        }
+
+        @Override
+        public void remove() {
+            state.remove();
+        }
+
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import java.lang.reflect.Type;
+import java.util.Set;
+
+/**
+ * The set of bean types is only materialized on the first invocation of {@link InjectableBean#getTypes()}.
+ */
+public final class TypeClosures {
+
+    private TypeClosures() {
+    }
+
+    /**
+     *
+     * @param types
+     * @return the immutable set of bean types
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static Set<Type> of(Object... types) {
+        ArcContainer container = Arc.container();
+        if (container instanceof ArcContainerImpl) {
+            ((ArcContainerImpl) container).typeClosureMaterialized();
+        }
+        return (Set) Sets.of(types);
+    }
+
+}
@@ -2,6 +2,7 @@ package io.quarkus.arc.test;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.ResourceReferenceProvider;
 import io.quarkus.arc.processor.AlternativePriorities;
 import io.quarkus.arc.processor.AnnotationsTransformer;
@@ -82,6 +83,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         private boolean removeUnusedBeans = false;
         private final List<Predicate<BeanInfo>> exclusions;
         private AlternativePriorities alternativePriorities;
+        private CurrentContextFactory currentContextFactory;
 
         public Builder() {
             resourceReferenceProviders = new ArrayList<>();
@@ -186,6 +188,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             return this;
         }
 
+        public Builder currentContextFactory(CurrentContextFactory currentContextFactory) {
+            this.currentContextFactory = currentContextFactory;
+            return this;
+        }
+
         public ArcTestContainer build() {
             return new ArcTestContainer(this);
         }
@@ -217,6 +224,8 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
 
     private final AlternativePriorities alternativePriorities;
 
+    private final CurrentContextFactory currentContextFactory;
+
     public ArcTestContainer(Class<?>... beanClasses) {
         this.resourceReferenceProviders = Collections.emptyList();
         this.beanClasses = Arrays.asList(beanClasses);
@@ -236,6 +245,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.removeUnusedBeans = false;
         this.exclusions = Collections.emptyList();
         this.alternativePriorities = null;
+        this.currentContextFactory = null;
     }
 
     public ArcTestContainer(Builder builder) {
@@ -257,6 +267,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.removeUnusedBeans = builder.removeUnusedBeans;
         this.exclusions = builder.exclusions;
         this.alternativePriorities = builder.alternativePriorities;
+        this.currentContextFactory = builder.currentContextFactory;
     }
 
     // this is where we start Arc, we operate on a per-method basis
@@ -433,7 +444,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             getRootExtensionStore(context).put(KEY_TEST_CLASSLOADER, testClassLoader);
 
             // Now we are ready to initialize Arc
-            Arc.initialize();
+            if (currentContextFactory != null) {
+                Arc.initialize(currentContextFactory);
+            } else {
+                Arc.initialize();
+            }
 
         } catch (Throwable e) {
             if (shouldFail) {
@@ -0,0 +1,84 @@
+package io.quarkus.arc.test.contexts.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ApplicationContextDestroyTest {
+
+    @RegisterExtension
+    ArcTestContainer container = new ArcTestContainer(Boom.class, Bang.class);
+
+    @Test
+    public void testClientProxyAfterDestroy() {
+        InjectableContext appContext = Arc.container().getActiveContext(ApplicationScoped.class);
+        InjectableBean<Boom> bean = Arc.container().instance(Boom.class).getBean();
+        Boom boom = Arc.container().instance(Boom.class).get();
+
+        String id = boom.ping();
+        assertEquals(id, boom.ping());
+        assertEquals(id, appContext.get(bean).ping());
+
+        appContext.destroy(bean);
+        assertEquals(1, Boom.DESTROYED.get());
+        assertNull(appContext.get(bean));
+        // the client proxy must not keep delegating to the destroyed instance
+        String newId = boom.ping();
+        assertNotEquals(id, newId);
+        assertEquals(newId, appContext.get(bean).ping());
+    }
+
+    @Test
+    public void testSingletonAfterDestroy() {
+        InjectableContext singletonContext = Arc.container().getActiveContext(Singleton.class);
+        InjectableBean<Bang> bean = Arc.container().instance(Bang.class).getBean();
+        Bang bang = Arc.container().instance(Bang.class).get();
+
+        assertTrue(singletonContext.get(bean) == bang);
+        singletonContext.destroy(bean);
+        assertNull(singletonContext.get(bean));
+        Bang newBang = Arc.container().instance(Bang.class).get();
+        assertTrue(newBang != bang);
+        assertTrue(singletonContext.get(bean) == newBang);
+    }
+
+    @ApplicationScoped
+    static class Boom {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private String id;
+
+        String ping() {
+            if (id == null) {
+                id = UUID.randomUUID().toString();
+            }
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+    @Singleton
+    static class Bang {
+
+    }
+
+}
@@ -0,0 +1,82 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.enterprise.context.RequestScoped;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class CurrentContextFactoryTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder().beanClasses(Controller.class)
+            .currentContextFactory(new SharedCurrentContextFactory()).build();
+
+    @Test
+    public void testStateSharedByThreads() throws InterruptedException, ExecutionException {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            requestContext.activate();
+            String id = arc.instance(Controller.class).get().getId();
+            // no propagation needed - the state is stored in a carrier shared by all threads
+            assertEquals(id, CompletableFuture.supplyAsync(() -> {
+                assertTrue(requestContext.isActive());
+                return arc.instance(Controller.class).get().getId();
+            }, executor).get());
+            requestContext.terminate();
+            assertFalse(CompletableFuture.supplyAsync(requestContext::isActive, executor).get());
+
+            requestContext.activate();
+            assertNotEquals(id, arc.instance(Controller.class).get().getId());
+            requestContext.terminate();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    static class SharedCurrentContextFactory implements CurrentContextFactory {
+
+        @Override
+        public <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
+            assertEquals(RequestScoped.class, scope);
+            AtomicReference<T> carrier = new AtomicReference<>();
+            return new CurrentContext<T>() {
+
+                @Override
+                public T get() {
+                    return carrier.get();
+                }
+
+                @Override
+                public void set(T state) {
+                    carrier.set(state);
+                }
+
+                @Override
+                public void remove() {
+                    carrier.set(null);
+                }
+            };
+        }
+
+    }
+
+}
@@ -3,11 +3,13 @@ package io.quarkus.arc.test.contexts.request;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.test.ArcTestContainer;
 import javax.enterprise.context.ContextNotActiveException;
@@ -183,4 +185,33 @@ public class RequestContextTest {
         }
     }
 
+    @Test
+    public void testExposedStateIsNotRecycled() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+
+        requestContext.activate();
+        String id = arc.instance(Controller.class).get().getId();
+        ContextState state = requestContext.getState();
+        requestContext.terminate();
+        assertTrue(state.getContextualInstances().isEmpty());
+
+        // the next activation must not reuse the state that was exposed
+        requestContext.activate();
+        String nextId = arc.instance(Controller.class).get().getId();
+        assertNotEquals(id, nextId);
+        assertTrue(state.getContextualInstances().isEmpty());
+        assertNotSame(state, requestContext.getState());
+        requestContext.terminate();
+
+        // a recycled state must not leak the instances of the previous activation
+        requestContext.activate();
+        arc.instance(Controller.class).get().getId();
+        requestContext.terminate();
+        requestContext.activate();
+        assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+        assertNotEquals(nextId, arc.instance(Controller.class).get().getId());
+        requestContext.terminate();
+    }
+
 }
@@ -0,0 +1,101 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.ContainerFootprint;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class IndexedInstanceLookupTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Consumer.class, Service.class, Alpha.class, Bravo.class,
+            Fallback.class);
+
+    @Test
+    public void testBeansResolvedAtBuildTime() {
+        ArcContainerImpl arc = ArcContainerImpl.instance();
+        ContainerFootprint before = arc.getFootprint();
+
+        Consumer consumer = Arc.container().instance(Consumer.class).get();
+        ContainerFootprint after = arc.getFootprint();
+        // Both Instance<Service> injection points were resolved at build time
+        assertEquals(before.getIndexedResolutions() + 2, after.getIndexedResolutions());
+        // Only the lookup of the Consumer bean itself is dynamic
+        assertEquals(before.getDynamicResolutions() + 1, after.getDynamicResolutions());
+
+        // The default bean is eliminated in the same way as in the runtime resolution
+        assertEquals(List.of("alpha", "bravo"), ids(consumer.services));
+        assertEquals(List.of("alpha", "bravo"), ids(consumer.allServices));
+
+        // Programmatic lookups are not indexed
+        assertTrue(consumer.services.select(Alpha.class).isResolvable());
+        assertEquals(after.getDynamicResolutions() + 1, arc.getFootprint().getDynamicResolutions());
+    }
+
+    private static List<String> ids(Instance<Service> instance) {
+        return instance.stream().map(Service::id).sorted().collect(Collectors.toList());
+    }
+
+    @Singleton
+    static class Consumer {
+
+        @Inject
+        Instance<Service> services;
+
+        @Any
+        @Inject
+        Instance<Service> allServices;
+
+    }
+
+    interface Service {
+
+        String id();
+
+    }
+
+    @Singleton
+    static class Alpha implements Service {
+
+        @Override
+        public String id() {
+            return "alpha";
+        }
+
+    }
+
+    @Dependent
+    static class Bravo implements Service {
+
+        @Override
+        public String id() {
+            return "bravo";
+        }
+
+    }
+
+    @DefaultBean
+    @Singleton
+    static class Fallback implements Service {
+
+        @Override
+        public String id() {
+            return "fallback";
+        }
+
+    }
+
+}
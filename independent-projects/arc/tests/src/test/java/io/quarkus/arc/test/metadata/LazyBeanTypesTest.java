@@ -0,0 +1,61 @@
+package io.quarkus.arc.test.metadata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.reflect.Type;
+import java.util.Set;
+import javax.enterprise.util.TypeLiteral;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class LazyBeanTypesTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class);
+
+    @Test
+    public void testTypesMaterializedOnFirstUse() {
+        ArcContainerImpl arc = ArcContainerImpl.instance();
+        int materialized = arc.getFootprint().getMaterializedTypeClosures();
+
+        // A dynamic lookup only needs the types of the beans that may match the required type
+        InjectableBean<Bravo> bravo = Arc.container().instance(Bravo.class).getBean();
+        assertEquals(materialized + 1, arc.getFootprint().getMaterializedTypeClosures());
+        InjectableBean<Alpha> alpha = Arc.container().instance(Alpha.class).getBean();
+        assertEquals(materialized + 2, arc.getFootprint().getMaterializedTypeClosures());
+        assertEquals(Set.of(Alpha.class, Object.class), alpha.getTypes());
+        Set<Type> types = bravo.getTypes();
+        assertEquals(3, types.size());
+        assertTrue(types.contains(Bravo.class));
+        assertTrue(types.contains(Object.class));
+        assertTrue(types.contains(new TypeLiteral<Comparable<Bravo>>() {
+        }.getType()));
+        // The types are only materialized once
+        materialized = arc.getFootprint().getMaterializedTypeClosures();
+        assertSame(types, bravo.getTypes());
+        assertEquals(materialized, arc.getFootprint().getMaterializedTypeClosures());
+    }
+
+    @Singleton
+    static class Alpha {
+
+    }
+
+    @Singleton
+    static class Bravo implements Comparable<Bravo> {
+
+        @Override
+        public int compareTo(Bravo o) {
+            return 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,161 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.EventNotificationOptions;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class BatchedAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(StringProducer.class, StringObserver.class,
+            RequestId.class);
+
+    @Test
+    public void testBatchedDelivery() throws InterruptedException, ExecutionException, TimeoutException {
+        StringProducer producer = Arc.container().instance(StringProducer.class).get();
+        StringObserver observer = Arc.container().instance(StringObserver.class).get();
+        ManualExecutor executor = new ManualExecutor();
+
+        CompletableFuture<String> ping = producer.produceAsync("ping", executor);
+        CompletableFuture<String> boom = producer.produceAsync("boom", executor);
+        CompletableFuture<String> pong = producer.produceAsync("pong", executor);
+        // a single task is scheduled for all pending events
+        assertEquals(1, executor.tasks.size());
+        assertFalse(ping.isDone());
+
+        executor.runAll();
+        assertEquals("ping", ping.get(10, TimeUnit.SECONDS));
+        assertEquals("pong", pong.get(10, TimeUnit.SECONDS));
+        assertTrue(boom.isCompletedExceptionally());
+        List<String> events = observer.getEvents();
+        assertEquals(3, events.size());
+        // the observers notified within a batch share the request context
+        String requestId = events.get(0).split("::")[1];
+        for (String event : events) {
+            assertTrue(event.endsWith(requestId), event);
+        }
+
+        events.clear();
+        CompletableFuture<String> next = producer.produceAsync("next", executor);
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        assertEquals("next", next.get(10, TimeUnit.SECONDS));
+        // the next batch is delivered within a new request context
+        assertEquals(1, events.size());
+        assertFalse(events.get(0).endsWith(requestId));
+    }
+
+    @Test
+    public void testExecutorNotRetained() throws InterruptedException, ExecutionException, TimeoutException {
+        StringProducer producer = Arc.container().instance(StringProducer.class).get();
+        ManualExecutor executor = new ManualExecutor();
+        CompletableFuture<String> ping = producer.produceAsync("ping", executor);
+        executor.runAll();
+        assertEquals("ping", ping.get(10, TimeUnit.SECONDS));
+
+        // an executor supplied for a single call must not be kept by the container
+        WeakReference<ManualExecutor> ref = new WeakReference<>(executor);
+        executor = null;
+        ping = null;
+        for (int i = 0; i < 50 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(ref.get());
+    }
+
+    @Singleton
+    static class StringObserver {
+
+        private List<String> events;
+
+        @Inject
+        RequestId requestId;
+
+        @PostConstruct
+        void init() {
+            events = new CopyOnWriteArrayList<>();
+        }
+
+        void observeAsync(@ObservesAsync String value) {
+            events.add(value + "::" + requestId.get());
+            if (value.equals("boom")) {
+                throw new IllegalStateException(value);
+            }
+        }
+
+        List<String> getEvents() {
+            return events;
+        }
+
+    }
+
+    @Dependent
+    static class StringProducer {
+
+        @Inject
+        Event<String> event;
+
+        CompletableFuture<String> produceAsync(String value, Executor executor) {
+            return event.fireAsync(value, EventNotificationOptions.batched(executor)).toCompletableFuture();
+        }
+
+    }
+
+    @RequestScoped
+    static class RequestId {
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+        }
+
+        String get() {
+            return id;
+        }
+
+    }
+
+    static class ManualExecutor implements Executor {
+
+        final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+
+    }
+
+}
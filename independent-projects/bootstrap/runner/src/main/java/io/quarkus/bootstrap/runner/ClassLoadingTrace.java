@@ -0,0 +1,89 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jboss.logging.Logger;
+
+/**
+ * Records the classes loaded during a training run of the application, and preloads them in the background
+ * during the subsequent runs.
+ *
+ * The recorded file contains one class name per line, in the order the classes were first defined. When it is passed
+ * to the build via {@code quarkus.package.preload-classes-file}, the list is stored in the serialized application and
+ * the classes are loaded (but not initialized) by a few background threads while the main thread boots the
+ * application, so that by the time the application needs them they are most likely already defined.
+ */
+final class ClassLoadingTrace {
+
+    private static final Logger log = Logger.getLogger(ClassLoadingTrace.class);
+
+    private static final int MAX_PRELOAD_THREADS = 4;
+
+    private ClassLoadingTrace() {
+    }
+
+    /**
+     * Records the classes defined by the given class loader, and writes them to the given file when the JVM exits
+     */
+    static void record(RunnerClassLoader runnerClassLoader, Path file) {
+        runnerClassLoader.startRecordingDefinedClasses();
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    write(runnerClassLoader, file);
+                } catch (IOException e) {
+                    log.error("Failed to write the loaded classes to " + file, e);
+                }
+            }
+        }, "quarkus-class-loading-trace"));
+    }
+
+    /**
+     * Writes the classes defined by the given class loader since the recording started to the given file
+     */
+    static void write(RunnerClassLoader runnerClassLoader, Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (String className : runnerClassLoader.getDefinedClassesRecord()) {
+                writer.write(className);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Loads the given classes in the background, sharing the list between a few daemon threads so that classes
+     * are still loaded roughly in the recorded order.
+     * Failures are ignored, as the list may be stale, and the main thread will anyway load the classes it needs.
+     */
+    static void preload(RunnerClassLoader runnerClassLoader, List<String> classes) {
+        if (classes.isEmpty()) {
+            return;
+        }
+        final AtomicInteger next = new AtomicInteger();
+        final Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                int index;
+                while ((index = next.getAndIncrement()) < classes.size()) {
+                    try {
+                        Class.forName(classes.get(index), false, runnerClassLoader);
+                    } catch (Throwable ignored) {
+                        // the class is no longer part of the application or can't be linked yet
+                    }
+                }
+            }
+        };
+        final int threads = Math.max(1, Math.min(MAX_PRELOAD_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+        for (int i = 0; i < threads; i++) {
+            final Thread thread = new Thread(task, "quarkus-class-preloader-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+}
@@ -13,9 +13,8 @@ import java.security.CodeSource;
 import java.security.ProtectionDomain;
 import java.security.cert.Certificate;
 import java.util.Objects;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
@@ -29,25 +28,16 @@ public class JarResource implements ClassLoadingResource {
     private final ManifestInfo manifestInfo;
     private final Path jarPath;
 
-    private final Lock readLock;
-    private final Lock writeLock;
-
     private volatile ProtectionDomain protectionDomain;
 
-    //Guarded by the read/write lock; open/close operations on the JarFile require the exclusive lock,
-    //while using an existing open reference can use the shared lock.
-    //If a lock is acquired, and as long as it's owned, we ensure that the zipFile reference
-    //points to an open JarFile instance, and read operations are valid.
-    //To close the jar, the exclusive lock must be owned, and reference will be set to null before releasing it.
-    //Likewise, opening a JarFile requires the exclusive lock.
-    private volatile JarFile zipFile;
+    //The currently open JarFile, if any. Readers acquire a reference to it, which keeps it open until they release it;
+    //closing the jar only detaches the reference, and the JarFile is actually closed once the last reader is done.
+    //None of these operations require a lock.
+    private final AtomicReference<JarFileReference> zipFile = new AtomicReference<>();
 
     public JarResource(ManifestInfo manifestInfo, Path jarPath) {
         this.manifestInfo = manifestInfo;
         this.jarPath = jarPath;
-        final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-        this.readLock = readWriteLock.readLock();
-        this.writeLock = readWriteLock.writeLock();
     }
 
     @Override
@@ -68,8 +58,9 @@ public class JarResource implements ClassLoadingResource {
 
     @Override
     public byte[] getResourceData(String resource) {
-        final ZipFile zipFile = readLockAcquireAndGetJarReference();
+        final JarFileReference reference = acquireJarReference();
         try {
+            final ZipFile zipFile = reference.jarFile;
             ZipEntry entry = zipFile.getEntry(resource);
             if (entry == null) {
                 return null;
@@ -91,14 +82,15 @@ public class JarResource implements ClassLoadingResource {
                 throw new RuntimeException("Failed to read zip entry " + resource, e);
             }
         } finally {
-            readLock.unlock();
+            reference.release();
         }
     }
 
     @Override
     public URL getResourceURL(String resource) {
-        final JarFile jarFile = readLockAcquireAndGetJarReference();
+        final JarFileReference reference = acquireJarReference();
         try {
+            final JarFile jarFile = reference.jarFile;
             JarEntry entry = jarFile.getJarEntry(resource);
             if (entry == null) {
                 return null;
@@ -120,7 +112,7 @@ public class JarResource implements ClassLoadingResource {
                 throw new RuntimeException(e);
             }
         } finally {
-            readLock.unlock();
+            reference.release();
         }
     }
 
@@ -134,60 +126,39 @@ public class JarResource implements ClassLoadingResource {
         return protectionDomain;
     }
 
-    private JarFile readLockAcquireAndGetJarReference() {
+    private JarFileReference acquireJarReference() {
         while (true) {
-            readLock.lock();
-            final JarFile zipFileLocal = this.zipFile;
-            if (zipFileLocal != null) {
-                //Expected fast path: returns a reference to the open JarFile while owning the readLock
-                return zipFileLocal;
+            final JarFileReference current = zipFile.get();
+            if (current != null) {
+                if (current.acquire()) {
+                    //Expected fast path: the jar is open and we now own a reference to it
+                    return current;
+                }
+                //The reference was closed concurrently but is still published: help detaching it and try again
+                zipFile.compareAndSet(current, null);
             } else {
-                //This Lock implementation doesn't allow upgrading a readLock to a writeLock, so release it
-                //as we're going to need the WriteLock.
-                readLock.unlock();
-                //trigger the JarFile being (re)opened.
-                ensureJarFileIsOpen();
-                //Now since we no longer own any lock, we need to try again to obtain the readLock
-                //and check for the reference still being valid.
-                //This exposes us to a race with closing the just-opened JarFile;
-                //however this should be extremely rare, so we can trust we won't loop much;
-                //A counter doesn't seem necessary, as in fact we know that methods close()
-                //and resetInternalCaches() are invoked each at most once, which limits the amount
-                //of loops here in practice.
-            }
-        }
-    }
-
-    private void ensureJarFileIsOpen() {
-        writeLock.lock();
-        try {
-            if (this.zipFile == null) {
+                final JarFileReference opened;
                 try {
-                    this.zipFile = JarFiles.create(jarPath.toFile());
+                    opened = new JarFileReference(JarFiles.create(jarPath.toFile()));
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to open " + jarPath, e);
                 }
+                if (!zipFile.compareAndSet(null, opened)) {
+                    //Another thread opened the jar first, use that one instead
+                    opened.release();
+                }
+                //Loop to acquire the published reference; this races with close() and resetInternalCaches(),
+                //a new iteration is only needed when one of them detached the reference in the meantime.
             }
-        } finally {
-            writeLock.unlock();
         }
     }
 
     @Override
     public void close() {
-        writeLock.lock();
-        try {
-            final JarFile zipFileLocal = this.zipFile;
-            if (zipFileLocal != null) {
-                try {
-                    zipFileLocal.close();
-                } catch (IOException e) {
-                    //ignore
-                }
-                this.zipFile = null;
-            }
-        } finally {
-            writeLock.unlock();
+        final JarFileReference current = zipFile.getAndSet(null);
+        if (current != null) {
+            //Releases the reference owned by the field, the jar is closed when the last reader releases its own
+            current.release();
         }
     }
 
@@ -218,4 +189,40 @@ public class JarResource implements ClassLoadingResource {
     public int hashCode() {
         return Objects.hash(manifestInfo, jarPath);
     }
+
+    /**
+     * A reference counted JarFile. The count starts at one, which represents the reference held by the
+     * {@link JarResource} itself, and the JarFile is closed when it drops to zero. Once closed it can't be acquired again.
+     */
+    private static final class JarFileReference {
+
+        private final JarFile jarFile;
+        private final AtomicInteger referenceCount = new AtomicInteger(1);
+
+        JarFileReference(JarFile jarFile) {
+            this.jarFile = jarFile;
+        }
+
+        boolean acquire() {
+            while (true) {
+                final int count = referenceCount.get();
+                if (count == 0) {
+                    return false;
+                }
+                if (referenceCount.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            if (referenceCount.decrementAndGet() == 0) {
+                try {
+                    jarFile.close();
+                } catch (IOException e) {
+                    //ignore
+                }
+            }
+        }
+    }
 }
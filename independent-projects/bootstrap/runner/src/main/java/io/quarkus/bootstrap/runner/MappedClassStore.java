@@ -0,0 +1,291 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+/**
+ * A single file containing the uncompressed bytes of all the classes of the application, along with a pre-computed
+ * hash index, that is memory mapped at startup.
+ *
+ * Classes are resolved by probing the index directly in the mapped buffer, so defining a class does not require
+ * opening a jar, parsing the zip central directory, inflating the entry or acquiring any lock, and the index itself
+ * takes up no heap space.
+ *
+ * The file has the following layout (all numbers are big endian):
+ * <ul>
+ * <li>header: magic, version and the absolute position of the index</li>
+ * <li>the bytes of every class, one after the other</li>
+ * <li>index: the number of buckets, followed by the buckets (each one being the absolute position of an entry or -1)
+ * followed by the entries (name hash, class path element index, data position, data length, name length and the
+ * UTF-8 encoded binary name of the class)</li>
+ * </ul>
+ *
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+public final class MappedClassStore {
+
+    public static final int NOT_FOUND = -1;
+
+    private static final int MAGIC = 0XF0315433;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final ByteBuffer buffer;
+    private final ClassLoadingResource[][] resources;
+    private final int bucketsPosition;
+    private final int mask;
+
+    private MappedClassStore(ByteBuffer buffer, ClassLoadingResource[] classPath) {
+        this.buffer = buffer;
+        this.resources = new ClassLoadingResource[classPath.length][];
+        for (int i = 0; i < classPath.length; i++) {
+            //the class loader deals with arrays of resources, so we create them once here
+            this.resources[i] = new ClassLoadingResource[] { classPath[i] };
+        }
+        int indexPosition = buffer.getInt(8);
+        int buckets = buffer.getInt(indexPosition);
+        this.bucketsPosition = indexPosition + 4;
+        this.mask = buckets - 1;
+    }
+
+    /**
+     * Maps the given store into memory
+     *
+     * @param store the store file
+     * @param classPath the class path elements, in the same order that was used to write the store
+     */
+    public static MappedClassStore map(Path store, ClassLoadingResource[] classPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(store, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC) {
+                throw new RuntimeException("Wrong magic number in " + store);
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new RuntimeException("Wrong class store version in " + store);
+            }
+            return new MappedClassStore(buffer, classPath);
+        }
+    }
+
+    /**
+     * @param className the binary name of the class
+     * @return the entry of the class, or {@link #NOT_FOUND}
+     */
+    public int find(String className) {
+        final ByteBuffer buffer = this.buffer;
+        final int hash = className.hashCode();
+        int bucket = spread(hash) & mask;
+        while (true) {
+            final int entry = buffer.getInt(bucketsPosition + (bucket << 2));
+            if (entry == NOT_FOUND) {
+                return NOT_FOUND;
+            }
+            if (buffer.getInt(entry) == hash && nameEquals(buffer, entry + 14, className)) {
+                return entry;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+    }
+
+    /**
+     * @return the class path element the class of the given entry belongs to, as a single element array
+     */
+    public ClassLoadingResource[] getResources(int entry) {
+        return resources[buffer.getShort(entry + 4) & 0xFFFF];
+    }
+
+    /**
+     * @return a read only view of the bytes of the class of the given entry
+     */
+    public ByteBuffer getClassData(int entry) {
+        final int position = buffer.getInt(entry + 6);
+        final int length = buffer.getInt(entry + 10);
+        final ByteBuffer data = buffer.duplicate();
+        data.position(position);
+        data.limit(position + length);
+        return data;
+    }
+
+    private static boolean nameEquals(ByteBuffer buffer, int namePosition, String className) {
+        final int length = buffer.getShort(namePosition) & 0xFFFF;
+        final int start = namePosition + 2;
+        if (length != className.length()) {
+            //only matches if the name contains non ASCII characters
+            return length > className.length() && utf8NameEquals(buffer, start, length, className);
+        }
+        for (int i = 0; i < length; i++) {
+            final char c = className.charAt(i);
+            if (c >= 0x80) {
+                return utf8NameEquals(buffer, start, length, className);
+            }
+            if (buffer.get(start + i) != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean utf8NameEquals(ByteBuffer buffer, int start, int length, String className) {
+        final byte[] expected = className.getBytes(StandardCharsets.UTF_8);
+        if (expected.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Writes the class store for the given class path.
+     *
+     * When the same class is present in more than one class path element, the first one wins, which mirrors the
+     * lookup order of the {@link RunnerClassLoader}. Classes of multi-release jars are not stored, they are always
+     * loaded from the jar so the runtime version specific entries are honoured.
+     *
+     * @param store the file to write
+     * @param classPath the class path elements, in the order they are written in the serialized application
+     */
+    public static void write(Path store, List<Path> classPath) throws IOException {
+        final List<Entry> entries = new ArrayList<>();
+        final Set<String> seen = new HashSet<>();
+        long position = HEADER_SIZE;
+        final int indexPosition;
+        try (OutputStream fileOut = Files.newOutputStream(store);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 65_536))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            //placeholder for the index position
+            out.writeInt(0);
+            final byte[] copyBuffer = new byte[16_384];
+            for (int i = 0; i < classPath.size(); i++) {
+                final Path jar = classPath.get(i);
+                if (Files.isDirectory(jar)) {
+                    continue;
+                }
+                try (JarFile zip = new JarFile(jar.toFile())) {
+                    final boolean multiRelease = isMultiRelease(zip);
+                    final Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+                    while (zipEntries.hasMoreElements()) {
+                        final ZipEntry zipEntry = zipEntries.nextElement();
+                        final String name = zipEntry.getName();
+                        if (zipEntry.isDirectory() || !name.endsWith(CLASS_SUFFIX) || name.startsWith("META-INF/")
+                                || name.endsWith("module-info.class")) {
+                            continue;
+                        }
+                        final String className = name.substring(0, name.length() - CLASS_SUFFIX.length())
+                                .replace('/', '.');
+                        if (!seen.add(className) || multiRelease) {
+                            //for multi-release jars we only record the name, so that the class is not shadowed
+                            //by a class of the same name further down the class path
+                            continue;
+                        }
+                        long length = 0;
+                        try (InputStream in = zip.getInputStream(zipEntry)) {
+                            int read;
+                            while ((read = in.read(copyBuffer)) != -1) {
+                                out.write(copyBuffer, 0, read);
+                                length += read;
+                            }
+                        }
+                        entries.add(new Entry(className, i, (int) position, (int) length));
+                        position += length;
+                        checkSize(position, store);
+                    }
+                }
+            }
+
+            indexPosition = (int) position;
+            int buckets = Integer.highestOneBit(Math.max(entries.size(), 1)) << 2;
+            final int entriesPosition = indexPosition + 4 + buckets * 4;
+            final int[] table = new int[buckets];
+            Arrays.fill(table, NOT_FOUND);
+            int entryPosition = entriesPosition;
+            for (Entry entry : entries) {
+                int bucket = spread(entry.name.hashCode()) & (buckets - 1);
+                while (table[bucket] != NOT_FOUND) {
+                    bucket = (bucket + 1) & (buckets - 1);
+                }
+                table[bucket] = entryPosition;
+                entryPosition += 16 + entry.nameBytes.length;
+            }
+            checkSize(entryPosition, store);
+            out.writeInt(buckets);
+            for (int bucket : table) {
+                out.writeInt(bucket);
+            }
+            for (Entry entry : entries) {
+                out.writeInt(entry.name.hashCode());
+                out.writeShort(entry.classPathIndex);
+                out.writeInt(entry.position);
+                out.writeInt(entry.length);
+                out.writeShort(entry.nameBytes.length);
+                out.write(entry.nameBytes);
+            }
+            out.flush();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(store.toFile(), "rw")) {
+            file.seek(8);
+            file.writeInt(indexPosition);
+        }
+    }
+
+    private static boolean isMultiRelease(JarFile zip) throws IOException {
+        final Manifest manifest = zip.getManifest();
+        if (manifest == null) {
+            return false;
+        }
+        return Boolean.parseBoolean(manifest.getMainAttributes().getValue(Attributes.Name.MULTI_RELEASE));
+    }
+
+    private static void checkSize(long position, Path store) throws IOException {
+        if (position > Integer.MAX_VALUE) {
+            throw new IOException("The classes of the application are too large to be stored in " + store);
+        }
+    }
+
+    private static final class Entry {
+        final String name;
+        final byte[] nameBytes;
+        final int classPathIndex;
+        final int position;
+        final int length;
+
+        Entry(String name, int classPathIndex, int position, int length) {
+            this.name = name;
+            this.nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            this.classPathIndex = classPathIndex;
+            this.position = position;
+            this.length = length;
+        }
+    }
+}
@@ -19,7 +19,13 @@ import java.util.List;
 public class QuarkusEntryPoint {
 
     public static final String QUARKUS_APPLICATION_DAT = "quarkus/quarkus-application.dat";
+    public static final String QUARKUS_APPLICATION_CLASSES_DAT = "quarkus/quarkus-application-classes.dat";
     public static final String LIB_DEPLOYMENT_DEPLOYMENT_CLASS_PATH_DAT = "lib/deployment/deployment-class-path.dat";
+    /**
+     * When set, the classes loaded by the application are written to the file this property points to when the JVM exits.
+     * The resulting file can be used with {@code quarkus.package.preload-classes-file}.
+     */
+    public static final String RECORD_LOADED_CLASSES = "quarkus.launch.record-loaded-classes";
 
     public static void main(String... args) throws Throwable {
         System.setProperty("java.util.logging.manager", org.jboss.logmanager.LogManager.class.getName());
@@ -53,6 +59,12 @@ public class QuarkusEntryPoint {
                 app = SerializedApplication.read(in, appRoot);
             }
             final RunnerClassLoader appRunnerClassLoader = app.getRunnerClassLoader();
+            final String recordLoadedClasses = System.getProperty(RECORD_LOADED_CLASSES);
+            if (recordLoadedClasses != null) {
+                ClassLoadingTrace.record(appRunnerClassLoader, Path.of(recordLoadedClasses));
+            } else {
+                ClassLoadingTrace.preload(appRunnerClassLoader, app.getPreloadClasses());
+            }
             try {
                 Thread.currentThread().setContextClassLoader(appRunnerClassLoader);
                 QuarkusForkJoinWorkerThread.setQuarkusAppClassloader(appRunnerClassLoader);
@@ -6,7 +6,10 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Classloader used with the fast-jar package type.
@@ -20,6 +23,8 @@ import java.util.Set;
  * jar(s) containing the requested class or resource.
  * The implementation also contains optimizations that allow the ClassLoader to keep a minimum number of jars open
  * while also preventing the lookup of the entire classpath for missing resources in known directories (like META-INF/services).
+ * When a {@link MappedClassStore} has been written during the build, classes are defined directly from it and jars are
+ * only opened to read resources.
  */
 public final class RunnerClassLoader extends ClassLoader {
 
@@ -35,21 +40,34 @@ public final class RunnerClassLoader extends ClassLoader {
     // normally this field would be a set, but it only contains 2 elements, so making it a list is actually better
     private final List<String> fullyIndexedDirectories;
     private final Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap;
+    // optional, when present classes are defined directly from the memory mapped store
+    private final MappedClassStore classStore;
 
     //Mutations protected by synchronization on the field value itself:
     private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
-    //Protected by synchronization on the above field, as they are related.
-    private boolean postBootPhase = false;
+    //Only ever changes from false to true, while holding the synchronization on the above field.
+    private volatile boolean postBootPhase = false;
+
+    // only set during a training run, holds the names of the classes defined by this class loader in definition order
+    private volatile Queue<String> definedClassesRecord;
+
+    private final LongAdder definedClassCount = new LongAdder();
+
+    static {
+        registerAsParallelCapable();
+    }
 
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
-            List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
+            List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap,
+            MappedClassStore classStore) {
         super(parent);
         this.resourceDirectoryMap = resourceDirectoryMap;
         this.parentFirstPackages = parentFirstPackages;
         this.nonExistentResources = nonExistentResources;
         this.fullyIndexedDirectories = fullyIndexedDirectories;
         this.directlyIndexedResourcesIndexMap = directlyIndexedResourcesIndexMap;
+        this.classStore = classStore;
     }
 
     @Override
@@ -77,6 +95,36 @@ public final class RunnerClassLoader extends ClassLoader {
         if (loaded != null) {
             return loaded;
         }
+        //this class loader is registered as parallel capable, so this is a lock dedicated to the class name:
+        //threads loading different classes never contend, while concurrent loads of the same class wait for the
+        //first one to define it instead of reading its bytes again only to fail with a LinkageError
+        synchronized (getClassLoadingLock(name)) {
+            loaded = findLoadedClass(name);
+            if (loaded != null) {
+                return loaded;
+            }
+            loaded = findAndDefineClass(name, packageName);
+            if (loaded != null) {
+                definedClassCount.increment();
+                final Queue<String> record = definedClassesRecord;
+                if (record != null) {
+                    record.add(name);
+                }
+                return loaded;
+            }
+        }
+        return getParent().loadClass(name);
+    }
+
+    private Class<?> findAndDefineClass(String name, String packageName) {
+        if (classStore != null) {
+            final int entry = classStore.find(name);
+            if (entry != MappedClassStore.NOT_FOUND) {
+                final ClassLoadingResource[] owner = classStore.getResources(entry);
+                definePackage(packageName, owner);
+                return defineClass(name, classStore.getClassData(entry), owner[0].getProtectionDomain());
+            }
+        }
         final ClassLoadingResource[] resources;
         if (packageName == null) {
             resources = resourceDirectoryMap.get("");
@@ -93,27 +141,20 @@ public final class RunnerClassLoader extends ClassLoader {
                     continue;
                 }
                 definePackage(packageName, resources);
-                try {
-                    return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
-                } catch (LinkageError e) {
-                    loaded = findLoadedClass(name);
-                    if (loaded != null) {
-                        return loaded;
-                    }
-                    throw e;
-                }
+                return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
             }
         }
-        return getParent().loadClass(name);
+        return null;
     }
 
     private void accessingResource(final ClassLoadingResource resource) {
+        if (!postBootPhase) {
+            //We only want to limit the jar buffers after the initial bootstrap has been completed,
+            //so during boot there is no need to synchronize at all
+            return;
+        }
         final ClassLoadingResource toEvict;
         synchronized (this.currentlyBufferedResources) {
-            if (!postBootPhase) {
-                //We only want to limit the jar buffers after the initial bootstrap has been completed
-                return;
-            }
             // This is not a cache aiming to accurately retain the most hot resources:
             // it's too small to benefit from traditional hit metrics,
             // we rather prefer to keep it very light.
@@ -269,6 +310,29 @@ public final class RunnerClassLoader extends ClassLoader {
         }
     }
 
+    /**
+     * Starts recording the names of the classes defined by this class loader, see {@link #getDefinedClassesRecord()}
+     */
+    void startRecordingDefinedClasses() {
+        definedClassesRecord = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * @return the names of the classes defined since {@link #startRecordingDefinedClasses()} was called, in definition
+     *         order
+     */
+    List<String> getDefinedClassesRecord() {
+        final Queue<String> record = definedClassesRecord;
+        return record == null ? Collections.emptyList() : new ArrayList<>(record);
+    }
+
+    /**
+     * @return the number of classes defined by this class loader so far
+     */
+    public long getDefinedClassCount() {
+        return definedClassCount.sum();
+    }
+
     public void close() {
         for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
             for (ClassLoadingResource i : entry.getValue()) {
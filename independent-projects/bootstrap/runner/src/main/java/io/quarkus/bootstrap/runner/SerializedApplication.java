@@ -12,6 +12,7 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -37,17 +38,23 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int VERSION = 4;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
 
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
+    private final List<String> preloadClasses;
 
     public SerializedApplication(RunnerClassLoader runnerClassLoader, String mainClass) {
+        this(runnerClassLoader, mainClass, Collections.emptyList());
+    }
+
+    public SerializedApplication(RunnerClassLoader runnerClassLoader, String mainClass, List<String> preloadClasses) {
         this.runnerClassLoader = runnerClassLoader;
         this.mainClass = mainClass;
+        this.preloadClasses = preloadClasses;
     }
 
     public RunnerClassLoader getRunnerClassLoader() {
@@ -58,9 +65,28 @@ public class SerializedApplication {
         return mainClass;
     }
 
+    /**
+     * @return the classes that should be loaded in the background at startup, in the order they should be loaded
+     */
+    public List<String> getPreloadClasses() {
+        return preloadClasses;
+    }
+
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst, List<String> nonExistentResources)
             throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, nonExistentResources, null,
+                Collections.emptyList());
+    }
+
+    /**
+     * @param classStore if not {@code null}, a {@link MappedClassStore} for the class path is written to this location
+     *        and used to load classes at runtime
+     * @param preloadClasses the classes to load in the background at startup, in the order they should be loaded
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, List<String> nonExistentResources, Path classStore, List<String> preloadClasses)
+            throws IOException {
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
@@ -97,6 +123,17 @@ public class SerializedApplication {
                     data.writeShort(index);
                 }
             }
+            if (classStore == null) {
+                data.writeBoolean(false);
+            } else {
+                MappedClassStore.write(classStore, classPath);
+                data.writeBoolean(true);
+                data.writeUTF(applicationRoot.relativize(classStore).toString().replace('\\', '/'));
+            }
+            data.writeInt(preloadClasses.size());
+            for (String preloadClass : preloadClasses) {
+                data.writeUTF(preloadClass);
+            }
             data.flush();
         }
     }
@@ -157,13 +194,22 @@ public class SerializedApplication {
                 }
                 directlyIndexedResourcesIndexMap.put(resource, matchingResources);
             }
+            MappedClassStore classStore = null;
+            if (in.readBoolean()) {
+                classStore = MappedClassStore.map(appRoot.resolve(in.readUTF()), allClassLoadingResources);
+            }
+            int preloadClassesSize = in.readInt();
+            List<String> preloadClasses = new ArrayList<>(preloadClassesSize);
+            for (int i = 0; i < preloadClassesSize; i++) {
+                preloadClasses.add(in.readUTF());
+            }
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
                     resourceDirectoryTracker.getResult(), parentFirstPackages,
-                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap);
+                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap, classStore);
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
                 classLoadingResource.init(runnerClassLoader);
             }
-            return new SerializedApplication(runnerClassLoader, mainClass);
+            return new SerializedApplication(runnerClassLoader, mainClass, preloadClasses);
         }
     }
 
@@ -0,0 +1,72 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ClassLoadingTrace}
+ */
+public class ClassLoadingTraceTest {
+
+    private static final String FOO = Foo.class.getName();
+    private static final String BAR = Bar.class.getName();
+
+    @Test
+    public void testRecordSerializeAndPreload() throws Exception {
+        final Path testDir = Files.createTempDirectory("test");
+        final Path jar = testDir.resolve("app.jar");
+        ShrinkWrap.create(JavaArchive.class).addClasses(Foo.class, Bar.class)
+                .as(ZipExporter.class).exportTo(jar.toFile(), true);
+
+        // training run
+        final RunnerClassLoader trainingClassLoader = readApplication(testDir, jar, Collections.emptyList())
+                .getRunnerClassLoader();
+        trainingClassLoader.startRecordingDefinedClasses();
+        Assertions.assertSame(trainingClassLoader, trainingClassLoader.loadClass(BAR).getClassLoader());
+        trainingClassLoader.loadClass(FOO);
+        trainingClassLoader.loadClass(BAR);
+        final Path record = testDir.resolve("classes.txt");
+        ClassLoadingTrace.write(trainingClassLoader, record);
+        final List<String> recorded = Files.readAllLines(record);
+        Assertions.assertEquals(List.of(BAR, FOO), recorded);
+
+        // the next run, with a stale entry
+        final List<String> preloadClasses = new ArrayList<>(recorded);
+        preloadClasses.add(1, "org.acme.Missing");
+        final SerializedApplication app = readApplication(testDir, jar, preloadClasses);
+        Assertions.assertEquals(preloadClasses, app.getPreloadClasses());
+        final RunnerClassLoader runnerClassLoader = app.getRunnerClassLoader();
+        runnerClassLoader.startRecordingDefinedClasses();
+        ClassLoadingTrace.preload(runnerClassLoader, app.getPreloadClasses());
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (runnerClassLoader.getDefinedClassesRecord().size() < 2) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline, "Classes were not preloaded");
+            Thread.sleep(10);
+        }
+        Assertions.assertTrue(runnerClassLoader.getDefinedClassesRecord().containsAll(List.of(FOO, BAR)));
+    }
+
+    private static SerializedApplication readApplication(Path appRoot, Path jar, List<String> preloadClasses)
+            throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializedApplication.write(out, FOO, appRoot, List.of(jar), Collections.emptyList(), Collections.emptyList(),
+                null, preloadClasses);
+        return SerializedApplication.read(new ByteArrayInputStream(out.toByteArray()), appRoot);
+    }
+
+    public static class Foo {
+    }
+
+    public static class Bar {
+    }
+}
@@ -4,9 +4,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.asset.StringAsset;
 import org.jboss.shrinkwrap.api.exporter.ZipExporter;
@@ -48,6 +54,39 @@ public class JarResourceTest {
         }
     }
 
+    /**
+     * Tests that resources can be read concurrently while the jar is being closed and reopened
+     */
+    @Test
+    public void testConcurrentReadsAndReset() throws Exception {
+        final JavaArchive jar = ShrinkWrap.create(JavaArchive.class);
+        jar.add(new StringAsset("hello"), "a.txt");
+        final Path jarFilePath = Files.createTempFile("test", "quarkus-test.jar");
+        jar.as(ZipExporter.class).exportTo(jarFilePath.toFile(), true);
+        final JarResource jarResource = new JarResource(null, jarFilePath);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1_000; j++) {
+                        Assertions.assertEquals("hello",
+                                new String(jarResource.getResourceData("a.txt"), StandardCharsets.UTF_8));
+                        if (j % 10 == 0) {
+                            jarResource.resetInternalCaches();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            jarResource.close();
+        }
+    }
+
     private static void drainFully(final InputStream inputStream) throws IOException {
         int read = -1;
         final byte[] data = new byte[1024];
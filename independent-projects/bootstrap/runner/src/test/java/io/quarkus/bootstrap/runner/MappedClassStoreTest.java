@@ -0,0 +1,61 @@
+package io.quarkus.bootstrap.runner;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MappedClassStore}
+ */
+public class MappedClassStoreTest {
+
+    @Test
+    public void testFirstClassPathElementWins() throws Exception {
+        final Path testDir = Files.createTempDirectory("test");
+        final Path first = createJar(testDir, "first.jar", "org/acme/Foo.class", "foo-1", "org/acme/Bär.class", "bar");
+        final Path second = createJar(testDir, "second.jar", "org/acme/Foo.class", "foo-2", "Baz.class", "baz",
+                "META-INF/versions/11/org/acme/Qux.class", "qux");
+        final Path store = testDir.resolve("classes.dat");
+        MappedClassStore.write(store, List.of(first, second));
+
+        final ClassLoadingResource[] classPath = new ClassLoadingResource[] { new JarResource(null, first),
+                new JarResource(null, second) };
+        final MappedClassStore classStore = MappedClassStore.map(store, classPath);
+
+        assertClass(classStore, "org.acme.Foo", "foo-1", classPath[0]);
+        assertClass(classStore, "org.acme.Bär", "bar", classPath[0]);
+        assertClass(classStore, "Baz", "baz", classPath[1]);
+        Assertions.assertEquals(MappedClassStore.NOT_FOUND, classStore.find("org.acme.Qux"));
+        Assertions.assertEquals(MappedClassStore.NOT_FOUND, classStore.find("org.acme.Missing"));
+        Assertions.assertEquals(MappedClassStore.NOT_FOUND, classStore.find("org.acme.Bar"));
+    }
+
+    private static void assertClass(MappedClassStore classStore, String name, String content,
+            ClassLoadingResource resource) {
+        final int entry = classStore.find(name);
+        Assertions.assertNotEquals(MappedClassStore.NOT_FOUND, entry, name + " is missing in store");
+        Assertions.assertSame(resource, classStore.getResources(entry)[0]);
+        final ByteBuffer data = classStore.getClassData(entry);
+        final byte[] bytes = new byte[data.remaining()];
+        data.get(bytes);
+        Assertions.assertEquals(content, new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private static Path createJar(Path dir, String name, String... entries) {
+        final JavaArchive jar = ShrinkWrap.create(JavaArchive.class);
+        for (int i = 0; i < entries.length; i += 2) {
+            jar.add(new StringAsset(entries[i + 1]), entries[i]);
+        }
+        final Path jarPath = dir.resolve(name);
+        jar.as(ZipExporter.class).exportTo(jarPath.toFile(), true);
+        return jarPath;
+    }
+}
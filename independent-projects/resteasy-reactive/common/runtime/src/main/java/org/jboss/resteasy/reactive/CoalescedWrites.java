@@ -0,0 +1,35 @@
+package org.jboss.resteasy.reactive;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coalesces the writes of the events sent to an {@code SseEventSink}, or of the items of a streamed {@code Multi}, so that
+ * several of them go over the wire together instead of one network write per event.
+ * <p>
+ * The pending events are written as soon as {@link #maxItems()} of them or {@link #maxSize()} bytes are pending, or
+ * {@link #maxDelay()} microseconds after the first of them was sent, whichever comes first. If a {@code Multi} fails, the
+ * pending items are written before the failure is handled, so the response is committed as it would be without
+ * coalescing.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CoalescedWrites {
+
+    /**
+     * The maximum number of events written together.
+     */
+    int maxItems() default 64;
+
+    /**
+     * The maximum time in microseconds an event waits for others before being written.
+     */
+    long maxDelay() default 1000;
+
+    /**
+     * The size in bytes of the pending events from which they are written right away.
+     */
+    int maxSize() default 16 * 1024;
+}
@@ -0,0 +1,34 @@
+package org.jboss.resteasy.reactive;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Compresses the response bodies with {@code gzip} or {@code deflate}, depending on the {@code Accept-Encoding} header
+ * of the request.
+ * <p>
+ * This applies regardless of {@code quarkus.http.enable-compression}, and the compression of large bodies is moved off the
+ * event loop.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Compressed {
+
+    /**
+     * The media types of the bodies to compress, wildcards such as {@code text/*} are allowed.
+     */
+    String[] mediaTypes() default { "text/*", "application/json", "application/xml", "application/javascript",
+            "image/svg+xml" };
+
+    /**
+     * The minimum size in bytes of the bodies to compress, smaller bodies are sent as is.
+     */
+    int minSize() default 1024;
+
+    /**
+     * The size in bytes from which bodies are compressed on a worker thread rather than on the event loop.
+     */
+    int offloadSize() default 64 * 1024;
+}
@@ -0,0 +1,45 @@
+package org.jboss.resteasy.reactive;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import javax.ws.rs.core.HttpHeaders;
+
+/**
+ * Caches the serialized {@code 200} responses of {@code GET} requests on the server, so that subsequent requests for the
+ * same path, query and {@link #vary() varying headers} are answered without invoking the resource method.
+ * <p>
+ * Cached responses carry an {@code ETag} header, computed from the body unless the resource method sets one, and
+ * requests with a matching {@code If-None-Match} header are answered with {@code 304 Not Modified}.
+ * <p>
+ * Cached responses are shared by all the callers. The responses to requests that carry an {@code Authorization} or a
+ * {@code Cookie} header are only cached if that header is listed in {@link #vary()}, so that they are only replayed to
+ * the callers that sent the same credentials.
+ * <p>
+ * Responses that set cookies or that are marked as {@code no-store} or {@code private} are never cached.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ResponseCached {
+
+    /**
+     * The request headers whose values are part of the cache key, in addition to the path and the query.
+     */
+    String[] vary() default { HttpHeaders.ACCEPT };
+
+    /**
+     * The maximum number of responses kept in the cache, the least recently used ones are evicted first.
+     */
+    int maxEntries() default 1000;
+
+    /**
+     * The maximum total size in bytes of the bodies kept in the cache, the least recently used ones are evicted first.
+     */
+    long maxSize() default 10 * 1024 * 1024;
+
+    /**
+     * The number of seconds a response stays in the cache, a negative value keeps it until it is evicted.
+     */
+    int expireAfterWrite() default -1;
+}
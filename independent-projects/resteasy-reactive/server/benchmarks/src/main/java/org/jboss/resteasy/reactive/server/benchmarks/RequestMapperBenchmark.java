@@ -0,0 +1,105 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the mapping of a request path to the resource methods of an application with the given number of endpoints.
+ * <p>
+ * A third of the endpoints are literal paths, e.g. {@code /orders7/summary}, a third have a path parameter, e.g.
+ * {@code /orders7/{id}}, and a third have a path parameter and a literal suffix, e.g. {@code /orders7/{id}/lines}. Each
+ * benchmark maps paths spread over all the endpoints, so that the results are not skewed by a single hot branch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestMapperBenchmark {
+
+    private static final int PATHS = 64;
+
+    @Param({ "10", "100", "1000" })
+    public int endpoints;
+
+    private RequestMapper<String> mapper;
+    private String[] literalPaths;
+    private String[] pathParamPaths;
+    private String[] notFoundPaths;
+    private int index;
+
+    @Setup
+    public void setup() {
+        List<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        int resources = (endpoints + 2) / 3;
+        for (int i = 0; templates.size() < endpoints; i++) {
+            String resource = "/orders" + (i % resources);
+            String template;
+            switch (i / resources % 3) {
+                case 0:
+                    template = resource + "/summary";
+                    break;
+                case 1:
+                    template = resource + "/{id}";
+                    break;
+                default:
+                    template = resource + "/{id}/lines";
+                    break;
+            }
+            templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+        }
+        mapper = new RequestMapper<>(templates);
+
+        literalPaths = new String[PATHS];
+        pathParamPaths = new String[PATHS];
+        notFoundPaths = new String[PATHS];
+        for (int i = 0; i < PATHS; i++) {
+            String resource = "/orders" + (i * 7 % resources);
+            literalPaths[i] = resource + "/summary";
+            pathParamPaths[i] = resource + "/" + (1000 + i);
+            notFoundPaths[i] = "/customers" + i + "/" + i;
+        }
+        for (String[] paths : new String[][] { literalPaths, pathParamPaths }) {
+            for (String path : paths) {
+                if (mapper.map(path) == null) {
+                    throw new IllegalStateException("No endpoint found for " + path);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Object literal() {
+        return mapper.map(literalPaths[next()]);
+    }
+
+    @Benchmark
+    public Object pathParam() {
+        return mapper.map(pathParamPaths[next()]);
+    }
+
+    @Benchmark
+    public Object notFound() {
+        return mapper.map(notFoundPaths[next()]);
+    }
+
+    private int next() {
+        return index++ & (PATHS - 1);
+    }
+
+}
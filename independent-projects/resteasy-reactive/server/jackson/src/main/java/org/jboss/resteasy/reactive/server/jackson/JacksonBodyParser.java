@@ -0,0 +1,142 @@
+package org.jboss.resteasy.reactive.server.jackson;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import org.jboss.resteasy.reactive.server.spi.StreamingServerMessageBodyReader;
+
+/**
+ * Parses a JSON body as it is received, using the non-blocking parser of Jackson.
+ * <p>
+ * The tokens of a value are copied to a {@link TokenBuffer} until the value is complete, and the value is then bound by
+ * the {@link ObjectReader}. If the body is read as a sequence of elements, it must be a JSON array and each element is
+ * bound as soon as it is complete, so only the tokens of the current element are kept in memory.
+ * <p>
+ * Like {@link ObjectReader#readValue(java.io.InputStream)}, the content after the value, or after the array, is only
+ * read if {@link DeserializationFeature#FAIL_ON_TRAILING_TOKENS} is enabled, in which case it is rejected.
+ */
+public class JacksonBodyParser implements StreamingServerMessageBodyReader.BodyParser {
+
+    private final ObjectReader reader;
+    private final boolean elements;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final boolean failOnTrailingTokens;
+
+    private TokenBuffer tokens;
+    private int depth;
+    private boolean arrayStarted;
+    private boolean arrayEnded;
+    private boolean valueParsed;
+
+    /**
+     *
+     * @param reader the reader for the type of the body, or of its elements
+     * @param elements {@code true} if the body is a JSON array whose elements are read
+     * @throws IOException
+     */
+    public JacksonBodyParser(ObjectReader reader, boolean elements) throws IOException {
+        this.reader = reader;
+        this.elements = elements;
+        this.parser = reader.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.failOnTrailingTokens = reader.isEnabled(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    }
+
+    @Override
+    public void parse(ByteBuffer data, Consumer<Object> values) throws IOException {
+        int length = data.remaining();
+        if (length == 0 || ignoresInput()) {
+            return;
+        }
+        if (data.hasArray()) {
+            int offset = data.arrayOffset() + data.position();
+            feeder.feedInput(data.array(), offset, offset + length);
+        } else {
+            byte[] bytes = new byte[length];
+            data.get(bytes);
+            feeder.feedInput(bytes, 0, length);
+        }
+        readTokens(values);
+    }
+
+    @Override
+    public void end(Consumer<Object> values) throws IOException {
+        if (!ignoresInput()) {
+            feeder.endOfInput();
+            readTokens(values);
+        }
+        if (tokens != null || (arrayStarted && !arrayEnded)) {
+            throw new JsonParseException(parser, "Unexpected end of the JSON body");
+        }
+        parser.close();
+    }
+
+    private void readTokens(Consumer<Object> values) throws IOException {
+        JsonToken token;
+        // all the tokens must be consumed before the next chunk can be fed
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (isComplete()) {
+                throw MismatchedInputException.from(parser, (Class<?>) null, String.format(
+                        "Trailing token (of type %s) found after value: not allowed as per `DeserializationFeature.FAIL_ON_TRAILING_TOKENS`",
+                        token));
+            }
+            if (elements && depth == 0) {
+                if (!arrayStarted) {
+                    if (token != JsonToken.START_ARRAY) {
+                        throw new JsonParseException(parser, "The JSON body must be an array, but found " + token);
+                    }
+                    arrayStarted = true;
+                    continue;
+                }
+                if (token == JsonToken.END_ARRAY) {
+                    arrayEnded = true;
+                    if (ignoresInput()) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            if (tokens == null) {
+                tokens = new TokenBuffer(parser);
+            }
+            tokens.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == 0) {
+                // the value is complete
+                TokenBuffer valueTokens = tokens;
+                tokens = null;
+                valueParsed = true;
+                try (JsonParser valueParser = valueTokens.asParser()) {
+                    values.accept(reader.readValue(valueParser));
+                }
+                if (ignoresInput()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean isComplete() {
+        return elements ? arrayEnded : valueParsed;
+    }
+
+    /**
+     * @return {@code true} if the content after the value, or after the array, is neither tokenized nor verified
+     */
+    private boolean ignoresInput() {
+        return isComplete() && !failOnTrailingTokens;
+    }
+}
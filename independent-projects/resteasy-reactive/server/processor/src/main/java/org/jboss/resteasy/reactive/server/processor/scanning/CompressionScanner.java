@@ -0,0 +1,45 @@
+package org.jboss.resteasy.reactive.server.processor.scanning;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.Compressed;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.handlers.CompressionHandler;
+import org.jboss.resteasy.reactive.server.model.FixedHandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+
+public class CompressionScanner implements MethodScanner {
+
+    private static final DotName COMPRESSED = DotName.createSimple(Compressed.class.getName());
+    private static final String[] DEFAULT_MEDIA_TYPES = { "text/*", "application/json", "application/xml",
+            "application/javascript", "image/svg+xml" };
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        AnnotationInstance compressed = annotationStore.getAnnotation(method, COMPRESSED);
+        if (compressed == null) {
+            compressed = annotationStore.getAnnotation(actualEndpointClass, COMPRESSED);
+            if (compressed == null) {
+                return Collections.emptyList();
+            }
+        }
+        CompressionHandler handler = new CompressionHandler();
+        AnnotationValue mediaTypesValue = compressed.value("mediaTypes");
+        handler.setMediaTypes(mediaTypesValue == null ? DEFAULT_MEDIA_TYPES : mediaTypesValue.asStringArray());
+        AnnotationValue minSizeValue = compressed.value("minSize");
+        handler.setMinSize(minSizeValue == null ? 1024 : minSizeValue.asInt());
+        AnnotationValue offloadSizeValue = compressed.value("offloadSize");
+        handler.setOffloadSize(offloadSizeValue == null ? 64 * 1024 : offloadSizeValue.asInt());
+        return Collections.singletonList(new FixedHandlerChainCustomizer(handler,
+                HandlerChainCustomizer.Phase.AFTER_RESPONSE_CREATED));
+    }
+}
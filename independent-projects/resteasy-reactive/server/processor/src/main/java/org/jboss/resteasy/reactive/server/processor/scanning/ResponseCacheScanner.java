@@ -0,0 +1,68 @@
+package org.jboss.resteasy.reactive.server.processor.scanning;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.ws.rs.core.HttpHeaders;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.Compressed;
+import org.jboss.resteasy.reactive.ResponseCached;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.core.ResponseCache;
+import org.jboss.resteasy.reactive.server.handlers.ResponseCacheHandler;
+import org.jboss.resteasy.reactive.server.handlers.ResponseCacheWriterHandler;
+import org.jboss.resteasy.reactive.server.model.FixedHandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+
+public class ResponseCacheScanner implements MethodScanner {
+
+    private static final DotName RESPONSE_CACHED = DotName.createSimple(ResponseCached.class.getName());
+    private static final DotName COMPRESSED = DotName.createSimple(Compressed.class.getName());
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        AnnotationInstance responseCached = annotationStore.getAnnotation(method, RESPONSE_CACHED);
+        if (responseCached == null) {
+            responseCached = annotationStore.getAnnotation(actualEndpointClass, RESPONSE_CACHED);
+            if (responseCached == null) {
+                return Collections.emptyList();
+            }
+        }
+        // each method gets its own cache, so that the bounds apply per method
+        ResponseCache cache = new ResponseCache();
+        AnnotationValue varyValue = responseCached.value("vary");
+        String[] vary = varyValue == null ? new String[] { HttpHeaders.ACCEPT } : varyValue.asStringArray();
+        if (annotationStore.getAnnotation(method, COMPRESSED) != null
+                || annotationStore.getAnnotation(actualEndpointClass, COMPRESSED) != null) {
+            // the compressed bodies are the ones that get cached
+            vary = Arrays.copyOf(vary, vary.length + 1);
+            vary[vary.length - 1] = HttpHeaders.ACCEPT_ENCODING;
+        }
+        cache.setVary(vary);
+        AnnotationValue maxEntriesValue = responseCached.value("maxEntries");
+        cache.setMaxEntries(maxEntriesValue == null ? 1000 : maxEntriesValue.asInt());
+        AnnotationValue maxSizeValue = responseCached.value("maxSize");
+        cache.setMaxSize(maxSizeValue == null ? 10 * 1024 * 1024 : maxSizeValue.asLong());
+        AnnotationValue expireAfterWriteValue = responseCached.value("expireAfterWrite");
+        if (expireAfterWriteValue != null) {
+            cache.setExpireAfterWrite(expireAfterWriteValue.asInt());
+        }
+
+        ResponseCacheHandler handler = new ResponseCacheHandler();
+        handler.setCache(cache);
+        ResponseCacheWriterHandler writerHandler = new ResponseCacheWriterHandler();
+        writerHandler.setCache(cache);
+        // the writer handler goes before the response is created, so that its output stream is the one compression writes to
+        return Arrays.asList(
+                new FixedHandlerChainCustomizer(handler, HandlerChainCustomizer.Phase.BEFORE_METHOD_INVOKE),
+                new FixedHandlerChainCustomizer(writerHandler, HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE));
+    }
+}
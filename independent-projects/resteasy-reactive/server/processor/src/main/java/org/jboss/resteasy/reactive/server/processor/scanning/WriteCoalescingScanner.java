@@ -0,0 +1,44 @@
+package org.jboss.resteasy.reactive.server.processor.scanning;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.CoalescedWrites;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.handlers.WriteCoalescingHandler;
+import org.jboss.resteasy.reactive.server.model.FixedHandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+
+public class WriteCoalescingScanner implements MethodScanner {
+
+    private static final DotName COALESCED_WRITES = DotName.createSimple(CoalescedWrites.class.getName());
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        AnnotationInstance coalescedWrites = annotationStore.getAnnotation(method, COALESCED_WRITES);
+        if (coalescedWrites == null) {
+            coalescedWrites = annotationStore.getAnnotation(actualEndpointClass, COALESCED_WRITES);
+            if (coalescedWrites == null) {
+                return Collections.emptyList();
+            }
+        }
+        WriteCoalescingHandler handler = new WriteCoalescingHandler();
+        AnnotationValue maxItemsValue = coalescedWrites.value("maxItems");
+        handler.setMaxItems(maxItemsValue == null ? 64 : maxItemsValue.asInt());
+        AnnotationValue maxDelayValue = coalescedWrites.value("maxDelay");
+        handler.setMaxDelay(maxDelayValue == null ? 1000 : maxDelayValue.asLong());
+        AnnotationValue maxSizeValue = coalescedWrites.value("maxSize");
+        handler.setMaxSize(maxSizeValue == null ? 16 * 1024 : maxSizeValue.asInt());
+        // the events may be sent as soon as the resource method is invoked
+        return Collections.singletonList(new FixedHandlerChainCustomizer(handler,
+                HandlerChainCustomizer.Phase.BEFORE_METHOD_INVOKE));
+    }
+}
@@ -6,6 +6,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.ext.ParamConverter;
@@ -45,6 +46,7 @@ public class Deployment {
     private final RuntimeExceptionMapper exceptionMapper;
     private final boolean resumeOn404;
     private final ResteasyReactiveConfig resteasyReactiveConfig;
+    private final Supplier<Executor> executorSupplier;
     //this is not final, as it is set after startup
     private RuntimeConfiguration runtimeConfiguration;
 
@@ -59,7 +61,8 @@ public class Deployment {
             List<RuntimeConfigurableServerRestHandler> runtimeConfigurableServerRestHandlers,
             RuntimeExceptionMapper exceptionMapper,
             boolean resumeOn404,
-            ResteasyReactiveConfig resteasyReactiveConfig) {
+            ResteasyReactiveConfig resteasyReactiveConfig,
+            Supplier<Executor> executorSupplier) {
         this.exceptionMapping = exceptionMapping;
         this.contextResolvers = contextResolvers;
         this.serialisers = serialisers;
@@ -77,6 +80,7 @@ public class Deployment {
         this.exceptionMapper = exceptionMapper;
         this.resumeOn404 = resumeOn404;
         this.resteasyReactiveConfig = resteasyReactiveConfig;
+        this.executorSupplier = executorSupplier;
     }
 
     public RuntimeExceptionMapper getExceptionMapper() {
@@ -192,6 +196,13 @@ public class Deployment {
         return runtimeConfigurableServerRestHandlers;
     }
 
+    /**
+     * @return the supplier of the executor that runs the blocking work
+     */
+    public Supplier<Executor> getExecutorSupplier() {
+        return executorSupplier;
+    }
+
     public RuntimeConfiguration getRuntimeConfiguration() {
         return runtimeConfiguration;
     }
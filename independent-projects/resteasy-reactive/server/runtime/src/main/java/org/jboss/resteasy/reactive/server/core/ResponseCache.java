@@ -0,0 +1,266 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+
+/**
+ * The serialized responses of a resource method annotated with {@link org.jboss.resteasy.reactive.ResponseCached}.
+ * <p>
+ * Entries are kept in least recently used order and the eldest ones are evicted as soon as either the number of
+ * entries or the total size of their bodies goes over the configured bounds.
+ */
+public class ResponseCache {
+
+    // the headers that are sent along with a 304, see RFC 7232 section 4.1
+    private static final Set<String> NOT_MODIFIED_HEADERS = caseInsensitiveSet(HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.CONTENT_LOCATION, HttpHeaders.ETAG, HttpHeaders.EXPIRES, HttpHeaders.VARY);
+    private static final String[] NO_HEADERS = new String[0];
+    // the request headers that identify the caller
+    private static final String[] CREDENTIALS_HEADERS = { HttpHeaders.AUTHORIZATION, HttpHeaders.COOKIE };
+
+    // make mutable to allow for bytecode serialization
+    private String[] vary = NO_HEADERS;
+    private int maxEntries;
+    private long maxSize;
+    private int expireAfterWrite = -1;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    public String[] getVary() {
+        return vary;
+    }
+
+    public void setVary(String[] vary) {
+        this.vary = vary;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(int expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    /**
+     * Cached responses are shared by all the callers, so the response to a request that carries credentials is only
+     * cached if the headers carrying them are among the varying headers.
+     *
+     * @return the key of the response to the current request, made of its path, its query and the values of the
+     *         varying headers, or {@code null} if the response must not be cached
+     */
+    public String key(ResteasyReactiveRequestContext requestContext) {
+        ServerHttpRequest request = requestContext.serverRequest();
+        for (String header : CREDENTIALS_HEADERS) {
+            if (request.getRequestHeader(header) != null && !isVarying(header)) {
+                return null;
+            }
+        }
+        StringBuilder key = new StringBuilder(requestContext.getPath());
+        String query = request.query();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        for (String header : vary) {
+            // a line feed cannot be part of a header value
+            key.append('\n');
+            List<String> values = request.getAllRequestHeaders(header);
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    key.append(',');
+                }
+                key.append(values.get(i));
+            }
+        }
+        return key.toString();
+    }
+
+    private boolean isVarying(String header) {
+        for (String name : vary) {
+            if (name.equalsIgnoreCase(header)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Entry get(String key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expires != 0 && entry.expires < System.currentTimeMillis()) {
+                entries.remove(key);
+                size -= entry.body.length;
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * Caches a response whose headers have already been set on the server response.
+     *
+     * @param headerNames the names of the headers set by the application, the others (e.g. CORS headers) are specific to
+     *        each request and are not cached
+     */
+    public void put(String key, int status, ServerHttpResponse response, Set<String> headerNames, byte[] body) {
+        if (body.length > maxSize || !isCacheable(response)) {
+            return;
+        }
+        Set<String> names = caseInsensitiveSet(headerNames.toArray(NO_HEADERS));
+        names.add(HttpHeaders.CONTENT_TYPE);
+        List<String> headers = new ArrayList<>();
+        for (Map.Entry<String, String> header : response.getAllResponseHeaders()) {
+            if (names.contains(header.getKey())) {
+                headers.add(header.getKey());
+                headers.add(header.getValue());
+            }
+        }
+        long expires = expireAfterWrite < 0 ? 0 : System.currentTimeMillis() + expireAfterWrite * 1000L;
+        Entry entry = new Entry(status, headers.toArray(NO_HEADERS), body, response.getResponseHeader(HttpHeaders.ETAG),
+                expires);
+        synchronized (entries) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                size -= previous.body.length;
+            }
+            size += body.length;
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (entries.size() > maxEntries || size > maxSize) {
+                size -= eldest.next().body.length;
+                eldest.remove();
+            }
+        }
+    }
+
+    private static boolean isCacheable(ServerHttpResponse response) {
+        if (response.getResponseHeader(HttpHeaders.SET_COOKIE) != null) {
+            return false;
+        }
+        String cacheControl = response.getResponseHeader(HttpHeaders.CACHE_CONTROL);
+        return cacheControl == null || (!cacheControl.contains("no-store") && !cacheControl.contains("private"));
+    }
+
+    /**
+     * @return a strong entity tag derived from the given body
+     */
+    public static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + new String(Base64.getUrlEncoder().withoutPadding().encode(digest), StandardCharsets.US_ASCII)
+                    + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return whether the value of an {@code If-None-Match} header matches the given entity tag, using the weak
+     *         comparison of RFC 7232 section 2.3.2
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (etag == null) {
+            return false;
+        }
+        String opaqueTag = opaqueTag(etag);
+        int start = 0;
+        while (start < ifNoneMatch.length()) {
+            int end = ifNoneMatch.indexOf(',', start);
+            if (end == -1) {
+                end = ifNoneMatch.length();
+            }
+            String candidate = ifNoneMatch.substring(start, end).trim();
+            if (candidate.equals("*") || opaqueTag(candidate).equals(opaqueTag)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static Set<String> caseInsensitiveSet(String... values) {
+        Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (String value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public static final class Entry {
+
+        private final int status;
+        // header names and values, in turn
+        private final String[] headers;
+        private final byte[] body;
+        private final String etag;
+        private final long expires;
+
+        Entry(int status, String[] headers, byte[] body, String etag, long expires) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+            this.etag = etag;
+            this.expires = expires;
+        }
+
+        public String getETag() {
+            return etag;
+        }
+
+        public void send(ServerHttpResponse response, boolean head) {
+            response.setStatusCode(status);
+            for (int i = 0; i < headers.length; i += 2) {
+                response.addResponseHeader(headers[i], headers[i + 1]);
+            }
+            if (head) {
+                response.setResponseHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.length));
+                response.end();
+            } else {
+                response.end(body);
+            }
+        }
+
+        public void sendNotModified(ServerHttpResponse response) {
+            response.setStatusCode(Response.Status.NOT_MODIFIED.getStatusCode());
+            for (int i = 0; i < headers.length; i += 2) {
+                if (NOT_MODIFIED_HEADERS.contains(headers[i])) {
+                    response.addResponseHeader(headers[i], headers[i + 1]);
+                }
+            }
+            response.end();
+        }
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import javax.ws.rs.core.Cookie;
 import javax.ws.rs.core.GenericEntity;
@@ -99,6 +100,7 @@ public abstract class ResteasyReactiveRequestContext
 
     private HttpHeadersImpl httpHeaders;
     private Object requestEntity;
+    private boolean requestEntityStreamed;
     private Request request;
     private EntityWriter entityWriter;
     private ContainerRequestContextImpl containerRequestContext;
@@ -134,6 +136,7 @@ public abstract class ResteasyReactiveRequestContext
 
     private AsyncResponseImpl asyncResponse;
     private SseEventSinkImpl sseEventSink;
+    private WriteCoalescer writeCoalescer;
     private List<PathSegment> pathSegments;
     private ReaderInterceptor[] readerInterceptors;
     private WriterInterceptor[] writerInterceptors;
@@ -269,6 +272,19 @@ public abstract class ResteasyReactiveRequestContext
         return this;
     }
 
+    /**
+     * Sets the request entity that was parsed as the body was received.
+     */
+    public ResteasyReactiveRequestContext setStreamedRequestEntity(Object requestEntity) {
+        this.requestEntity = requestEntity;
+        this.requestEntityStreamed = true;
+        return this;
+    }
+
+    public boolean isRequestEntityStreamed() {
+        return requestEntityStreamed;
+    }
+
     public EntityWriter getEntityWriter() {
         return entityWriter;
     }
@@ -730,6 +746,17 @@ public abstract class ResteasyReactiveRequestContext
         this.sseEventSink = sseEventSink;
     }
 
+    /**
+     * @return the coalescer the streamed events go through, or {@code null} if they are written one by one
+     */
+    public WriteCoalescer getWriteCoalescer() {
+        return writeCoalescer;
+    }
+
+    public void setWriteCoalescer(WriteCoalescer writeCoalescer) {
+        this.writeCoalescer = writeCoalescer;
+    }
+
     /**
      * Return the path segments
      * <p>
@@ -966,6 +993,13 @@ public abstract class ResteasyReactiveRequestContext
 
     public abstract Runnable registerTimer(long millis, Runnable task);
 
+    /**
+     * Same as {@link #registerTimer(long, Runnable)}, for implementations that support delays shorter than a millisecond.
+     */
+    public Runnable registerTimer(long delay, TimeUnit unit, Runnable task) {
+        return registerTimer(Math.max(1, unit.toMillis(delay)), task);
+    }
+
     public String getResourceLocatorPathParam(String name) {
         return getResourceLocatorPathParam(name, previousResource);
     }
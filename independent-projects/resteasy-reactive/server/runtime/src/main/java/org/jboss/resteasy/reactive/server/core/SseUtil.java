@@ -40,6 +40,10 @@ public class SseUtil extends CommonSseUtil {
             return ret;
         }
         setHeaders(context, response, customizers);
+        WriteCoalescer writeCoalescer = context.getWriteCoalescer();
+        if (writeCoalescer != null) {
+            return writeCoalescer.write(data.getBytes(StandardCharsets.UTF_8));
+        }
         return response.write(data.getBytes(StandardCharsets.UTF_8));
     }
 
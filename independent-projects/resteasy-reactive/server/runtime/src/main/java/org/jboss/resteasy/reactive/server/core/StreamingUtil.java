@@ -36,6 +36,11 @@ public class StreamingUtil {
             return ret;
         }
         setHeaders(context, response, customizers);
+        WriteCoalescer writeCoalescer = context.getWriteCoalescer();
+        if (writeCoalescer != null) {
+            // no need to copy the data, the prefix and the data end up in the same buffer anyway
+            return writeCoalescer.write(prefix == null ? null : prefix.getBytes(StandardCharsets.US_ASCII), data);
+        }
         if (prefix != null) {
             byte[] prefixBytes = prefix.getBytes(StandardCharsets.US_ASCII);
             byte[] prefixedData = new byte[prefixBytes.length + data.length];
@@ -0,0 +1,137 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+
+/**
+ * Gathers the events of a streamed response and writes them together, see
+ * {@link org.jboss.resteasy.reactive.CoalescedWrites}.
+ * <p>
+ * The writes of the events that are kept pending complete right away, while the write that sends the pending events
+ * completes once they have been written, so that the producers waiting for their writes to complete still get
+ * back-pressure.
+ */
+public class WriteCoalescer implements Runnable {
+
+    private final ResteasyReactiveRequestContext context;
+    private final int maxItems;
+    private final long maxDelay;
+    private final int maxSize;
+
+    // reused from one batch to the next
+    private byte[] buffer;
+    private int size;
+    private int items;
+    private Runnable cancelTimer;
+    // the failure of a write started by the timer, reported to the next event
+    private Throwable failure;
+
+    public WriteCoalescer(ResteasyReactiveRequestContext context, int maxItems, long maxDelay, int maxSize) {
+        this.context = context;
+        this.maxItems = maxItems;
+        this.maxDelay = maxDelay;
+        this.maxSize = maxSize;
+        this.buffer = new byte[Math.min(maxSize, 1024)];
+    }
+
+    public CompletionStage<?> write(byte[] data) {
+        return write(null, data);
+    }
+
+    /**
+     * Writes an event made of the given prefix, which may be {@code null}, followed by the given data.
+     */
+    public synchronized CompletionStage<?> write(byte[] prefix, byte[] data) {
+        if (failure != null) {
+            CompletableFuture<?> ret = new CompletableFuture<>();
+            ret.completeExceptionally(failure);
+            return ret;
+        }
+        if (prefix != null) {
+            append(prefix);
+        }
+        append(data);
+        items++;
+        if (items >= maxItems || size >= maxSize) {
+            return flush();
+        }
+        if (cancelTimer == null) {
+            cancelTimer = context.registerTimer(maxDelay, TimeUnit.MICROSECONDS, this);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Writes the pending events right away, e.g. before a failure of the stream is handled, so that the events produced
+     * before the failure are sent as they would have been without coalescing.
+     *
+     * @return the write of the pending events, already completed if there is none
+     */
+    public synchronized CompletionStage<?> flushPending() {
+        cancelTimer();
+        if (items == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return flush();
+    }
+
+    /**
+     * Ends the response, along with the pending events.
+     */
+    public synchronized void end() {
+        cancelTimer();
+        ServerHttpResponse response = context.serverResponse();
+        if (size == 0) {
+            response.end();
+        } else {
+            response.end(Arrays.copyOf(buffer, size));
+            size = 0;
+            items = 0;
+        }
+    }
+
+    /**
+     * Called by the timer, once the first pending event has waited long enough.
+     */
+    @Override
+    public synchronized void run() {
+        cancelTimer = null;
+        if (items == 0 || context.serverResponse().closed()) {
+            return;
+        }
+        flush().whenComplete((v, t) -> {
+            if (t != null) {
+                synchronized (this) {
+                    failure = t;
+                }
+            }
+        });
+    }
+
+    private CompletionStage<Void> flush() {
+        cancelTimer();
+        // the buffer is reused, so the response must not keep a reference to it
+        byte[] data = Arrays.copyOf(buffer, size);
+        size = 0;
+        items = 0;
+        return context.serverResponse().write(data);
+    }
+
+    private void cancelTimer() {
+        if (cancelTimer != null) {
+            cancelTimer.run();
+            cancelTimer = null;
+        }
+    }
+
+    private void append(byte[] data) {
+        if (size + data.length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + data.length));
+        }
+        System.arraycopy(data, 0, buffer, size, data.length);
+        size += data.length;
+    }
+}
@@ -5,6 +5,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
@@ -51,11 +52,21 @@ public final class FormData implements Iterable<String> {
     }
 
     public void add(String name, byte[] value, String fileName, CaseInsensitiveMap<String> headers) {
+        add(name, value, fileName, headers, null);
+    }
+
+    /**
+     * Adds a file whose content is kept in memory.
+     *
+     * @param tempDirectory The directory the content is written to if the file of the value is requested, or {@code null}
+     *        if the value has no file
+     */
+    public void add(String name, byte[] value, String fileName, CaseInsensitiveMap<String> headers, Path tempDirectory) {
         Deque<FormValue> values = this.values.get(name);
         if (values == null) {
             this.values.put(name, values = new ArrayDeque<>(1));
         }
-        values.add(new FormValueImpl(value, fileName, headers));
+        values.add(new FormValueImpl(value, fileName, headers, tempDirectory));
         if (++valueCount > maxValues) {
             throw new RuntimeException("Param limit of " + maxValues + " was exceeded");
         }
@@ -209,17 +220,28 @@ public final class FormData implements Iterable<String> {
     }
 
     public static class FileItem {
-        private final Path file;
+        private Path file;
         private final byte[] content;
+        private final Path tempDirectory;
 
         public FileItem(Path file) {
             this.file = file;
             this.content = null;
+            this.tempDirectory = null;
         }
 
         public FileItem(byte[] content) {
+            this(content, null);
+        }
+
+        /**
+         * Creates an item whose content is kept in memory until its file is requested. The content is then written to a
+         * temporary file in the given directory, which is created if needed. Note that this is blocking I/O.
+         */
+        public FileItem(byte[] content, Path tempDirectory) {
             this.file = null;
             this.content = content;
+            this.tempDirectory = tempDirectory;
         }
 
         public boolean isInMemory() {
@@ -227,11 +249,22 @@ public final class FormData implements Iterable<String> {
         }
 
         public Path getFile() {
+            if (file == null && tempDirectory != null) {
+                try {
+                    // the directory is only created when a file is written to it while it is received
+                    Files.createDirectories(tempDirectory);
+                    Path tempFile = Files.createTempFile(tempDirectory, "resteasy-reactive", "upload");
+                    Files.write(tempFile, content);
+                    file = tempFile;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
             return file;
         }
 
         public long getFileSize() throws IOException {
-            if (isInMemory()) {
+            if (content != null) {
                 return content.length;
             } else {
                 return Files.size(file);
@@ -239,10 +272,10 @@ public final class FormData implements Iterable<String> {
         }
 
         public InputStream getInputStream() throws IOException {
-            if (file != null) {
-                return new BufferedInputStream(Files.newInputStream(file));
-            } else {
+            if (content != null) {
                 return new ByteArrayInputStream(content);
+            } else {
+                return new BufferedInputStream(Files.newInputStream(file));
             }
         }
 
@@ -303,8 +336,8 @@ public final class FormData implements Iterable<String> {
             this.charset = null;
         }
 
-        FormValueImpl(byte[] data, String fileName, CaseInsensitiveMap<String> headers) {
-            this.fileItem = new FileItem(data);
+        FormValueImpl(byte[] data, String fileName, CaseInsensitiveMap<String> headers, Path tempDirectory) {
+            this.fileItem = new FileItem(data, tempDirectory);
             this.fileName = fileName;
             this.headers = headers;
             this.value = null;
@@ -1,7 +1,6 @@
 package org.jboss.resteasy.reactive.server.core.multipart;
 
 import java.io.ByteArrayOutputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
@@ -161,7 +160,7 @@ public class MultiPartParserDefinition implements FormParserFactory.ParserDefini
         private final long maxEntitySize;
         private String defaultEncoding;
 
-        private final ByteArrayOutputStream contentBytes = new ByteArrayOutputStream();
+        private final ContentBuffer contentBytes = new ContentBuffer();
         private String currentName;
         private String fileName;
         private Path file;
@@ -236,14 +235,7 @@ public class MultiPartParserDefinition implements FormParserFactory.ParserDefini
                     fileName = HeaderUtil.extractQuotedValueFromHeaderWithEncoding(disposition, "filename");
                     if (fileName != null && fileSizeThreshold == 0) {
                         try {
-                            if (tempFileLocation != null) {
-                                Files.createDirectories(tempFileLocation);
-                                file = Files.createTempFile(tempFileLocation, "resteasy-reactive", "upload");
-                            } else {
-                                file = Files.createTempFile("resteasy-reactive", "upload");
-                            }
-                            createdFiles.add(file);
-                            fileChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                            createFile();
                         } catch (IOException e) {
                             throw new RuntimeException(e);
                         }
@@ -265,33 +257,36 @@ public class MultiPartParserDefinition implements FormParserFactory.ParserDefini
                 throw new WebApplicationException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
             }
             if (file == null && fileName != null && fileSizeThreshold < this.currentFileSize) {
-                try {
-                    if (tempFileLocation != null) {
-                        Files.createDirectories(tempFileLocation);
-                        file = Files.createTempFile(tempFileLocation, "resteasy-reactive", "upload");
-                    } else {
-                        file = Files.createTempFile("resteasy-reactive", "upload");
-                    }
-                    createdFiles.add(file);
-
-                    FileOutputStream fileOutputStream = new FileOutputStream(file.toFile());
-                    contentBytes.writeTo(fileOutputStream);
-
-                    fileChannel = fileOutputStream.getChannel();
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
+                // the content received so far is written from the buffer, without copying it
+                createFile();
+                write(contentBytes.toByteBuffer());
+                contentBytes.reset();
             }
 
             if (file == null) {
-                while (buffer.hasRemaining()) {
-                    contentBytes.write(buffer.get());
-                }
-                if (maxAttributeSize > 0 && contentBytes.size() > maxAttributeSize) {
+                contentBytes.write(buffer);
+                if (fileName == null && maxAttributeSize > 0 && contentBytes.size() > maxAttributeSize) {
                     data.deleteFiles();
                     throw new WebApplicationException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
                 }
             } else {
+                write(buffer);
+            }
+        }
+
+        private void createFile() throws IOException {
+            if (tempFileLocation != null) {
+                Files.createDirectories(tempFileLocation);
+                file = Files.createTempFile(tempFileLocation, "resteasy-reactive", "upload");
+            } else {
+                file = Files.createTempFile("resteasy-reactive", "upload");
+            }
+            createdFiles.add(file);
+            fileChannel = FileChannel.open(file, StandardOpenOption.WRITE);
+        }
+
+        private void write(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
                 fileChannel.write(buffer);
             }
         }
@@ -309,7 +304,8 @@ public class MultiPartParserDefinition implements FormParserFactory.ParserDefini
                     throw new RuntimeException(e);
                 }
             } else if (fileName != null) {
-                data.add(currentName, Arrays.copyOf(contentBytes.toByteArray(), contentBytes.size()), fileName, headers);
+                // the file is only written to the uploads directory if its path is requested
+                data.add(currentName, contentBytes.toByteArray(), fileName, headers, tempFileLocation);
                 contentBytes.reset();
             } else {
 
@@ -348,6 +344,15 @@ public class MultiPartParserDefinition implements FormParserFactory.ParserDefini
 
         private void deleteFiles() {
             final List<Path> files = new ArrayList<>(getCreatedFiles());
+            // the files of the values kept in memory are written on demand
+            for (String name : data) {
+                for (FormData.FormValue value : data.get(name)) {
+                    if (value.isFileItem() && !value.getFileItem().isInMemory()
+                            && !files.contains(value.getFileItem().getFile())) {
+                        files.add(value.getFileItem().getFile());
+                    }
+                }
+            }
             executorSupplier.get().execute(new Runnable() {
                 @Override
                 public void run() {
@@ -408,6 +413,34 @@ public class MultiPartParserDefinition implements FormParserFactory.ParserDefini
         }
     }
 
+    /**
+     * Buffers the content of a part in memory, and exposes it without copying it.
+     */
+    private static final class ContentBuffer extends ByteArrayOutputStream {
+
+        void write(ByteBuffer buffer) {
+            int length = buffer.remaining();
+            if (buffer.hasArray()) {
+                write(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+                buffer.position(buffer.limit());
+            } else {
+                ensureCapacity(count + length);
+                buffer.get(buf, count, length);
+                count += length;
+            }
+        }
+
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, capacity));
+            }
+        }
+    }
+
     public static class FileTooLargeException extends IOException {
 
         public FileTooLargeException() {
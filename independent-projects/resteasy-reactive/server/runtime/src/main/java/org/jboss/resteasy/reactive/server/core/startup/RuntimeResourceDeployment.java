@@ -255,6 +255,17 @@ public class RuntimeResourceDeployment {
                 break;
             }
         }
+        RequestDeserializeHandler deserializeHandler = null;
+        if (bodyParameter != null) {
+            Class<Object> typeClass = loadClass(bodyParameter.declaredType);
+            Type genericType = typeClass;
+            if (!bodyParameter.type.equals(bodyParameter.declaredType)) {
+                // we only need to parse the signature and create generic type when the declared type differs from the type
+                genericType = TypeSignatureParser.parse(bodyParameter.signature);
+            }
+            deserializeHandler = new RequestDeserializeHandler(typeClass, genericType,
+                    consumesMediaTypes.isEmpty() ? null : consumesMediaTypes.get(0), serialisers, bodyParameterIndex);
+        }
         // form params can be everywhere (field, beanparam, param)
         boolean checkReadBodyRequestFilters = false;
         if (method.isFormParamRequired() || method.isMultipart()) {
@@ -264,8 +275,9 @@ public class RuntimeResourceDeployment {
         } else if (bodyParameter != null) {
             if (!defaultBlocking) {
                 if (!method.isBlocking()) {
-                    // allow the body to be read by chunks
-                    handlers.add(new InputHandler(resteasyReactiveConfig.getInputBufferSize(), executorSupplier));
+                    // allow the body to be read by chunks, and to be parsed as it is received unless a filter needs to read it
+                    handlers.add(new InputHandler(resteasyReactiveConfig.getInputBufferSize(), executorSupplier,
+                            hasReadBodyRequestFilters ? null : deserializeHandler));
                     checkReadBodyRequestFilters = true;
                 }
             }
@@ -286,15 +298,8 @@ public class RuntimeResourceDeployment {
         }
 
         // if we need the body, let's deserialize it
-        if (bodyParameter != null) {
-            Class<Object> typeClass = loadClass(bodyParameter.declaredType);
-            Type genericType = typeClass;
-            if (!bodyParameter.type.equals(bodyParameter.declaredType)) {
-                // we only need to parse the signature and create generic type when the declared type differs from the type
-                genericType = TypeSignatureParser.parse(bodyParameter.signature);
-            }
-            handlers.add(new RequestDeserializeHandler(typeClass, genericType,
-                    consumesMediaTypes.isEmpty() ? null : consumesMediaTypes.get(0), serialisers, bodyParameterIndex));
+        if (deserializeHandler != null) {
+            handlers.add(deserializeHandler);
         }
 
         // given that we may inject form params in the endpoint we need to make sure we read the body before
@@ -28,6 +28,8 @@ public class ClassRoutingHandler implements ServerRestHandler {
     private static final String INVALID_ACCEPT_HEADER_MESSAGE = "The accept header value did not match the value in @Produces";
 
     private final Map<String, RequestMapper<RuntimeResource>> mappers;
+    // the value of the Allow header of the OPTIONS responses
+    private final Set<CharSequence> allowedMethods;
     private final int parameterOffset;
     final boolean resumeOn404;
 
@@ -35,6 +37,16 @@ public class ClassRoutingHandler implements ServerRestHandler {
         this.mappers = mappers;
         this.parameterOffset = parameterOffset;
         this.resumeOn404 = resumeOn404;
+        Set<CharSequence> allowedMethods = new HashSet<>();
+        for (String method : mappers.keySet()) {
+            if (method == null) {
+                continue;
+            }
+            allowedMethods.add(method);
+        }
+        allowedMethods.add(HttpMethod.OPTIONS);
+        allowedMethods.add(HttpMethod.HEAD);
+        this.allowedMethods = Collections.unmodifiableSet(allowedMethods);
     }
 
     @Override
@@ -45,15 +57,6 @@ public class ClassRoutingHandler implements ServerRestHandler {
             if (requestMethod.equals(HttpMethod.HEAD)) {
                 mapper = mappers.get(HttpMethod.GET);
             } else if (requestMethod.equals(HttpMethod.OPTIONS)) {
-                Set<CharSequence> allowedMethods = new HashSet<>();
-                for (String method : mappers.keySet()) {
-                    if (method == null) {
-                        continue;
-                    }
-                    allowedMethods.add(method);
-                }
-                allowedMethods.add(HttpMethod.OPTIONS);
-                allowedMethods.add(HttpMethod.HEAD);
                 requestContext.serverResponse().setResponseHeader(HttpHeaders.ALLOW, allowedMethods).end();
                 return;
             }
@@ -108,18 +111,26 @@ public class ClassRoutingHandler implements ServerRestHandler {
 
         // according to the spec we need to return HTTP 415 when content-type header doesn't match what is specified in @Consumes
 
-        if (!target.value.getConsumes().isEmpty()) {
+        List<MediaType> consumes = target.value.getConsumes();
+        if (!consumes.isEmpty()) {
             String contentType = serverRequest.getRequestHeader(HttpHeaders.CONTENT_TYPE);
             if (contentType != null) {
+                MediaType contentMediaType;
                 try {
-                    if (MediaTypeHelper.getFirstMatch(
-                            target.value.getConsumes(),
-                            Collections.singletonList(MediaType.valueOf(contentType))) == null) {
-                        throw new NotSupportedException("The content-type header value did not match the value in @Consumes");
-                    }
+                    contentMediaType = toMediaType(contentType);
                 } catch (IllegalArgumentException e) {
                     throw new NotSupportedException("The content-type header value did not correspond to a valid media type");
                 }
+                boolean compatible = false;
+                for (int i = 0; i < consumes.size(); i++) {
+                    if (contentMediaType.isCompatible(consumes.get(i))) {
+                        compatible = true;
+                        break;
+                    }
+                }
+                if (!compatible) {
+                    throw new NotSupportedException("The content-type header value did not match the value in @Consumes");
+                }
             }
         }
         // according to the spec we need to return HTTP 406 when Accept header doesn't match what is specified in @Produces
@@ -160,7 +171,7 @@ public class ClassRoutingHandler implements ServerRestHandler {
             MediaType[] producesMediaTypes = target.value.getProduces().getSortedOriginalMediaTypes();
             if (!multipleAcceptsValues && (producesMediaTypes.length == 1)) {
                 // the point of this branch is to eliminate any list creation or string indexing as none is needed
-                MediaType acceptsMediaType = MediaType.valueOf(accepts.trim());
+                MediaType acceptsMediaType = toMediaType(accepts.trim());
                 MediaType providedMediaType = producesMediaTypes[0];
                 return providedMediaType.isCompatible(acceptsMediaType);
             } else if (multipleAcceptsValues && (producesMediaTypes.length == 1)) {
@@ -0,0 +1,243 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.common.headers.MediaTypeHeaderDelegate;
+import org.jboss.resteasy.reactive.server.core.BlockingOperationSupport;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Buffers the serialized entity of a response and compresses it with the content coding preferred by the client.
+ * <p>
+ * If another handler already set an output stream, e.g. to cache the response, the compressed entity is written to that
+ * stream instead of the HTTP response.
+ */
+public class CompressionHandler implements ServerRestHandler {
+
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+
+    // make mutable to allow for bytecode serialization
+    private String[] mediaTypes;
+    private int minSize;
+    private int offloadSize;
+
+    private MediaType[] compressibleMediaTypes;
+
+    public CompressionHandler() {
+    }
+
+    public String[] getMediaTypes() {
+        return mediaTypes;
+    }
+
+    public void setMediaTypes(String[] mediaTypes) {
+        this.mediaTypes = mediaTypes;
+        MediaType[] compressibleMediaTypes = new MediaType[mediaTypes.length];
+        for (int i = 0; i < mediaTypes.length; i++) {
+            compressibleMediaTypes[i] = MediaTypeHeaderDelegate.parse(mediaTypes[i]);
+        }
+        this.compressibleMediaTypes = compressibleMediaTypes;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public void setMinSize(int minSize) {
+        this.minSize = minSize;
+    }
+
+    public int getOffloadSize() {
+        return offloadSize;
+    }
+
+    public void setOffloadSize(int offloadSize) {
+        this.offloadSize = offloadSize;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        Response response = requestContext.getResponse().get();
+        // whether the client accepts compressed bodies or not, caches must not mix up the representations
+        response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (requestContext.getMethod().equals(HttpMethod.HEAD)) {
+            return;
+        }
+        String acceptEncoding = requestContext.serverRequest().getRequestHeader(HttpHeaders.ACCEPT_ENCODING);
+        String encoding = acceptEncoding == null ? null : selectEncoding(acceptEncoding);
+        if (encoding != null) {
+            requestContext.setOutputStream(new CompressingOutputStream(requestContext, encoding,
+                    requestContext.getOutputStream()));
+        }
+    }
+
+    private boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        MediaType mediaType;
+        try {
+            mediaType = MediaTypeHeaderDelegate.parse(contentType);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        for (MediaType compressibleMediaType : compressibleMediaTypes) {
+            if (compressibleMediaType.isCompatible(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the content coding to use for the given {@code Accept-Encoding} header value, or {@code null} if the
+     *         client accepts neither {@code gzip} nor {@code deflate}
+     */
+    static String selectEncoding(String acceptEncoding) {
+        float gzip = -1;
+        float deflate = -1;
+        float any = -1;
+        int start = 0;
+        while (start < acceptEncoding.length()) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end == -1) {
+                end = acceptEncoding.length();
+            }
+            String part = acceptEncoding.substring(start, end);
+            int semicolon = part.indexOf(';');
+            String coding = (semicolon == -1 ? part : part.substring(0, semicolon)).trim();
+            float quality = semicolon == -1 ? 1 : quality(part.substring(semicolon + 1));
+            if (coding.equalsIgnoreCase(GZIP) || coding.equalsIgnoreCase("x-gzip")) {
+                gzip = quality;
+            } else if (coding.equalsIgnoreCase(DEFLATE)) {
+                deflate = quality;
+            } else if (coding.equals("*")) {
+                any = quality;
+            }
+            start = end + 1;
+        }
+        if (gzip == -1) {
+            gzip = any;
+        }
+        if (deflate == -1) {
+            deflate = any;
+        }
+        if (gzip > 0 && gzip >= deflate) {
+            return GZIP;
+        }
+        if (deflate > 0) {
+            return DEFLATE;
+        }
+        return null;
+    }
+
+    private static float quality(String parameters) {
+        String parameter = parameters.trim();
+        if (!parameter.startsWith("q=")) {
+            return 1;
+        }
+        try {
+            return Float.parseFloat(parameter.substring(2).trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    static byte[] compress(byte[] body, String encoding) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (OutputStream compressing = encoding.equals(GZIP) ? new GZIPOutputStream(out) : new DeflaterOutputStream(out)) {
+            compressing.write(body);
+        } catch (IOException e) {
+            // cannot happen when writing to memory
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private class CompressingOutputStream extends ByteArrayOutputStream {
+
+        private final ResteasyReactiveRequestContext context;
+        private final String encoding;
+        // the stream the body goes to, or null if it goes to the HTTP response
+        private final OutputStream next;
+        private boolean closed;
+
+        CompressingOutputStream(ResteasyReactiveRequestContext context, String encoding, OutputStream next) {
+            this.context = context;
+            this.encoding = encoding;
+            this.next = next;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            ServerHttpResponse serverResponse = context.serverResponse();
+            if (serverResponse.headWritten()) {
+                // the response was sent without going through this stream
+                if (next != null) {
+                    next.close();
+                }
+                return;
+            }
+            byte[] body = toByteArray();
+            Response response = context.getResponse().get();
+            String contentType = response.getMediaType() == null ? null : response.getMediaType().toString();
+            if (contentType == null && context.getResponseContentType() != null) {
+                contentType = context.getResponseContentType().toString();
+            }
+            if (body.length < minSize || response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)
+                    || !isCompressible(contentType)) {
+                send(body, null);
+            } else if (body.length >= offloadSize && !BlockingOperationSupport.isBlockingAllowed()) {
+                // don't hold the event loop while compressing a large body
+                context.suspend();
+                context.getDeployment().getExecutorSupplier().get().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            send(compress(body, encoding), encoding);
+                        } catch (Throwable t) {
+                            context.resume(t);
+                            return;
+                        }
+                        context.resume();
+                    }
+                });
+            } else {
+                send(compress(body, encoding), encoding);
+            }
+        }
+
+        private void send(byte[] body, String contentEncoding) throws IOException {
+            if (contentEncoding != null) {
+                context.getResponse().get().getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+            }
+            if (next != null) {
+                next.write(body);
+                next.close();
+                return;
+            }
+            ServerSerialisers.encodeResponseHeaders(context);
+            // the headers are final, don't let the writer encode them again
+            ServerHttpResponse serverResponse = context.serverResponse();
+            serverResponse.setPreCommitListener(null);
+            serverResponse.setResponseHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.length));
+            serverResponse.end(body);
+        }
+    }
+}
@@ -37,7 +37,7 @@ public class FormBodyHandler implements ServerRestHandler, RuntimeConfigurableSe
     public void configure(RuntimeConfiguration configuration) {
         formParserFactory = FormParserFactory.builder(false, executorSupplier)
                 .addParser(new MultiPartParserDefinition(executorSupplier)
-                        .setFileSizeThreshold(0)
+                        .setFileSizeThreshold(configuration.body().fileSizeThreshold())
                         .setMaxAttributeSize(configuration.limits().maxFormAttributeSize())
                         .setMaxEntitySize(configuration.limits().maxBodySize().orElse(-1L))
                         .setDeleteUploadsOnEnd(configuration.body().deleteUploadedFilesOnEnd())
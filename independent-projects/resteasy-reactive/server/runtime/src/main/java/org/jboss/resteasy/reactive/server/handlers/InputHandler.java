@@ -1,15 +1,21 @@
 package org.jboss.resteasy.reactive.server.handlers;
 
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.MultiEmitter;
 import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import javax.ws.rs.HttpMethod;
+import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.server.spi.StreamingServerMessageBodyReader.BodyParser;
 
 /**
  * Handler that reads data and sets up the input stream
@@ -18,18 +24,30 @@ import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
  * to allow the request to stay on the IO thread. If the request is too large
  * it will be delegated to an executor and a blocking stream used instead.
  * <p>
+ * If the reader of the body can parse it incrementally, the data is passed to the parser as it is received
+ * instead, and the body is neither buffered nor read by a blocking stream. A {@code Multi} body receives its
+ * elements as they are parsed, and the data is only read when the elements are requested.
+ * <p>
  * TODO: the stream implementation here could be a lot more efficient.
  */
 public class InputHandler implements ServerRestHandler {
 
+    private static final Logger log = Logger.getLogger(InputHandler.class);
+
     final long maxBufferSize;
     private volatile Executor executor;
     private final Supplier<Executor> supplier;
     private final ClassLoader originalTCCL;
+    private final RequestDeserializeHandler deserializeHandler;
 
     public InputHandler(long maxBufferSize, Supplier<Executor> supplier) {
+        this(maxBufferSize, supplier, null);
+    }
+
+    public InputHandler(long maxBufferSize, Supplier<Executor> supplier, RequestDeserializeHandler deserializeHandler) {
         this.maxBufferSize = maxBufferSize;
         this.supplier = supplier;
+        this.deserializeHandler = deserializeHandler;
         // capture the proper TCCL in order to avoid losing it to Vert.x in dev-mode
         this.originalTCCL = Thread.currentThread().getContextClassLoader();
 
@@ -47,6 +65,17 @@ public class InputHandler implements ServerRestHandler {
                 context.serverRequest().getRequestMethod().equals(HttpMethod.HEAD)) {
             return;
         }
+        if (deserializeHandler != null) {
+            BodyParser parser = deserializeHandler.createBodyParser(context);
+            if (parser != null) {
+                if (deserializeHandler.isMulti()) {
+                    context.setStreamedRequestEntity(createMulti(context, parser));
+                } else {
+                    parse(context, parser);
+                }
+                return;
+            }
+        }
         InputListener h = new InputListener(context);
         context.suspend();
         ServerHttpRequest req = context.serverRequest();
@@ -59,6 +88,129 @@ public class InputHandler implements ServerRestHandler {
         }
     }
 
+    private void parse(ResteasyReactiveRequestContext context, BodyParser parser) {
+        ParserListener h = new ParserListener(context, parser);
+        context.suspend();
+        ServerHttpRequest req = context.serverRequest();
+        if (!req.isRequestEnded()) {
+            req.setReadListener(h);
+            req.resumeRequestInput();
+        } else {
+            req.resumeRequestInput();
+            h.done();
+        }
+    }
+
+    private Multi<Object> createMulti(ResteasyReactiveRequestContext context, BodyParser parser) {
+        ServerHttpRequest req = context.serverRequest();
+        return Multi.createFrom().emitter(new Consumer<MultiEmitter<? super Object>>() {
+            @Override
+            public void accept(MultiEmitter<? super Object> emitter) {
+                if (req.isRequestEnded()) {
+                    try {
+                        parser.end(emitter::emit);
+                        emitter.complete();
+                    } catch (Exception e) {
+                        emitter.fail(e);
+                    }
+                    return;
+                }
+                req.setReadListener(new ServerHttpRequest.ReadCallback() {
+                    @Override
+                    public void done() {
+                        try {
+                            parser.end(emitter::emit);
+                            emitter.complete();
+                        } catch (Exception e) {
+                            emitter.fail(e);
+                        }
+                    }
+
+                    @Override
+                    public void data(ByteBuffer data) {
+                        try {
+                            parser.parse(data, emitter::emit);
+                        } catch (Exception e) {
+                            req.pauseRequestInput();
+                            emitter.fail(e);
+                            return;
+                        }
+                        if (emitter.requested() == 0) {
+                            // resumed when more elements are requested
+                            req.pauseRequestInput();
+                        }
+                    }
+                });
+                req.resumeRequestInput();
+            }
+        }).onRequest().invoke(new LongConsumer() {
+            @Override
+            public void accept(long n) {
+                req.resumeRequestInput();
+            }
+        });
+    }
+
+    class ParserListener implements ServerHttpRequest.ReadCallback, Consumer<Object> {
+        final ResteasyReactiveRequestContext context;
+        final BodyParser parser;
+        boolean failed;
+        boolean parsed;
+        Object value;
+
+        ParserListener(ResteasyReactiveRequestContext context, BodyParser parser) {
+            this.context = context;
+            this.parser = parser;
+        }
+
+        @Override
+        public void done() {
+            if (failed) {
+                return;
+            }
+            try {
+                parser.end(this);
+            } catch (Exception e) {
+                fail(e);
+                return;
+            }
+            // an empty body is read as null
+            context.setStreamedRequestEntity(value);
+            Thread.currentThread().setContextClassLoader(originalTCCL);
+            context.resume();
+        }
+
+        @Override
+        public void data(ByteBuffer event) {
+            if (failed) {
+                return;
+            }
+            try {
+                parser.parse(event, this);
+            } catch (Exception e) {
+                context.serverRequest().pauseRequestInput();
+                fail(e);
+            }
+        }
+
+        @Override
+        public void accept(Object value) {
+            // like a blocking read, only the first value of the body is used
+            if (!parsed) {
+                parsed = true;
+                this.value = value;
+            }
+        }
+
+        private void fail(Exception e) {
+            failed = true;
+            log.debug("Error occurred during deserialization of input", e);
+            Thread.currentThread().setContextClassLoader(originalTCCL);
+            context.handleException(e, true);
+            context.resume();
+        }
+    }
+
     class InputListener implements ServerHttpRequest.ReadCallback {
         final ResteasyReactiveRequestContext context;
         int dataCount;
@@ -4,6 +4,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import javax.ws.rs.core.MediaType;
 import org.jboss.logging.Logger;
@@ -11,6 +12,7 @@ import org.jboss.resteasy.reactive.common.util.RestMediaType;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.SseUtil;
 import org.jboss.resteasy.reactive.server.core.StreamingUtil;
+import org.jboss.resteasy.reactive.server.core.WriteCoalescer;
 import org.jboss.resteasy.reactive.server.jaxrs.OutboundSseEventImpl;
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer.Phase;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
@@ -138,7 +140,10 @@ public class PublisherResponseHandler implements ServerRestHandler {
             if (json) {
                 String postfix = onCompleteText();
                 byte[] postfixBytes = postfix.getBytes(StandardCharsets.US_ASCII);
-                requestContext.serverResponse().write(postfixBytes).handle((v, t) -> {
+                WriteCoalescer writeCoalescer = requestContext.getWriteCoalescer();
+                CompletionStage<?> write = writeCoalescer != null ? writeCoalescer.write(postfixBytes)
+                        : requestContext.serverResponse().write(postfixBytes);
+                write.handle((v, t) -> {
                     super.onComplete();
                     return null;
                 });
@@ -196,7 +201,12 @@ public class PublisherResponseHandler implements ServerRestHandler {
             weClosed = true;
             // no need to cancel on complete
             // FIXME: are we interested in async completion?
-            requestContext.serverResponse().end();
+            if (requestContext.getWriteCoalescer() != null) {
+                // the pending items go along with the end of the response
+                requestContext.getWriteCoalescer().end();
+            } else {
+                requestContext.serverResponse().end();
+            }
             requestContext.close();
         }
 
@@ -207,6 +217,20 @@ public class PublisherResponseHandler implements ServerRestHandler {
         }
 
         protected void handleException(ResteasyReactiveRequestContext requestContext, Throwable t) {
+            WriteCoalescer writeCoalescer = requestContext.getWriteCoalescer();
+            if (writeCoalescer != null) {
+                // the items produced before the failure are sent first, as they would have been without coalescing,
+                // which also commits the response if they are the first ones
+                writeCoalescer.flushPending().handle((v, t2) -> {
+                    doHandleException(requestContext, t);
+                    return null;
+                });
+            } else {
+                doHandleException(requestContext, t);
+            }
+        }
+
+        private void doHandleException(ResteasyReactiveRequestContext requestContext, Throwable t) {
             // in truth we can only send an exception if we haven't sent the headers yet, otherwise
             // it will appear to be an SSE value, which is incorrect, so we should only log it and close the connection
             if (requestContext.serverResponse().headWritten()) {
@@ -1,8 +1,13 @@
 package org.jboss.resteasy.reactive.server.handlers;
 
+import io.smallrye.mutiny.Multi;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.BadRequestException;
 import javax.ws.rs.NotSupportedException;
@@ -16,11 +21,13 @@ import javax.ws.rs.ext.MessageBodyReader;
 import javax.ws.rs.ext.ReaderInterceptor;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.common.util.MediaTypeHelper;
+import org.jboss.resteasy.reactive.common.util.types.Types;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
 import org.jboss.resteasy.reactive.server.jaxrs.ReaderInterceptorContextImpl;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.server.spi.StreamingServerMessageBodyReader;
 
 public class RequestDeserializeHandler implements ServerRestHandler {
 
@@ -31,6 +38,9 @@ public class RequestDeserializeHandler implements ServerRestHandler {
     private final MediaType mediaType;
     private final ServerSerialisers serialisers;
     private final int parameterIndex;
+    // the type of the elements if the body parameter is a Multi, null otherwise
+    private final Class<?> elementType;
+    private final Type elementGenericType;
 
     public RequestDeserializeHandler(Class<?> type, Type genericType, MediaType mediaType, ServerSerialisers serialisers,
             int parameterIndex) {
@@ -39,20 +49,25 @@ public class RequestDeserializeHandler implements ServerRestHandler {
         this.mediaType = mediaType;
         this.serialisers = serialisers;
         this.parameterIndex = parameterIndex;
+        if (Multi.class.equals(type) && genericType instanceof ParameterizedType) {
+            this.elementGenericType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            this.elementType = Types.getRawType(elementGenericType);
+        } else {
+            this.elementGenericType = null;
+            this.elementType = null;
+        }
     }
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
-        MediaType effectiveRequestType = mediaType;
-        String requestTypeString = requestContext.serverRequest().getRequestHeader(HttpHeaders.CONTENT_TYPE);
-        if (requestTypeString != null) {
-            try {
-                effectiveRequestType = MediaTypeHelper.withSuffixAsSubtype(MediaType.valueOf(requestTypeString));
-            } catch (Exception e) {
-                throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST).build());
-            }
-        } else if (effectiveRequestType == null) {
-            effectiveRequestType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
+        if (requestContext.isRequestEntityStreamed()) {
+            // the body was parsed as it was received
+            return;
+        }
+        MediaType effectiveRequestType = getEffectiveRequestType(requestContext);
+        if (elementType != null) {
+            handleMulti(requestContext, effectiveRequestType);
+            return;
         }
         List<MessageBodyReader<?>> readers = serialisers.findReaders(null, type, effectiveRequestType, RuntimeType.SERVER);
         if (readers.isEmpty()) {
@@ -91,8 +106,102 @@ public class RequestDeserializeHandler implements ServerRestHandler {
         throw new NotSupportedException("No supported MessageBodyReader found");
     }
 
+    /**
+     * Reads the elements of a {@code Multi} body from the input stream, if the body could not be parsed as it was received.
+     */
+    private void handleMulti(ResteasyReactiveRequestContext requestContext, MediaType effectiveRequestType)
+            throws IOException {
+        StreamingServerMessageBodyReader.BodyParser parser = findBodyParser(requestContext, effectiveRequestType);
+        if (parser == null) {
+            throw new NotSupportedException("No supported MessageBodyReader found");
+        }
+        List<Object> elements = new ArrayList<>();
+        try {
+            InputStream inputStream = requestContext.getInputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                parser.parse(ByteBuffer.wrap(buffer, 0, read), elements::add);
+            }
+            parser.end(elements::add);
+        } catch (Exception e) {
+            log.debug("Error occurred during deserialization of input", e);
+            requestContext.handleException(e, true);
+            requestContext.resume();
+            return;
+        }
+        requestContext.setRequestEntity(Multi.createFrom().iterable(elements));
+        requestContext.resume();
+    }
+
+    /**
+     * Finds a parser that can read the body as it is received, on the IO thread.
+     *
+     * @return the parser, or {@code null} if the body must be read from an input stream
+     */
+    StreamingServerMessageBodyReader.BodyParser createBodyParser(ResteasyReactiveRequestContext requestContext)
+            throws IOException {
+        if (requestContext.getReaderInterceptors() != null) {
+            // the interceptors need an input stream
+            return null;
+        }
+        MediaType effectiveRequestType;
+        try {
+            effectiveRequestType = getEffectiveRequestType(requestContext);
+        } catch (WebApplicationException e) {
+            // reported when the body is deserialized
+            return null;
+        }
+        return findBodyParser(requestContext, effectiveRequestType);
+    }
+
+    /**
+     *
+     * @return {@code true} if the body parameter is a {@code Multi}
+     */
+    boolean isMulti() {
+        return elementType != null;
+    }
+
+    private StreamingServerMessageBodyReader.BodyParser findBodyParser(ResteasyReactiveRequestContext requestContext,
+            MediaType effectiveRequestType) throws IOException {
+        Class<?> readType = elementType != null ? elementType : type;
+        Type readGenericType = elementType != null ? elementGenericType : genericType;
+        for (MessageBodyReader<?> reader : serialisers.findReaders(null, readType, effectiveRequestType,
+                RuntimeType.SERVER)) {
+            if (isReadable(reader, requestContext, readType, readGenericType, effectiveRequestType)) {
+                if (reader instanceof StreamingServerMessageBodyReader) {
+                    return ((StreamingServerMessageBodyReader<?>) reader).createBodyParser(readType, readGenericType,
+                            effectiveRequestType, elementType != null);
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private MediaType getEffectiveRequestType(ResteasyReactiveRequestContext requestContext) {
+        MediaType effectiveRequestType = mediaType;
+        String requestTypeString = requestContext.serverRequest().getRequestHeader(HttpHeaders.CONTENT_TYPE);
+        if (requestTypeString != null) {
+            try {
+                effectiveRequestType = MediaTypeHelper.withSuffixAsSubtype(MediaType.valueOf(requestTypeString));
+            } catch (Exception e) {
+                throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST).build());
+            }
+        } else if (effectiveRequestType == null) {
+            effectiveRequestType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
+        }
+        return effectiveRequestType;
+    }
+
     private boolean isReadable(MessageBodyReader<?> reader, ResteasyReactiveRequestContext requestContext,
             MediaType requestType) {
+        return isReadable(reader, requestContext, type, genericType, requestType);
+    }
+
+    private boolean isReadable(MessageBodyReader<?> reader, ResteasyReactiveRequestContext requestContext,
+            Class<?> type, Type genericType, MediaType requestType) {
         if (reader instanceof ServerMessageBodyReader) {
             return ((ServerMessageBodyReader<?>) reader).isReadable(type, genericType,
                     requestContext.getTarget().getLazyMethod(),
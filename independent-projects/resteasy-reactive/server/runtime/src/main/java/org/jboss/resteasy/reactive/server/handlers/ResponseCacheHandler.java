@@ -0,0 +1,53 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.HttpHeaders;
+import org.jboss.resteasy.reactive.server.core.ResponseCache;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.startup.RuntimeDeploymentManager;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Answers a request from the {@link ResponseCache} before the resource method is invoked.
+ */
+public class ResponseCacheHandler implements ServerRestHandler {
+
+    // make mutable to allow for bytecode serialization
+    private ResponseCache cache;
+
+    public ResponseCacheHandler() {
+    }
+
+    public ResponseCache getCache() {
+        return cache;
+    }
+
+    public void setCache(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        String method = requestContext.getMethod();
+        boolean head = method.equals(HttpMethod.HEAD);
+        if (!head && !method.equals(HttpMethod.GET)) {
+            return;
+        }
+        String key = cache.key(requestContext);
+        if (key == null) {
+            return;
+        }
+        ResponseCache.Entry entry = cache.get(key);
+        if (entry == null) {
+            return;
+        }
+        String ifNoneMatch = requestContext.serverRequest().getRequestHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ResponseCache.matches(ifNoneMatch, entry.getETag())) {
+            entry.sendNotModified(requestContext.serverResponse());
+        } else {
+            entry.send(requestContext.serverResponse(), head);
+        }
+        // the response has been sent, so there is nothing left to do
+        requestContext.restart(RuntimeDeploymentManager.EMPTY_REST_HANDLER_ARRAY);
+    }
+}
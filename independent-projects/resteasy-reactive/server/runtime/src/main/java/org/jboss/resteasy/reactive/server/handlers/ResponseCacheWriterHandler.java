@@ -0,0 +1,117 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.io.ByteArrayOutputStream;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.server.core.ResponseCache;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Buffers the serialized entity of a successful response so that it can be stored in the {@link ResponseCache} along
+ * with its headers and an {@code ETag}.
+ */
+public class ResponseCacheWriterHandler implements ServerRestHandler {
+
+    // make mutable to allow for bytecode serialization
+    private ResponseCache cache;
+
+    public ResponseCacheWriterHandler() {
+    }
+
+    public ResponseCache getCache() {
+        return cache;
+    }
+
+    public void setCache(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        if (!requestContext.getMethod().equals(HttpMethod.GET) || requestContext.getOutputStream() != null) {
+            return;
+        }
+        String key = cache.key(requestContext);
+        if (key == null) {
+            return;
+        }
+        requestContext.setOutputStream(new CachingOutputStream(requestContext, cache, key));
+    }
+
+    private static class CachingOutputStream extends ByteArrayOutputStream {
+
+        private final ResteasyReactiveRequestContext context;
+        private final ResponseCache cache;
+        private final String key;
+        // the response the buffered bytes belong to
+        private Response response;
+        private boolean closed;
+
+        CachingOutputStream(ResteasyReactiveRequestContext context, ResponseCache cache, String key) {
+            this.context = context;
+            this.cache = cache;
+            this.key = key;
+        }
+
+        @Override
+        public void write(int b) {
+            checkResponse();
+            super.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            checkResponse();
+            super.write(b, off, len);
+        }
+
+        private void checkResponse() {
+            Response current = context.getResponse().get();
+            if (current != response) {
+                // the response was replaced, e.g. by a writer interceptor or by an exception mapper after a failed write
+                response = current;
+                reset();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            ServerHttpResponse serverResponse = context.serverResponse();
+            if (serverResponse.headWritten()) {
+                // the response was sent without going through this stream
+                return;
+            }
+            checkResponse();
+            byte[] body = toByteArray();
+            // an exception mapper may still have produced a successful response, but it is not the one to cache
+            boolean cacheable = context.getThrowable() == null
+                    && response.getStatus() == Response.Status.OK.getStatusCode();
+            MultivaluedMap<String, Object> headers = response.getHeaders();
+            if (cacheable && !headers.containsKey(HttpHeaders.ETAG)) {
+                headers.putSingle(HttpHeaders.ETAG, ResponseCache.etag(body));
+            }
+            ServerSerialisers.encodeResponseHeaders(context);
+            // the headers are final, don't let the writer encode them again
+            serverResponse.setPreCommitListener(null);
+            if (cacheable) {
+                cache.put(key, response.getStatus(), serverResponse, headers.keySet(), body);
+                String ifNoneMatch = context.serverRequest().getRequestHeader(HttpHeaders.IF_NONE_MATCH);
+                if (ifNoneMatch != null
+                        && ResponseCache.matches(ifNoneMatch, serverResponse.getResponseHeader(HttpHeaders.ETAG))) {
+                    serverResponse.setStatusCode(Response.Status.NOT_MODIFIED.getStatusCode()).end();
+                    return;
+                }
+            }
+            serverResponse.end(body);
+        }
+    }
+}
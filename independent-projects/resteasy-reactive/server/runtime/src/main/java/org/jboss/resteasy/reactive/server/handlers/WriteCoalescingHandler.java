@@ -0,0 +1,49 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.WriteCoalescer;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Makes the events sent to the {@code SseEventSink}, or the items of the {@code Multi} returned by the resource method,
+ * go through a {@link WriteCoalescer}.
+ */
+public class WriteCoalescingHandler implements ServerRestHandler {
+
+    // make mutable to allow for bytecode serialization
+    private int maxItems;
+    private long maxDelay;
+    private int maxSize;
+
+    public WriteCoalescingHandler() {
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    public void setMaxItems(int maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(long maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        requestContext.setWriteCoalescer(new WriteCoalescer(requestContext, maxItems, maxDelay, maxSize));
+    }
+}
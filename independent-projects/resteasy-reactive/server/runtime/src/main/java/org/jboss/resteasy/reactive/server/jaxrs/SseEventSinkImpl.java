@@ -53,7 +53,12 @@ public class SseEventSinkImpl implements SseEventSink {
             // endpoint method is over
             SseUtil.setHeaders(context, response);
         }
-        response.end();
+        if (context.getWriteCoalescer() != null) {
+            // the pending events go along with the end of the response
+            context.getWriteCoalescer().end();
+        } else {
+            response.end();
+        }
         context.close();
         if (broadcaster != null)
             broadcaster.fireClose(this);
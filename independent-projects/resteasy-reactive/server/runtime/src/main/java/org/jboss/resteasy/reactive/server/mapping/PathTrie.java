@@ -0,0 +1,189 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A trie of path prefixes, that finds the longest prefix of a path in a single pass over its characters.
+ * <p>
+ * The trie is compiled when it is built: the children of a node are stored in arrays sorted by character, so a lookup
+ * neither allocates nor hashes the path.
+ */
+class PathTrie<T> implements Dumpable {
+
+    private static final int LINEAR_SEARCH_THRESHOLD = 8;
+
+    private final Node<T> root;
+    private final int size;
+
+    private PathTrie(Node<T> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Matches a path against the registered prefixes.
+     * <p>
+     * The shorter prefixes of the path can then be found by following {@link Node#shorter}.
+     *
+     * @param path The path to match
+     * @return The node of the longest prefix of the path, or {@code null} if no prefix matches
+     */
+    Node<T> match(String path) {
+        Node<T> node = root;
+        Node<T> match = null;
+        int length = path.length();
+        for (int i = 0; i < length; ++i) {
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.value != null) {
+                match = node;
+            }
+        }
+        return match;
+    }
+
+    int size() {
+        return size;
+    }
+
+    @Override
+    public void dump(int level) {
+        indent(level);
+        System.err.println("Paths: " + size);
+        root.dump(this, level + 1, new StringBuilder());
+    }
+
+    static final class Node<T> {
+
+        private static final char[] NO_CHARS = new char[0];
+
+        /**
+         * The length of the prefix, i.e. the depth of this node.
+         */
+        final int length;
+        /**
+         * The value of the prefix, or {@code null} if this node is only an intermediate node.
+         */
+        final T value;
+        /**
+         * The node of the longest registered prefix that is shorter than this one, or {@code null}.
+         */
+        Node<T> shorter;
+        // sorted
+        private final char[] chars;
+        private final Node<T>[] children;
+
+        private Node(int length, T value, char[] chars, Node<T>[] children) {
+            this.length = length;
+            this.value = value;
+            this.chars = chars;
+            this.children = children;
+        }
+
+        Node<T> child(char c) {
+            char[] chars = this.chars;
+            if (chars.length < LINEAR_SEARCH_THRESHOLD) {
+                for (int i = 0; i < chars.length; ++i) {
+                    if (chars[i] == c) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+            int low = 0;
+            int high = chars.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = chars[mid];
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        private void dump(Dumpable trie, int level, StringBuilder prefix) {
+            if (value != null) {
+                trie.indent(level);
+                System.err.println(prefix + ": ");
+                if (value instanceof Object[]) {
+                    for (Object x : (Object[]) value) {
+                        if (x instanceof Dumpable)
+                            ((Dumpable) x).dump(level + 1);
+                    }
+                }
+            }
+            for (int i = 0; i < chars.length; ++i) {
+                prefix.append(chars[i]);
+                children[i].dump(trie, level, prefix);
+                prefix.setLength(prefix.length() - 1);
+            }
+        }
+    }
+
+    static class Builder<T> {
+
+        private final BuilderNode<T> root = new BuilderNode<>();
+        private int size;
+
+        /**
+         * Adds a path prefix and its value. If the prefix was already added, its value is replaced.
+         *
+         * @param path The prefix
+         * @param value The value
+         */
+        void addPrefixPath(String path, T value) {
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException("Path not specified");
+            }
+            BuilderNode<T> node = root;
+            for (int i = 0; i < path.length(); ++i) {
+                node = node.children.computeIfAbsent(path.charAt(i), c -> new BuilderNode<>());
+            }
+            if (node.value == null) {
+                size++;
+            }
+            node.value = value;
+        }
+
+        PathTrie<T> build() {
+            return new PathTrie<>(compile(root, 0, null), size);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node<T> compile(BuilderNode<T> node, int length, Node<T> shorter) {
+            Node<T> result;
+            if (node.children.isEmpty()) {
+                result = new Node<>(length, node.value, Node.NO_CHARS, new Node[0]);
+            } else {
+                char[] chars = new char[node.children.size()];
+                Node<T>[] children = new Node[chars.length];
+                result = new Node<>(length, node.value, chars, children);
+                Node<T> childShorter = node.value != null ? result : shorter;
+                int i = 0;
+                for (Map.Entry<Character, BuilderNode<T>> entry : node.children.entrySet()) {
+                    chars[i] = entry.getKey();
+                    children[i] = compile(entry.getValue(), length + 1, childShorter);
+                    i++;
+                }
+            }
+            result.shorter = shorter;
+            return result;
+        }
+    }
+
+    private static class BuilderNode<T> {
+
+        T value;
+        // sorted by character
+        final TreeMap<Character, BuilderNode<T>> children = new TreeMap<>();
+
+    }
+}
@@ -9,15 +9,29 @@ import java.util.Map;
 import java.util.regex.Matcher;
 import org.jboss.resteasy.reactive.common.util.URIDecoder;
 
+/**
+ * Maps a path to the templates of a set of resources.
+ * <p>
+ * The literal stems of the templates are compiled into a {@link PathTrie} when the mapper is created, and the templates
+ * that share a stem are sorted as required by the spec. A path is then mapped by finding its longest stem in a single
+ * pass over its characters, and by matching the remaining components of the candidate templates in order, falling back
+ * to the shorter stems of the path if none of them matches. Apart from the captured path parameters, only the returned
+ * match is allocated.
+ */
 public class RequestMapper<T> {
 
-    private final PathMatcher<List<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<List<RequestPath<T>>> pathMatcherBuilder;
+    private static final String[] NO_PARAMS = new String[0];
+
+    private final PathTrie<RequestPath<T>[]> requestPaths;
+    // the templates of the root stem, used for the paths that do not start with a '/'
+    private final RequestPath<T>[] defaultPaths;
     private final List<RequestPath<T>> templates;
+    // shared by the matches without path parameters, never modified
+    private final String[] emptyParams;
     final int maxParams;
 
+    @SuppressWarnings("unchecked")
     public RequestMapper(List<RequestPath<T>> templates) {
-        pathMatcherBuilder = new PathMatcher.Builder<>();
         this.templates = templates;
         int max = 0;
         Map<String, List<RequestPath<T>>> aggregates = new HashMap<>();
@@ -29,13 +43,20 @@ public class RequestMapper<T> {
             paths.add(i);
             max = Math.max(max, i.template.countPathParamNames());
         }
-        aggregates.forEach(this::sortAggregates);
-        aggregates.forEach(this::addPrefixPaths);
+        PathTrie.Builder<RequestPath<T>[]> pathTrieBuilder = new PathTrie.Builder<>();
+        for (Map.Entry<String, List<RequestPath<T>>> entry : aggregates.entrySet()) {
+            List<RequestPath<T>> list = entry.getValue();
+            sortAggregates(list);
+            pathTrieBuilder.addPrefixPath(entry.getKey(), list.toArray(new RequestPath[0]));
+        }
+        List<RequestPath<T>> rootPaths = aggregates.get("/");
+        defaultPaths = rootPaths == null ? null : rootPaths.toArray(new RequestPath[0]);
         maxParams = max;
-        requestPaths = pathMatcherBuilder.build();
+        emptyParams = max == 0 ? NO_PARAMS : new String[max];
+        requestPaths = pathTrieBuilder.build();
     }
 
-    private void sortAggregates(String stem, List<RequestPath<T>> list) {
+    private void sortAggregates(List<RequestPath<T>> list) {
         list.sort(new Comparator<RequestPath<T>>() {
             @Override
             public int compare(RequestPath<T> t1, RequestPath<T> t2) {
@@ -44,50 +65,56 @@ public class RequestMapper<T> {
         });
     }
 
-    private void addPrefixPaths(String stem, List<RequestPath<T>> list) {
-        pathMatcherBuilder.addPrefixPath(stem, list);
-    }
-
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     public RequestMatch<T> map(String path) {
-        int pathLength = path.length();
-        PathMatcher.PathMatch<List<RequestPath<T>>> initialMatch = requestPaths.match(path);
-        if (initialMatch.getValue() == null) {
-            return null;
+        PathTrie.Node<RequestPath<T>[]> stem = requestPaths.match(path);
+        if (stem == null) {
+            return defaultPaths == null ? null : map(path, defaultPaths, 1);
         }
+        do {
+            RequestMatch<T> match = map(path, stem.value, stem.length);
+            if (match != null) {
+                return match;
+            }
+            stem = stem.shorter;
+        } while (stem != null);
+        return null;
+    }
 
-        List<RequestPath<T>> value = initialMatch.getValue();
-        for (int index = 0; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = new String[maxParams];
+    private RequestMatch<T> map(String path, RequestPath<T>[] value, int stemLength) {
+        int pathLength = path.length();
+        // allocated when the first parameter is captured, and reused by the following candidates
+        String[] params = null;
+        for (int index = 0; index < value.length; index++) {
+            RequestPath<T> potentialMatch = value[index];
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+            int matchPos = stemLength;
+            URITemplate.TemplateComponent[] components = potentialMatch.template.components;
+            for (int i = 1; i < components.length; ++i) {
+                URITemplate.TemplateComponent segment = components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
                     Matcher matcher = segment.pattern.matcher(path);
                     matched = matcher.find(matchPos);
                     if (!matched || matcher.start() != matchPos) {
+                        matched = false;
                         break;
                     }
                     matchPos = matcher.end();
+                    if (params == null) {
+                        params = new String[maxParams];
+                    }
                     for (String name : segment.names) {
-                        params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(name), false);
+                        params[paramCount++] = matcher.group(name);
                     }
                 } else if (segment.type == URITemplate.Type.LITERAL) {
                     //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
+                    String literalText = segment.literalText;
+                    if (!path.regionMatches(matchPos, literalText, 0, literalText.length())) {
                         matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
+                        break;
                     }
+                    matchPos += literalText.length();
                 } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
                     if (matchPos == pathLength) {
                         matched = false;
@@ -97,11 +124,14 @@ public class RequestMapper<T> {
                     while (matchPos < pathLength && path.charAt(matchPos) != '/') {
                         matchPos++;
                     }
-                    params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
+                    if (params == null) {
+                        params = new String[maxParams];
+                    }
+                    params[paramCount++] = path.substring(start, matchPos);
                 }
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
+            if (!matched) {
+                continue;
             }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
@@ -110,7 +140,7 @@ public class RequestMapper<T> {
                 doPrefixMatch = (matchPos == 1 || path.charAt(matchPos) == '/') //matchPos == 1 corresponds to '/' as a root level match
                         && (prefixAllowed || matchPos == pathLength - 1); //if prefix is allowed, or the remainder is only a trailing /
             }
-            if (matched && (fullMatch || doPrefixMatch)) {
+            if (fullMatch || doPrefixMatch) {
                 String remaining;
                 if (fullMatch) {
                     remaining = "";
@@ -121,7 +151,20 @@ public class RequestMapper<T> {
                         remaining = path.substring(matchPos);
                     }
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+                String[] pathParamValues;
+                if (paramCount == 0) {
+                    pathParamValues = emptyParams;
+                } else {
+                    // only decode the parameters of the matching template
+                    for (int i = 0; i < paramCount; ++i) {
+                        params[i] = URIDecoder.decodeURIComponent(params[i], false);
+                    }
+                    if (paramCount < params.length) {
+                        params[paramCount] = null;
+                    }
+                    pathParamValues = params;
+                }
+                return new RequestMatch<>(potentialMatch.template, potentialMatch.value, pathParamValues, remaining);
             }
         }
         return null;
@@ -184,10 +227,6 @@ public class RequestMapper<T> {
         this.requestPaths.dump(0);
     }
 
-    public PathMatcher<List<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
-    }
-
     public List<RequestPath<T>> getTemplates() {
         return templates;
     }
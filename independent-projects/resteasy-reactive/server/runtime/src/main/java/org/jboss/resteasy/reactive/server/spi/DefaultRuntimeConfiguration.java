@@ -11,6 +11,11 @@ public class DefaultRuntimeConfiguration implements RuntimeConfiguration {
 
     public DefaultRuntimeConfiguration(Duration readTimeout, boolean deleteUploadedFilesOnEnd, String uploadsDirectory,
             Charset defaultCharset, Optional<Long> maxBodySize, long maxFormAttributeSize) {
+        this(readTimeout, deleteUploadedFilesOnEnd, uploadsDirectory, defaultCharset, 0, maxBodySize, maxFormAttributeSize);
+    }
+
+    public DefaultRuntimeConfiguration(Duration readTimeout, boolean deleteUploadedFilesOnEnd, String uploadsDirectory,
+            Charset defaultCharset, long fileSizeThreshold, Optional<Long> maxBodySize, long maxFormAttributeSize) {
         this.readTimeout = readTimeout;
         body = new Body() {
             @Override
@@ -27,6 +32,11 @@ public class DefaultRuntimeConfiguration implements RuntimeConfiguration {
             public Charset defaultCharset() {
                 return defaultCharset;
             }
+
+            @Override
+            public long fileSizeThreshold() {
+                return fileSizeThreshold;
+            }
         };
         limits = new Limits() {
             @Override
@@ -19,6 +19,11 @@ public interface RuntimeConfiguration {
         String uploadsDirectory();
 
         Charset defaultCharset();
+
+        /**
+         * @return the size above which an uploaded file is written to the uploads directory while it is received
+         */
+        long fileSizeThreshold();
     }
 
     interface Limits {
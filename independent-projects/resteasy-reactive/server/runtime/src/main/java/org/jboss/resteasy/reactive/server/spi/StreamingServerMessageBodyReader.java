@@ -0,0 +1,51 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * A {@link ServerMessageBodyReader} that can also parse the request body incrementally, as the data is received.
+ * <p>
+ * This allows a body to be read on the IO thread without buffering it first, and a body parameter of type
+ * {@code Multi<T>} to receive the elements of the body as soon as they are parsed.
+ */
+public interface StreamingServerMessageBodyReader<T> extends ServerMessageBodyReader<T> {
+
+    /**
+     * Creates a parser for a request body.
+     *
+     * @param type the type of the body, or of its elements
+     * @param genericType the generic type of the body, or of its elements
+     * @param mediaType the media type of the body
+     * @param elements {@code true} if the body is a sequence of values of the given type, e.g. a JSON array, {@code false}
+     *        if the body is a single value of the given type
+     * @return the parser, or {@code null} if this body cannot be parsed incrementally
+     */
+    BodyParser createBodyParser(Class<?> type, Type genericType, MediaType mediaType, boolean elements)
+            throws IOException;
+
+    /**
+     * Parses a request body. A parser is used by a single request and is never invoked concurrently.
+     */
+    interface BodyParser {
+
+        /**
+         * Parses the next chunk of the body.
+         *
+         * @param data the chunk, which is no longer used once this method returns
+         * @param values receives the values that are completed by this chunk
+         */
+        void parse(ByteBuffer data, Consumer<Object> values) throws IOException;
+
+        /**
+         * Called once the whole body has been received.
+         *
+         * @param values receives the values that are completed by the end of the body
+         */
+        void end(Consumer<Object> values) throws IOException;
+
+    }
+}
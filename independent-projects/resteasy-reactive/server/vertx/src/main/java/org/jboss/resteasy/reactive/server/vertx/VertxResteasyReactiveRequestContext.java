@@ -126,7 +126,12 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
 
     @Override
     public Runnable registerTimer(long millis, Runnable task) {
-        ScheduledFuture<?> handle = getEventLoop().schedule(task, millis, TimeUnit.MILLISECONDS);
+        return registerTimer(millis, TimeUnit.MILLISECONDS, task);
+    }
+
+    @Override
+    public Runnable registerTimer(long delay, TimeUnit unit, Runnable task) {
+        ScheduledFuture<?> handle = getEventLoop().schedule(task, delay, unit);
         return new Runnable() {
             @Override
             public void run() {
@@ -274,7 +279,8 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
                 if (devModeTccl != null) {
                     Thread.currentThread().setContextClassLoader(devModeTccl);
                 }
-                callback.data(ByteBuffer.wrap(event.getBytes()));
+                // Vert.x does not reuse the buffers of the request body, so they can be passed without copying them
+                callback.data(event.getByteBuf().nioBuffer());
             }
         });
         request.endHandler(new Handler<Void>() {
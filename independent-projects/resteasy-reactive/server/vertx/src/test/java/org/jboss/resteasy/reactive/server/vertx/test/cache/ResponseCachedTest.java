@@ -0,0 +1,283 @@
+package org.jboss.resteasy.reactive.server.vertx.test.cache;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.restassured.RestAssured;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.NewCookie;
+import javax.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.ResponseCached;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.processor.scanning.ResponseCacheScanner;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ResponseCachedTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.addMethodScanner(new ResponseCacheScanner());
+                }
+            })
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(CachedResource.class);
+                }
+            });
+
+    @Test
+    public void testCachedUntilEvicted() {
+        String etag = RestAssured.get("/cached/item/1")
+                .then()
+                .statusCode(200)
+                .body(equalTo("item 1 #1"))
+                .header("Content-Type", "text/plain;charset=UTF-8")
+                .header("ETag", notNullValue())
+                .extract().header("ETag");
+        RestAssured.get("/cached/item/1")
+                .then()
+                .statusCode(200)
+                .body(equalTo("item 1 #1"))
+                .header("ETag", etag)
+                .header("Content-Type", "text/plain;charset=UTF-8");
+        RestAssured.get("/cached/item/2")
+                .then()
+                .statusCode(200)
+                .body(equalTo("item 2 #2"));
+        RestAssured.get("/cached/item/1?version=2")
+                .then()
+                .statusCode(200)
+                .body(equalTo("item 1 #3"));
+        // only two entries are kept, so the first one has been evicted
+        RestAssured.get("/cached/item/1")
+                .then()
+                .statusCode(200)
+                .body(equalTo("item 1 #4"))
+                .header("ETag", not(etag));
+        RestAssured.get("/cached/item/1")
+                .then()
+                .statusCode(200)
+                .body(equalTo("item 1 #4"));
+    }
+
+    @Test
+    public void testNotModified() {
+        String etag = RestAssured.get("/cached/etag")
+                .then()
+                .statusCode(200)
+                .body(equalTo("etag #1"))
+                .extract().header("ETag");
+        RestAssured.given().header("If-None-Match", etag)
+                .get("/cached/etag")
+                .then()
+                .statusCode(304)
+                .body(emptyString())
+                .header("ETag", etag);
+        RestAssured.given().header("If-None-Match", "\"other\", W/" + etag)
+                .get("/cached/etag")
+                .then()
+                .statusCode(304);
+        RestAssured.given().header("If-None-Match", "\"other\"")
+                .get("/cached/etag")
+                .then()
+                .statusCode(200)
+                .body(equalTo("etag #1"));
+    }
+
+    @Test
+    public void testVary() {
+        RestAssured.given().accept(MediaType.TEXT_PLAIN)
+                .get("/cached/vary")
+                .then()
+                .statusCode(200)
+                .body(equalTo("vary #1"))
+                .header("Content-Type", "text/plain");
+        RestAssured.given().accept(MediaType.APPLICATION_JSON)
+                .get("/cached/vary")
+                .then()
+                .statusCode(200)
+                .body(equalTo("vary #2"))
+                .header("Content-Type", "application/json");
+        RestAssured.given().accept(MediaType.TEXT_PLAIN)
+                .get("/cached/vary")
+                .then()
+                .statusCode(200)
+                .body(equalTo("vary #1"))
+                .header("Content-Type", "text/plain");
+    }
+
+    @Test
+    public void testNotCached() {
+        RestAssured.get("/cached/missing")
+                .then()
+                .statusCode(404)
+                .body(equalTo("missing #1"));
+        RestAssured.get("/cached/missing")
+                .then()
+                .statusCode(404)
+                .body(equalTo("missing #2"));
+        RestAssured.get("/cached/cookie")
+                .then()
+                .statusCode(200)
+                .body(equalTo("cookie #1"))
+                .header("ETag", notNullValue());
+        RestAssured.get("/cached/cookie")
+                .then()
+                .statusCode(200)
+                .body(equalTo("cookie #2"))
+                .header("Set-Cookie", notNullValue());
+        RestAssured.get("/cached/none")
+                .then()
+                .statusCode(204)
+                .header("ETag", nullValue());
+    }
+
+    @Test
+    public void testCredentials() {
+        // the response computed for one caller must not be replayed to another one
+        RestAssured.given().header("Authorization", "Basic YWxpY2U6YQ==")
+                .get("/cached/credentials")
+                .then()
+                .statusCode(200)
+                .body(equalTo("credentials #1"))
+                .header("ETag", nullValue());
+        RestAssured.given().header("Authorization", "Basic Ym9iOmI=")
+                .get("/cached/credentials")
+                .then()
+                .statusCode(200)
+                .body(equalTo("credentials #2"));
+        RestAssured.given().cookie("session", "alice")
+                .get("/cached/credentials")
+                .then()
+                .statusCode(200)
+                .body(equalTo("credentials #3"));
+        RestAssured.get("/cached/credentials")
+                .then()
+                .statusCode(200)
+                .body(equalTo("credentials #4"));
+        RestAssured.given().header("Authorization", "Basic YWxpY2U6YQ==")
+                .get("/cached/credentials")
+                .then()
+                .statusCode(200)
+                .body(equalTo("credentials #5"));
+        RestAssured.get("/cached/credentials")
+                .then()
+                .statusCode(200)
+                .body(equalTo("credentials #4"));
+    }
+
+    @Test
+    public void testVaryCredentials() {
+        RestAssured.given().header("Authorization", "Basic YWxpY2U6YQ==")
+                .get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("user #1"));
+        RestAssured.given().header("Authorization", "Basic Ym9iOmI=")
+                .get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("user #2"));
+        RestAssured.given().header("Authorization", "Basic YWxpY2U6YQ==")
+                .get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("user #1"));
+        // the cookie is not part of the key
+        RestAssured.given().header("Authorization", "Basic YWxpY2U6YQ==").cookie("session", "alice")
+                .get("/cached/user")
+                .then()
+                .statusCode(200)
+                .body(equalTo("user #3"));
+    }
+
+    @Path("cached")
+    @ResponseCached(maxEntries = 2)
+    public static class CachedResource {
+
+        static final AtomicInteger ITEM_INVOCATIONS = new AtomicInteger();
+        static final AtomicInteger ETAG_INVOCATIONS = new AtomicInteger();
+        static final AtomicInteger VARY_INVOCATIONS = new AtomicInteger();
+        static final AtomicInteger MISSING_INVOCATIONS = new AtomicInteger();
+        static final AtomicInteger COOKIE_INVOCATIONS = new AtomicInteger();
+        static final AtomicInteger CREDENTIALS_INVOCATIONS = new AtomicInteger();
+        static final AtomicInteger USER_INVOCATIONS = new AtomicInteger();
+
+        @Path("item/{id}")
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String item(@PathParam("id") String id, @QueryParam("version") String version) {
+            return "item " + id + " #" + ITEM_INVOCATIONS.incrementAndGet();
+        }
+
+        @Path("etag")
+        @GET
+        @ResponseCached
+        public String etag() {
+            return "etag #" + ETAG_INVOCATIONS.incrementAndGet();
+        }
+
+        @Path("vary")
+        @GET
+        @Produces({ MediaType.TEXT_PLAIN, MediaType.APPLICATION_JSON })
+        @ResponseCached
+        public String vary() {
+            return "vary #" + VARY_INVOCATIONS.incrementAndGet();
+        }
+
+        @Path("missing")
+        @GET
+        @ResponseCached
+        public Response missing() {
+            return Response.status(Response.Status.NOT_FOUND).entity("missing #" + MISSING_INVOCATIONS.incrementAndGet())
+                    .build();
+        }
+
+        @Path("cookie")
+        @GET
+        @ResponseCached
+        public Response cookie() {
+            return Response.ok("cookie #" + COOKIE_INVOCATIONS.incrementAndGet()).cookie(new NewCookie("session", "value"))
+                    .build();
+        }
+
+        @Path("credentials")
+        @GET
+        @ResponseCached
+        public String credentials() {
+            return "credentials #" + CREDENTIALS_INVOCATIONS.incrementAndGet();
+        }
+
+        @Path("user")
+        @GET
+        @ResponseCached(vary = "Authorization")
+        public String user() {
+            return "user #" + USER_INVOCATIONS.incrementAndGet();
+        }
+
+        @Path("none")
+        @GET
+        @ResponseCached
+        public void none() {
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package org.jboss.resteasy.reactive.server.vertx.test.compression;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.smallrye.common.annotation.NonBlocking;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import org.jboss.resteasy.reactive.Compressed;
+import org.jboss.resteasy.reactive.ResponseCached;
+import org.jboss.resteasy.reactive.server.core.BlockingOperationSupport;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.processor.scanning.CompressionScanner;
+import org.jboss.resteasy.reactive.server.processor.scanning.ResponseCacheScanner;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class CompressedTest {
+
+    static final String LONG_STRING = "Hello World;".repeat(1000);
+    // otherwise the client adds its own Accept-Encoding header
+    static final RestAssuredConfig NO_DECODERS = RestAssuredConfig.config()
+            .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.addMethodScanner(new CompressionScanner());
+                    scanStep.addMethodScanner(new ResponseCacheScanner());
+                }
+            })
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(CompressedResource.class);
+                }
+            });
+
+    @Test
+    public void testCompressed() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/compressed/text")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "Accept-Encoding")
+                .header("Content-Type", "text/plain;charset=UTF-8")
+                .body(equalTo(LONG_STRING));
+        RestAssured.given().header("Accept-Encoding", "gzip;q=0.5, deflate")
+                .get("/compressed/text")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "deflate")
+                .body(equalTo(LONG_STRING));
+    }
+
+    @Test
+    public void testNotCompressed() {
+        RestAssured.given().config(NO_DECODERS).header("Accept-Encoding", "identity")
+                .get("/compressed/text")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Vary", "Accept-Encoding")
+                .body(equalTo(LONG_STRING));
+        RestAssured.given().config(NO_DECODERS).header("Accept-Encoding", "gzip;q=0")
+                .get("/compressed/text")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue());
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/compressed/small")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(equalTo("small"));
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/compressed/binary")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Content-Length", Integer.toString(LONG_STRING.length()));
+    }
+
+    @Test
+    public void testOffloaded() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/compressed/offloaded")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(equalTo(LONG_STRING));
+        RestAssured.given().config(NO_DECODERS).header("Accept-Encoding", "identity")
+                .get("/compressed/offloaded")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(equalTo(LONG_STRING));
+    }
+
+    @Test
+    public void testOffloadedCached() {
+        // the cached response is written from the thread the body is compressed on
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given().header("Accept-Encoding", "gzip")
+                    .get("/compressed/offloaded-cached")
+                    .then()
+                    .statusCode(200)
+                    .header("Content-Encoding", "gzip")
+                    .header("ETag", notNullValue())
+                    .body(equalTo(LONG_STRING + 1));
+        }
+    }
+
+    @Test
+    public void testCached() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/compressed/cached")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(equalTo(LONG_STRING + 1));
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/compressed/cached")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(equalTo(LONG_STRING + 1));
+        // the uncompressed representation is cached separately
+        RestAssured.given().config(NO_DECODERS).header("Accept-Encoding", "identity")
+                .get("/compressed/cached")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(equalTo(LONG_STRING + 2));
+    }
+
+    @Path("compressed")
+    @Compressed
+    public static class CompressedResource {
+
+        static final AtomicInteger CACHED_INVOCATIONS = new AtomicInteger();
+        static final AtomicInteger OFFLOADED_CACHED_INVOCATIONS = new AtomicInteger();
+
+        @Path("text")
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String text() {
+            return LONG_STRING;
+        }
+
+        @Path("small")
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String small() {
+            return "small";
+        }
+
+        @Path("binary")
+        @GET
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public byte[] binary() {
+            return LONG_STRING.getBytes();
+        }
+
+        @Path("offloaded")
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        @Compressed(offloadSize = 1024)
+        @NonBlocking
+        public String offloaded() {
+            assertEventLoop();
+            return LONG_STRING;
+        }
+
+        @Path("offloaded-cached")
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        @Compressed(offloadSize = 1024)
+        @ResponseCached
+        @NonBlocking
+        public String offloadedCached() {
+            assertEventLoop();
+            return LONG_STRING + OFFLOADED_CACHED_INVOCATIONS.incrementAndGet();
+        }
+
+        @Path("cached")
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        @ResponseCached
+        public String cached() {
+            return LONG_STRING + CACHED_INVOCATIONS.incrementAndGet();
+        }
+
+        private static void assertEventLoop() {
+            // the body is only compressed on a worker thread if the response is written on the event loop
+            if (BlockingOperationSupport.isBlockingAllowed()) {
+                throw new IllegalStateException("Not called on the event loop");
+            }
+        }
+    }
+}
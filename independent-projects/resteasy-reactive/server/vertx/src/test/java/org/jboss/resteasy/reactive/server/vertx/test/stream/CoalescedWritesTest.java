@@ -0,0 +1,229 @@
+package org.jboss.resteasy.reactive.server.vertx.test.stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Multi;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+import org.jboss.resteasy.reactive.CoalescedWrites;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.processor.scanning.WriteCoalescingScanner;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class CoalescedWritesTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.addMethodScanner(new WriteCoalescingScanner());
+                }
+            })
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(CoalescedResource.class);
+                }
+            });
+
+    @Test
+    public void testSseMulti() {
+        RestAssured.get("/coalesced/sse")
+                .then()
+                .statusCode(200)
+                .header("Content-Type", "text/event-stream")
+                .body(equalTo(events(10)));
+    }
+
+    @Test
+    public void testSseEventSink() {
+        RestAssured.get("/coalesced/sink")
+                .then()
+                .statusCode(200)
+                .body(equalTo(events(10)));
+    }
+
+    @Test
+    public void testJsonArray() {
+        RestAssured.get("/coalesced/json")
+                .then()
+                .statusCode(200)
+                .body(equalTo("[0,1,2,3,4,5,6,7,8,9]"));
+        RestAssured.get("/coalesced/json/empty")
+                .then()
+                .statusCode(200)
+                .body(equalTo("[]"));
+    }
+
+    @Test
+    public void testFlushedAfterDelay() {
+        // the items are slower than the delay, so each of them is written by the timer
+        RestAssured.get("/coalesced/ticks")
+                .then()
+                .statusCode(200)
+                .body(equalTo(events(3)));
+    }
+
+    @Test
+    public void testBatches() throws IOException {
+        // each write to the response is sent as its own chunk
+        Assertions.assertEquals(List.of(events(0, 4), events(4, 8), events(8, 10)), chunks("/coalesced/sse"));
+        Assertions.assertEquals(List.of(events(0, 4), events(4, 8), events(8, 10)), chunks("/coalesced/sink"));
+        Assertions.assertEquals(List.of(events(0, 1), events(1, 2), events(2, 3)), chunks("/coalesced/ticks"));
+    }
+
+    @Test
+    public void testFailureAfterPendingItems() throws IOException {
+        // the pending items are sent before the failure is handled, so the response is committed as without coalescing
+        Assertions.assertEquals(List.of(events(0, 2)), chunks("/coalesced/failure", 1));
+        // the failure is handled normally if no item was produced
+        RestAssured.get("/coalesced/failure/immediate")
+                .then()
+                .statusCode(500);
+    }
+
+    private static String events(int count) {
+        return events(0, count);
+    }
+
+    private static String events(int from, int to) {
+        StringBuilder events = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            events.append("data:").append(i).append("\n\n");
+        }
+        return events.toString();
+    }
+
+    private static List<String> chunks(String path) throws IOException {
+        return chunks(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the non-empty chunks of the body of the successful response to a {@code GET} of the given path, at most
+     *         {@code limit} of them
+     */
+    private static List<String> chunks(String path, int limit) throws IOException {
+        try (Socket socket = new Socket("localhost", ResteasyReactiveUnitTest.SERVER_PORT)) {
+            socket.setSoTimeout(10_000);
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + path + " HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            Assertions.assertEquals("HTTP/1.1 200 OK", readLine(in));
+            String line;
+            boolean chunked = false;
+            while (!(line = readLine(in)).isEmpty()) {
+                if (line.equalsIgnoreCase("transfer-encoding: chunked")) {
+                    chunked = true;
+                }
+            }
+            Assertions.assertTrue(chunked, "The response is not chunked");
+            List<String> chunks = new ArrayList<>();
+            int size;
+            while (chunks.size() < limit && (size = Integer.parseInt(readLine(in), 16)) > 0) {
+                byte[] chunk = new byte[size];
+                in.readFully(chunk);
+                chunks.add(new String(chunk, StandardCharsets.UTF_8));
+                readLine(in);
+            }
+            return chunks;
+        }
+    }
+
+    private static String readLine(DataInputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b == -1) {
+                throw new IOException("Unexpected end of the response");
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return line.toString(StandardCharsets.US_ASCII);
+    }
+
+    @Path("coalesced")
+    @CoalescedWrites(maxItems = 4)
+    public static class CoalescedResource {
+
+        @Path("sse")
+        @GET
+        @Produces(MediaType.SERVER_SENT_EVENTS)
+        public Multi<String> sse() {
+            return Multi.createFrom().range(0, 10).map(String::valueOf);
+        }
+
+        @Path("sink")
+        @GET
+        @Produces(MediaType.SERVER_SENT_EVENTS)
+        public void sink(@Context SseEventSink sink, @Context Sse sse) {
+            for (int i = 0; i < 10; i++) {
+                sink.send(sse.newEvent(String.valueOf(i)));
+            }
+            sink.close();
+        }
+
+        @Path("json")
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<String> json() {
+            return Multi.createFrom().range(0, 10).map(String::valueOf);
+        }
+
+        @Path("json/empty")
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<String> emptyJson() {
+            return Multi.createFrom().empty();
+        }
+
+        @Path("failure")
+        @GET
+        @Produces(MediaType.SERVER_SENT_EVENTS)
+        public Multi<String> failure() {
+            return Multi.createBy().concatenating().streams(Multi.createFrom().range(0, 2).map(String::valueOf),
+                    Multi.createFrom().failure(new IllegalStateException("Expected failure")));
+        }
+
+        @Path("failure/immediate")
+        @GET
+        @Produces(MediaType.SERVER_SENT_EVENTS)
+        public Multi<String> immediateFailure() {
+            return Multi.createFrom().failure(new IllegalStateException("Expected failure"));
+        }
+
+        @Path("ticks")
+        @GET
+        @Produces(MediaType.SERVER_SENT_EVENTS)
+        @CoalescedWrites(maxDelay = 100)
+        public Multi<String> ticks() {
+            return Multi.createFrom().ticks().every(Duration.ofMillis(20)).select().first(3).map(String::valueOf);
+        }
+    }
+}
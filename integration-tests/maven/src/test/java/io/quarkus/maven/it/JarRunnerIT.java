@@ -422,6 +422,51 @@ public class JarRunnerIT extends MojoTestBase {
 
     }
 
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_11)
+    public void testThatAppCDSCanBeCreatedForCommandModeApplication() throws Exception {
+        assertAppCDSCreatedForCommandModeApplication(false);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_13)
+    public void testThatAppCDSDynamicArchiveCanBeCreatedForCommandModeApplication() throws Exception {
+        assertAppCDSCreatedForCommandModeApplication(true);
+    }
+
+    private void assertAppCDSCreatedForCommandModeApplication(boolean dynamicArchive) throws Exception {
+        File testDir = initProject("projects/basic-command-mode",
+                "projects/basic-command-mode-appcds" + (dynamicArchive ? "-dynamic" : ""));
+        RunningInvoker running = new RunningInvoker(testDir, false);
+
+        MavenProcessInvocationResult result = running
+                .execute(Arrays.asList("package", "-DskipTests", "-Dquarkus.package.create-appcds=true",
+                        "-Dquarkus.package.appcds-dynamic-archive=" + dynamicArchive), Collections.emptyMap());
+
+        await().atMost(1, TimeUnit.MINUTES).until(() -> result.getProcess() != null && !result.getProcess().isAlive());
+        assertThat(running.log()).containsIgnoringCase("BUILD SUCCESS");
+        running.stop();
+
+        Path appDir = testDir.toPath().toAbsolutePath().resolve(Paths.get("target/quarkus-app"));
+        assertThat(appDir.resolve("app-cds.jsa")).exists();
+        // the main application creates this file and exits with 10, it must not be run when creating the archive
+        assertThat(appDir.resolve("done.txt")).doesNotExist();
+        assertThat(testDir.toPath().resolve("target/appcds/done.txt")).doesNotExist();
+
+        // the main application is run when the application is launched with the archive
+        File output = new File(testDir, "target/output.log");
+        output.createNewFile();
+        Process process = doLaunch(appDir.toFile(), Paths.get(JarResultBuildStep.QUARKUS_RUN_JAR), output,
+                Arrays.asList("-XX:SharedArchiveFile=app-cds.jsa", "-Xshare:on")).start();
+        try {
+            assertThat(process.waitFor(1, TimeUnit.MINUTES)).isTrue();
+            assertThat(process.exitValue()).isEqualTo(10);
+            assertThat(appDir.resolve("done.txt")).exists();
+        } finally {
+            process.destroy();
+        }
+    }
+
     /**
      * Tests that quarkus.arc.exclude-dependency.* can be used for modules in a multimodule project
      */